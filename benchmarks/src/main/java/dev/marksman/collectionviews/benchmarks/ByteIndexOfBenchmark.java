@@ -0,0 +1,96 @@
+package dev.marksman.collectionviews.benchmarks;
+
+import dev.marksman.collectionviews.ByteVector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Searches for the last byte of an array, through {@link ByteVector#indexOf} on a wrapped array and on a direct
+ * buffer, and with the two strategies it could use on an array:  a plain byte-at-a-time loop, and a word-at-a-time
+ * search that wraps the array in a little-endian {@link ByteBuffer} and reads it with {@link ByteBuffer#getLong}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ByteIndexOfBenchmark {
+
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final byte TARGET = 1;
+
+    @Param({"16", "64", "1024", "65536"})
+    int size;
+
+    private byte[] array;
+    private ByteVector wrappedArray;
+    private ByteVector wrappedDirectBuffer;
+
+    @Setup
+    public void setup() {
+        array = new byte[size];
+        array[size - 1] = TARGET;
+        wrappedArray = ByteVector.wrap(array);
+        ByteBuffer direct = ByteBuffer.allocateDirect(size);
+        direct.put(array).flip();
+        wrappedDirectBuffer = ByteVector.wrap(direct);
+    }
+
+    @Benchmark
+    public int wrappedArray() {
+        return wrappedArray.indexOf(TARGET);
+    }
+
+    @Benchmark
+    public int wrappedDirectBuffer() {
+        return wrappedDirectBuffer.indexOf(TARGET);
+    }
+
+    @Benchmark
+    public int byteLoop() {
+        byte[] array = this.array;
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == TARGET) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int wordsThroughHeapBuffer() {
+        ByteBuffer buffer = ByteBuffer.wrap(array).order(ByteOrder.LITTLE_ENDIAN);
+        long pattern = (TARGET & 0xffL) * LOW_BITS;
+        int to = array.length;
+        int i = 0;
+        for (; to - i >= 8; i += 8) {
+            long word = buffer.getLong(i) ^ pattern;
+            long matches = (word - LOW_BITS) & ~word & HIGH_BITS;
+            if (matches != 0) {
+                return i + (Long.numberOfTrailingZeros(matches) >>> 3);
+            }
+        }
+        for (; i < to; i++) {
+            if (buffer.get(i) == TARGET) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+}
@@ -0,0 +1,97 @@
+package dev.marksman.collectionviews.benchmarks;
+
+import dev.marksman.collectionviews.ImmutableSet;
+import dev.marksman.collectionviews.ImmutableVector;
+import dev.marksman.collectionviews.Set;
+import dev.marksman.collectionviews.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code ImmutableVectors.copyFrom} and {@code ImmutableSets.copyFrom} (via {@link Vector#copyFrom} and
+ * {@link Set#copyFrom}) from the common source types.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CopyFromBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    int size;
+
+    private Integer[] array;
+    private List<Integer> list;
+    private Vector<Integer> wrappedArray;
+    private Vector<Integer> slice;
+    private java.util.Set<Integer> hashSet;
+
+    @Setup
+    public void setup() {
+        array = Fixtures.integerArray(size);
+        list = Fixtures.integerList(size);
+        wrappedArray = Vector.wrap(Fixtures.integerArray(size));
+        slice = Vector.wrap(Fixtures.integerArray(size + 2)).slice(1, size + 1);
+        hashSet = Fixtures.integerHashSet(size);
+    }
+
+    @Benchmark
+    public ImmutableVector<Integer> vectorFromArray() {
+        return Vector.copyFrom(array);
+    }
+
+    @Benchmark
+    public ImmutableVector<Integer> vectorFromList() {
+        return Vector.copyFrom(list);
+    }
+
+    @Benchmark
+    public ImmutableVector<Integer> vectorFromWrappedArray() {
+        return Vector.copyFrom(wrappedArray);
+    }
+
+    @Benchmark
+    public ImmutableVector<Integer> vectorFromSlice() {
+        return Vector.copyFrom(slice);
+    }
+
+    @Benchmark
+    public ImmutableVector<Integer> vectorToImmutable() {
+        return wrappedArray.toImmutable();
+    }
+
+    @Benchmark
+    public ImmutableVector<Integer> vectorFromListMaxCount() {
+        return Vector.copyFrom(size / 2, list);
+    }
+
+    @Benchmark
+    public ImmutableSet<Integer> setFromArray() {
+        return Set.copyFrom(array);
+    }
+
+    @Benchmark
+    public ImmutableSet<Integer> setFromList() {
+        return Set.copyFrom(list);
+    }
+
+    @Benchmark
+    public ImmutableSet<Integer> setFromHashSet() {
+        return Set.copyFrom(hashSet);
+    }
+
+}
@@ -0,0 +1,37 @@
+package dev.marksman.collectionviews.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+final class Fixtures {
+
+    private Fixtures() {
+
+    }
+
+    static Integer[] integerArray(int size) {
+        Integer[] result = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = i;
+        }
+        return result;
+    }
+
+    static List<Integer> integerList(int size) {
+        ArrayList<Integer> result = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+
+    static java.util.Set<Integer> integerHashSet(int size) {
+        HashSet<Integer> result = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            result.add(i);
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,88 @@
+package dev.marksman.collectionviews.benchmarks;
+
+import dev.marksman.collectionviews.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Traversal through {@link Vector#iterator} ({@code VectorIterator} for all built-in vectors).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class IterationBenchmark {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    private Integer[] rawArray;
+    private Vector<Integer> wrappedArray;
+    private Vector<Integer> immutableList;
+    private Vector<Integer> slice;
+    private Vector<Integer> mapped;
+    private Vector<Integer> cons;
+
+    @Setup
+    public void setup() {
+        rawArray = Fixtures.integerArray(size);
+        wrappedArray = Vector.wrap(rawArray);
+        immutableList = Vector.copyFrom(Fixtures.integerList(size));
+        slice = Vector.wrap(Fixtures.integerArray(size + 2)).slice(1, size + 1);
+        mapped = wrappedArray.fmap(n -> n + 1);
+        cons = Vector.wrap(Fixtures.integerArray(size + 1)).tail().toNonEmptyOrThrow();
+    }
+
+    @Benchmark
+    public void baselineArray(Blackhole bh) {
+        for (Integer n : rawArray) {
+            bh.consume(n);
+        }
+    }
+
+    @Benchmark
+    public void wrappedArray(Blackhole bh) {
+        iterate(wrappedArray, bh);
+    }
+
+    @Benchmark
+    public void immutableList(Blackhole bh) {
+        iterate(immutableList, bh);
+    }
+
+    @Benchmark
+    public void slice(Blackhole bh) {
+        iterate(slice, bh);
+    }
+
+    @Benchmark
+    public void mapped(Blackhole bh) {
+        iterate(mapped, bh);
+    }
+
+    @Benchmark
+    public void cons(Blackhole bh) {
+        iterate(cons, bh);
+    }
+
+    private static void iterate(Vector<Integer> vector, Blackhole bh) {
+        for (Integer n : vector) {
+            bh.consume(n);
+        }
+    }
+
+}
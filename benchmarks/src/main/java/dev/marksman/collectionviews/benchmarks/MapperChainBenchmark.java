@@ -0,0 +1,97 @@
+package dev.marksman.collectionviews.benchmarks;
+
+import dev.marksman.collectionviews.ImmutableVector;
+import dev.marksman.collectionviews.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Element reads through {@code fmap} chains of increasing depth ({@code MappedVector} and its {@code MapperChain}).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MapperChainBenchmark {
+
+    @Param({"1", "2", "4", "8", "16", "32", "64"})
+    int depth;
+
+    @Param({"10000"})
+    int size;
+
+    private Vector<Integer> mapped;
+    private ImmutableVector<Integer> immutableMapped;
+    private Vector<Integer> source;
+
+    @Setup
+    public void setup() {
+        source = Vector.wrap(Fixtures.integerArray(size));
+        mapped = mapDepth(source);
+        immutableMapped = mapDepth(Vector.copyFrom(Fixtures.integerArray(size)));
+    }
+
+    @Benchmark
+    public void unsafeGet(Blackhole bh) {
+        for (int i = 0; i < size; i++) {
+            bh.consume(mapped.unsafeGet(i));
+        }
+    }
+
+    @Benchmark
+    public void immutableUnsafeGet(Blackhole bh) {
+        for (int i = 0; i < size; i++) {
+            bh.consume(immutableMapped.unsafeGet(i));
+        }
+    }
+
+    @Benchmark
+    public void iterate(Blackhole bh) {
+        for (Integer n : mapped) {
+            bh.consume(n);
+        }
+    }
+
+    @Benchmark
+    public Vector<Integer> buildChain() {
+        return mapDepth(source);
+    }
+
+    private Vector<Integer> mapDepth(Vector<Integer> vector) {
+        Vector<Integer> result = vector;
+        for (int i = 0; i < depth; i++) {
+            result = result.fmap(MapperChainBenchmark::step);
+        }
+        return result;
+    }
+
+    private ImmutableVector<Integer> mapDepth(ImmutableVector<Integer> vector) {
+        ImmutableVector<Integer> result = vector;
+        for (int i = 0; i < depth; i++) {
+            result = result.fmap(MapperChainBenchmark::step);
+        }
+        return result;
+    }
+
+    /**
+     * Stays within the {@code Integer} cache, so that any allocation reported is the chain's own.
+     */
+    private static Integer step(Integer n) {
+        return (n + 1) & 127;
+    }
+
+}
@@ -0,0 +1,68 @@
+package dev.marksman.collectionviews.benchmarks;
+
+import dev.marksman.collectionviews.Set;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Membership tests through {@link Set#contains}, half of them hits and half misses.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SetContainsBenchmark {
+
+    @Param({"4", "1000", "100000"})
+    int size;
+
+    private Integer[] probes;
+    private Set<Integer> wrapped;
+    private Set<Integer> copied;
+    private Set<Integer> of;
+
+    @Setup
+    public void setup() {
+        probes = Fixtures.integerArray(size * 2);
+        wrapped = Set.wrap(Fixtures.integerHashSet(size));
+        copied = Set.copyFrom(Fixtures.integerArray(size));
+        Integer[] elements = Fixtures.integerArray(size);
+        of = Set.of(elements[0], elements);
+    }
+
+    @Benchmark
+    public void wrapped(Blackhole bh) {
+        probe(wrapped, bh);
+    }
+
+    @Benchmark
+    public void copied(Blackhole bh) {
+        probe(copied, bh);
+    }
+
+    @Benchmark
+    public void of(Blackhole bh) {
+        probe(of, bh);
+    }
+
+    private void probe(Set<Integer> set, Blackhole bh) {
+        for (Integer probe : probes) {
+            bh.consume(set.contains(probe));
+        }
+    }
+
+}
@@ -0,0 +1,104 @@
+package dev.marksman.collectionviews.benchmarks;
+
+import dev.marksman.collectionviews.ImmutableVector;
+import dev.marksman.collectionviews.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Nested {@code slice}/{@code drop}/{@code tail} views, as built by paging loops.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SliceBenchmark {
+
+    @Param({"1", "8", "64", "512"})
+    int depth;
+
+    @Param({"10000"})
+    int size;
+
+    private Vector<Integer> source;
+    private ImmutableVector<Integer> immutableSource;
+    private Vector<Integer> nestedDrop;
+    private ImmutableVector<Integer> nestedImmutableDrop;
+    private Vector<Integer> nestedSlice;
+
+    @Setup
+    public void setup() {
+        source = Vector.wrap(Fixtures.integerArray(size + depth));
+        immutableSource = Vector.copyFrom(Fixtures.integerArray(size + depth));
+        nestedDrop = dropRepeatedly(source);
+        nestedImmutableDrop = dropRepeatedly(immutableSource);
+        Vector<Integer> sliced = source;
+        for (int i = 0; i < depth; i++) {
+            sliced = sliced.slice(1, sliced.size());
+        }
+        nestedSlice = sliced;
+    }
+
+    @Benchmark
+    public void readNestedDrop(Blackhole bh) {
+        readAll(nestedDrop, bh);
+    }
+
+    @Benchmark
+    public void readNestedImmutableDrop(Blackhole bh) {
+        readAll(nestedImmutableDrop, bh);
+    }
+
+    @Benchmark
+    public void readNestedSlice(Blackhole bh) {
+        readAll(nestedSlice, bh);
+    }
+
+    @Benchmark
+    public Vector<Integer> buildNestedDrop() {
+        return dropRepeatedly(source);
+    }
+
+    @Benchmark
+    public ImmutableVector<Integer> buildNestedImmutableDrop() {
+        return dropRepeatedly(immutableSource);
+    }
+
+    private Vector<Integer> dropRepeatedly(Vector<Integer> vector) {
+        Vector<Integer> result = vector;
+        for (int i = 0; i < depth; i++) {
+            result = result.drop(1);
+        }
+        return result;
+    }
+
+    private ImmutableVector<Integer> dropRepeatedly(ImmutableVector<Integer> vector) {
+        ImmutableVector<Integer> result = vector;
+        for (int i = 0; i < depth; i++) {
+            result = result.tail();
+        }
+        return result;
+    }
+
+    private static void readAll(Vector<Integer> vector, Blackhole bh) {
+        int size = vector.size();
+        for (int i = 0; i < size; i++) {
+            bh.consume(vector.unsafeGet(i));
+        }
+    }
+
+}
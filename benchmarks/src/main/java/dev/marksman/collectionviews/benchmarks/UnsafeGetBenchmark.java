@@ -0,0 +1,115 @@
+package dev.marksman.collectionviews.benchmarks;
+
+import dev.marksman.collectionviews.NonEmptyVector;
+import dev.marksman.collectionviews.Vector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Random access through {@link Vector#unsafeGet} for each kind of view.
+ * Every benchmark reads all {@code size} elements by index.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class UnsafeGetBenchmark {
+
+    @Param({"1000", "100000"})
+    int size;
+
+    private Vector<Integer> wrappedArray;
+    private Vector<Integer> wrappedList;
+    private Vector<Integer> immutableArray;
+    private Vector<Integer> immutableList;
+    private Vector<Integer> slice;
+    private Vector<Integer> mapped;
+    private Vector<Integer> cons;
+    private Vector<Integer> repeating;
+    private Vector<Integer> lazy;
+
+    @Setup
+    public void setup() {
+        wrappedArray = Vector.wrap(Fixtures.integerArray(size));
+        wrappedList = Vector.wrap(Fixtures.integerList(size));
+        immutableArray = Vector.copyFrom(Fixtures.integerArray(size));
+        immutableList = Vector.copyFrom(Fixtures.integerList(size));
+        slice = Vector.wrap(Fixtures.integerArray(size + 2)).slice(1, size + 1);
+        mapped = Vector.wrap(Fixtures.integerArray(size)).fmap(n -> n + 1);
+        cons = Vector.wrap(Fixtures.integerArray(size + 1)).tail().toNonEmptyOrThrow();
+        repeating = Vector.fill(size, 1);
+        lazy = Vector.lazyFill(size, n -> n);
+    }
+
+    @Benchmark
+    public void wrappedArray(Blackhole bh) {
+        readAll(wrappedArray, bh);
+    }
+
+    @Benchmark
+    public void wrappedList(Blackhole bh) {
+        readAll(wrappedList, bh);
+    }
+
+    @Benchmark
+    public void immutableArray(Blackhole bh) {
+        readAll(immutableArray, bh);
+    }
+
+    @Benchmark
+    public void immutableList(Blackhole bh) {
+        readAll(immutableList, bh);
+    }
+
+    @Benchmark
+    public void slice(Blackhole bh) {
+        readAll(slice, bh);
+    }
+
+    @Benchmark
+    public void mapped(Blackhole bh) {
+        readAll(mapped, bh);
+    }
+
+    @Benchmark
+    public void cons(Blackhole bh) {
+        readAll(cons, bh);
+    }
+
+    @Benchmark
+    public void repeating(Blackhole bh) {
+        readAll(repeating, bh);
+    }
+
+    @Benchmark
+    public void lazy(Blackhole bh) {
+        readAll(lazy, bh);
+    }
+
+    @Benchmark
+    public void nonEmptyHead(Blackhole bh) {
+        bh.consume(((NonEmptyVector<Integer>) wrappedArray).head());
+    }
+
+    private static void readAll(Vector<Integer> vector, Blackhole bh) {
+        int size = vector.size();
+        for (int i = 0; i < size; i++) {
+            bh.consume(vector.unsafeGet(i));
+        }
+    }
+
+}
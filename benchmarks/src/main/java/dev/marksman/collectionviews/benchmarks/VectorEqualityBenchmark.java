@@ -0,0 +1,73 @@
+package dev.marksman.collectionviews.benchmarks;
+
+import dev.marksman.collectionviews.Vector;
+import dev.marksman.collectionviews.VectorHelpers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link VectorHelpers#vectorEquals} and {@link VectorHelpers#vectorHashCode}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VectorEqualityBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    int size;
+
+    private Vector<Integer> wrapped;
+    private Vector<Integer> immutable;
+    private Vector<Integer> other;
+    private Vector<Integer> differentLast;
+
+    @Setup
+    public void setup() {
+        wrapped = Vector.wrap(Fixtures.integerArray(size));
+        immutable = Vector.copyFrom(Fixtures.integerArray(size));
+        other = Vector.copyFrom(Fixtures.integerList(size));
+        Integer[] changed = Fixtures.integerArray(size);
+        changed[size - 1] = -1;
+        differentLast = Vector.copyFrom(changed);
+    }
+
+    @Benchmark
+    public boolean equalWrappedToImmutable() {
+        return VectorHelpers.vectorEquals(wrapped, immutable);
+    }
+
+    @Benchmark
+    public boolean equalImmutableToImmutable() {
+        return VectorHelpers.vectorEquals(immutable, other);
+    }
+
+    @Benchmark
+    public boolean unequalImmutable() {
+        return VectorHelpers.vectorEquals(immutable, differentLast);
+    }
+
+    @Benchmark
+    public int hashCodeWrapped() {
+        return VectorHelpers.vectorHashCode(wrapped);
+    }
+
+    @Benchmark
+    public int hashCodeImmutable() {
+        return immutable.hashCode();
+    }
+
+}
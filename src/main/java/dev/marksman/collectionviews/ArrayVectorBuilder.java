@@ -0,0 +1,131 @@
+package dev.marksman.collectionviews;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * The implementation of {@link NonEmptyVectorBuilder}.  A {@link VectorBuilder} that starts out empty is a thin
+ * adapter over one of these (see {@link ArrayVectorBuilder#emptyBuilder}), and hands it out as soon as an element
+ * is added.
+ */
+class ArrayVectorBuilder<A> implements NonEmptyVectorBuilder<A> {
+    private static final int MINIMUM_CAPACITY = 8;
+
+    private Object[] elements;
+    private int size;
+    /**
+     * true if elements has been handed to a vector by build, and must be copied before the next modification
+     */
+    private boolean shared;
+
+    private ArrayVectorBuilder(int expectedSize) {
+        this.elements = new Object[expectedSize];
+    }
+
+    @Override
+    public NonEmptyVectorBuilder<A> add(A element) {
+        reserve(1);
+        elements[size++] = element;
+        return this;
+    }
+
+    @Override
+    public ArrayVectorBuilder<A> addAll(Vector<A> source) {
+        int count = source.size();
+        reserve(count);
+        Vectors.copyInto(source, 0, elements, size, count);
+        size += count;
+        return this;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public ArrayVectorBuilder<A> addAll(Iterable<A> source) {
+        if (source instanceof Vector<?>) {
+            return addAll((Vector<A>) source);
+        } else if (source instanceof Collection<?>) {
+            Object[] copied = ((Collection<?>) source).toArray();
+            reserve(copied.length);
+            System.arraycopy(copied, 0, elements, size, copied.length);
+            size += copied.length;
+        } else {
+            for (A element : source) {
+                add(element);
+            }
+        }
+        return this;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * size must be &gt;= 1; the adapter returned by {@link ArrayVectorBuilder#emptyBuilder} checks before calling
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public ImmutableNonEmptyVector<A> build() {
+        if (elements.length != size) {
+            elements = Arrays.copyOf(elements, size);
+        }
+        shared = true;
+        return new ImmutableArrayVector<>((A[]) elements);
+    }
+
+    private void reserve(int count) {
+        int needed = size + count;
+        if (needed < 0) throw new IllegalStateException("too many elements to fit in a single vector");
+        if (needed > elements.length) {
+            int grown = elements.length + (elements.length >> 1);
+            elements = Arrays.copyOf(elements, Math.max(needed, Math.max(grown, MINIMUM_CAPACITY)));
+            shared = false;
+        } else if (shared) {
+            elements = elements.clone();
+            shared = false;
+        }
+    }
+
+    static <A> VectorBuilder<A> emptyBuilder(int expectedSize) {
+        if (expectedSize < 0) throw new IllegalArgumentException("expectedSize must be >= 0");
+        return new VectorBuilder<A>() {
+            private final ArrayVectorBuilder<A> builder = new ArrayVectorBuilder<>(expectedSize);
+
+            @Override
+            public NonEmptyVectorBuilder<A> add(A element) {
+                return builder.add(element);
+            }
+
+            @Override
+            public VectorBuilder<A> addAll(Vector<A> elements) {
+                builder.addAll(elements);
+                return this;
+            }
+
+            @Override
+            public VectorBuilder<A> addAll(Iterable<A> elements) {
+                builder.addAll(elements);
+                return this;
+            }
+
+            @Override
+            public int size() {
+                return builder.size();
+            }
+
+            @Override
+            public ImmutableVector<A> build() {
+                return builder.size() == 0 ? Vectors.empty() : builder.build();
+            }
+        };
+    }
+
+    static <A> NonEmptyVectorBuilder<A> nonEmptyBuilder(int expectedSize, A first) {
+        if (expectedSize < 0) throw new IllegalArgumentException("expectedSize must be >= 0");
+        ArrayVectorBuilder<A> builder = new ArrayVectorBuilder<>(Math.max(expectedSize, 1));
+        builder.add(first);
+        return builder;
+    }
+
+}
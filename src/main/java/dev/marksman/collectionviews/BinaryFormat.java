@@ -0,0 +1,511 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Objects;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+
+/**
+ * The binary format used by {@code writeTo} and {@code readFrom}.
+ * <p>
+ * Every value starts with an eight byte header: the magic number {@code 0x4356} ("CV"), a format version,
+ * a kind, and the element count.  What follows depends on the kind:
+ * <ul>
+ * <li>{@code VECTOR} and {@code SET}: every element, written by an {@link ElementCodec}.</li>
+ * <li>{@code REPEATING_VECTOR}: the single repeated element, written by an {@link ElementCodec}.</li>
+ * <li>{@code INDEXED_VECTOR}: a table of {@code count + 1} int offsets into the data section that follows it,
+ * then every element, written by an {@link ElementCodec}.  Element {@code i} occupies the bytes between
+ * offsets {@code i} and {@code i + 1}, so any element can be decoded without reading the others.</li>
+ * <li>{@code INT_VECTOR}, {@code LONG_VECTOR}, {@code DOUBLE_VECTOR}, {@code BYTE_VECTOR}:
+ * a raw block of big-endian values.</li>
+ * </ul>
+ * Readers consume exactly the bytes of one value, so several values may be written back to back on one stream.
+ * Readers of elements written by an {@link ElementCodec} read from a {@link ReadableByteChannel} through a buffer,
+ * and so can only give back what they read ahead if the channel is a {@link SeekableByteChannel}.
+ * <p>
+ * The element count in the header is not trusted: arrays are grown in bounded steps as elements arrive, so a
+ * corrupt or hostile count fails with an {@link EOFException} rather than a huge allocation.
+ */
+class BinaryFormat {
+
+    private static final short MAGIC = 0x4356;
+    private static final byte VERSION = 1;
+
+    private static final byte VECTOR = 1;
+    private static final byte REPEATING_VECTOR = 2;
+    private static final byte SET = 3;
+    private static final byte INT_VECTOR = 4;
+    private static final byte LONG_VECTOR = 5;
+    private static final byte DOUBLE_VECTOR = 6;
+    private static final byte BYTE_VECTOR = 7;
+    private static final byte INDEXED_VECTOR = 8;
+
+    private static final int HEADER_BYTES = 8;
+    private static final int CHUNK_BYTES = 8192;
+    /**
+     * the most elements allocated for before any of them have been read
+     */
+    private static final int INITIAL_CAPACITY = 4096;
+
+    static <A> void writeVector(ElementCodec<? super A> codec, ImmutableVector<A> vector, OutputStream out)
+            throws IOException {
+        Objects.requireNonNull(codec);
+        Objects.requireNonNull(out);
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, CHUNK_BYTES));
+        if (vector instanceof RepeatingVector<?>) {
+            writeHeader(data, REPEATING_VECTOR, vector.size());
+            codec.write(vector.unsafeGet(0), data);
+        } else {
+            writeHeader(data, VECTOR, vector.size());
+            for (A element : vector) {
+                codec.write(element, data);
+            }
+        }
+        data.flush();
+    }
+
+    static <A> void writeIndexedVector(ElementCodec<? super A> codec, ImmutableVector<A> vector, OutputStream out)
+            throws IOException {
+        Objects.requireNonNull(codec);
+        Objects.requireNonNull(out);
+        int size = vector.size();
+        long tableBytes = (size + 1L) * Integer.BYTES;
+        if (tableBytes > Integer.MAX_VALUE) throw new IOException("vector is too large for an indexed encoding");
+        ByteBuffer offsets = ByteBuffer.allocate((int) tableBytes);
+        ByteArrayOutputStream encoded = new ByteArrayOutputStream();
+        DataOutputStream elements = new DataOutputStream(encoded);
+        for (A element : vector) {
+            offsets.putInt(elements.size());
+            codec.write(element, elements);
+        }
+        offsets.putInt(elements.size());
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, CHUNK_BYTES));
+        writeHeader(data, INDEXED_VECTOR, size);
+        data.write(offsets.array());
+        encoded.writeTo(data);
+        data.flush();
+    }
+
+    static <A> void writeSet(ElementCodec<? super A> codec, ImmutableSet<A> set, OutputStream out) throws IOException {
+        Objects.requireNonNull(codec);
+        Objects.requireNonNull(out);
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, CHUNK_BYTES));
+        writeHeader(data, SET, set.size());
+        for (A element : set) {
+            codec.write(element, data);
+        }
+        data.flush();
+    }
+
+    static void writeIntVector(ImmutableIntVector vector, OutputStream out) throws IOException {
+        Objects.requireNonNull(out);
+        int size = vector.size();
+        out.write(header(INT_VECTOR, size).array());
+        byte[] chunk = new byte[CHUNK_BYTES];
+        ByteBuffer buffer = ByteBuffer.wrap(chunk);
+        for (int done = 0; done < size; ) {
+            int count = Math.min(size - done, CHUNK_BYTES / Integer.BYTES);
+            for (int i = 0; i < count; i++) {
+                buffer.putInt(i * Integer.BYTES, vector.unsafeGetInt(done + i));
+            }
+            out.write(chunk, 0, count * Integer.BYTES);
+            done += count;
+        }
+    }
+
+    static void writeLongVector(ImmutableLongVector vector, OutputStream out) throws IOException {
+        Objects.requireNonNull(out);
+        int size = vector.size();
+        out.write(header(LONG_VECTOR, size).array());
+        byte[] chunk = new byte[CHUNK_BYTES];
+        ByteBuffer buffer = ByteBuffer.wrap(chunk);
+        for (int done = 0; done < size; ) {
+            int count = Math.min(size - done, CHUNK_BYTES / Long.BYTES);
+            for (int i = 0; i < count; i++) {
+                buffer.putLong(i * Long.BYTES, vector.unsafeGetLong(done + i));
+            }
+            out.write(chunk, 0, count * Long.BYTES);
+            done += count;
+        }
+    }
+
+    static void writeDoubleVector(ImmutableDoubleVector vector, OutputStream out) throws IOException {
+        Objects.requireNonNull(out);
+        int size = vector.size();
+        out.write(header(DOUBLE_VECTOR, size).array());
+        byte[] chunk = new byte[CHUNK_BYTES];
+        ByteBuffer buffer = ByteBuffer.wrap(chunk);
+        for (int done = 0; done < size; ) {
+            int count = Math.min(size - done, CHUNK_BYTES / Double.BYTES);
+            for (int i = 0; i < count; i++) {
+                buffer.putDouble(i * Double.BYTES, vector.unsafeGetDouble(done + i));
+            }
+            out.write(chunk, 0, count * Double.BYTES);
+            done += count;
+        }
+    }
+
+    static void writeByteVector(ImmutableByteVector vector, OutputStream out) throws IOException {
+        Objects.requireNonNull(out);
+        int size = vector.size();
+        out.write(header(BYTE_VECTOR, size).array());
+        byte[] chunk = new byte[Math.min(size, CHUNK_BYTES)];
+        for (int done = 0; done < size; ) {
+            int count = Math.min(size - done, CHUNK_BYTES);
+            vector.slice(done, done + count).copyInto(chunk, 0);
+            out.write(chunk, 0, count);
+            done += count;
+        }
+    }
+
+    static <A> ImmutableVector<A> readVector(ElementCodec<A> codec, InputStream in) throws IOException {
+        Objects.requireNonNull(codec);
+        return readVector(codec, (DataInput) new DataInputStream(in));
+    }
+
+    static <A> ImmutableVector<A> readVector(ElementCodec<A> codec, ReadableByteChannel in) throws IOException {
+        Objects.requireNonNull(codec);
+        ChannelDataInput data = channelInput(in);
+        ImmutableVector<A> result = readVector(codec, data);
+        data.finish();
+        return result;
+    }
+
+    static <A> ImmutableNonEmptyVector<A> readNonEmptyVector(ElementCodec<A> codec, InputStream in) throws IOException {
+        return requireNonEmpty(readVector(codec, in));
+    }
+
+    static <A> ImmutableNonEmptyVector<A> readNonEmptyVector(ElementCodec<A> codec, ReadableByteChannel in)
+            throws IOException {
+        return requireNonEmpty(readVector(codec, in));
+    }
+
+    static <A> ImmutableSet<A> readSet(ElementCodec<A> codec, InputStream in) throws IOException {
+        Objects.requireNonNull(codec);
+        return readSet(codec, (DataInput) new DataInputStream(in));
+    }
+
+    static <A> ImmutableSet<A> readSet(ElementCodec<A> codec, ReadableByteChannel in) throws IOException {
+        Objects.requireNonNull(codec);
+        ChannelDataInput data = channelInput(in);
+        ImmutableSet<A> result = readSet(codec, data);
+        data.finish();
+        return result;
+    }
+
+    static ImmutableIntVector readIntVector(ReadableByteChannel in) throws IOException {
+        ByteBuffer header = readHeader(in);
+        kind(header, INT_VECTOR);
+        int size = size(header);
+        if (size == 0) {
+            return IntVectors.empty();
+        }
+        int[] result = new int[Math.min(size, INITIAL_CAPACITY)];
+        ByteBuffer chunk = ByteBuffer.allocate(CHUNK_BYTES);
+        for (int done = 0; done < size; ) {
+            int count = Math.min(size - done, CHUNK_BYTES / Integer.BYTES);
+            result = ensureCapacity(result, done + count, size);
+            readChunk(in, chunk, count * Integer.BYTES).asIntBuffer().get(result, done, count);
+            done += count;
+        }
+        return new ImmutableIntArrayVector(result, 0, size);
+    }
+
+    static ImmutableLongVector readLongVector(ReadableByteChannel in) throws IOException {
+        ByteBuffer header = readHeader(in);
+        kind(header, LONG_VECTOR);
+        int size = size(header);
+        if (size == 0) {
+            return LongVectors.empty();
+        }
+        long[] result = new long[Math.min(size, INITIAL_CAPACITY)];
+        ByteBuffer chunk = ByteBuffer.allocate(CHUNK_BYTES);
+        for (int done = 0; done < size; ) {
+            int count = Math.min(size - done, CHUNK_BYTES / Long.BYTES);
+            result = ensureCapacity(result, done + count, size);
+            readChunk(in, chunk, count * Long.BYTES).asLongBuffer().get(result, done, count);
+            done += count;
+        }
+        return new ImmutableLongArrayVector(result, 0, size);
+    }
+
+    static ImmutableDoubleVector readDoubleVector(ReadableByteChannel in) throws IOException {
+        ByteBuffer header = readHeader(in);
+        kind(header, DOUBLE_VECTOR);
+        int size = size(header);
+        if (size == 0) {
+            return DoubleVectors.empty();
+        }
+        double[] result = new double[Math.min(size, INITIAL_CAPACITY)];
+        ByteBuffer chunk = ByteBuffer.allocate(CHUNK_BYTES);
+        for (int done = 0; done < size; ) {
+            int count = Math.min(size - done, CHUNK_BYTES / Double.BYTES);
+            result = ensureCapacity(result, done + count, size);
+            readChunk(in, chunk, count * Double.BYTES).asDoubleBuffer().get(result, done, count);
+            done += count;
+        }
+        return new ImmutableDoubleArrayVector(result, 0, size);
+    }
+
+    /**
+     * Reads straight into the result array, with no intermediate buffer.
+     */
+    static ImmutableByteVector readByteVector(ReadableByteChannel in) throws IOException {
+        ByteBuffer header = readHeader(in);
+        kind(header, BYTE_VECTOR);
+        int size = size(header);
+        if (size == 0) {
+            return ByteVectors.empty();
+        }
+        byte[] result = new byte[Math.min(size, INITIAL_CAPACITY)];
+        for (int done = 0; done < size; ) {
+            result = ensureCapacity(result, done + 1, size);
+            int count = result.length - done;
+            readFully(in, ByteBuffer.wrap(result, done, count));
+            done += count;
+        }
+        return new ImmutableByteArrayVector(result, 0, size);
+    }
+
+    static <A> ImmutableVector<A> viewIndexedVector(ElementCodec<A> codec, ByteBuffer source) {
+        Objects.requireNonNull(codec);
+        ByteBuffer view = indexedView(source);
+        int size = view.getInt(4);
+        if (size == 0) {
+            return Vectors.empty();
+        }
+        return new SerializedVector<>(view, codec, HEADER_BYTES, indexedDataStart(size), 0, size, null);
+    }
+
+    static <A> ImmutableMemoizedVector<A> viewIndexedVectorMemoized(ElementCodec<A> codec, ByteBuffer source) {
+        Objects.requireNonNull(codec);
+        ByteBuffer view = indexedView(source);
+        int size = view.getInt(4);
+        if (size == 0) {
+            return Vectors.lazyFillCached(0, index -> null);
+        }
+        return new SerializedVector.Memoized<>(view, codec, HEADER_BYTES, indexedDataStart(size), size);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A> Maybe<ImmutableNonEmptyVector<A>> tryViewNonEmptyIndexedVector(ElementCodec<A> codec,
+                                                                             ByteBuffer source) {
+        return (Maybe<ImmutableNonEmptyVector<A>>) viewIndexedVector(codec, source).toNonEmpty();
+    }
+
+    static <A> ImmutableNonEmptyVector<A> viewNonEmptyIndexedVectorOrThrow(ElementCodec<A> codec, ByteBuffer source) {
+        return tryViewNonEmptyIndexedVector(codec, source).orElseThrow(Vectors.nonEmptyError());
+    }
+
+    static <A> Maybe<ImmutableNonEmptyMemoizedVector<A>> tryViewNonEmptyIndexedVectorMemoized(ElementCodec<A> codec,
+                                                                                             ByteBuffer source) {
+        ImmutableMemoizedVector<A> result = viewIndexedVectorMemoized(codec, source);
+        if (result instanceof ImmutableNonEmptyMemoizedVector<?>) {
+            return just((ImmutableNonEmptyMemoizedVector<A>) result);
+        } else {
+            return nothing();
+        }
+    }
+
+    static <A> ImmutableNonEmptyMemoizedVector<A> viewNonEmptyIndexedVectorMemoizedOrThrow(ElementCodec<A> codec,
+                                                                                          ByteBuffer source) {
+        return tryViewNonEmptyIndexedVectorMemoized(codec, source).orElseThrow(Vectors.nonEmptyError());
+    }
+
+    /**
+     * Checks that {@code source} holds an indexed vector whose offset table and data section fit in it, and returns
+     * a read-only view of it starting at its position.
+     */
+    private static ByteBuffer indexedView(ByteBuffer source) {
+        Objects.requireNonNull(source);
+        ByteBuffer view = source.slice().asReadOnlyBuffer();
+        if (view.remaining() < HEADER_BYTES) throw new IllegalArgumentException("buffer is too small");
+        ByteBuffer header = view.duplicate();
+        header.limit(HEADER_BYTES);
+        try {
+            kind(checkHeader(header.slice()), INDEXED_VECTOR);
+        } catch (IOException e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+        int size = view.getInt(4);
+        if (size > 0) {
+            long dataStart = HEADER_BYTES + (size + 1L) * Integer.BYTES;
+            if (dataStart > view.limit() || dataStart + view.getInt((int) dataStart - Integer.BYTES) > view.limit()) {
+                throw new IllegalArgumentException("buffer is too small");
+            }
+        }
+        return view;
+    }
+
+    /**
+     * Only valid once {@link BinaryFormat#indexedView} has checked that the offset table fits in the buffer.
+     */
+    private static int indexedDataStart(int size) {
+        return HEADER_BYTES + (size + 1) * Integer.BYTES;
+    }
+
+    static ReadableByteChannel channel(InputStream in) {
+        Objects.requireNonNull(in);
+        return Channels.newChannel(in);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A> ImmutableVector<A> readVector(ElementCodec<A> codec, DataInput data) throws IOException {
+        ByteBuffer header = readHeader(data);
+        byte kind = kind(header, VECTOR, REPEATING_VECTOR, INDEXED_VECTOR);
+        int size = size(header);
+        if (kind == REPEATING_VECTOR) {
+            if (size == 0) throw new IOException("repeating vector must not be empty");
+            return Vectors.nonEmptyFill(size, codec.read(data));
+        } else if (kind == INDEXED_VECTOR) {
+            skipFully(data, (size + 1L) * Integer.BYTES);
+        }
+        Object[] elements = readElements(codec, data, size);
+        return ImmutableVectors.wrapAndVouchFor((A[]) elements);
+    }
+
+    private static <A> ImmutableSet<A> readSet(ElementCodec<A> codec, DataInput data) throws IOException {
+        ByteBuffer header = readHeader(data);
+        kind(header, SET);
+        int size = size(header);
+        if (size == 0) {
+            return Sets.empty();
+        }
+        return ImmutableSets.fromArray(readElements(codec, data, size), size);
+    }
+
+    /**
+     * Returns an array of exactly {@code size} elements, grown as they are read rather than allocated up front.
+     */
+    private static Object[] readElements(ElementCodec<?> codec, DataInput data, int size) throws IOException {
+        Object[] elements = new Object[Math.min(size, INITIAL_CAPACITY)];
+        for (int i = 0; i < size; i++) {
+            elements = ensureCapacity(elements, i + 1, size);
+            elements[i] = codec.read(data);
+        }
+        return elements;
+    }
+
+    private static <A> ImmutableNonEmptyVector<A> requireNonEmpty(ImmutableVector<A> result) throws IOException {
+        if (result.isEmpty()) throw new IOException("expected a non-empty vector");
+        return result.toNonEmptyOrThrow();
+    }
+
+    private static ChannelDataInput channelInput(ReadableByteChannel in) {
+        Objects.requireNonNull(in);
+        return new ChannelDataInput(in, CHUNK_BYTES);
+    }
+
+    private static void skipFully(DataInput data, long byteCount) throws IOException {
+        byte[] scratch = new byte[(int) Math.min(byteCount, CHUNK_BYTES)];
+        for (long skipped = 0; skipped < byteCount; ) {
+            int count = (int) Math.min(byteCount - skipped, scratch.length);
+            data.readFully(scratch, 0, count);
+            skipped += count;
+        }
+    }
+
+    /**
+     * Grows {@code array} to hold at least {@code needed} elements, at least doubling it each time, but never
+     * beyond {@code size}.
+     */
+    private static Object[] ensureCapacity(Object[] array, int needed, int size) {
+        return needed <= array.length ? array : Arrays.copyOf(array, grownLength(array.length, needed, size));
+    }
+
+    private static int[] ensureCapacity(int[] array, int needed, int size) {
+        return needed <= array.length ? array : Arrays.copyOf(array, grownLength(array.length, needed, size));
+    }
+
+    private static long[] ensureCapacity(long[] array, int needed, int size) {
+        return needed <= array.length ? array : Arrays.copyOf(array, grownLength(array.length, needed, size));
+    }
+
+    private static double[] ensureCapacity(double[] array, int needed, int size) {
+        return needed <= array.length ? array : Arrays.copyOf(array, grownLength(array.length, needed, size));
+    }
+
+    private static byte[] ensureCapacity(byte[] array, int needed, int size) {
+        return needed <= array.length ? array : Arrays.copyOf(array, grownLength(array.length, needed, size));
+    }
+
+    private static int grownLength(int length, int needed, int size) {
+        return (int) Math.min(size, Math.max(needed, 2L * length));
+    }
+
+    private static ByteBuffer header(byte kind, int size) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putShort(MAGIC).put(VERSION).put(kind).putInt(size);
+        return header;
+    }
+
+    private static void writeHeader(DataOutputStream out, byte kind, int size) throws IOException {
+        out.write(header(kind, size).array());
+    }
+
+    private static ByteBuffer readHeader(DataInput in) throws IOException {
+        byte[] header = new byte[HEADER_BYTES];
+        in.readFully(header);
+        return checkHeader(ByteBuffer.wrap(header));
+    }
+
+    private static ByteBuffer readHeader(ReadableByteChannel in) throws IOException {
+        Objects.requireNonNull(in);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        readFully(in, header);
+        header.flip();
+        return checkHeader(header);
+    }
+
+    private static ByteBuffer checkHeader(ByteBuffer header) throws IOException {
+        if (header.getShort(0) != MAGIC) throw new IOException("not a collection-views binary stream");
+        byte version = header.get(2);
+        if (version != VERSION) throw new IOException("unsupported format version " + version);
+        if (header.getInt(4) < 0) throw new IOException("negative element count");
+        return header;
+    }
+
+    private static byte kind(ByteBuffer header, byte... expected) throws IOException {
+        byte kind = header.get(3);
+        for (byte candidate : expected) {
+            if (kind == candidate) return kind;
+        }
+        throw new IOException("unexpected kind " + kind);
+    }
+
+    private static int size(ByteBuffer header) {
+        return header.getInt(4);
+    }
+
+    private static ByteBuffer readChunk(ReadableByteChannel in, ByteBuffer chunk, int byteCount) throws IOException {
+        chunk.clear();
+        chunk.limit(byteCount);
+        readFully(in, chunk);
+        chunk.flip();
+        return chunk;
+    }
+
+    private static void readFully(ReadableByteChannel in, ByteBuffer target) throws IOException {
+        while (target.hasRemaining()) {
+            if (in.read(target) < 0) throw new EOFException();
+        }
+    }
+
+}
@@ -0,0 +1,211 @@
+package dev.marksman.collectionviews;
+
+import java.util.BitSet;
+
+/**
+ * A {@link Vector} of {@code boolean}s, packed 64 to a {@code long} word.
+ * <p>
+ * In addition to the guarantees of {@link Vector}, provides the following:
+ * <ul>
+ * <li>{@link BooleanVector#unsafeGetBoolean} retrieves an element by index as a primitive {@code boolean}.</li>
+ * <li>{@link BooleanVector#countTrue}, {@link BooleanVector#firstTrue} and {@link BooleanVector#nextTrue}
+ * scan a word at a time.</li>
+ * <li>{@link BooleanVector#and}, {@link BooleanVector#or} and {@link BooleanVector#xor} combine two
+ * {@code BooleanVector}s a word at a time into a new {@link ImmutableBooleanVector}.</li>
+ * <li>{@link BooleanVector#take}, {@link BooleanVector#drop} and {@link BooleanVector#slice}
+ * always return a {@code BooleanVector}, without copying.</li>
+ * </ul>
+ * <p>
+ * A {@code BooleanVector} is a {@code Vector<Boolean>}, and may be used anywhere one is expected.
+ */
+public interface BooleanVector extends Vector<Boolean> {
+
+    /**
+     * Get an element from the {@link BooleanVector} at an index, without boxing.  Executes in O(1).
+     *
+     * @param index the index of the element to retrieve.  Must be between 0 and <code>size() - 1</code>, otherwise will
+     *              throw an {@link IndexOutOfBoundsException}
+     * @return the element at {@code index}
+     */
+    boolean unsafeGetBoolean(int index);
+
+    @Override
+    default Boolean unsafeGet(int index) {
+        return unsafeGetBoolean(index);
+    }
+
+    /**
+     * Returns the number of elements that are {@code true}.
+     *
+     * @return the number of {@code true} elements
+     */
+    default int countTrue() {
+        return BooleanVectors.bits(this).countTrue();
+    }
+
+    /**
+     * Returns the index of the first element that is {@code true}.
+     *
+     * @return the index of the first {@code true} element, or -1 if there is none
+     */
+    default int firstTrue() {
+        return nextTrue(0);
+    }
+
+    /**
+     * Returns the index of the first element at or after {@code fromIndex} that is {@code true}.
+     *
+     * @param fromIndex the index to start scanning from.  Must be &gt;= 0.  May exceed the size of
+     *                  the {@link BooleanVector}, in which case -1 is returned.
+     * @return the index of the next {@code true} element, or -1 if there is none
+     */
+    default int nextTrue(int fromIndex) {
+        return BooleanVectors.bits(this).nextTrue(fromIndex);
+    }
+
+    /**
+     * Returns a new {@link ImmutableBooleanVector} that is the element-wise logical AND of this
+     * {@link BooleanVector} and {@code other}.
+     *
+     * @param other a {@link BooleanVector} of the same size
+     * @return an {@code ImmutableBooleanVector} of the same size
+     */
+    default ImmutableBooleanVector and(BooleanVector other) {
+        return BooleanVectors.and(this, other);
+    }
+
+    /**
+     * Returns a new {@link ImmutableBooleanVector} that is the element-wise logical OR of this
+     * {@link BooleanVector} and {@code other}.
+     *
+     * @param other a {@link BooleanVector} of the same size
+     * @return an {@code ImmutableBooleanVector} of the same size
+     */
+    default ImmutableBooleanVector or(BooleanVector other) {
+        return BooleanVectors.or(this, other);
+    }
+
+    /**
+     * Returns a new {@link ImmutableBooleanVector} that is the element-wise exclusive OR of this
+     * {@link BooleanVector} and {@code other}.
+     *
+     * @param other a {@link BooleanVector} of the same size
+     * @return an {@code ImmutableBooleanVector} of the same size
+     */
+    default ImmutableBooleanVector xor(BooleanVector other) {
+        return BooleanVectors.xor(this, other);
+    }
+
+    /**
+     * Copies the elements of this {@link BooleanVector} into a new {@link BitSet}.
+     *
+     * @return a new {@code BitSet}
+     */
+    default BitSet toBitSet() {
+        return BooleanVectors.bits(this).toBitSet();
+    }
+
+    @Override
+    default BooleanVector drop(int count) {
+        return BooleanVectors.drop(count, this);
+    }
+
+    @Override
+    default BooleanVector slice(int startIndex, int endIndexExclusive) {
+        return BooleanVectors.slice(startIndex, endIndexExclusive, this);
+    }
+
+    @Override
+    default BooleanVector tail() {
+        return drop(1);
+    }
+
+    @Override
+    default BooleanVector take(int count) {
+        return BooleanVectors.take(count, this);
+    }
+
+    @Override
+    default ImmutableBooleanVector toImmutable() {
+        return BooleanVectors.ensureImmutable(this);
+    }
+
+    /**
+     * Returns an empty {@link ImmutableBooleanVector}.
+     *
+     * @return an empty {@code ImmutableBooleanVector}
+     */
+    static ImmutableBooleanVector empty() {
+        return BooleanVectors.empty();
+    }
+
+    /**
+     * Creates a {@link BooleanVector} that wraps packed words.  Element {@code i} is bit {@code i % 64}
+     * of {@code words[i / 64]}, which is the layout used by {@link BitSet#toLongArray}.
+     * <p>
+     * Does not make any copies of the given array.
+     * The {@link BooleanVector} will hold on to a reference to the array, but will never alter it in any way.
+     * <p>
+     * Since this does not make a copy of the array, be aware that anyone that holds a direct reference to
+     * the array can still mutate it.  Use {@link BooleanVector#copyFrom} instead if you want to avoid this situation.
+     *
+     * @param words the packed words to wrap
+     * @param size  the number of elements.  Must be between 0 and {@code words.length * 64}.
+     * @return a {@code BooleanVector}
+     */
+    static BooleanVector wrap(long[] words, int size) {
+        return BooleanVectors.wrap(words, size);
+    }
+
+    /**
+     * Returns a new {@link ImmutableBooleanVector} that is copied from a {@code boolean[]}.
+     *
+     * @param source the array to copy from.
+     *               This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableBooleanVector}
+     */
+    static ImmutableBooleanVector copyFrom(boolean[] source) {
+        return BooleanVectors.copyFrom(source);
+    }
+
+    /**
+     * Returns a new {@link ImmutableBooleanVector} that is copied from a {@code boolean[]},
+     * but copying a maximum number of elements.
+     *
+     * @param maxCount the maximum number of elements to copy from the array.  Must be &gt;= 0.
+     * @param source   the array to copy from.
+     *                 This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableBooleanVector}
+     */
+    static ImmutableBooleanVector copyFrom(int maxCount, boolean[] source) {
+        return BooleanVectors.copyFrom(maxCount, source);
+    }
+
+    /**
+     * Returns a new {@link ImmutableBooleanVector} of size {@code size} that is copied from a {@link BitSet}.
+     * Element {@code i} is {@code true} if bit {@code i} is set.
+     *
+     * @param source the {@code BitSet} to copy from.
+     *               This method will not alter or hold on to a reference of this {@code BitSet}.
+     * @param size   the number of elements.  Must be &gt;= 0.  Bits at or beyond {@code size} are ignored.
+     * @return an {@code ImmutableBooleanVector}
+     */
+    static ImmutableBooleanVector copyFrom(BitSet source, int size) {
+        return BooleanVectors.copyFrom(source, size);
+    }
+
+    /**
+     * Constructs a new {@link ImmutableBooleanVector} from any {@link Iterable} of non-null {@code Boolean}s.
+     * <p>
+     * The entire {@link Iterable} will be eagerly iterated, so be careful not
+     * to pass in an infinite {@link Iterable} or this method will not terminate.
+     * If {@code source} already is an {@link ImmutableBooleanVector}, it will be returned directly.
+     *
+     * @param source an {@code Iterable<Boolean>} that will be iterated eagerly in its entirety
+     * @return an {@code ImmutableBooleanVector}
+     */
+    static ImmutableBooleanVector copyFrom(Iterable<Boolean> source) {
+        return BooleanVectors.copyFrom(source);
+    }
+
+}
@@ -0,0 +1,170 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.functions.Fn2;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Objects;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection.toCollection;
+
+class BooleanVectors {
+
+    static ImmutableBooleanVector empty() {
+        return ImmutablePackedBooleanVector.emptyBooleanVector();
+    }
+
+    static BooleanVector wrap(long[] words, int size) {
+        Objects.requireNonNull(words);
+        if (size < 0) throw new IllegalArgumentException("size must be >= 0");
+        if (size > (long) words.length * 64) throw new IllegalArgumentException("size exceeds the number of bits in words");
+        if (size == 0) {
+            return empty();
+        } else {
+            return new PackedBooleanVector(PackedBits.wrap(words, size));
+        }
+    }
+
+    static ImmutableBooleanVector copyFrom(boolean[] source) {
+        Objects.requireNonNull(source);
+        return copyFrom(source.length, source);
+    }
+
+    static ImmutableBooleanVector copyFrom(int maxCount, boolean[] source) {
+        Objects.requireNonNull(source);
+        if (maxCount < 0) throw new IllegalArgumentException("maxCount must be >= 0");
+        int count = Math.min(maxCount, source.length);
+        if (count == 0) {
+            return empty();
+        } else {
+            return new ImmutablePackedBooleanVector(PackedBits.copyFrom(source, count));
+        }
+    }
+
+    static ImmutableBooleanVector copyFrom(BitSet source, int size) {
+        Objects.requireNonNull(source);
+        if (size < 0) throw new IllegalArgumentException("size must be >= 0");
+        if (size == 0) {
+            return empty();
+        } else {
+            return new ImmutablePackedBooleanVector(PackedBits.copyFrom(source, size));
+        }
+    }
+
+    static ImmutableBooleanVector copyFrom(Iterable<Boolean> source) {
+        Objects.requireNonNull(source);
+        if (source instanceof ImmutableBooleanVector) {
+            return (ImmutableBooleanVector) source;
+        } else if (source instanceof BooleanVector) {
+            return ensureImmutable((BooleanVector) source);
+        } else if (source instanceof Vector<?>) {
+            return fromBits(PackedBits.copyFrom((Vector<Boolean>) source));
+        } else {
+            ArrayList<Boolean> copied = toCollection(ArrayList::new, source);
+            return fromBits(PackedBits.copyFrom(Vector.wrap(copied)));
+        }
+    }
+
+    static BooleanVector take(int count, BooleanVector source) {
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        return slice(0, count, source);
+    }
+
+    static ImmutableBooleanVector immutableTake(int count, ImmutableBooleanVector source) {
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        return immutableSlice(0, count, source);
+    }
+
+    static BooleanVector drop(int count, BooleanVector source) {
+        Objects.requireNonNull(source);
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        return slice(count, Integer.MAX_VALUE, source);
+    }
+
+    static ImmutableBooleanVector immutableDrop(int count, ImmutableBooleanVector source) {
+        Objects.requireNonNull(source);
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        return immutableSlice(count, Integer.MAX_VALUE, source);
+    }
+
+    static BooleanVector slice(int startIndex, int endIndexExclusive, BooleanVector source) {
+        if (source instanceof ImmutableBooleanVector) {
+            return immutableSlice(startIndex, endIndexExclusive, (ImmutableBooleanVector) source);
+        }
+        if (startIndex < 0) throw new IllegalArgumentException("startIndex must be >= 0");
+        if (endIndexExclusive < 0) throw new IllegalArgumentException("endIndex must be >= 0");
+        Objects.requireNonNull(source);
+        int sourceSize = source.size();
+        int end = Math.min(endIndexExclusive, sourceSize);
+        if (startIndex >= end) {
+            return empty();
+        } else if (startIndex == 0 && end == sourceSize) {
+            return source;
+        } else {
+            return new PackedBooleanVector(bits(source).slice(startIndex, end - startIndex));
+        }
+    }
+
+    static ImmutableBooleanVector immutableSlice(int startIndex, int endIndexExclusive, ImmutableBooleanVector source) {
+        if (startIndex < 0) throw new IllegalArgumentException("startIndex must be >= 0");
+        if (endIndexExclusive < 0) throw new IllegalArgumentException("endIndex must be >= 0");
+        Objects.requireNonNull(source);
+        int sourceSize = source.size();
+        int end = Math.min(endIndexExclusive, sourceSize);
+        if (startIndex >= end) {
+            return empty();
+        } else if (startIndex == 0 && end == sourceSize) {
+            return source;
+        } else {
+            return new ImmutablePackedBooleanVector(bits(source).slice(startIndex, end - startIndex));
+        }
+    }
+
+    static ImmutableBooleanVector and(BooleanVector first, BooleanVector second) {
+        return combine(PackedBits::and, first, second);
+    }
+
+    static ImmutableBooleanVector or(BooleanVector first, BooleanVector second) {
+        return combine(PackedBits::or, first, second);
+    }
+
+    static ImmutableBooleanVector xor(BooleanVector first, BooleanVector second) {
+        return combine(PackedBits::xor, first, second);
+    }
+
+    private static ImmutableBooleanVector combine(Fn2<PackedBits, PackedBits, PackedBits> op,
+                                                  BooleanVector first, BooleanVector second) {
+        Objects.requireNonNull(second);
+        return fromBits(op.apply(bits(first), bits(second)));
+    }
+
+    static ImmutableBooleanVector ensureImmutable(BooleanVector vector) {
+        if (vector instanceof ImmutableBooleanVector) {
+            return (ImmutableBooleanVector) vector;
+        } else {
+            return fromBits(bits(vector).compact());
+        }
+    }
+
+    /**
+     * Returns the packed bits behind {@code vector}, packing them first if {@code vector} is not one of ours.
+     */
+    static PackedBits bits(BooleanVector vector) {
+        if (vector instanceof ImmutablePackedBooleanVector) {
+            return ((ImmutablePackedBooleanVector) vector).bits();
+        } else if (vector instanceof PackedBooleanVector) {
+            return ((PackedBooleanVector) vector).bits();
+        } else {
+            return PackedBits.copyFrom(vector);
+        }
+    }
+
+    private static ImmutableBooleanVector fromBits(PackedBits bits) {
+        if (bits.size() == 0) {
+            return empty();
+        } else {
+            return new ImmutablePackedBooleanVector(bits);
+        }
+    }
+
+}
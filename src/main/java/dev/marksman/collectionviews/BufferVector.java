@@ -0,0 +1,55 @@
+package dev.marksman.collectionviews;
+
+import java.nio.ByteBuffer;
+
+class BufferVector<A> extends ConcreteVector<A> implements NonEmptyVector<A> {
+    /**
+     * underlying is a read-only view; size must be &gt;= 1
+     */
+    private final ByteBuffer underlying;
+    private final FixedWidthCodec<A> codec;
+    private final int offset;
+    private final int size;
+
+    BufferVector(ByteBuffer underlying, FixedWidthCodec<A> codec, int offset, int size) {
+        this.underlying = underlying;
+        this.codec = codec;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public A head() {
+        return unsafeGet(0);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public A unsafeGet(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        return codec.decode(underlying, (offset + index) * codec.width());
+    }
+
+    /**
+     * Copies the encoded bytes into a new direct buffer rather than decoding every element onto the heap.
+     */
+    @Override
+    public ImmutableNonEmptyVector<A> toImmutable() {
+        return new ImmutableBufferVector<>(BufferVectors.copyRegion(underlying, codec.width(), offset, size),
+                codec, 0, size);
+    }
+
+    static <A> BufferVector<A> bufferSlice(int offset, int size, BufferVector<A> source) {
+        return new BufferVector<>(source.underlying, source.codec, source.offset + offset, size);
+    }
+
+}
@@ -0,0 +1,129 @@
+package dev.marksman.collectionviews;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Objects;
+
+import static com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection.toCollection;
+
+class BufferVectors {
+
+    static <A> Vector<A> wrap(ByteBuffer underlying, FixedWidthCodec<A> codec) {
+        Objects.requireNonNull(underlying);
+        int width = validWidth(codec);
+        int byteCount = underlying.remaining();
+        if (byteCount % width != 0) {
+            throw new IllegalArgumentException("remaining bytes in buffer must be a multiple of codec width");
+        }
+        if (byteCount == 0) {
+            return Vectors.empty();
+        } else {
+            ByteBuffer view = underlying.slice().asReadOnlyBuffer().order(underlying.order());
+            return new BufferVector<>(view, codec, 0, byteCount / width);
+        }
+    }
+
+    static <A> ImmutableVector<A> copyOffHeap(FixedWidthCodec<A> codec, Iterable<A> source) {
+        Objects.requireNonNull(source);
+        int width = validWidth(codec);
+        Iterable<A> elements;
+        int size;
+        if (source instanceof Vector<?>) {
+            elements = source;
+            size = ((Vector<A>) source).size();
+        } else if (source instanceof Collection<?>) {
+            elements = source;
+            size = ((Collection<A>) source).size();
+        } else {
+            ArrayList<A> copied = toCollection(ArrayList::new, source);
+            elements = copied;
+            size = copied.size();
+        }
+        if (size == 0) {
+            return Vectors.empty();
+        }
+        ByteBuffer buffer = allocate((long) size * width).order(codec.byteOrder());
+        int offset = 0;
+        for (A element : elements) {
+            codec.encode(element, buffer, offset);
+            offset += width;
+        }
+        return new ImmutableBufferVector<>(buffer.asReadOnlyBuffer().order(buffer.order()), codec, 0, size);
+    }
+
+    static <A> ImmutableVector<A> mapFile(Path path, FixedWidthCodec<A> codec) {
+        return mapFile(path, codec, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Maps {@code path} in chunks of at most {@code maxChunkBytes} bytes, each holding a whole number of records,
+     * and each in the byte order of {@code codec}.
+     */
+    static <A> ImmutableVector<A> mapFile(Path path, FixedWidthCodec<A> codec, int maxChunkBytes) {
+        Objects.requireNonNull(path);
+        int width = validWidth(codec);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long byteCount = channel.size();
+            if (byteCount % width != 0) {
+                throw new IllegalArgumentException("file size must be a multiple of codec width");
+            }
+            long recordCount = byteCount / width;
+            if (recordCount > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("file contains too many records to fit in a Vector");
+            }
+            int size = (int) recordCount;
+            if (size == 0) {
+                return Vectors.empty();
+            }
+            int recordsPerChunk = Math.max(1, maxChunkBytes / width);
+            int chunkCount = (size - 1) / recordsPerChunk + 1;
+            ByteBuffer[] chunks = new ByteBuffer[chunkCount];
+            for (int i = 0; i < chunkCount; i++) {
+                long start = (long) i * recordsPerChunk * width;
+                long length = Math.min((long) recordsPerChunk * width, byteCount - start);
+                chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, start, length).order(codec.byteOrder());
+            }
+            if (chunkCount == 1) {
+                return new ImmutableBufferVector<>(chunks[0], codec, 0, size);
+            } else {
+                return new ChunkedBufferVector<>(chunks, recordsPerChunk, codec, 0, size);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Copies the encoded bytes of {@code size} elements starting at element {@code offset} into a new direct buffer,
+     * returning a read-only view of it.
+     */
+    static ByteBuffer copyRegion(ByteBuffer source, int width, int offset, int size) {
+        ByteBuffer region = source.duplicate();
+        region.limit((offset + size) * width);
+        region.position(offset * width);
+        ByteBuffer copied = allocate((long) size * width).order(source.order());
+        copied.put(region);
+        return copied.asReadOnlyBuffer().order(source.order());
+    }
+
+    private static ByteBuffer allocate(long byteCount) {
+        if (byteCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("too many elements to fit in a single ByteBuffer");
+        }
+        return ByteBuffer.allocateDirect((int) byteCount);
+    }
+
+    private static int validWidth(FixedWidthCodec<?> codec) {
+        Objects.requireNonNull(codec);
+        int width = codec.width();
+        if (width < 1) throw new IllegalArgumentException("codec width must be >= 1");
+        return width;
+    }
+
+}
@@ -0,0 +1,48 @@
+package dev.marksman.collectionviews;
+
+import java.nio.ByteBuffer;
+
+class ByteArrayVector extends ConcreteVector<Byte> implements ByteVector, CheapRandomAccess {
+    private final byte[] underlying;
+    private final int offset;
+    private final int size;
+
+    ByteArrayVector(byte[] underlying, int offset, int size) {
+        this.underlying = underlying;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public byte unsafeGetByte(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return underlying[offset + index];
+    }
+
+    @Override
+    public int indexOf(byte value, int fromIndex) {
+        return ByteVectors.arrayIndexOf(value, fromIndex, underlying, offset, size);
+    }
+
+    @Override
+    public void copyInto(byte[] destination, int destinationOffset) {
+        System.arraycopy(underlying, offset, destination, destinationOffset, size);
+    }
+
+    @Override
+    public ByteBuffer asReadOnlyByteBuffer() {
+        return ByteBuffer.wrap(underlying, offset, size).slice().asReadOnlyBuffer();
+    }
+
+    ByteArrayVector arraySlice(int startIndex, int count) {
+        return new ByteArrayVector(underlying, offset + startIndex, count);
+    }
+
+}
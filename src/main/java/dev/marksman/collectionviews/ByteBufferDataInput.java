@@ -0,0 +1,143 @@
+package dev.marksman.collectionviews;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link DataInput} that reads a window of bytes of a {@link ByteBuffer}, so that an {@link ElementCodec}
+ * can decode an element in place.  Reading past the end of the window throws {@link EOFException}.
+ * <p>
+ * Reads use absolute offsets, so the position and limit of the buffer are never touched, and one instance can be
+ * moved from window to window with {@link ByteBufferDataInput#reset} instead of duplicating the buffer.
+ */
+final class ByteBufferDataInput implements DataInput {
+    private final ByteBuffer source;
+    private int position;
+    private int limit;
+
+    /**
+     * {@code source} must be big-endian
+     */
+    ByteBufferDataInput(ByteBuffer source) {
+        this.source = source;
+    }
+
+    /**
+     * Moves the window to the bytes from {@code position} (inclusive) to {@code limit} (exclusive) of the buffer.
+     */
+    ByteBufferDataInput reset(int position, int limit) {
+        this.position = position;
+        this.limit = limit;
+        return this;
+    }
+
+    @Override
+    public void readFully(byte[] b) throws IOException {
+        readFully(b, 0, b.length);
+    }
+
+    @Override
+    public void readFully(byte[] b, int off, int len) throws IOException {
+        int from = advance(len);
+        for (int i = 0; i < len; i++) {
+            b[off + i] = source.get(from + i);
+        }
+    }
+
+    @Override
+    public int skipBytes(int n) {
+        int skipped = Math.max(0, Math.min(n, limit - position));
+        position += skipped;
+        return skipped;
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    @Override
+    public byte readByte() throws IOException {
+        return source.get(advance(1));
+    }
+
+    @Override
+    public int readUnsignedByte() throws IOException {
+        return readByte() & 0xff;
+    }
+
+    @Override
+    public short readShort() throws IOException {
+        return source.getShort(advance(2));
+    }
+
+    @Override
+    public int readUnsignedShort() throws IOException {
+        return readShort() & 0xffff;
+    }
+
+    @Override
+    public char readChar() throws IOException {
+        return source.getChar(advance(2));
+    }
+
+    @Override
+    public int readInt() throws IOException {
+        return source.getInt(advance(4));
+    }
+
+    @Override
+    public long readLong() throws IOException {
+        return source.getLong(advance(8));
+    }
+
+    @Override
+    public float readFloat() throws IOException {
+        return source.getFloat(advance(4));
+    }
+
+    @Override
+    public double readDouble() throws IOException {
+        return source.getDouble(advance(8));
+    }
+
+    @Override
+    public String readLine() {
+        if (position >= limit) {
+            return null;
+        }
+        StringBuilder result = new StringBuilder();
+        while (position < limit) {
+            char c = (char) (source.get(position++) & 0xff);
+            if (c == '\n') {
+                break;
+            } else if (c == '\r') {
+                if (position < limit && source.get(position) == '\n') {
+                    position++;
+                }
+                break;
+            }
+            result.append(c);
+        }
+        return result.toString();
+    }
+
+    @Override
+    public String readUTF() throws IOException {
+        return DataInputStream.readUTF(this);
+    }
+
+    /**
+     * Consumes {@code byteCount} bytes, and returns the offset of the first.
+     */
+    private int advance(int byteCount) throws EOFException {
+        if (limit - position < byteCount) throw new EOFException();
+        int result = position;
+        position += byteCount;
+        return result;
+    }
+
+}
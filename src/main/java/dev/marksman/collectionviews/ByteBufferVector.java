@@ -0,0 +1,62 @@
+package dev.marksman.collectionviews;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Reads through a read-only, little-endian duplicate of the caller's buffer using absolute gets only,
+ * so the caller's position, limit and order are never disturbed.
+ */
+class ByteBufferVector extends ConcreteVector<Byte> implements ByteVector {
+    private final ByteBuffer underlying;
+    private final int offset;
+    private final int size;
+
+    ByteBufferVector(ByteBuffer underlying, int offset, int size) {
+        this.underlying = underlying;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public byte unsafeGetByte(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return underlying.get(offset + index);
+    }
+
+    @Override
+    public int indexOf(byte value, int fromIndex) {
+        if (fromIndex < 0) throw new IllegalArgumentException("fromIndex must be >= 0");
+        if (fromIndex >= size) {
+            return -1;
+        }
+        int found = ByteVectors.indexOf(value, underlying, offset + fromIndex, offset + size);
+        return found < 0 ? -1 : found - offset;
+    }
+
+    @Override
+    public void copyInto(byte[] destination, int destinationOffset) {
+        ByteBuffer view = underlying.duplicate();
+        view.position(offset);
+        view.get(destination, destinationOffset, size);
+    }
+
+    @Override
+    public ByteBuffer asReadOnlyByteBuffer() {
+        ByteBuffer view = underlying.duplicate();
+        view.limit(offset + size);
+        view.position(offset);
+        return view.slice();
+    }
+
+    ByteBufferVector bufferSlice(int startIndex, int count) {
+        return new ByteBufferVector(underlying, offset + startIndex, count);
+    }
+
+}
@@ -0,0 +1,237 @@
+package dev.marksman.collectionviews;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+
+/**
+ * A {@link Vector} of {@code byte}s that stores and reads its elements without boxing.
+ * <p>
+ * In addition to the guarantees of {@link Vector}, provides the following:
+ * <ul>
+ * <li>{@link ByteVector#unsafeGetByte} retrieves an element by index as a primitive {@code byte}.</li>
+ * <li>{@link ByteVector#indexOf} searches a vector backed by a {@link ByteBuffer} eight bytes at a time.</li>
+ * <li>{@link ByteVector#copyInto} copies the elements into an existing array in bulk.</li>
+ * <li>{@link ByteVector#take}, {@link ByteVector#drop} and {@link ByteVector#slice}
+ * always return a {@code ByteVector}, without copying.</li>
+ * </ul>
+ * <p>
+ * A {@code ByteVector} is a {@code Vector<Byte>}, and may be used anywhere one is expected.
+ */
+public interface ByteVector extends Vector<Byte> {
+
+    /**
+     * Get an element from the {@link ByteVector} at an index, without boxing.  Executes in O(1).
+     *
+     * @param index the index of the element to retrieve.  Must be between 0 and <code>size() - 1</code>, otherwise will
+     *              throw an {@link IndexOutOfBoundsException}
+     * @return the element at {@code index}
+     */
+    byte unsafeGetByte(int index);
+
+    @Override
+    default Byte unsafeGet(int index) {
+        return unsafeGetByte(index);
+    }
+
+    /**
+     * Returns the index of the first occurrence of {@code value}.
+     *
+     * @param value the value to search for
+     * @return the index of the first occurrence of {@code value}, or -1 if there is none
+     */
+    default int indexOf(byte value) {
+        return indexOf(value, 0);
+    }
+
+    /**
+     * Returns the index of the first occurrence of {@code value} at or after {@code fromIndex}.
+     *
+     * @param value     the value to search for
+     * @param fromIndex the index to start searching from.  Must be &gt;= 0.  May exceed the size of
+     *                  the {@link ByteVector}, in which case -1 is returned.
+     * @return the index of the next occurrence of {@code value}, or -1 if there is none
+     */
+    default int indexOf(byte value, int fromIndex) {
+        return ByteVectors.indexOf(value, fromIndex, this);
+    }
+
+    /**
+     * Copies every element of this {@link ByteVector} into {@code destination}, starting at {@code destinationOffset}.
+     *
+     * @param destination       the array to copy into
+     * @param destinationOffset the index in {@code destination} to copy the first element to.  There must be room
+     *                          for {@code size()} elements, otherwise will throw an {@link IndexOutOfBoundsException}.
+     */
+    default void copyInto(byte[] destination, int destinationOffset) {
+        ByteVectors.copyInto(destination, destinationOffset, this);
+    }
+
+    /**
+     * Copies the elements of this {@link ByteVector} into a new {@code byte[]}.
+     *
+     * @return a new {@code byte[]} of the same size as this {@link ByteVector}
+     */
+    default byte[] toByteArray() {
+        byte[] result = new byte[size()];
+        copyInto(result, 0);
+        return result;
+    }
+
+    /**
+     * Returns a read-only {@link ByteBuffer} over the elements of this {@link ByteVector}, with its position at
+     * zero and its limit at {@code size()}.  Does not make copies of any underlying data structures
+     * if this {@link ByteVector} wraps an array or a {@link ByteBuffer}.
+     *
+     * @return a read-only {@code ByteBuffer}
+     */
+    default ByteBuffer asReadOnlyByteBuffer() {
+        return ByteBuffer.wrap(toByteArray()).asReadOnlyBuffer();
+    }
+
+    @Override
+    default ByteVector drop(int count) {
+        return ByteVectors.drop(count, this);
+    }
+
+    @Override
+    default ByteVector slice(int startIndex, int endIndexExclusive) {
+        return ByteVectors.slice(startIndex, endIndexExclusive, this);
+    }
+
+    @Override
+    default ByteVector tail() {
+        return drop(1);
+    }
+
+    @Override
+    default ByteVector take(int count) {
+        return ByteVectors.take(count, this);
+    }
+
+    @Override
+    default ImmutableByteVector toImmutable() {
+        return ByteVectors.ensureImmutable(this);
+    }
+
+    /**
+     * Returns an empty {@link ImmutableByteVector}.
+     *
+     * @return an empty {@code ImmutableByteVector}
+     */
+    static ImmutableByteVector empty() {
+        return ByteVectors.empty();
+    }
+
+    /**
+     * Creates a {@link ByteVector} that wraps a {@code byte[]}.
+     * <p>
+     * Does not make any copies of the given array.
+     * The {@link ByteVector} will hold on to a reference to the array, but will never alter it in any way.
+     * <p>
+     * Since this does not make a copy of the array, be aware that anyone that holds a direct reference to
+     * the array can still mutate it.  Use {@link ByteVector#copyFrom} instead if you want to avoid this situation.
+     *
+     * @param underlying array to wrap
+     * @return a {@code ByteVector}
+     */
+    static ByteVector wrap(byte[] underlying) {
+        return ByteVectors.wrap(underlying);
+    }
+
+    /**
+     * Creates a {@link ByteVector} that wraps the remaining bytes of a {@link ByteBuffer}, i.e. those
+     * between its position and its limit at the time this method is called.
+     * <p>
+     * Does not make any copies of the buffer's contents, and does not alter the buffer's position, limit or order.
+     * The {@link ByteVector} reads through a read-only view of the buffer, so it will never alter it in any way.
+     * <p>
+     * Since this does not make a copy, be aware that anyone that holds a direct reference to
+     * the buffer can still mutate its contents.  Use {@link ByteVector#copyFrom} instead if you want to avoid this situation.
+     *
+     * @param underlying buffer to wrap
+     * @return a {@code ByteVector}
+     */
+    static ByteVector wrap(ByteBuffer underlying) {
+        return ByteVectors.wrap(underlying);
+    }
+
+    /**
+     * Returns a new {@link ImmutableByteVector} that is copied from a {@code byte[]}.
+     *
+     * @param source the array to copy from.
+     *               This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableByteVector}
+     */
+    static ImmutableByteVector copyFrom(byte[] source) {
+        return ByteVectors.copyFrom(source);
+    }
+
+    /**
+     * Returns a new {@link ImmutableByteVector} that is copied from a {@code byte[]},
+     * but copying a maximum number of elements.
+     *
+     * @param maxCount the maximum number of elements to copy from the array.  Must be &gt;= 0.
+     * @param source   the array to copy from.
+     *                 This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableByteVector}
+     */
+    static ImmutableByteVector copyFrom(int maxCount, byte[] source) {
+        return ByteVectors.copyFrom(maxCount, source);
+    }
+
+    /**
+     * Returns a new {@link ImmutableByteVector} that is copied from the remaining bytes of a {@link ByteBuffer}.
+     *
+     * @param source the buffer to copy from.
+     *               This method will not alter the buffer's position, limit or contents, or hold on to a reference of it.
+     * @return an {@code ImmutableByteVector}
+     */
+    static ImmutableByteVector copyFrom(ByteBuffer source) {
+        return ByteVectors.copyFrom(source);
+    }
+
+    /**
+     * Returns a new {@link ImmutableByteVector} that is copied from a slice of a {@code byte[]}.
+     *
+     * @param startIndex        the index of the first element to copy.  Must be &gt;= 0.
+     * @param endIndexExclusive the end index (exclusive) of the elements to copy.  Must be &gt;= 0.
+     *                          May exceed the length of the array.
+     * @param source            the array to copy from.
+     *                          This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableByteVector}
+     */
+    static ImmutableByteVector copySliceFrom(int startIndex, int endIndexExclusive, byte[] source) {
+        return ByteVectors.copySliceFrom(startIndex, endIndexExclusive, source);
+    }
+
+    /**
+     * Reads an {@link ImmutableByteVector} written by {@link ImmutableByteVector#writeTo(OutputStream)}.
+     * <p>
+     * The values are read straight into the backing array of the result.  Consumes exactly the bytes
+     * that were written, and does not close {@code in}.
+     *
+     * @param in the source
+     * @return an {@code ImmutableByteVector}
+     * @throws IOException if {@code in} throws, or does not contain a {@code ByteVector}
+     */
+    static ImmutableByteVector readFrom(InputStream in) throws IOException {
+        return BinaryFormat.readByteVector(BinaryFormat.channel(in));
+    }
+
+    /**
+     * Reads an {@link ImmutableByteVector} written by {@link ImmutableByteVector#writeTo(OutputStream)}.
+     * <p>
+     * The values are read straight into the backing array of the result.  Consumes exactly the bytes
+     * that were written, and does not close {@code in}.
+     *
+     * @param in the source
+     * @return an {@code ImmutableByteVector}
+     * @throws IOException if {@code in} throws, or does not contain a {@code ByteVector}
+     */
+    static ImmutableByteVector readFrom(ReadableByteChannel in) throws IOException {
+        return BinaryFormat.readByteVector(in);
+    }
+
+}
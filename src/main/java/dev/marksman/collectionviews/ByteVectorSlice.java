@@ -0,0 +1,35 @@
+package dev.marksman.collectionviews;
+
+/**
+ * A slice of a {@link ByteVector} that can't be sliced directly, viewed through an index offset.
+ */
+class ByteVectorSlice extends ConcreteVector<Byte> implements ByteVector {
+    private final int offset;
+    /**
+     * must be >= 1
+     */
+    private final int size;
+    private final ByteVector underlying;
+
+    ByteVectorSlice(int offset, int size, ByteVector underlying) {
+        this.offset = offset;
+        this.size = size;
+        this.underlying = underlying;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public byte unsafeGetByte(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        return underlying.unsafeGetByte(offset + index);
+    }
+
+    static ByteVectorSlice byteSlice(int offset, int size, ByteVectorSlice source) {
+        return new ByteVectorSlice(source.offset + offset, size, source.underlying);
+    }
+
+}
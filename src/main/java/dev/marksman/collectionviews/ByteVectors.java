@@ -0,0 +1,211 @@
+package dev.marksman.collectionviews;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
+class ByteVectors {
+
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    static ImmutableByteVector empty() {
+        return ImmutableByteArrayVector.emptyByteVector();
+    }
+
+    static ByteVector wrap(byte[] underlying) {
+        Objects.requireNonNull(underlying);
+        if (underlying.length == 0) {
+            return empty();
+        } else {
+            return new ByteArrayVector(underlying, 0, underlying.length);
+        }
+    }
+
+    static ByteVector wrap(ByteBuffer underlying) {
+        Objects.requireNonNull(underlying);
+        int size = underlying.remaining();
+        if (size == 0) {
+            return empty();
+        } else {
+            ByteBuffer view = underlying.slice().asReadOnlyBuffer().order(ByteOrder.LITTLE_ENDIAN);
+            return new ByteBufferVector(view, 0, size);
+        }
+    }
+
+    static ImmutableByteVector copyFrom(byte[] source) {
+        Objects.requireNonNull(source);
+        return copyFrom(source.length, source);
+    }
+
+    static ImmutableByteVector copyFrom(int maxCount, byte[] source) {
+        Objects.requireNonNull(source);
+        if (maxCount < 0) throw new IllegalArgumentException("maxCount must be >= 0");
+        return copySliceFrom(0, maxCount, source);
+    }
+
+    static ImmutableByteVector copyFrom(ByteBuffer source) {
+        Objects.requireNonNull(source);
+        int size = source.remaining();
+        if (size == 0) {
+            return empty();
+        } else {
+            byte[] copied = new byte[size];
+            source.duplicate().get(copied);
+            return new ImmutableByteArrayVector(copied, 0, size);
+        }
+    }
+
+    static ImmutableByteVector copySliceFrom(int startIndex, int endIndexExclusive, byte[] source) {
+        Objects.requireNonNull(source);
+        if (startIndex < 0) throw new IllegalArgumentException("startIndex must be >= 0");
+        if (endIndexExclusive < 0) throw new IllegalArgumentException("endIndex must be >= 0");
+        int end = Math.min(endIndexExclusive, source.length);
+        if (startIndex >= end) {
+            return empty();
+        } else {
+            int count = end - startIndex;
+            byte[] copied = new byte[count];
+            System.arraycopy(source, startIndex, copied, 0, count);
+            return new ImmutableByteArrayVector(copied, 0, count);
+        }
+    }
+
+    static ByteVector take(int count, ByteVector source) {
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        return slice(0, count, source);
+    }
+
+    static ImmutableByteVector immutableTake(int count, ImmutableByteVector source) {
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        return immutableSlice(0, count, source);
+    }
+
+    static ByteVector drop(int count, ByteVector source) {
+        Objects.requireNonNull(source);
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        return slice(count, Integer.MAX_VALUE, source);
+    }
+
+    static ImmutableByteVector immutableDrop(int count, ImmutableByteVector source) {
+        Objects.requireNonNull(source);
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        return immutableSlice(count, Integer.MAX_VALUE, source);
+    }
+
+    static ByteVector slice(int startIndex, int endIndexExclusive, ByteVector source) {
+        if (source instanceof ImmutableByteVector) {
+            return immutableSlice(startIndex, endIndexExclusive, (ImmutableByteVector) source);
+        }
+        if (startIndex < 0) throw new IllegalArgumentException("startIndex must be >= 0");
+        if (endIndexExclusive < 0) throw new IllegalArgumentException("endIndex must be >= 0");
+        Objects.requireNonNull(source);
+        int sourceSize = source.size();
+        int end = Math.min(endIndexExclusive, sourceSize);
+        if (startIndex >= end) {
+            return empty();
+        } else if (startIndex == 0 && end == sourceSize) {
+            return source;
+        } else if (source instanceof ByteArrayVector) {
+            return ((ByteArrayVector) source).arraySlice(startIndex, end - startIndex);
+        } else if (source instanceof ByteBufferVector) {
+            return ((ByteBufferVector) source).bufferSlice(startIndex, end - startIndex);
+        } else if (source instanceof ByteVectorSlice) {
+            return ByteVectorSlice.byteSlice(startIndex, end - startIndex, (ByteVectorSlice) source);
+        } else {
+            return new ByteVectorSlice(startIndex, end - startIndex, source);
+        }
+    }
+
+    static ImmutableByteVector immutableSlice(int startIndex, int endIndexExclusive, ImmutableByteVector source) {
+        if (startIndex < 0) throw new IllegalArgumentException("startIndex must be >= 0");
+        if (endIndexExclusive < 0) throw new IllegalArgumentException("endIndex must be >= 0");
+        Objects.requireNonNull(source);
+        int sourceSize = source.size();
+        int end = Math.min(endIndexExclusive, sourceSize);
+        if (startIndex >= end) {
+            return empty();
+        } else if (startIndex == 0 && end == sourceSize) {
+            return source;
+        } else if (source instanceof ImmutableByteArrayVector) {
+            return ((ImmutableByteArrayVector) source).arraySlice(startIndex, end - startIndex);
+        } else if (source instanceof ImmutableByteVectorSlice) {
+            return ImmutableByteVectorSlice.byteSlice(startIndex, end - startIndex, (ImmutableByteVectorSlice) source);
+        } else {
+            return new ImmutableByteVectorSlice(startIndex, end - startIndex, source);
+        }
+    }
+
+    static ImmutableByteVector ensureImmutable(ByteVector vector) {
+        if (vector instanceof ImmutableByteVector) {
+            return (ImmutableByteVector) vector;
+        } else if (vector.isEmpty()) {
+            return empty();
+        } else {
+            return new ImmutableByteArrayVector(vector.toByteArray(), 0, vector.size());
+        }
+    }
+
+    static int indexOf(byte value, int fromIndex, ByteVector source) {
+        if (fromIndex < 0) throw new IllegalArgumentException("fromIndex must be >= 0");
+        int size = source.size();
+        for (int i = fromIndex; i < size; i++) {
+            if (source.unsafeGetByte(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int arrayIndexOf(byte value, int fromIndex, byte[] array, int offset, int size) {
+        if (fromIndex < 0) throw new IllegalArgumentException("fromIndex must be >= 0");
+        if (fromIndex >= size) {
+            return -1;
+        }
+        int to = offset + size;
+        for (int i = offset + fromIndex; i < to; i++) {
+            if (array[i] == value) {
+                return i - offset;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Searches {@code buffer} between the absolute indices {@code from} and {@code to} eight bytes at a time,
+     * using the "has zero byte" bit trick on each word XORed with {@code value} repeated in every byte.
+     * The trick can report false positives only in bytes above a genuine match, so with little-endian words
+     * the lowest flagged byte is always the first match.
+     *
+     * @return the absolute index of the first match, or -1
+     */
+    static int indexOf(byte value, ByteBuffer littleEndianBuffer, int from, int to) {
+        long pattern = (value & 0xffL) * LOW_BITS;
+        int i = from;
+        for (; to - i >= 8; i += 8) {
+            long word = littleEndianBuffer.getLong(i) ^ pattern;
+            long matches = (word - LOW_BITS) & ~word & HIGH_BITS;
+            if (matches != 0) {
+                return i + (Long.numberOfTrailingZeros(matches) >>> 3);
+            }
+        }
+        for (; i < to; i++) {
+            if (littleEndianBuffer.get(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static void copyInto(byte[] destination, int destinationOffset, ByteVector source) {
+        Objects.requireNonNull(destination);
+        int size = source.size();
+        if (destinationOffset < 0 || destinationOffset > destination.length - size) {
+            throw new IndexOutOfBoundsException();
+        }
+        for (int i = 0; i < size; i++) {
+            destination[destinationOffset + i] = source.unsafeGetByte(i);
+        }
+    }
+
+}
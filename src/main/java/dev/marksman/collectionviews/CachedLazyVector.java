@@ -0,0 +1,42 @@
+package dev.marksman.collectionviews;
+
+import java.util.function.IntFunction;
+
+class CachedLazyVector<A> extends ConcreteVector<A> implements ImmutableMemoizedVector<A> {
+    private final int size;
+    private final MemoTable memo;
+    private final IntFunction<Object> valueSupplier;
+
+    @SuppressWarnings("unchecked")
+    CachedLazyVector(int size, IntFunction<? extends A> valueSupplier) {
+        this.size = size;
+        this.memo = MemoTable.denseMemoTable(size);
+        this.valueSupplier = (IntFunction<Object>) valueSupplier;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public A unsafeGet(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        return (A) memo.get(index, valueSupplier);
+    }
+
+    @Override
+    public ImmutableMemoizedVector<A> force() {
+        for (int i = 0; i < size; i++) {
+            memo.get(i, valueSupplier);
+        }
+        return this;
+    }
+
+    @Override
+    public int materializedCount() {
+        return memo.materializedCount();
+    }
+
+}
@@ -0,0 +1,177 @@
+package dev.marksman.collectionviews;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+
+/**
+ * A {@link DataInput} that reads from a {@link ReadableByteChannel} through a {@link ByteBuffer}, which is filled
+ * from the channel in bulk, so that an {@link ElementCodec} reading a few bytes at a time does not cost a channel
+ * read per byte.
+ * <p>
+ * This reads ahead of what has been consumed.  {@link ChannelDataInput#finish} gives the unconsumed bytes back if
+ * the channel is a {@link SeekableByteChannel}; otherwise they are lost.
+ */
+final class ChannelDataInput implements DataInput {
+    private final ReadableByteChannel source;
+    private final ByteBuffer buffer;
+
+    ChannelDataInput(ReadableByteChannel source, int bufferSize) {
+        this.source = source;
+        this.buffer = ByteBuffer.allocate(bufferSize).order(ByteOrder.BIG_ENDIAN);
+        buffer.flip();
+    }
+
+    /**
+     * Moves the position of the channel back to just after the last byte consumed, if it is a
+     * {@link SeekableByteChannel}.
+     */
+    void finish() throws IOException {
+        if (source instanceof SeekableByteChannel && buffer.hasRemaining()) {
+            SeekableByteChannel seekable = (SeekableByteChannel) source;
+            seekable.position(seekable.position() - buffer.remaining());
+        }
+        buffer.position(buffer.limit());
+    }
+
+    @Override
+    public void readFully(byte[] b) throws IOException {
+        readFully(b, 0, b.length);
+    }
+
+    @Override
+    public void readFully(byte[] b, int off, int len) throws IOException {
+        int buffered = Math.min(len, buffer.remaining());
+        buffer.get(b, off, buffered);
+        if (buffered < len) {
+            ByteBuffer target = ByteBuffer.wrap(b, off + buffered, len - buffered);
+            while (target.hasRemaining()) {
+                if (source.read(target) < 0) throw new EOFException();
+            }
+        }
+    }
+
+    @Override
+    public int skipBytes(int n) throws IOException {
+        int skipped = 0;
+        while (skipped < n && fill(1)) {
+            int count = Math.min(n - skipped, buffer.remaining());
+            buffer.position(buffer.position() + count);
+            skipped += count;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean readBoolean() throws IOException {
+        return readByte() != 0;
+    }
+
+    @Override
+    public byte readByte() throws IOException {
+        require(1);
+        return buffer.get();
+    }
+
+    @Override
+    public int readUnsignedByte() throws IOException {
+        return readByte() & 0xff;
+    }
+
+    @Override
+    public short readShort() throws IOException {
+        require(2);
+        return buffer.getShort();
+    }
+
+    @Override
+    public int readUnsignedShort() throws IOException {
+        return readShort() & 0xffff;
+    }
+
+    @Override
+    public char readChar() throws IOException {
+        require(2);
+        return buffer.getChar();
+    }
+
+    @Override
+    public int readInt() throws IOException {
+        require(4);
+        return buffer.getInt();
+    }
+
+    @Override
+    public long readLong() throws IOException {
+        require(8);
+        return buffer.getLong();
+    }
+
+    @Override
+    public float readFloat() throws IOException {
+        require(4);
+        return buffer.getFloat();
+    }
+
+    @Override
+    public double readDouble() throws IOException {
+        require(8);
+        return buffer.getDouble();
+    }
+
+    @Override
+    public String readLine() throws IOException {
+        if (!fill(1)) {
+            return null;
+        }
+        StringBuilder result = new StringBuilder();
+        while (fill(1)) {
+            char c = (char) (buffer.get() & 0xff);
+            if (c == '\n') {
+                break;
+            } else if (c == '\r') {
+                if (fill(1) && buffer.get(buffer.position()) == '\n') {
+                    buffer.get();
+                }
+                break;
+            }
+            result.append(c);
+        }
+        return result.toString();
+    }
+
+    @Override
+    public String readUTF() throws IOException {
+        return DataInputStream.readUTF(this);
+    }
+
+    private void require(int byteCount) throws IOException {
+        if (!fill(byteCount)) throw new EOFException();
+    }
+
+    /**
+     * Reads from the channel until at least {@code byteCount} bytes are buffered, or the channel is exhausted.
+     */
+    private boolean fill(int byteCount) throws IOException {
+        if (buffer.remaining() >= byteCount) {
+            return true;
+        }
+        buffer.compact();
+        try {
+            while (buffer.position() < byteCount) {
+                if (source.read(buffer) < 0) {
+                    return false;
+                }
+            }
+            return true;
+        } finally {
+            buffer.flip();
+        }
+    }
+
+}
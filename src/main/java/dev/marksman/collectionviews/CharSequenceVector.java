@@ -0,0 +1,31 @@
+package dev.marksman.collectionviews;
+
+class CharSequenceVector extends ConcreteVector<Character> implements CharVector {
+    private final CharSequence underlying;
+    private final int offset;
+    private final int size;
+
+    CharSequenceVector(CharSequence underlying, int offset, int size) {
+        this.underlying = underlying;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public char unsafeGetChar(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return underlying.charAt(offset + index);
+    }
+
+    CharSequenceVector sequenceSlice(int startIndex, int count) {
+        return new CharSequenceVector(underlying, offset + startIndex, count);
+    }
+
+}
@@ -0,0 +1,196 @@
+package dev.marksman.collectionviews;
+
+/**
+ * A {@link Vector} of {@code char}s that stores and reads its elements without boxing.
+ * <p>
+ * In addition to the guarantees of {@link Vector}, provides the following:
+ * <ul>
+ * <li>{@link CharVector#unsafeGetChar} retrieves an element by index as a primitive {@code char}.</li>
+ * <li>{@link CharVector#indexOf} searches for a {@code char} without boxing.</li>
+ * <li>{@link CharVector#copyInto} copies the elements into an existing array in bulk.</li>
+ * <li>{@link CharVector#take}, {@link CharVector#drop} and {@link CharVector#slice}
+ * always return a {@code CharVector}, without copying.</li>
+ * </ul>
+ * <p>
+ * A {@code CharVector} is a {@code Vector<Character>}, and may be used anywhere one is expected.
+ */
+public interface CharVector extends Vector<Character> {
+
+    /**
+     * Get an element from the {@link CharVector} at an index, without boxing.  Executes in O(1).
+     *
+     * @param index the index of the element to retrieve.  Must be between 0 and <code>size() - 1</code>, otherwise will
+     *              throw an {@link IndexOutOfBoundsException}
+     * @return the element at {@code index}
+     */
+    char unsafeGetChar(int index);
+
+    @Override
+    default Character unsafeGet(int index) {
+        return unsafeGetChar(index);
+    }
+
+    /**
+     * Returns the index of the first occurrence of {@code value}.
+     *
+     * @param value the value to search for
+     * @return the index of the first occurrence of {@code value}, or -1 if there is none
+     */
+    default int indexOf(char value) {
+        return indexOf(value, 0);
+    }
+
+    /**
+     * Returns the index of the first occurrence of {@code value} at or after {@code fromIndex}.
+     *
+     * @param value     the value to search for
+     * @param fromIndex the index to start searching from.  Must be &gt;= 0.  May exceed the size of
+     *                  the {@link CharVector}, in which case -1 is returned.
+     * @return the index of the next occurrence of {@code value}, or -1 if there is none
+     */
+    default int indexOf(char value, int fromIndex) {
+        return CharVectors.indexOf(value, fromIndex, this);
+    }
+
+    /**
+     * Copies every element of this {@link CharVector} into {@code destination}, starting at {@code destinationOffset}.
+     *
+     * @param destination       the array to copy into
+     * @param destinationOffset the index in {@code destination} to copy the first element to.  There must be room
+     *                          for {@code size()} elements, otherwise will throw an {@link IndexOutOfBoundsException}.
+     */
+    default void copyInto(char[] destination, int destinationOffset) {
+        CharVectors.copyInto(destination, destinationOffset, this);
+    }
+
+    /**
+     * Copies the elements of this {@link CharVector} into a new {@code char[]}.
+     *
+     * @return a new {@code char[]} of the same size as this {@link CharVector}
+     */
+    default char[] toCharArray() {
+        char[] result = new char[size()];
+        copyInto(result, 0);
+        return result;
+    }
+
+    @Override
+    default CharVector drop(int count) {
+        return CharVectors.drop(count, this);
+    }
+
+    @Override
+    default CharVector slice(int startIndex, int endIndexExclusive) {
+        return CharVectors.slice(startIndex, endIndexExclusive, this);
+    }
+
+    @Override
+    default CharVector tail() {
+        return drop(1);
+    }
+
+    @Override
+    default CharVector take(int count) {
+        return CharVectors.take(count, this);
+    }
+
+    @Override
+    default ImmutableCharVector toImmutable() {
+        return CharVectors.ensureImmutable(this);
+    }
+
+    /**
+     * Returns an empty {@link ImmutableCharVector}.
+     *
+     * @return an empty {@code ImmutableCharVector}
+     */
+    static ImmutableCharVector empty() {
+        return CharVectors.empty();
+    }
+
+    /**
+     * Creates a {@link CharVector} that wraps a {@code char[]}.
+     * <p>
+     * Does not make any copies of the given array.
+     * The {@link CharVector} will hold on to a reference to the array, but will never alter it in any way.
+     * <p>
+     * Since this does not make a copy of the array, be aware that anyone that holds a direct reference to
+     * the array can still mutate it.  Use {@link CharVector#copyFrom} instead if you want to avoid this situation.
+     *
+     * @param underlying array to wrap
+     * @return a {@code CharVector}
+     */
+    static CharVector wrap(char[] underlying) {
+        return CharVectors.wrap(underlying);
+    }
+
+    /**
+     * Creates a {@link CharVector} that wraps a {@link CharSequence}.
+     * <p>
+     * Does not make any copies of the given {@code CharSequence}.
+     * The {@link CharVector} will hold on to a reference to it, but will never alter it in any way.
+     * <p>
+     * If the {@code CharSequence} is mutable (e.g. a {@link StringBuilder}), be aware that anyone that holds a
+     * direct reference to it can still mutate it, and it must not shrink while the {@link CharVector} is in use.
+     * Use {@link CharVector#copyFrom} instead if you want to avoid this situation.
+     *
+     * @param underlying {@code CharSequence} to wrap
+     * @return a {@code CharVector}
+     */
+    static CharVector wrap(CharSequence underlying) {
+        return CharVectors.wrap(underlying);
+    }
+
+    /**
+     * Returns a new {@link ImmutableCharVector} that is copied from a {@code char[]}.
+     *
+     * @param source the array to copy from.
+     *               This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableCharVector}
+     */
+    static ImmutableCharVector copyFrom(char[] source) {
+        return CharVectors.copyFrom(source);
+    }
+
+    /**
+     * Returns a new {@link ImmutableCharVector} that is copied from a {@code char[]},
+     * but copying a maximum number of elements.
+     *
+     * @param maxCount the maximum number of elements to copy from the array.  Must be &gt;= 0.
+     * @param source   the array to copy from.
+     *                 This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableCharVector}
+     */
+    static ImmutableCharVector copyFrom(int maxCount, char[] source) {
+        return CharVectors.copyFrom(maxCount, source);
+    }
+
+    /**
+     * Returns an {@link ImmutableCharVector} containing the characters of a {@link CharSequence}.
+     * <p>
+     * Since a {@link String} is already immutable, a {@code String} is wrapped without copying.
+     * Any other {@code CharSequence} is copied.
+     *
+     * @param source the {@code CharSequence} to copy from.
+     *               This method will not alter it, or hold on to a reference of it unless it is a {@code String}.
+     * @return an {@code ImmutableCharVector}
+     */
+    static ImmutableCharVector copyFrom(CharSequence source) {
+        return CharVectors.copyFrom(source);
+    }
+
+    /**
+     * Returns a new {@link ImmutableCharVector} that is copied from a slice of a {@code char[]}.
+     *
+     * @param startIndex        the index of the first element to copy.  Must be &gt;= 0.
+     * @param endIndexExclusive the end index (exclusive) of the elements to copy.  Must be &gt;= 0.
+     *                          May exceed the length of the array.
+     * @param source            the array to copy from.
+     *                          This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableCharVector}
+     */
+    static ImmutableCharVector copySliceFrom(int startIndex, int endIndexExclusive, char[] source) {
+        return CharVectors.copySliceFrom(startIndex, endIndexExclusive, source);
+    }
+
+}
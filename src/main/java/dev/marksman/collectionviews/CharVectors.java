@@ -0,0 +1,191 @@
+package dev.marksman.collectionviews;
+
+import java.util.Objects;
+
+class CharVectors {
+
+    static ImmutableCharVector empty() {
+        return ImmutableCharArrayVector.emptyCharVector();
+    }
+
+    static CharVector wrap(char[] underlying) {
+        Objects.requireNonNull(underlying);
+        if (underlying.length == 0) {
+            return empty();
+        } else {
+            return new CharArrayVector(underlying, 0, underlying.length);
+        }
+    }
+
+    static CharVector wrap(CharSequence underlying) {
+        Objects.requireNonNull(underlying);
+        if (underlying instanceof String) {
+            return copyFrom(underlying);
+        } else if (underlying.length() == 0) {
+            return empty();
+        } else {
+            return new CharSequenceVector(underlying, 0, underlying.length());
+        }
+    }
+
+    static ImmutableCharVector copyFrom(char[] source) {
+        Objects.requireNonNull(source);
+        return copyFrom(source.length, source);
+    }
+
+    static ImmutableCharVector copyFrom(int maxCount, char[] source) {
+        Objects.requireNonNull(source);
+        if (maxCount < 0) throw new IllegalArgumentException("maxCount must be >= 0");
+        return copySliceFrom(0, maxCount, source);
+    }
+
+    static ImmutableCharVector copyFrom(CharSequence source) {
+        Objects.requireNonNull(source);
+        int size = source.length();
+        if (size == 0) {
+            return empty();
+        } else if (source instanceof String) {
+            return new ImmutableStringVector((String) source, 0, size);
+        } else {
+            char[] copied = new char[size];
+            for (int i = 0; i < size; i++) {
+                copied[i] = source.charAt(i);
+            }
+            return new ImmutableCharArrayVector(copied, 0, size);
+        }
+    }
+
+    static ImmutableCharVector copySliceFrom(int startIndex, int endIndexExclusive, char[] source) {
+        Objects.requireNonNull(source);
+        if (startIndex < 0) throw new IllegalArgumentException("startIndex must be >= 0");
+        if (endIndexExclusive < 0) throw new IllegalArgumentException("endIndex must be >= 0");
+        int end = Math.min(endIndexExclusive, source.length);
+        if (startIndex >= end) {
+            return empty();
+        } else {
+            int count = end - startIndex;
+            char[] copied = new char[count];
+            System.arraycopy(source, startIndex, copied, 0, count);
+            return new ImmutableCharArrayVector(copied, 0, count);
+        }
+    }
+
+    static CharVector take(int count, CharVector source) {
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        return slice(0, count, source);
+    }
+
+    static ImmutableCharVector immutableTake(int count, ImmutableCharVector source) {
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        return immutableSlice(0, count, source);
+    }
+
+    static CharVector drop(int count, CharVector source) {
+        Objects.requireNonNull(source);
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        return slice(count, Integer.MAX_VALUE, source);
+    }
+
+    static ImmutableCharVector immutableDrop(int count, ImmutableCharVector source) {
+        Objects.requireNonNull(source);
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        return immutableSlice(count, Integer.MAX_VALUE, source);
+    }
+
+    static CharVector slice(int startIndex, int endIndexExclusive, CharVector source) {
+        if (source instanceof ImmutableCharVector) {
+            return immutableSlice(startIndex, endIndexExclusive, (ImmutableCharVector) source);
+        }
+        if (startIndex < 0) throw new IllegalArgumentException("startIndex must be >= 0");
+        if (endIndexExclusive < 0) throw new IllegalArgumentException("endIndex must be >= 0");
+        Objects.requireNonNull(source);
+        int sourceSize = source.size();
+        int end = Math.min(endIndexExclusive, sourceSize);
+        if (startIndex >= end) {
+            return empty();
+        } else if (startIndex == 0 && end == sourceSize) {
+            return source;
+        } else if (source instanceof CharArrayVector) {
+            return ((CharArrayVector) source).arraySlice(startIndex, end - startIndex);
+        } else if (source instanceof CharSequenceVector) {
+            return ((CharSequenceVector) source).sequenceSlice(startIndex, end - startIndex);
+        } else {
+            return copyFromVector(startIndex, end, source);
+        }
+    }
+
+    static ImmutableCharVector immutableSlice(int startIndex, int endIndexExclusive, ImmutableCharVector source) {
+        if (startIndex < 0) throw new IllegalArgumentException("startIndex must be >= 0");
+        if (endIndexExclusive < 0) throw new IllegalArgumentException("endIndex must be >= 0");
+        Objects.requireNonNull(source);
+        int sourceSize = source.size();
+        int end = Math.min(endIndexExclusive, sourceSize);
+        if (startIndex >= end) {
+            return empty();
+        } else if (startIndex == 0 && end == sourceSize) {
+            return source;
+        } else if (source instanceof ImmutableCharArrayVector) {
+            return ((ImmutableCharArrayVector) source).arraySlice(startIndex, end - startIndex);
+        } else if (source instanceof ImmutableStringVector) {
+            return ((ImmutableStringVector) source).stringSlice(startIndex, end - startIndex);
+        } else {
+            return copyFromVector(startIndex, end, source);
+        }
+    }
+
+    static ImmutableCharVector ensureImmutable(CharVector vector) {
+        if (vector instanceof ImmutableCharVector) {
+            return (ImmutableCharVector) vector;
+        } else if (vector.isEmpty()) {
+            return empty();
+        } else {
+            return new ImmutableCharArrayVector(vector.toCharArray(), 0, vector.size());
+        }
+    }
+
+    static int indexOf(char value, int fromIndex, CharVector source) {
+        if (fromIndex < 0) throw new IllegalArgumentException("fromIndex must be >= 0");
+        int size = source.size();
+        for (int i = fromIndex; i < size; i++) {
+            if (source.unsafeGetChar(i) == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static int arrayIndexOf(char value, int fromIndex, char[] array, int offset, int size) {
+        if (fromIndex < 0) throw new IllegalArgumentException("fromIndex must be >= 0");
+        int end = offset + size;
+        for (int i = offset + Math.min(fromIndex, size); i < end; i++) {
+            if (array[i] == value) {
+                return i - offset;
+            }
+        }
+        return -1;
+    }
+
+    static void copyInto(char[] destination, int destinationOffset, CharVector source) {
+        Objects.requireNonNull(destination);
+        int size = source.size();
+        if (destinationOffset < 0 || destinationOffset > destination.length - size) {
+            throw new IndexOutOfBoundsException();
+        }
+        for (int i = 0; i < size; i++) {
+            destination[destinationOffset + i] = source.unsafeGetChar(i);
+        }
+    }
+
+    /**
+     * Slices of a {@link CharVector} we don't know how to view are copied.
+     */
+    private static ImmutableCharVector copyFromVector(int startIndex, int endIndexExclusive, CharVector source) {
+        int count = endIndexExclusive - startIndex;
+        char[] copied = new char[count];
+        for (int i = 0; i < count; i++) {
+            copied[i] = source.unsafeGetChar(startIndex + i);
+        }
+        return new ImmutableCharArrayVector(copied, 0, count);
+    }
+
+}
@@ -0,0 +1,12 @@
+package dev.marksman.collectionviews;
+
+/**
+ * Marks a {@link Vector} whose {@link Vector#unsafeGet} runs in O(1) (or, for {@link PersistentVector}s,
+ * effectively constant) time without allocating, so that it can be read by index in bulk operations.
+ * <p>
+ * {@link Vector} itself extends {@link java.util.RandomAccess}, so that marker cannot be used to tell these apart
+ * from views over sequential storage, such as a {@link Vector} wrapping a {@link java.util.LinkedList}.
+ * See {@link Vectors#hasCheapRandomAccess}.
+ */
+interface CheapRandomAccess {
+}
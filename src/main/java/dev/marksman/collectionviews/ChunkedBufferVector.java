@@ -0,0 +1,66 @@
+package dev.marksman.collectionviews;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link ImmutableBufferVector} spread across several buffers, for regions larger than a single
+ * {@link ByteBuffer} can address.  Every chunk except the last holds exactly {@code recordsPerChunk} records,
+ * so no record ever straddles two chunks.
+ */
+class ChunkedBufferVector<A> extends ConcreteVector<A> implements ImmutableNonEmptyVector<A> {
+    /**
+     * chunks are read-only views that nobody else can write to; size must be &gt;= 1
+     */
+    private final ByteBuffer[] chunks;
+    private final int recordsPerChunk;
+    private final FixedWidthCodec<A> codec;
+    private final int offset;
+    private final int size;
+
+    ChunkedBufferVector(ByteBuffer[] chunks, int recordsPerChunk, FixedWidthCodec<A> codec, int offset, int size) {
+        this.chunks = chunks;
+        this.recordsPerChunk = recordsPerChunk;
+        this.codec = codec;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public A head() {
+        return unsafeGet(0);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public A unsafeGet(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        int record = offset + index;
+        int chunk = record / recordsPerChunk;
+        int recordInChunk = record - chunk * recordsPerChunk;
+        return codec.decode(chunks[chunk], recordInChunk * codec.width());
+    }
+
+    /**
+     * A slice that falls entirely within one chunk becomes a plain {@link ImmutableBufferVector} over that chunk.
+     */
+    static <A> ImmutableVector<A> chunkedSlice(int offset, int size, ChunkedBufferVector<A> source) {
+        int first = source.offset + offset;
+        int chunk = first / source.recordsPerChunk;
+        if (chunk == (first + size - 1) / source.recordsPerChunk) {
+            return new ImmutableBufferVector<>(source.chunks[chunk], source.codec,
+                    first - chunk * source.recordsPerChunk, size);
+        } else {
+            return new ChunkedBufferVector<>(source.chunks, source.recordsPerChunk, source.codec, first, size);
+        }
+    }
+
+}
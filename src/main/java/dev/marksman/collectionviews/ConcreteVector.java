@@ -1,6 +1,11 @@
 package dev.marksman.collectionviews;
 
 abstract class ConcreteVector<A> implements Vector<A> {
+    /**
+     * The hash code of an {@link Immutable} vector, cached on first use; 0 until then.  Every thread computes the
+     * same value, so a racy read at worst recomputes it.
+     */
+    private int hash;
 
     @Override
     public boolean equals(Object o) {
@@ -13,7 +18,15 @@ abstract class ConcreteVector<A> implements Vector<A> {
 
     @Override
     public int hashCode() {
-        return VectorHelpers.vectorHashCode(this);
+        if (!(this instanceof Immutable)) {
+            return VectorHelpers.vectorHashCode(this);
+        }
+        int h = hash;
+        if (h == 0) {
+            h = VectorHelpers.vectorHashCode(this);
+            hash = h;
+        }
+        return h;
     }
 
     @Override
@@ -21,4 +34,11 @@ abstract class ConcreteVector<A> implements Vector<A> {
         return VectorHelpers.vectorToString(this);
     }
 
+    /**
+     * Returns the cached hash code, or 0 if it has not been computed (or this vector is not {@link Immutable}).
+     */
+    int cachedHashCode() {
+        return hash;
+    }
+
 }
@@ -0,0 +1,324 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.util.OptionalDouble;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.DoubleStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link Vector} of {@code double}s that stores and reads its elements without boxing.
+ * <p>
+ * In addition to the guarantees of {@link Vector}, provides the following:
+ * <ul>
+ * <li>{@link DoubleVector#unsafeGetDouble} retrieves an element by index as a primitive {@code double}.</li>
+ * <li>{@link DoubleVector#iterator} returns a {@link PrimitiveIterator.OfDouble}.</li>
+ * <li>{@link DoubleVector#doubleStream} returns a {@link DoubleStream}.</li>
+ * <li>{@link DoubleVector#take}, {@link DoubleVector#drop}, {@link DoubleVector#slice} and {@link DoubleVector#mapDouble}
+ * always return a {@code DoubleVector}.</li>
+ * </ul>
+ * <p>
+ * A {@code DoubleVector} is a {@code Vector<Double>}, and may be used anywhere one is expected.
+ * Elements are boxed only when read through the methods of {@link Vector}.
+ */
+public interface DoubleVector extends Vector<Double> {
+
+    /**
+     * Get an element from the {@link DoubleVector} at an index, without boxing.  Executes in O(1).
+     *
+     * @param index the index of the element to retrieve.  Must be between 0 and <code>size() - 1</code>, otherwise will
+     *              throw an {@link IndexOutOfBoundsException}
+     * @return the element at {@code index}
+     */
+    double unsafeGetDouble(int index);
+
+    @Override
+    default Double unsafeGet(int index) {
+        return unsafeGetDouble(index);
+    }
+
+    /**
+     * Returns a new {@link DoubleVector} that drops the first {@code count} elements.
+     * <p>
+     * Does not make copies of any underlying data structures.
+     *
+     * @param count the number of elements to drop from the {@link DoubleVector}.  Must be &gt;= 0.
+     *              May exceed size of {@link DoubleVector}, in which case, the result will be an
+     *              empty {@link DoubleVector}.
+     * @return a {@code DoubleVector}
+     */
+    @Override
+    default DoubleVector drop(int count) {
+        return DoubleVectors.drop(count, this);
+    }
+
+    /**
+     * Maps a function over the elements in a {@link DoubleVector} and returns a new {@link DoubleVector}
+     * of the same size.  Neither the input nor the output elements are boxed.
+     * <p>
+     * Does not make any copies of underlying data structures.
+     *
+     * @param f a function from {@code double} to {@code double}.
+     *          This function should be referentially transparent and not perform side-effects.
+     *          It may be called zero or more times for each element.
+     * @return a {@code DoubleVector} of the same size
+     */
+    default DoubleVector mapDouble(DoubleUnaryOperator f) {
+        return DoubleVectors.mapDouble(f, this);
+    }
+
+    /**
+     * Returns an iterator over the elements of this {@link DoubleVector} that can return them unboxed.
+     *
+     * @return a {@link PrimitiveIterator.OfDouble}
+     */
+    @Override
+    default PrimitiveIterator.OfDouble iterator() {
+        return new DoubleVectorIterator(this);
+    }
+
+    /**
+     * Returns a {@link Spliterator.OfDouble} over the elements of this {@link DoubleVector}.
+     * <p>
+     * The {@link Spliterator} reports {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED}
+     * and {@link Spliterator#ORDERED}, and splits evenly by index.
+     *
+     * @return a {@link Spliterator.OfDouble}
+     */
+    @Override
+    default Spliterator.OfDouble spliterator() {
+        return DoubleVectorSpliterator.doubleVectorSpliterator(this);
+    }
+
+    /**
+     * Returns a sequential {@link DoubleStream} over the elements of this {@link DoubleVector}.
+     *
+     * @return a {@link DoubleStream}
+     */
+    default DoubleStream doubleStream() {
+        return StreamSupport.doubleStream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel {@link DoubleStream} over the elements of this {@link DoubleVector}.
+     *
+     * @return a {@link DoubleStream}
+     */
+    default DoubleStream parallelDoubleStream() {
+        return StreamSupport.doubleStream(spliterator(), true);
+    }
+
+    /**
+     * Returns the sum of the elements of this {@link DoubleVector}, or zero if it is empty.  Does not box.
+     * <p>
+     * Elements are added in index order.  Unlike {@link DoubleStream#sum}, no compensated summation is
+     * performed, so results may differ in the last bits for long or badly scaled inputs.
+     *
+     * @return the sum of the elements
+     */
+    default double sum() {
+        return DoubleVectors.sum(this);
+    }
+
+    /**
+     * Returns the smallest element of this {@link DoubleVector}.  Does not box.
+     *
+     * @return the smallest element, or an empty {@link OptionalDouble} if this {@link DoubleVector} is empty
+     */
+    default OptionalDouble min() {
+        return DoubleVectors.min(this);
+    }
+
+    /**
+     * Returns the largest element of this {@link DoubleVector}.  Does not box.
+     *
+     * @return the largest element, or an empty {@link OptionalDouble} if this {@link DoubleVector} is empty
+     */
+    default OptionalDouble max() {
+        return DoubleVectors.max(this);
+    }
+
+    /**
+     * Create a slice of an existing {@link DoubleVector}.
+     * <p>
+     * Does not make copies of any underlying data structures.
+     *
+     * @param startIndex        the index of the element to begin the slice.  Must be &gt;= 0.
+     *                          May exceed the size of the {@link DoubleVector}, in which case an empty {@link DoubleVector} will be returned.
+     * @param endIndexExclusive the end index (exclusive) of the slice.  Must be &gt;= {@code startIndex}.
+     *                          May exceed the size of the {@link DoubleVector}, in which case the slice will
+     *                          contain as many elements as available.
+     * @return a {@code DoubleVector}
+     */
+    @Override
+    default DoubleVector slice(int startIndex, int endIndexExclusive) {
+        return DoubleVectors.slice(startIndex, endIndexExclusive, this);
+    }
+
+    @Override
+    default DoubleVector tail() {
+        return drop(1);
+    }
+
+    /**
+     * Returns a new {@link DoubleVector} that contains at most the first {@code count} elements of this {@link DoubleVector}.
+     * <p>
+     * Does not make copies of any underlying data structures.
+     *
+     * @param count the maximum number of elements to take from the {@link DoubleVector}.  Must be &gt;= 0.
+     *              May exceed size of {@link DoubleVector}.
+     * @return a {@code DoubleVector} containing between 0 and {@code count} elements
+     */
+    @Override
+    default DoubleVector take(int count) {
+        return DoubleVectors.take(count, this);
+    }
+
+    /**
+     * Copies the elements of this {@link DoubleVector} into a new {@code double[]}.
+     *
+     * @return a new {@code double[]} of the same size as this {@link DoubleVector}
+     */
+    default double[] toDoubleArray() {
+        return DoubleVectors.toDoubleArray(this);
+    }
+
+    @Override
+    default ImmutableDoubleVector toImmutable() {
+        return DoubleVectors.ensureImmutable(this);
+    }
+
+    @Override
+    default Maybe<? extends NonEmptyDoubleVector> toNonEmpty() {
+        return DoubleVectors.tryNonEmptyWrap(this);
+    }
+
+    @Override
+    default NonEmptyDoubleVector toNonEmptyOrThrow() {
+        return DoubleVectors.nonEmptyWrapOrThrow(this);
+    }
+
+    /**
+     * Returns an empty {@link ImmutableDoubleVector}.
+     *
+     * @return an empty {@code ImmutableDoubleVector}
+     */
+    static ImmutableDoubleVector empty() {
+        return DoubleVectors.empty();
+    }
+
+    /**
+     * Constructs a new {@link ImmutableNonEmptyDoubleVector} with the given elements.
+     *
+     * @param first the first element
+     * @param more  the remaining elements
+     * @return an {@code ImmutableNonEmptyDoubleVector}
+     */
+    static ImmutableNonEmptyDoubleVector of(double first, double... more) {
+        return DoubleVectors.nonEmptyDoubleVectorOf(first, more);
+    }
+
+    /**
+     * Creates a {@link DoubleVector} that wraps an {@code double[]}.
+     * <p>
+     * Does not make any copies of the given array.
+     * The {@link DoubleVector} will hold on to a reference to the array, but will never alter it in any way.
+     * <p>
+     * Since this does not make a copy of the array, be aware that anyone that holds a direct reference to
+     * the array can still mutate it.  Use {@link DoubleVector#copyFrom} instead if you want to avoid this situation.
+     *
+     * @param underlying array to wrap
+     * @return a {@code DoubleVector}
+     */
+    static DoubleVector wrap(double[] underlying) {
+        return DoubleVectors.wrap(underlying);
+    }
+
+    /**
+     * Returns a new {@link ImmutableDoubleVector} that is copied from an {@code double[]}.
+     *
+     * @param source the array to copy from.
+     *               This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableDoubleVector}
+     */
+    static ImmutableDoubleVector copyFrom(double[] source) {
+        return DoubleVectors.copyFrom(source);
+    }
+
+    /**
+     * Returns a new {@link ImmutableDoubleVector} that is copied from an {@code double[]},
+     * but copying a maximum number of elements.
+     *
+     * @param maxCount the maximum number of elements to copy from the array.  Must be &gt;= 0.
+     * @param source   the array to copy from.
+     *                 This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableDoubleVector}
+     */
+    static ImmutableDoubleVector copyFrom(int maxCount, double[] source) {
+        return DoubleVectors.copyFrom(maxCount, source);
+    }
+
+    /**
+     * Returns a new {@link ImmutableDoubleVector} that is copied from a slice of an {@code double[]}.
+     *
+     * @param startIndex        the index of the first element to copy.  Must be &gt;= 0.
+     * @param endIndexExclusive the end index (exclusive) of the elements to copy.  Must be &gt;= 0.
+     *                          May exceed the length of the array.
+     * @param source            the array to copy from.
+     *                          This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableDoubleVector}
+     */
+    static ImmutableDoubleVector copySliceFrom(int startIndex, int endIndexExclusive, double[] source) {
+        return DoubleVectors.copySliceFrom(startIndex, endIndexExclusive, source);
+    }
+
+    /**
+     * Constructs a new {@link ImmutableDoubleVector} of size {@code size} with elements computed by their
+     * indices using a provided function.  Uses O(1) memory.
+     *
+     * @param size          the number of elements.  Must be &gt;= 0.
+     * @param valueSupplier a function that accepts an index and returns the computed value for
+     *                      that index.  This function should be referentially transparent and not
+     *                      perform side-effects. It may be called zero or more times for each element.
+     * @return an {@code ImmutableDoubleVector} of {@code size} elements
+     */
+    static ImmutableDoubleVector lazyFill(int size, IntToDoubleFunction valueSupplier) {
+        return DoubleVectors.lazyFill(size, valueSupplier);
+    }
+
+    /**
+     * Reads an {@link ImmutableDoubleVector} written by {@link ImmutableDoubleVector#writeTo(OutputStream)}.
+     * <p>
+     * The values are read straight into the backing array of the result.  Consumes exactly the bytes
+     * that were written, and does not close {@code in}.
+     *
+     * @param in the source
+     * @return an {@code ImmutableDoubleVector}
+     * @throws IOException if {@code in} throws, or does not contain a {@code DoubleVector}
+     */
+    static ImmutableDoubleVector readFrom(InputStream in) throws IOException {
+        return BinaryFormat.readDoubleVector(BinaryFormat.channel(in));
+    }
+
+    /**
+     * Reads an {@link ImmutableDoubleVector} written by {@link ImmutableDoubleVector#writeTo(OutputStream)}.
+     * <p>
+     * The values are read straight into the backing array of the result.  Consumes exactly the bytes
+     * that were written, and does not close {@code in}.
+     *
+     * @param in the source
+     * @return an {@code ImmutableDoubleVector}
+     * @throws IOException if {@code in} throws, or does not contain a {@code DoubleVector}
+     */
+    static ImmutableDoubleVector readFrom(ReadableByteChannel in) throws IOException {
+        return BinaryFormat.readDoubleVector(in);
+    }
+
+}
@@ -0,0 +1,29 @@
+package dev.marksman.collectionviews;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+final class DoubleVectorIterator implements PrimitiveIterator.OfDouble {
+    private final DoubleVector underlying;
+    private final int size;
+    private int index;
+
+    DoubleVectorIterator(DoubleVector underlying) {
+        this.underlying = underlying;
+        this.size = underlying.size();
+        index = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < size;
+    }
+
+    @Override
+    public double nextDouble() {
+        if (index >= size) throw new NoSuchElementException();
+        double result = underlying.unsafeGetDouble(index);
+        index += 1;
+        return result;
+    }
+}
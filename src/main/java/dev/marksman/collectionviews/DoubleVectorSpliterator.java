@@ -0,0 +1,77 @@
+package dev.marksman.collectionviews;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+
+/**
+ * A {@link Spliterator.OfDouble} over a range of indices of a {@link DoubleVector}.  Splits evenly by index.
+ */
+final class DoubleVectorSpliterator implements Spliterator.OfDouble {
+    private final DoubleVector vector;
+    private final int fence;
+    private final int characteristics;
+    private int index;
+
+    private DoubleVectorSpliterator(DoubleVector vector, int origin, int fence, int characteristics) {
+        this.vector = vector;
+        this.index = origin;
+        this.fence = fence;
+        this.characteristics = characteristics;
+    }
+
+    @Override
+    public boolean tryAdvance(DoubleConsumer action) {
+        Objects.requireNonNull(action);
+        if (index < fence) {
+            action.accept(vector.unsafeGetDouble(index));
+            index += 1;
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public void forEachRemaining(DoubleConsumer action) {
+        Objects.requireNonNull(action);
+        DoubleVector v = vector;
+        int hi = fence;
+        int i = index;
+        index = hi;
+        for (; i < hi; i++) {
+            action.accept(v.unsafeGetDouble(i));
+        }
+    }
+
+    @Override
+    public Spliterator.OfDouble trySplit() {
+        int lo = index;
+        int mid = (lo + fence) >>> 1;
+        if (lo >= mid) {
+            return null;
+        } else {
+            index = mid;
+            return new DoubleVectorSpliterator(vector, lo, mid, characteristics);
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+
+    static Spliterator.OfDouble doubleVectorSpliterator(DoubleVector vector) {
+        return new DoubleVectorSpliterator(vector, 0, vector.size(), ORDERED | SIZED | SUBSIZED);
+    }
+
+    static Spliterator.OfDouble immutableDoubleVectorSpliterator(ImmutableDoubleVector vector) {
+        return new DoubleVectorSpliterator(vector, 0, vector.size(), ORDERED | SIZED | SUBSIZED | IMMUTABLE);
+    }
+
+}
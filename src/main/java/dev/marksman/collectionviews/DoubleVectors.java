@@ -0,0 +1,310 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.function.DoubleUnaryOperator;
+import java.util.function.IntToDoubleFunction;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+
+class DoubleVectors {
+
+    static ImmutableDoubleVector empty() {
+        return EmptyDoubleVector.emptyDoubleVector();
+    }
+
+    static ImmutableNonEmptyDoubleVector nonEmptyDoubleVectorOf(double first, double... more) {
+        Objects.requireNonNull(more);
+        double[] arr = new double[more.length + 1];
+        arr[0] = first;
+        System.arraycopy(more, 0, arr, 1, more.length);
+        return new ImmutableDoubleArrayVector(arr, 0, arr.length);
+    }
+
+    static DoubleVector wrap(double[] arr) {
+        Objects.requireNonNull(arr);
+        if (arr.length == 0) {
+            return empty();
+        } else {
+            return new WrappedDoubleArrayVector(arr, 0, arr.length);
+        }
+    }
+
+    static ImmutableDoubleVector copyFrom(double[] source) {
+        Objects.requireNonNull(source);
+        return copyFrom(source.length, source);
+    }
+
+    static ImmutableDoubleVector copyFrom(int maxCount, double[] source) {
+        Objects.requireNonNull(source);
+        if (maxCount < 0) throw new IllegalArgumentException("maxCount must be >= 0");
+        return copySliceFrom(0, maxCount, source);
+    }
+
+    static ImmutableDoubleVector copySliceFrom(int startIndex, int endIndexExclusive, double[] source) {
+        if (startIndex < 0) throw new IllegalArgumentException("startIndex must be >= 0");
+        if (endIndexExclusive < 0) throw new IllegalArgumentException("endIndex must be >= 0");
+        Objects.requireNonNull(source);
+        int end = Math.min(endIndexExclusive, source.length);
+        if (startIndex >= end) {
+            return empty();
+        } else {
+            double[] copied = Arrays.copyOfRange(source, startIndex, end);
+            return new ImmutableDoubleArrayVector(copied, 0, copied.length);
+        }
+    }
+
+    static ImmutableDoubleVector lazyFill(int size, IntToDoubleFunction valueSupplier) {
+        if (size < 0) throw new IllegalArgumentException("size must be >= 0");
+        Objects.requireNonNull(valueSupplier);
+        if (size == 0) {
+            return empty();
+        } else {
+            return new ImmutableIndexedDoubleVector(0, size, valueSupplier);
+        }
+    }
+
+    static DoubleVector take(int count, DoubleVector source) {
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        return slice(0, count, source);
+    }
+
+    static ImmutableDoubleVector immutableTake(int count, ImmutableDoubleVector source) {
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        return immutableSlice(0, count, source);
+    }
+
+    static DoubleVector drop(int count, DoubleVector source) {
+        Objects.requireNonNull(source);
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        return slice(count, Integer.MAX_VALUE, source);
+    }
+
+    static ImmutableDoubleVector immutableDrop(int count, ImmutableDoubleVector source) {
+        Objects.requireNonNull(source);
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        return immutableSlice(count, Integer.MAX_VALUE, source);
+    }
+
+    static DoubleVector slice(int startIndex, int endIndexExclusive, DoubleVector source) {
+        if (source instanceof ImmutableDoubleVector) {
+            return immutableSlice(startIndex, endIndexExclusive, (ImmutableDoubleVector) source);
+        }
+        if (startIndex < 0) throw new IllegalArgumentException("startIndex must be >= 0");
+        if (endIndexExclusive < 0) throw new IllegalArgumentException("endIndex must be >= 0");
+        Objects.requireNonNull(source);
+        int sourceSize = source.size();
+        int end = Math.min(endIndexExclusive, sourceSize);
+        if (startIndex >= end) {
+            return empty();
+        } else if (startIndex == 0 && end == sourceSize) {
+            return source;
+        } else if (source instanceof WrappedDoubleArrayVector) {
+            return WrappedDoubleArrayVector.arraySlice(startIndex, end - startIndex, (WrappedDoubleArrayVector) source);
+        } else if (source instanceof IndexedDoubleVector) {
+            return IndexedDoubleVector.indexedSlice(startIndex, end - startIndex, (IndexedDoubleVector) source);
+        } else {
+            return new IndexedDoubleVector(startIndex, end - startIndex, source::unsafeGetDouble);
+        }
+    }
+
+    static ImmutableDoubleVector immutableSlice(int startIndex, int endIndexExclusive, ImmutableDoubleVector source) {
+        if (startIndex < 0) throw new IllegalArgumentException("startIndex must be >= 0");
+        if (endIndexExclusive < 0) throw new IllegalArgumentException("endIndex must be >= 0");
+        Objects.requireNonNull(source);
+        int sourceSize = source.size();
+        int end = Math.min(endIndexExclusive, sourceSize);
+        if (startIndex >= end) {
+            return empty();
+        } else if (startIndex == 0 && end == sourceSize) {
+            return source;
+        } else if (source instanceof ImmutableDoubleArrayVector) {
+            return ImmutableDoubleArrayVector.arraySlice(startIndex, end - startIndex, (ImmutableDoubleArrayVector) source);
+        } else if (source instanceof ImmutableIndexedDoubleVector) {
+            return ImmutableIndexedDoubleVector.indexedSlice(startIndex, end - startIndex, (ImmutableIndexedDoubleVector) source);
+        } else {
+            return new ImmutableIndexedDoubleVector(startIndex, end - startIndex, source::unsafeGetDouble);
+        }
+    }
+
+    static DoubleVector mapDouble(DoubleUnaryOperator f, DoubleVector source) {
+        Objects.requireNonNull(f);
+        if (source instanceof ImmutableDoubleVector) {
+            return immutableMapDouble(f, (ImmutableDoubleVector) source);
+        } else if (source.isEmpty()) {
+            return empty();
+        } else {
+            return new IndexedDoubleVector(0, source.size(), i -> f.applyAsDouble(source.unsafeGetDouble(i)));
+        }
+    }
+
+    static NonEmptyDoubleVector mapDoubleNonEmpty(DoubleUnaryOperator f, NonEmptyDoubleVector source) {
+        Objects.requireNonNull(f);
+        return new IndexedDoubleVector(0, source.size(), i -> f.applyAsDouble(source.unsafeGetDouble(i)));
+    }
+
+    static ImmutableDoubleVector immutableMapDouble(DoubleUnaryOperator f, ImmutableDoubleVector source) {
+        Objects.requireNonNull(f);
+        if (source.isEmpty()) {
+            return empty();
+        } else {
+            return new ImmutableIndexedDoubleVector(0, source.size(), i -> f.applyAsDouble(source.unsafeGetDouble(i)));
+        }
+    }
+
+    static ImmutableNonEmptyDoubleVector immutableMapDoubleNonEmpty(DoubleUnaryOperator f, ImmutableNonEmptyDoubleVector source) {
+        Objects.requireNonNull(f);
+        return new ImmutableIndexedDoubleVector(0, source.size(), i -> f.applyAsDouble(source.unsafeGetDouble(i)));
+    }
+
+    static <A> DoubleVector mapToDouble(ToDoubleFunction<? super A> f, Vector<A> source) {
+        Objects.requireNonNull(f);
+        if (source instanceof ImmutableVector<?>) {
+            return immutableMapToDouble(f, (ImmutableVector<A>) source);
+        } else if (source.isEmpty()) {
+            return empty();
+        } else {
+            return new IndexedDoubleVector(0, source.size(), i -> f.applyAsDouble(source.unsafeGet(i)));
+        }
+    }
+
+    static <A> NonEmptyDoubleVector mapToDoubleNonEmpty(ToDoubleFunction<? super A> f, NonEmptyVector<A> source) {
+        Objects.requireNonNull(f);
+        return new IndexedDoubleVector(0, source.size(), i -> f.applyAsDouble(source.unsafeGet(i)));
+    }
+
+    static <A> ImmutableDoubleVector immutableMapToDouble(ToDoubleFunction<? super A> f, ImmutableVector<A> source) {
+        Objects.requireNonNull(f);
+        if (source.isEmpty()) {
+            return empty();
+        } else {
+            return new ImmutableIndexedDoubleVector(0, source.size(), i -> f.applyAsDouble(source.unsafeGet(i)));
+        }
+    }
+
+    static <A> ImmutableNonEmptyDoubleVector immutableMapToDoubleNonEmpty(ToDoubleFunction<? super A> f,
+                                                                    ImmutableNonEmptyVector<A> source) {
+        Objects.requireNonNull(f);
+        return new ImmutableIndexedDoubleVector(0, source.size(), i -> f.applyAsDouble(source.unsafeGet(i)));
+    }
+
+    static double sum(DoubleVector source) {
+        int size = source.size();
+        double result = 0;
+        for (int i = 0; i < size; i++) {
+            result += source.unsafeGetDouble(i);
+        }
+        return result;
+    }
+
+    static OptionalDouble min(DoubleVector source) {
+        int size = source.size();
+        if (size == 0) return OptionalDouble.empty();
+        double result = source.unsafeGetDouble(0);
+        for (int i = 1; i < size; i++) {
+            result = Math.min(result, source.unsafeGetDouble(i));
+        }
+        return OptionalDouble.of(result);
+    }
+
+    static OptionalDouble max(DoubleVector source) {
+        int size = source.size();
+        if (size == 0) return OptionalDouble.empty();
+        double result = source.unsafeGetDouble(0);
+        for (int i = 1; i < size; i++) {
+            result = Math.max(result, source.unsafeGetDouble(i));
+        }
+        return OptionalDouble.of(result);
+    }
+
+    static double[] toDoubleArray(DoubleVector source) {
+        int size = source.size();
+        double[] result = new double[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = source.unsafeGetDouble(i);
+        }
+        return result;
+    }
+
+    static ImmutableDoubleVector ensureImmutable(DoubleVector vector) {
+        if (vector instanceof ImmutableDoubleVector) {
+            return (ImmutableDoubleVector) vector;
+        } else if (vector.isEmpty()) {
+            return empty();
+        } else {
+            double[] copied = vector.toDoubleArray();
+            return new ImmutableDoubleArrayVector(copied, 0, copied.length);
+        }
+    }
+
+    static ImmutableNonEmptyDoubleVector ensureImmutable(NonEmptyDoubleVector vector) {
+        if (vector instanceof ImmutableNonEmptyDoubleVector) {
+            return (ImmutableNonEmptyDoubleVector) vector;
+        } else {
+            double[] copied = vector.toDoubleArray();
+            return new ImmutableDoubleArrayVector(copied, 0, copied.length);
+        }
+    }
+
+    static Maybe<NonEmptyDoubleVector> tryNonEmptyWrap(double[] arr) {
+        Objects.requireNonNull(arr);
+        if (arr.length == 0) {
+            return nothing();
+        } else {
+            return just(new WrappedDoubleArrayVector(arr, 0, arr.length));
+        }
+    }
+
+    static NonEmptyDoubleVector nonEmptyWrapOrThrow(double[] arr) {
+        return tryNonEmptyWrap(arr).orElseThrow(nonEmptyError());
+    }
+
+    static Maybe<NonEmptyDoubleVector> tryNonEmptyWrap(DoubleVector vec) {
+        Objects.requireNonNull(vec);
+        if (vec instanceof NonEmptyDoubleVector) {
+            return just((NonEmptyDoubleVector) vec);
+        } else if (!vec.isEmpty()) {
+            return just(new IndexedDoubleVector(0, vec.size(), vec::unsafeGetDouble));
+        } else {
+            return nothing();
+        }
+    }
+
+    static NonEmptyDoubleVector nonEmptyWrapOrThrow(DoubleVector vec) {
+        return tryNonEmptyWrap(vec).orElseThrow(nonEmptyError());
+    }
+
+    static Maybe<ImmutableNonEmptyDoubleVector> tryNonEmptyConvert(ImmutableDoubleVector vec) {
+        Objects.requireNonNull(vec);
+        if (vec instanceof ImmutableNonEmptyDoubleVector) {
+            return just((ImmutableNonEmptyDoubleVector) vec);
+        } else if (!vec.isEmpty()) {
+            return just(new ImmutableIndexedDoubleVector(0, vec.size(), vec::unsafeGetDouble));
+        } else {
+            return nothing();
+        }
+    }
+
+    static ImmutableNonEmptyDoubleVector nonEmptyConvertOrThrow(ImmutableDoubleVector vec) {
+        return tryNonEmptyConvert(vec).orElseThrow(nonEmptyError());
+    }
+
+    static Maybe<ImmutableNonEmptyDoubleVector> tryNonEmptyCopyFrom(double[] source) {
+        return tryNonEmptyConvert(copyFrom(source));
+    }
+
+    static ImmutableNonEmptyDoubleVector nonEmptyCopyFromOrThrow(double[] source) {
+        return tryNonEmptyCopyFrom(source).orElseThrow(nonEmptyError());
+    }
+
+    static Supplier<IllegalArgumentException> nonEmptyError() {
+        return () -> new IllegalArgumentException("Cannot construct NonEmptyDoubleVector from empty input");
+    }
+
+}
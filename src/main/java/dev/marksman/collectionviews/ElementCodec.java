@@ -0,0 +1,73 @@
+package dev.marksman.collectionviews;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Writes and reads individual elements of type {@code A} in binary form.
+ * <p>
+ * Used by {@link ImmutableVector#writeTo}, {@link ImmutableSet#writeTo}, {@link Vector#readFrom}
+ * and {@link Set#readFrom} to serialize elements.  Elements may be of variable width,
+ * but {@link ElementCodec#read} must consume exactly the bytes that {@link ElementCodec#write} produced.
+ *
+ * @param <A> the element type
+ */
+public interface ElementCodec<A> {
+
+    /**
+     * Writes {@code value} to {@code out}.
+     *
+     * @param value the value to write
+     * @param out   the destination
+     * @throws IOException if {@code out} throws
+     */
+    void write(A value, DataOutput out) throws IOException;
+
+    /**
+     * Reads a value written by {@link ElementCodec#write} from {@code in}.
+     *
+     * @param in the source
+     * @return the value read
+     * @throws IOException if {@code in} throws, or the input is malformed
+     */
+    A read(DataInput in) throws IOException;
+
+    /**
+     * Returns an {@link ElementCodec} for non-null {@link Integer}s, written as four bytes.
+     *
+     * @return an {@code ElementCodec<Integer>}
+     */
+    static ElementCodec<Integer> integers() {
+        return ElementCodecs.INTEGERS;
+    }
+
+    /**
+     * Returns an {@link ElementCodec} for non-null {@link Long}s, written as eight bytes.
+     *
+     * @return an {@code ElementCodec<Long>}
+     */
+    static ElementCodec<Long> longs() {
+        return ElementCodecs.LONGS;
+    }
+
+    /**
+     * Returns an {@link ElementCodec} for non-null {@link Double}s, written as eight bytes.
+     *
+     * @return an {@code ElementCodec<Double>}
+     */
+    static ElementCodec<Double> doubles() {
+        return ElementCodecs.DOUBLES;
+    }
+
+    /**
+     * Returns an {@link ElementCodec} for non-null {@link String}s, written as a length-prefixed UTF-8 byte sequence.
+     * Unlike {@link DataOutput#writeUTF}, there is no 64 KB limit on the encoded length.
+     *
+     * @return an {@code ElementCodec<String>}
+     */
+    static ElementCodec<String> strings() {
+        return ElementCodecs.STRINGS;
+    }
+
+}
@@ -0,0 +1,64 @@
+package dev.marksman.collectionviews;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+class ElementCodecs {
+
+    static final ElementCodec<Integer> INTEGERS = new ElementCodec<Integer>() {
+        @Override
+        public void write(Integer value, DataOutput out) throws IOException {
+            out.writeInt(value);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+    };
+
+    static final ElementCodec<Long> LONGS = new ElementCodec<Long>() {
+        @Override
+        public void write(Long value, DataOutput out) throws IOException {
+            out.writeLong(value);
+        }
+
+        @Override
+        public Long read(DataInput in) throws IOException {
+            return in.readLong();
+        }
+    };
+
+    static final ElementCodec<Double> DOUBLES = new ElementCodec<Double>() {
+        @Override
+        public void write(Double value, DataOutput out) throws IOException {
+            out.writeDouble(value);
+        }
+
+        @Override
+        public Double read(DataInput in) throws IOException {
+            return in.readDouble();
+        }
+    };
+
+    static final ElementCodec<String> STRINGS = new ElementCodec<String>() {
+        @Override
+        public void write(String value, DataOutput out) throws IOException {
+            byte[] encoded = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(encoded.length);
+            out.write(encoded);
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException {
+            int length = in.readInt();
+            if (length < 0) throw new IOException("negative string length");
+            byte[] encoded = new byte[length];
+            in.readFully(encoded);
+            return new String(encoded, StandardCharsets.UTF_8);
+        }
+    };
+
+}
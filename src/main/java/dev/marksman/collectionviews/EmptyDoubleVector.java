@@ -0,0 +1,53 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+
+class EmptyDoubleVector extends ConcreteVector<Double> implements ImmutableDoubleVector {
+    private static final EmptyDoubleVector INSTANCE = new EmptyDoubleVector();
+
+    private EmptyDoubleVector() {
+
+    }
+
+    @Override
+    public int size() {
+        return 0;
+    }
+
+    @Override
+    public double unsafeGetDouble(int index) {
+        throw new IndexOutOfBoundsException();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return true;
+    }
+
+    @Override
+    public ImmutableDoubleVector tail() {
+        return this;
+    }
+
+    @Override
+    public Maybe<Double> get(int index) {
+        return nothing();
+    }
+
+    @Override
+    public Maybe<? extends ImmutableNonEmptyDoubleVector> toNonEmpty() {
+        return nothing();
+    }
+
+    @Override
+    public ImmutableNonEmptyDoubleVector toNonEmptyOrThrow() {
+        throw DoubleVectors.nonEmptyError().get();
+    }
+
+    static EmptyDoubleVector emptyDoubleVector() {
+        return INSTANCE;
+    }
+
+}
@@ -0,0 +1,51 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterators;
+
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+
+class EmptyIntSet extends ConcreteSet<Integer> implements ImmutableIntSet {
+    private static final EmptyIntSet INSTANCE = new EmptyIntSet();
+
+    private EmptyIntSet() {
+
+    }
+
+    @Override
+    public int size() {
+        return 0;
+    }
+
+    @Override
+    public boolean containsInt(int element) {
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return true;
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return Spliterators.iterator(Spliterators.emptyIntSpliterator());
+    }
+
+    @Override
+    public Maybe<? extends ImmutableNonEmptyIntSet> toNonEmpty() {
+        return nothing();
+    }
+
+    @Override
+    public ImmutableNonEmptyIntSet toNonEmptyOrThrow() {
+        throw Sets.nonEmptyError().get();
+    }
+
+    static EmptyIntSet emptyIntSet() {
+        return INSTANCE;
+    }
+
+}
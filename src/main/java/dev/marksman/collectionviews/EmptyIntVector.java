@@ -0,0 +1,53 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+
+class EmptyIntVector extends ConcreteVector<Integer> implements ImmutableIntVector {
+    private static final EmptyIntVector INSTANCE = new EmptyIntVector();
+
+    private EmptyIntVector() {
+
+    }
+
+    @Override
+    public int size() {
+        return 0;
+    }
+
+    @Override
+    public int unsafeGetInt(int index) {
+        throw new IndexOutOfBoundsException();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return true;
+    }
+
+    @Override
+    public ImmutableIntVector tail() {
+        return this;
+    }
+
+    @Override
+    public Maybe<Integer> get(int index) {
+        return nothing();
+    }
+
+    @Override
+    public Maybe<? extends ImmutableNonEmptyIntVector> toNonEmpty() {
+        return nothing();
+    }
+
+    @Override
+    public ImmutableNonEmptyIntVector toNonEmptyOrThrow() {
+        throw IntVectors.nonEmptyError().get();
+    }
+
+    static EmptyIntVector emptyIntVector() {
+        return INSTANCE;
+    }
+
+}
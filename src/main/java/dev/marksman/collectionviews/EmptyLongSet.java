@@ -0,0 +1,51 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterators;
+
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+
+class EmptyLongSet extends ConcreteSet<Long> implements ImmutableLongSet {
+    private static final EmptyLongSet INSTANCE = new EmptyLongSet();
+
+    private EmptyLongSet() {
+
+    }
+
+    @Override
+    public int size() {
+        return 0;
+    }
+
+    @Override
+    public boolean containsLong(long element) {
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return true;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return Spliterators.iterator(Spliterators.emptyLongSpliterator());
+    }
+
+    @Override
+    public Maybe<? extends ImmutableNonEmptyLongSet> toNonEmpty() {
+        return nothing();
+    }
+
+    @Override
+    public ImmutableNonEmptyLongSet toNonEmptyOrThrow() {
+        throw Sets.nonEmptyError().get();
+    }
+
+    static EmptyLongSet emptyLongSet() {
+        return INSTANCE;
+    }
+
+}
@@ -0,0 +1,53 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+
+class EmptyLongVector extends ConcreteVector<Long> implements ImmutableLongVector {
+    private static final EmptyLongVector INSTANCE = new EmptyLongVector();
+
+    private EmptyLongVector() {
+
+    }
+
+    @Override
+    public int size() {
+        return 0;
+    }
+
+    @Override
+    public long unsafeGetLong(int index) {
+        throw new IndexOutOfBoundsException();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return true;
+    }
+
+    @Override
+    public ImmutableLongVector tail() {
+        return this;
+    }
+
+    @Override
+    public Maybe<Long> get(int index) {
+        return nothing();
+    }
+
+    @Override
+    public Maybe<? extends ImmutableNonEmptyLongVector> toNonEmpty() {
+        return nothing();
+    }
+
+    @Override
+    public ImmutableNonEmptyLongVector toNonEmptyOrThrow() {
+        throw LongVectors.nonEmptyError().get();
+    }
+
+    static EmptyLongVector emptyLongVector() {
+        return INSTANCE;
+    }
+
+}
@@ -0,0 +1,54 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+import com.jnape.palatable.lambda.functions.Fn1;
+
+import java.util.Iterator;
+
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+import static java.util.Collections.emptyIterator;
+
+class EmptyPersistentVector<A> extends ConcreteVector<A> implements PersistentVector<A> {
+    private static final EmptyPersistentVector<?> INSTANCE = new EmptyPersistentVector<>();
+
+    @Override
+    public int size() {
+        return 0;
+    }
+
+    @Override
+    public A unsafeGet(int index) {
+        throw new IndexOutOfBoundsException();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return true;
+    }
+
+    @Override
+    public PersistentVector<A> tail() {
+        return this;
+    }
+
+    @Override
+    public Maybe<A> get(int index) {
+        return nothing();
+    }
+
+    @Override
+    public <B> ImmutableVector<B> fmap(Fn1<? super A, ? extends B> f) {
+        return emptyPersistentVector();
+    }
+
+    @Override
+    public Iterator<A> iterator() {
+        return emptyIterator();
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A> EmptyPersistentVector<A> emptyPersistentVector() {
+        return (EmptyPersistentVector<A>) INSTANCE;
+    }
+
+}
@@ -0,0 +1,40 @@
+package dev.marksman.collectionviews;
+
+import java.util.Comparator;
+import java.util.Iterator;
+
+import static java.util.Collections.emptyIterator;
+
+class EmptySortedSet<A> extends ConcreteSet<A> implements ImmutableSortedSet<A> {
+    private final Comparator<? super A> comparator;
+
+    EmptySortedSet(Comparator<? super A> comparator) {
+        this.comparator = comparator;
+    }
+
+    @Override
+    public Comparator<? super A> comparator() {
+        return comparator;
+    }
+
+    @Override
+    public ImmutableVector<A> asVector() {
+        return Vectors.empty();
+    }
+
+    @Override
+    public int size() {
+        return 0;
+    }
+
+    @Override
+    public boolean contains(A element) {
+        return false;
+    }
+
+    @Override
+    public Iterator<A> iterator() {
+        return emptyIterator();
+    }
+
+}
@@ -0,0 +1,41 @@
+package dev.marksman.collectionviews;
+
+import java.util.Objects;
+import java.util.function.Function;
+
+class EnumMaps {
+
+    static <K extends Enum<K>, V> ImmutableEnumMap<K, V> empty(Class<K> keyType) {
+        Objects.requireNonNull(keyType);
+        Object[] universe = universe(keyType);
+        return new OrdinalEnumMap<>(keyType, universe, new Object[universe.length]);
+    }
+
+    static <K extends Enum<K>, V> ImmutableEnumMap<K, V> copyFrom(Class<K> keyType,
+                                                                java.util.Map<K, ? extends V> source) {
+        Objects.requireNonNull(keyType);
+        Objects.requireNonNull(source);
+        Object[] universe = universe(keyType);
+        Object[] values = new Object[universe.length];
+        source.forEach((key, value) -> values[keyType.cast(key).ordinal()] = value);
+        return new OrdinalEnumMap<>(keyType, universe, values);
+    }
+
+    static <K extends Enum<K>, V> ImmutableEnumMap<K, V> fill(Class<K> keyType,
+                                                            Function<? super K, ? extends V> valueFunction) {
+        Objects.requireNonNull(keyType);
+        Objects.requireNonNull(valueFunction);
+        Object[] universe = universe(keyType);
+        Object[] values = new Object[universe.length];
+        for (int i = 0; i < universe.length; i++) {
+            values[i] = valueFunction.apply(keyType.cast(universe[i]));
+        }
+        return new OrdinalEnumMap<>(keyType, universe, values);
+    }
+
+    private static Object[] universe(Class<?> keyType) {
+        if (!keyType.isEnum()) throw new IllegalArgumentException("keyType must be an enum type");
+        return EnumSets.universe(keyType);
+    }
+
+}
@@ -0,0 +1,40 @@
+package dev.marksman.collectionviews;
+
+class EnumSets {
+
+    /**
+     * {@link Class#getEnumConstants} copies the array on every call, so each enum type's constants are kept here.
+     */
+    private static final ClassValue<Object[]> UNIVERSES = new ClassValue<Object[]>() {
+        @Override
+        protected Object[] computeValue(Class<?> type) {
+            return type.getEnumConstants();
+        }
+    };
+
+    /**
+     * The constants of {@code enumType}, indexed by ordinal.  Must not be modified.
+     */
+    static Object[] universe(Class<?> enumType) {
+        return UNIVERSES.get(enumType);
+    }
+
+    /**
+     * Returns the enum type shared by all of the first {@code count} of {@code elements}, or {@code null} if they are
+     * not all constants of the same enum type.  {@code count} must be &gt;= 1.
+     */
+    static Class<?> commonEnumType(Object[] elements, int count) {
+        if (!(elements[0] instanceof Enum<?>)) {
+            return null;
+        }
+        Class<?> enumType = ((Enum<?>) elements[0]).getDeclaringClass();
+        for (int i = 1; i < count; i++) {
+            Object element = elements[i];
+            if (!(element instanceof Enum<?>) || ((Enum<?>) element).getDeclaringClass() != enumType) {
+                return null;
+            }
+        }
+        return enumType;
+    }
+
+}
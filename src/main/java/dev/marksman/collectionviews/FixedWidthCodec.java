@@ -0,0 +1,57 @@
+package dev.marksman.collectionviews;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Encodes and decodes values of type {@code A} to and from a fixed number of bytes in a {@link ByteBuffer}.
+ * <p>
+ * Used by {@link Vector#wrap(ByteBuffer, FixedWidthCodec)} and {@link Vector#copyOffHeap} to store elements
+ * in (possibly off-heap) memory, decoding each one in place when it is read.
+ * <p>
+ * Implementations must only use the absolute {@code get} and {@code put} methods of the buffer,
+ * and must not touch any bytes outside of <code>[offset, offset + width())</code>.
+ *
+ * @param <A> the element type
+ */
+public interface FixedWidthCodec<A> {
+
+    /**
+     * The number of bytes occupied by every encoded value.  Must be &gt;= 1 and must never change.
+     *
+     * @return the width of an encoded value, in bytes
+     */
+    int width();
+
+    /**
+     * The byte order of the buffers that {@link Vector#copyOffHeap} encodes into and {@link Vector#mapFile} maps,
+     * which is also the order that multi-byte {@code get} and {@code put} methods use when this codec calls them.
+     * Defaults to {@link ByteOrder#BIG_ENDIAN}, so that files are portable between machines and match
+     * {@link java.io.DataOutput}.  Has no effect on {@link Vector#wrap(ByteBuffer, FixedWidthCodec)}, which keeps
+     * the order of the buffer it is given.
+     *
+     * @return the byte order of encoded values
+     */
+    default ByteOrder byteOrder() {
+        return ByteOrder.BIG_ENDIAN;
+    }
+
+    /**
+     * Decodes the value stored at {@code offset}.
+     *
+     * @param source the buffer to read from
+     * @param offset the absolute index of the first byte of the value
+     * @return the decoded value
+     */
+    A decode(ByteBuffer source, int offset);
+
+    /**
+     * Encodes {@code value} at {@code offset}.
+     *
+     * @param value  the value to encode
+     * @param target the buffer to write to
+     * @param offset the absolute index of the first byte to write
+     */
+    void encode(A value, ByteBuffer target, int offset);
+
+}
@@ -1,6 +1,9 @@
 package dev.marksman.collectionviews;
 
-class ImmutableArrayVector<A> extends ConcreteVector<A> implements ImmutableNonEmptyVector<A> {
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+class ImmutableArrayVector<A> extends ConcreteVector<A> implements ImmutableNonEmptyVector<A>, CheapRandomAccess {
     /**
      * underlying must contain at least one element
      */
@@ -31,4 +34,13 @@ class ImmutableArrayVector<A> extends ConcreteVector<A> implements ImmutableNonE
         return underlying[index];
     }
 
+    @Override
+    public Spliterator<A> spliterator() {
+        return Spliterators.spliterator(underlying, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    void copyInto(int from, Object[] target, int targetOffset, int count) {
+        System.arraycopy(underlying, from, target, targetOffset, count);
+    }
+
 }
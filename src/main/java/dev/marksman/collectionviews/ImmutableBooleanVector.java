@@ -0,0 +1,36 @@
+package dev.marksman.collectionviews;
+
+/**
+ * A {@link BooleanVector} that is guaranteed at compile-time to be safe from mutation anywhere.
+ * <p>
+ * {@link ImmutableBooleanVector#take}, {@link ImmutableBooleanVector#drop} and {@link ImmutableBooleanVector#slice}
+ * always return an {@code ImmutableBooleanVector}.
+ */
+public interface ImmutableBooleanVector extends BooleanVector, ImmutableVector<Boolean> {
+
+    @Override
+    default ImmutableBooleanVector drop(int count) {
+        return BooleanVectors.immutableDrop(count, this);
+    }
+
+    @Override
+    default ImmutableBooleanVector slice(int startIndex, int endIndexExclusive) {
+        return BooleanVectors.immutableSlice(startIndex, endIndexExclusive, this);
+    }
+
+    @Override
+    default ImmutableBooleanVector tail() {
+        return drop(1);
+    }
+
+    @Override
+    default ImmutableBooleanVector take(int count) {
+        return BooleanVectors.immutableTake(count, this);
+    }
+
+    @Override
+    default ImmutableBooleanVector toImmutable() {
+        return this;
+    }
+
+}
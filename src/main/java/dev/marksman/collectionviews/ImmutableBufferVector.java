@@ -0,0 +1,46 @@
+package dev.marksman.collectionviews;
+
+import java.nio.ByteBuffer;
+
+class ImmutableBufferVector<A> extends ConcreteVector<A> implements ImmutableNonEmptyVector<A> {
+    /**
+     * underlying is a read-only view that nobody else can write to; size must be &gt;= 1
+     */
+    private final ByteBuffer underlying;
+    private final FixedWidthCodec<A> codec;
+    private final int offset;
+    private final int size;
+
+    ImmutableBufferVector(ByteBuffer underlying, FixedWidthCodec<A> codec, int offset, int size) {
+        this.underlying = underlying;
+        this.codec = codec;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public A head() {
+        return unsafeGet(0);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public A unsafeGet(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        return codec.decode(underlying, (offset + index) * codec.width());
+    }
+
+    static <A> ImmutableBufferVector<A> bufferSlice(int offset, int size, ImmutableBufferVector<A> source) {
+        return new ImmutableBufferVector<>(source.underlying, source.codec, source.offset + offset, size);
+    }
+
+}
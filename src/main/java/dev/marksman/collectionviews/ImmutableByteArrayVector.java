@@ -0,0 +1,54 @@
+package dev.marksman.collectionviews;
+
+import java.nio.ByteBuffer;
+
+class ImmutableByteArrayVector extends ConcreteVector<Byte> implements ImmutableByteVector, CheapRandomAccess {
+    private static final ImmutableByteArrayVector EMPTY = new ImmutableByteArrayVector(new byte[0], 0, 0);
+
+    private final byte[] underlying;
+    private final int offset;
+    private final int size;
+
+    ImmutableByteArrayVector(byte[] underlying, int offset, int size) {
+        this.underlying = underlying;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public byte unsafeGetByte(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return underlying[offset + index];
+    }
+
+    @Override
+    public int indexOf(byte value, int fromIndex) {
+        return ByteVectors.arrayIndexOf(value, fromIndex, underlying, offset, size);
+    }
+
+    @Override
+    public void copyInto(byte[] destination, int destinationOffset) {
+        System.arraycopy(underlying, offset, destination, destinationOffset, size);
+    }
+
+    @Override
+    public ByteBuffer asReadOnlyByteBuffer() {
+        return ByteBuffer.wrap(underlying, offset, size).slice().asReadOnlyBuffer();
+    }
+
+    ImmutableByteArrayVector arraySlice(int startIndex, int count) {
+        return new ImmutableByteArrayVector(underlying, offset + startIndex, count);
+    }
+
+    static ImmutableByteArrayVector emptyByteVector() {
+        return EMPTY;
+    }
+
+}
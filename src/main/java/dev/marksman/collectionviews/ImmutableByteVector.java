@@ -0,0 +1,51 @@
+package dev.marksman.collectionviews;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * A {@link ByteVector} that is guaranteed at compile-time to be safe from mutation anywhere.
+ * <p>
+ * {@link ImmutableByteVector#take}, {@link ImmutableByteVector#drop} and {@link ImmutableByteVector#slice}
+ * always return an {@code ImmutableByteVector}.
+ */
+public interface ImmutableByteVector extends ByteVector, ImmutableVector<Byte> {
+
+    @Override
+    default ImmutableByteVector drop(int count) {
+        return ByteVectors.immutableDrop(count, this);
+    }
+
+    @Override
+    default ImmutableByteVector slice(int startIndex, int endIndexExclusive) {
+        return ByteVectors.immutableSlice(startIndex, endIndexExclusive, this);
+    }
+
+    @Override
+    default ImmutableByteVector tail() {
+        return drop(1);
+    }
+
+    @Override
+    default ImmutableByteVector take(int count) {
+        return ByteVectors.immutableTake(count, this);
+    }
+
+    @Override
+    default ImmutableByteVector toImmutable() {
+        return this;
+    }
+
+    /**
+     * Writes this {@link ImmutableByteVector} to {@code out} in the library's binary format,
+     * as a length-prefixed block of raw big-endian {@code byte}s.  Read it back with {@link ByteVector#readFrom}.
+     * Does not close {@code out}.
+     *
+     * @param out the destination
+     * @throws IOException if {@code out} throws
+     */
+    default void writeTo(OutputStream out) throws IOException {
+        BinaryFormat.writeByteVector(this, out);
+    }
+
+}
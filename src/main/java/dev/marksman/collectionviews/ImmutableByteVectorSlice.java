@@ -0,0 +1,32 @@
+package dev.marksman.collectionviews;
+
+class ImmutableByteVectorSlice extends ConcreteVector<Byte> implements ImmutableByteVector {
+    private final int offset;
+    /**
+     * must be >= 1
+     */
+    private final int size;
+    private final ImmutableByteVector underlying;
+
+    ImmutableByteVectorSlice(int offset, int size, ImmutableByteVector underlying) {
+        this.offset = offset;
+        this.size = size;
+        this.underlying = underlying;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public byte unsafeGetByte(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        return underlying.unsafeGetByte(offset + index);
+    }
+
+    static ImmutableByteVectorSlice byteSlice(int offset, int size, ImmutableByteVectorSlice source) {
+        return new ImmutableByteVectorSlice(source.offset + offset, size, source.underlying);
+    }
+
+}
@@ -0,0 +1,47 @@
+package dev.marksman.collectionviews;
+
+class ImmutableCharArrayVector extends ConcreteVector<Character> implements ImmutableCharVector, CheapRandomAccess {
+    private static final ImmutableCharArrayVector EMPTY = new ImmutableCharArrayVector(new char[0], 0, 0);
+
+    private final char[] underlying;
+    private final int offset;
+    private final int size;
+
+    ImmutableCharArrayVector(char[] underlying, int offset, int size) {
+        this.underlying = underlying;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public char unsafeGetChar(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return underlying[offset + index];
+    }
+
+    @Override
+    public int indexOf(char value, int fromIndex) {
+        return CharVectors.arrayIndexOf(value, fromIndex, underlying, offset, size);
+    }
+
+    @Override
+    public void copyInto(char[] destination, int destinationOffset) {
+        System.arraycopy(underlying, offset, destination, destinationOffset, size);
+    }
+
+    ImmutableCharArrayVector arraySlice(int startIndex, int count) {
+        return new ImmutableCharArrayVector(underlying, offset + startIndex, count);
+    }
+
+    static ImmutableCharArrayVector emptyCharVector() {
+        return EMPTY;
+    }
+
+}
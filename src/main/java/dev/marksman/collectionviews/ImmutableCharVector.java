@@ -0,0 +1,36 @@
+package dev.marksman.collectionviews;
+
+/**
+ * A {@link CharVector} that is guaranteed at compile-time to be safe from mutation anywhere.
+ * <p>
+ * {@link ImmutableCharVector#take}, {@link ImmutableCharVector#drop} and {@link ImmutableCharVector#slice}
+ * always return an {@code ImmutableCharVector}.
+ */
+public interface ImmutableCharVector extends CharVector, ImmutableVector<Character> {
+
+    @Override
+    default ImmutableCharVector drop(int count) {
+        return CharVectors.immutableDrop(count, this);
+    }
+
+    @Override
+    default ImmutableCharVector slice(int startIndex, int endIndexExclusive) {
+        return CharVectors.immutableSlice(startIndex, endIndexExclusive, this);
+    }
+
+    @Override
+    default ImmutableCharVector tail() {
+        return drop(1);
+    }
+
+    @Override
+    default ImmutableCharVector take(int count) {
+        return CharVectors.immutableTake(count, this);
+    }
+
+    @Override
+    default ImmutableCharVector toImmutable() {
+        return this;
+    }
+
+}
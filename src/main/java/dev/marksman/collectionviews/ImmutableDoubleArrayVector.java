@@ -0,0 +1,46 @@
+package dev.marksman.collectionviews;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+class ImmutableDoubleArrayVector extends ConcreteVector<Double> implements ImmutableNonEmptyDoubleVector, CheapRandomAccess {
+    private final double[] underlying;
+    private final int offset;
+    /**
+     * must be >= 1
+     */
+    private final int size;
+
+    ImmutableDoubleArrayVector(double[] underlying, int offset, int size) {
+        this.underlying = underlying;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public double unsafeGetDouble(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        return underlying[offset + index];
+    }
+
+    @Override
+    public Spliterator.OfDouble spliterator() {
+        return Spliterators.spliterator(underlying, offset, offset + size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public double[] toDoubleArray() {
+        return Arrays.copyOfRange(underlying, offset, offset + size);
+    }
+
+    static ImmutableDoubleArrayVector arraySlice(int offset, int size, ImmutableDoubleArrayVector source) {
+        return new ImmutableDoubleArrayVector(source.underlying, source.offset + offset, size);
+    }
+
+}
@@ -0,0 +1,82 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Spliterator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A {@link DoubleVector} that is guaranteed at compile-time to be safe from mutation anywhere.
+ * <p>
+ * {@link ImmutableDoubleVector#take}, {@link ImmutableDoubleVector#drop}, {@link ImmutableDoubleVector#slice}
+ * and {@link ImmutableDoubleVector#mapDouble} always return an {@code ImmutableDoubleVector}.
+ */
+public interface ImmutableDoubleVector extends DoubleVector, ImmutableVector<Double> {
+
+    @Override
+    default ImmutableDoubleVector drop(int count) {
+        return DoubleVectors.immutableDrop(count, this);
+    }
+
+    @Override
+    default ImmutableDoubleVector mapDouble(DoubleUnaryOperator f) {
+        return DoubleVectors.immutableMapDouble(f, this);
+    }
+
+    @Override
+    default ImmutableDoubleVector slice(int startIndex, int endIndexExclusive) {
+        return DoubleVectors.immutableSlice(startIndex, endIndexExclusive, this);
+    }
+
+    /**
+     * Returns a {@link Spliterator.OfDouble} over the elements of this {@link ImmutableDoubleVector}.
+     * <p>
+     * In addition to the characteristics reported for any {@link DoubleVector}, also reports {@link Spliterator#IMMUTABLE}.
+     *
+     * @return a {@link Spliterator.OfDouble}
+     */
+    @Override
+    default Spliterator.OfDouble spliterator() {
+        return DoubleVectorSpliterator.immutableDoubleVectorSpliterator(this);
+    }
+
+    @Override
+    default ImmutableDoubleVector tail() {
+        return drop(1);
+    }
+
+    @Override
+    default ImmutableDoubleVector take(int count) {
+        return DoubleVectors.immutableTake(count, this);
+    }
+
+    @Override
+    default ImmutableDoubleVector toImmutable() {
+        return this;
+    }
+
+    @Override
+    default Maybe<? extends ImmutableNonEmptyDoubleVector> toNonEmpty() {
+        return DoubleVectors.tryNonEmptyConvert(this);
+    }
+
+    @Override
+    default ImmutableNonEmptyDoubleVector toNonEmptyOrThrow() {
+        return DoubleVectors.nonEmptyConvertOrThrow(this);
+    }
+
+    /**
+     * Writes this {@link ImmutableDoubleVector} to {@code out} in the library's binary format,
+     * as a length-prefixed block of raw big-endian {@code double}s.  Read it back with {@link DoubleVector#readFrom}.
+     * Does not close {@code out}.
+     *
+     * @param out the destination
+     * @throws IOException if {@code out} throws
+     */
+    default void writeTo(OutputStream out) throws IOException {
+        BinaryFormat.writeDoubleVector(this, out);
+    }
+
+}
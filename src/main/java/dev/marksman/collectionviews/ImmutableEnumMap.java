@@ -0,0 +1,130 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static com.jnape.palatable.lambda.adt.Maybe.maybe;
+
+/**
+ * An immutable map from the constants of an enum type to values, stored in an array indexed by ordinal.
+ * <p>
+ * Lookups by {@link ImmutableEnumMap#getOrElse}, {@link ImmutableEnumMap#containsKey} and
+ * {@link ImmutableEnumMap#forEach} execute in O(1) per key and do not allocate.  Values are never {@code null}.
+ * <p>
+ * Two {@link ImmutableEnumMap}s are equal if they have the same keys, mapped to equal values.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ */
+public interface ImmutableEnumMap<K extends Enum<K>, V> extends Immutable {
+
+    /**
+     * The enum type of the keys of this {@link ImmutableEnumMap}.
+     *
+     * @return a {@code Class<K>}
+     */
+    Class<K> keyType();
+
+    /**
+     * The number of keys in this {@link ImmutableEnumMap}.  Executes in O(1).
+     *
+     * @return the number of keys
+     */
+    int size();
+
+    /**
+     * Tests whether this {@link ImmutableEnumMap} is empty.  Executes in O(1).
+     *
+     * @return {@code true} if this {@link ImmutableEnumMap} has no keys, {@code false} otherwise.
+     */
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns {@code true} if {@code key} is a key of this {@link ImmutableEnumMap}.
+     *
+     * @param key the key to test
+     * @return {@code true} if {@code key} is present, {@code false} otherwise
+     */
+    boolean containsKey(K key);
+
+    /**
+     * Returns the value of {@code key}, or {@code other} if {@code key} is not present.  Does not allocate.
+     *
+     * @param key   the key to look up
+     * @param other the value to return if {@code key} is not present
+     * @return the value of {@code key}, or {@code other}
+     */
+    V getOrElse(K key, V other);
+
+    /**
+     * Returns the value of {@code key}, if present.
+     *
+     * @param key the key to look up
+     * @return the value of {@code key} wrapped in a {@link Maybe#just}, or {@link Maybe#nothing} if it is not present
+     */
+    default Maybe<V> get(K key) {
+        return maybe(getOrElse(key, null));
+    }
+
+    /**
+     * Returns the keys of this {@link ImmutableEnumMap}, which iterate in ordinal order.
+     *
+     * @return an {@code ImmutableSet<K>}
+     */
+    ImmutableSet<K> keys();
+
+    /**
+     * Calls {@code action} with each key and its value, in ordinal order of the keys.
+     *
+     * @param action the action to perform
+     */
+    void forEach(BiConsumer<? super K, ? super V> action);
+
+    /**
+     * Returns an empty {@link ImmutableEnumMap}.
+     *
+     * @param keyType the enum type of the keys
+     * @param <K>     the key type
+     * @param <V>     the value type
+     * @return an empty {@code ImmutableEnumMap<K, V>}
+     */
+    static <K extends Enum<K>, V> ImmutableEnumMap<K, V> empty(Class<K> keyType) {
+        return EnumMaps.empty(keyType);
+    }
+
+    /**
+     * Returns a new {@link ImmutableEnumMap} with the same entries as a {@link java.util.Map}.
+     * Keys that are mapped to {@code null} are left out.
+     *
+     * @param keyType the enum type of the keys
+     * @param source  the {@link java.util.Map} to copy from.
+     *                This method will not alter or hold on to a reference of this {@code Map}.
+     * @param <K>     the key type
+     * @param <V>     the value type
+     * @return an {@code ImmutableEnumMap<K, V>}
+     */
+    static <K extends Enum<K>, V> ImmutableEnumMap<K, V> copyFrom(Class<K> keyType,
+                                                                java.util.Map<K, ? extends V> source) {
+        return EnumMaps.copyFrom(keyType, source);
+    }
+
+    /**
+     * Returns a new {@link ImmutableEnumMap} that maps each constant of {@code keyType} to the result of
+     * {@code valueFunction}.  Constants for which {@code valueFunction} returns {@code null} are left out.
+     *
+     * @param keyType       the enum type of the keys
+     * @param valueFunction a function that is called once for each constant of {@code keyType}, in ordinal order
+     * @param <K>           the key type
+     * @param <V>           the value type
+     * @return an {@code ImmutableEnumMap<K, V>}
+     */
+    static <K extends Enum<K>, V> ImmutableEnumMap<K, V> fill(Class<K> keyType,
+                                                            Function<? super K, ? extends V> valueFunction) {
+        return EnumMaps.fill(keyType, valueFunction);
+    }
+
+}
@@ -0,0 +1,254 @@
+package dev.marksman.collectionviews;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * An {@link ImmutableNonEmptySet} of constants of a single enum type, stored as a bitmask indexed by ordinal.
+ * <p>
+ * Enums of up to 64 constants use a single {@code long}; larger ones use a {@code long[]}.  {@code contains} is a
+ * type check and a bit test, and elements iterate in ordinal order.
+ */
+final class ImmutableEnumSet<A> extends ConcreteSet<A> implements ImmutableNonEmptySet<A> {
+    private final Class<?> enumType;
+    /**
+     * all constants of enumType, indexed by ordinal
+     */
+    private final Object[] universe;
+    /**
+     * the bitmask, if universe has no more than 64 constants
+     */
+    private final long bits;
+    /**
+     * the bitmask, if universe has more than 64 constants; otherwise null
+     */
+    private final long[] words;
+    private final int size;
+
+    private ImmutableEnumSet(Class<?> enumType, Object[] universe, long bits, long[] words, int size) {
+        this.enumType = enumType;
+        this.universe = universe;
+        this.bits = bits;
+        this.words = words;
+        this.size = size;
+    }
+
+    @Override
+    public A head() {
+        int wordIndex = 0;
+        while (word(wordIndex) == 0) {
+            wordIndex++;
+        }
+        return constant(wordIndex, Long.numberOfTrailingZeros(word(wordIndex)));
+    }
+
+    @Override
+    public Iterable<A> tail() {
+        Iterator<A> iterator = iterator();
+        iterator.next();
+        return () -> iterator;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(A element) {
+        if (!(element instanceof Enum<?>) || ((Enum<?>) element).getDeclaringClass() != enumType) {
+            return false;
+        }
+        int ordinal = ((Enum<?>) element).ordinal();
+        long word = words == null ? bits : words[ordinal >>> 6];
+        return (word & (1L << ordinal)) != 0;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public Iterator<A> iterator() {
+        return new Iterator<A>() {
+            private int wordIndex = 0;
+            private long remaining = word(0);
+
+            @Override
+            public boolean hasNext() {
+                while (remaining == 0 && wordIndex < wordCount() - 1) {
+                    remaining = word(++wordIndex);
+                }
+                return remaining != 0;
+            }
+
+            @Override
+            public A next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                int bit = Long.numberOfTrailingZeros(remaining);
+                remaining &= remaining - 1;
+                return constant(wordIndex, bit);
+            }
+        };
+    }
+
+    @Override
+    public void forEach(Consumer<? super A> action) {
+        for (int wordIndex = 0; wordIndex < wordCount(); wordIndex++) {
+            for (long remaining = word(wordIndex); remaining != 0; remaining &= remaining - 1) {
+                action.accept(constant(wordIndex, Long.numberOfTrailingZeros(remaining)));
+            }
+        }
+    }
+
+    /**
+     * Splits by range of ordinals.  Each part counts the bits in its range, so its size is always exact.
+     */
+    @Override
+    public Spliterator<A> spliterator() {
+        return new OrdinalSpliterator(0, universe.length);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof ImmutableEnumSet<?>) {
+            ImmutableEnumSet<?> other = (ImmutableEnumSet<?>) o;
+            if (other.enumType == enumType) {
+                for (int i = 0; i < wordCount(); i++) {
+                    if (word(i) != other.word(i)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return super.equals(o);
+    }
+
+    private int wordCount() {
+        return words == null ? 1 : words.length;
+    }
+
+    private long word(int wordIndex) {
+        return words == null ? bits : words[wordIndex];
+    }
+
+    @SuppressWarnings("unchecked")
+    private A constant(int wordIndex, int bit) {
+        return (A) universe[(wordIndex << 6) + bit];
+    }
+
+    /**
+     * The smallest ordinal &gt;= {@code from} that is in this set, or {@code universe.length} if there is none.
+     */
+    private int nextOrdinal(int from) {
+        int wordIndex = from >>> 6;
+        if (wordIndex >= wordCount()) {
+            return universe.length;
+        }
+        long word = word(wordIndex) & (-1L << from);
+        while (word == 0) {
+            if (++wordIndex >= wordCount()) {
+                return universe.length;
+            }
+            word = word(wordIndex);
+        }
+        return (wordIndex << 6) + Long.numberOfTrailingZeros(word);
+    }
+
+    /**
+     * The number of ordinals from {@code from} (inclusive) to {@code to} (exclusive) that are in this set.
+     */
+    private int countBetween(int from, int to) {
+        int count = 0;
+        for (int i = from; i < to; ) {
+            int wordIndex = i >>> 6;
+            int end = Math.min(to, (wordIndex + 1) << 6);
+            long word = word(wordIndex) & (-1L << i);
+            if ((end & 63) != 0) {
+                word &= (1L << end) - 1;
+            }
+            count += Long.bitCount(word);
+            i = end;
+        }
+        return count;
+    }
+
+    private final class OrdinalSpliterator implements Spliterator<A> {
+        private final int fence;
+        private int ordinal;
+
+        OrdinalSpliterator(int origin, int fence) {
+            this.ordinal = origin;
+            this.fence = fence;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public boolean tryAdvance(Consumer<? super A> action) {
+            Objects.requireNonNull(action);
+            int next = nextOrdinal(ordinal);
+            if (next < fence) {
+                ordinal = next + 1;
+                action.accept((A) universe[next]);
+                return true;
+            } else {
+                ordinal = fence;
+                return false;
+            }
+        }
+
+        @Override
+        public Spliterator<A> trySplit() {
+            int lo = ordinal;
+            int mid = (lo + fence) >>> 1;
+            if (lo >= mid) {
+                return null;
+            } else {
+                ordinal = mid;
+                return new OrdinalSpliterator(lo, mid);
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return countBetween(ordinal, fence);
+        }
+
+        @Override
+        public int characteristics() {
+            return DISTINCT | IMMUTABLE | NONNULL | SIZED | SUBSIZED;
+        }
+    }
+
+    /**
+     * All of the first {@code count} of {@code elements} must be constants of {@code enumType}, and {@code count}
+     * must be &gt;= 1.
+     */
+    static <A> ImmutableEnumSet<A> nonEmptyEnumSet(Class<?> enumType, Object[] elements, int count) {
+        Object[] universe = EnumSets.universe(enumType);
+        if (universe.length <= 64) {
+            long bits = 0;
+            for (int i = 0; i < count; i++) {
+                bits |= 1L << ((Enum<?>) elements[i]).ordinal();
+            }
+            return new ImmutableEnumSet<>(enumType, universe, bits, null, Long.bitCount(bits));
+        } else {
+            long[] words = new long[(universe.length + 63) >>> 6];
+            for (int i = 0; i < count; i++) {
+                int ordinal = ((Enum<?>) elements[i]).ordinal();
+                words[ordinal >>> 6] |= 1L << ordinal;
+            }
+            int size = 0;
+            for (long word : words) {
+                size += Long.bitCount(word);
+            }
+            return new ImmutableEnumSet<>(enumType, universe, 0, words, size);
+        }
+    }
+
+}
@@ -0,0 +1,34 @@
+package dev.marksman.collectionviews;
+
+import java.util.function.IntToDoubleFunction;
+
+class ImmutableIndexedDoubleVector extends ConcreteVector<Double> implements ImmutableNonEmptyDoubleVector {
+    private final int offset;
+    /**
+     * must be >= 1
+     */
+    private final int size;
+    private final IntToDoubleFunction valueAt;
+
+    ImmutableIndexedDoubleVector(int offset, int size, IntToDoubleFunction valueAt) {
+        this.offset = offset;
+        this.size = size;
+        this.valueAt = valueAt;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public double unsafeGetDouble(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        return valueAt.applyAsDouble(offset + index);
+    }
+
+    static ImmutableIndexedDoubleVector indexedSlice(int offset, int size, ImmutableIndexedDoubleVector source) {
+        return new ImmutableIndexedDoubleVector(source.offset + offset, size, source.valueAt);
+    }
+
+}
@@ -0,0 +1,34 @@
+package dev.marksman.collectionviews;
+
+import java.util.function.IntUnaryOperator;
+
+class ImmutableIndexedIntVector extends ConcreteVector<Integer> implements ImmutableNonEmptyIntVector {
+    private final int offset;
+    /**
+     * must be >= 1
+     */
+    private final int size;
+    private final IntUnaryOperator valueAt;
+
+    ImmutableIndexedIntVector(int offset, int size, IntUnaryOperator valueAt) {
+        this.offset = offset;
+        this.size = size;
+        this.valueAt = valueAt;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int unsafeGetInt(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        return valueAt.applyAsInt(offset + index);
+    }
+
+    static ImmutableIndexedIntVector indexedSlice(int offset, int size, ImmutableIndexedIntVector source) {
+        return new ImmutableIndexedIntVector(source.offset + offset, size, source.valueAt);
+    }
+
+}
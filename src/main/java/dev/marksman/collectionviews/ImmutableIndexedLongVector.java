@@ -0,0 +1,34 @@
+package dev.marksman.collectionviews;
+
+import java.util.function.IntToLongFunction;
+
+class ImmutableIndexedLongVector extends ConcreteVector<Long> implements ImmutableNonEmptyLongVector {
+    private final int offset;
+    /**
+     * must be >= 1
+     */
+    private final int size;
+    private final IntToLongFunction valueAt;
+
+    ImmutableIndexedLongVector(int offset, int size, IntToLongFunction valueAt) {
+        this.offset = offset;
+        this.size = size;
+        this.valueAt = valueAt;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long unsafeGetLong(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        return valueAt.applyAsLong(offset + index);
+    }
+
+    static ImmutableIndexedLongVector indexedSlice(int offset, int size, ImmutableIndexedLongVector source) {
+        return new ImmutableIndexedLongVector(source.offset + offset, size, source.valueAt);
+    }
+
+}
@@ -0,0 +1,46 @@
+package dev.marksman.collectionviews;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+class ImmutableIntArrayVector extends ConcreteVector<Integer> implements ImmutableNonEmptyIntVector, CheapRandomAccess {
+    private final int[] underlying;
+    private final int offset;
+    /**
+     * must be >= 1
+     */
+    private final int size;
+
+    ImmutableIntArrayVector(int[] underlying, int offset, int size) {
+        this.underlying = underlying;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int unsafeGetInt(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        return underlying[offset + index];
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(underlying, offset, offset + size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public int[] toIntArray() {
+        return Arrays.copyOfRange(underlying, offset, offset + size);
+    }
+
+    static ImmutableIntArrayVector arraySlice(int offset, int size, ImmutableIntArrayVector source) {
+        return new ImmutableIntArrayVector(source.underlying, source.offset + offset, size);
+    }
+
+}
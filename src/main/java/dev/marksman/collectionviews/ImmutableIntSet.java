@@ -0,0 +1,34 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * An {@link IntSet} that is guaranteed at compile-time to be safe from mutation anywhere.
+ * In other words, it owns the sole reference to the underlying collection.
+ */
+public interface ImmutableIntSet extends IntSet, ImmutableSet<Integer> {
+
+    @Override
+    default ImmutableIntSet toImmutable() {
+        return this;
+    }
+
+    @Override
+    default Maybe<? extends ImmutableNonEmptyIntSet> toNonEmpty() {
+        return IntSets.tryNonEmptyConvert(this);
+    }
+
+    @Override
+    default ImmutableNonEmptyIntSet toNonEmptyOrThrow() {
+        return IntSets.nonEmptyConvertOrThrow(this);
+    }
+
+    @Override
+    default Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.DISTINCT | Spliterator.IMMUTABLE);
+    }
+
+}
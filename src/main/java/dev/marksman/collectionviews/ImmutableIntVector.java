@@ -0,0 +1,82 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Spliterator;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * An {@link IntVector} that is guaranteed at compile-time to be safe from mutation anywhere.
+ * <p>
+ * {@link ImmutableIntVector#take}, {@link ImmutableIntVector#drop}, {@link ImmutableIntVector#slice}
+ * and {@link ImmutableIntVector#mapInt} always return an {@code ImmutableIntVector}.
+ */
+public interface ImmutableIntVector extends IntVector, ImmutableVector<Integer> {
+
+    @Override
+    default ImmutableIntVector drop(int count) {
+        return IntVectors.immutableDrop(count, this);
+    }
+
+    @Override
+    default ImmutableIntVector mapInt(IntUnaryOperator f) {
+        return IntVectors.immutableMapInt(f, this);
+    }
+
+    @Override
+    default ImmutableIntVector slice(int startIndex, int endIndexExclusive) {
+        return IntVectors.immutableSlice(startIndex, endIndexExclusive, this);
+    }
+
+    /**
+     * Returns a {@link Spliterator.OfInt} over the elements of this {@link ImmutableIntVector}.
+     * <p>
+     * In addition to the characteristics reported for any {@link IntVector}, also reports {@link Spliterator#IMMUTABLE}.
+     *
+     * @return a {@link Spliterator.OfInt}
+     */
+    @Override
+    default Spliterator.OfInt spliterator() {
+        return IntVectorSpliterator.immutableIntVectorSpliterator(this);
+    }
+
+    @Override
+    default ImmutableIntVector tail() {
+        return drop(1);
+    }
+
+    @Override
+    default ImmutableIntVector take(int count) {
+        return IntVectors.immutableTake(count, this);
+    }
+
+    @Override
+    default ImmutableIntVector toImmutable() {
+        return this;
+    }
+
+    @Override
+    default Maybe<? extends ImmutableNonEmptyIntVector> toNonEmpty() {
+        return IntVectors.tryNonEmptyConvert(this);
+    }
+
+    @Override
+    default ImmutableNonEmptyIntVector toNonEmptyOrThrow() {
+        return IntVectors.nonEmptyConvertOrThrow(this);
+    }
+
+    /**
+     * Writes this {@link ImmutableIntVector} to {@code out} in the library's binary format,
+     * as a length-prefixed block of raw big-endian {@code int}s.  Read it back with {@link IntVector#readFrom}.
+     * Does not close {@code out}.
+     *
+     * @param out the destination
+     * @throws IOException if {@code out} throws
+     */
+    default void writeTo(OutputStream out) throws IOException {
+        BinaryFormat.writeIntVector(this, out);
+    }
+
+}
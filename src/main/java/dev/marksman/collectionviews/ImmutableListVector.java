@@ -1,6 +1,10 @@
 package dev.marksman.collectionviews;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
+
+import static dev.marksman.collectionviews.ProtectedIterator.protectedIterator;
 
 class ImmutableListVector<A> extends ConcreteVector<A> implements ImmutableNonEmptyVector<A> {
     /**
@@ -32,4 +36,24 @@ class ImmutableListVector<A> extends ConcreteVector<A> implements ImmutableNonEm
         return underlying.get(index);
     }
 
+    @Override
+    public Iterator<A> iterator() {
+        return protectedIterator(underlying.iterator());
+    }
+
+    /**
+     * {@code true} if {@code get} on the underlying {@link List} is cheap, according to {@link RandomAccess}.
+     */
+    boolean hasRandomAccess() {
+        return underlying instanceof RandomAccess;
+    }
+
+    /**
+     * Goes through {@link List#subList}, so that a sequential list is walked once rather than once per element.
+     */
+    void copyInto(int from, Object[] target, int targetOffset, int count) {
+        Object[] copied = underlying.subList(from, from + count).toArray();
+        System.arraycopy(copied, 0, target, targetOffset, count);
+    }
+
 }
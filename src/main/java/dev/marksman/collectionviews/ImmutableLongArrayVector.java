@@ -0,0 +1,46 @@
+package dev.marksman.collectionviews;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+class ImmutableLongArrayVector extends ConcreteVector<Long> implements ImmutableNonEmptyLongVector, CheapRandomAccess {
+    private final long[] underlying;
+    private final int offset;
+    /**
+     * must be >= 1
+     */
+    private final int size;
+
+    ImmutableLongArrayVector(long[] underlying, int offset, int size) {
+        this.underlying = underlying;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long unsafeGetLong(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        return underlying[offset + index];
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator() {
+        return Spliterators.spliterator(underlying, offset, offset + size, Spliterator.ORDERED | Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    public long[] toLongArray() {
+        return Arrays.copyOfRange(underlying, offset, offset + size);
+    }
+
+    static ImmutableLongArrayVector arraySlice(int offset, int size, ImmutableLongArrayVector source) {
+        return new ImmutableLongArrayVector(source.underlying, source.offset + offset, size);
+    }
+
+}
@@ -0,0 +1,263 @@
+package dev.marksman.collectionviews;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * An {@link ImmutableNonEmptyLongSet} stored in a single flat {@code long[]} hash table with linear probing.
+ * <p>
+ * Sized like {@link ImmutableOpenHashSet}.  An empty slot holds {@code 0}, so membership of {@code 0} itself is
+ * kept in a separate flag, and iterates first.
+ */
+final class ImmutableLongHashSet extends ConcreteSet<Long> implements ImmutableNonEmptyLongSet {
+    private static final int MINIMUM_CAPACITY = 4;
+
+    /**
+     * the length of table is a power of two, and at least one slot is always empty
+     */
+    private final long[] table;
+    private final boolean containsZero;
+    private final int size;
+
+    private ImmutableLongHashSet(long[] table, boolean containsZero, int size) {
+        this.table = table;
+        this.containsZero = containsZero;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean containsLong(long element) {
+        if (element == 0) {
+            return containsZero;
+        }
+        int mask = table.length - 1;
+        for (int slot = slot(element, mask); ; slot = (slot + 1) & mask) {
+            long candidate = table[slot];
+            if (candidate == element) {
+                return true;
+            } else if (candidate == 0) {
+                return false;
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return new PrimitiveIterator.OfLong() {
+            private boolean zeroPending = containsZero;
+            private int slot = nextOccupied(0);
+
+            @Override
+            public boolean hasNext() {
+                return zeroPending || slot < table.length;
+            }
+
+            @Override
+            public long nextLong() {
+                if (zeroPending) {
+                    zeroPending = false;
+                    return 0;
+                }
+                if (slot >= table.length) throw new NoSuchElementException();
+                long result = table[slot];
+                slot = nextOccupied(slot + 1);
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Splits by range of table slots, like {@link ImmutableOpenHashSet#spliterator}.
+     */
+    @Override
+    public Spliterator.OfLong spliterator() {
+        return new SlotSpliterator(table, containsZero, 0, table.length, size,
+                Spliterator.DISTINCT | Spliterator.IMMUTABLE | Spliterator.SIZED);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof LongSet) {
+            return LongSets.longSetEquals(this, (LongSet) o);
+        }
+        return super.equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 0;
+        for (long element : table) {
+            h += Long.hashCode(element);
+        }
+        return h;
+    }
+
+    private int nextOccupied(int from) {
+        int slot = from;
+        while (slot < table.length && table[slot] == 0) {
+            slot++;
+        }
+        return slot;
+    }
+
+    /**
+     * {@code count} must be &gt;= 1
+     */
+    static ImmutableLongHashSet nonEmptyLongHashSet(long[] elements, int count) {
+        long[] table = new long[capacityFor(count)];
+        boolean containsZero = false;
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            long element = elements[i];
+            if (element == 0) {
+                if (!containsZero) {
+                    containsZero = true;
+                    size++;
+                }
+            } else if (insert(table, element)) {
+                size++;
+            }
+        }
+        if (capacityFor(size) < table.length / 2) {
+            table = rehash(table, capacityFor(size));
+        }
+        return new ImmutableLongHashSet(table, containsZero, size);
+    }
+
+    private static boolean insert(long[] table, long element) {
+        int mask = table.length - 1;
+        for (int slot = slot(element, mask); ; slot = (slot + 1) & mask) {
+            long candidate = table[slot];
+            if (candidate == 0) {
+                table[slot] = element;
+                return true;
+            } else if (candidate == element) {
+                return false;
+            }
+        }
+    }
+
+    private static long[] rehash(long[] table, int capacity) {
+        long[] result = new long[capacity];
+        for (long element : table) {
+            if (element != 0) {
+                insert(result, element);
+            }
+        }
+        return result;
+    }
+
+    private static int slot(long element, int mask) {
+        long h = element * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static int capacityFor(int count) {
+        if (count > (1 << 29)) throw new IllegalArgumentException("too many elements to fit in a single set");
+        return Math.max(MINIMUM_CAPACITY, Integer.highestOneBit(Math.max(count * 2 - 1, 1)) << 1);
+    }
+
+    /**
+     * A {@link Spliterator} over a range of slots of a table, skipping empty ones, that reports {@code 0} first if
+     * {@code zeroPending} is set.  Splitting hands {@code 0} to the lower half.  Only the spliterator for the whole
+     * table knows its exact size; each half of a split estimates half of the remaining elements.
+     */
+    private static final class SlotSpliterator implements Spliterator.OfLong {
+        private final long[] table;
+        private final int fence;
+        private int characteristics;
+        private boolean zeroPending;
+        private int slot;
+        private long estimate;
+
+        SlotSpliterator(long[] table, boolean zeroPending, int origin, int fence, long estimate, int characteristics) {
+            this.table = table;
+            this.zeroPending = zeroPending;
+            this.slot = origin;
+            this.fence = fence;
+            this.estimate = estimate;
+            this.characteristics = characteristics;
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            Objects.requireNonNull(action);
+            if (zeroPending) {
+                zeroPending = false;
+                estimate = Math.max(estimate - 1, 0);
+                action.accept(0);
+                return true;
+            }
+            while (slot < fence) {
+                long element = table[slot++];
+                if (element != 0) {
+                    estimate = Math.max(estimate - 1, 0);
+                    action.accept(element);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            Objects.requireNonNull(action);
+            long[] t = table;
+            int hi = fence;
+            int i = slot;
+            boolean zero = zeroPending;
+            slot = hi;
+            zeroPending = false;
+            estimate = 0;
+            if (zero) {
+                action.accept(0);
+            }
+            for (; i < hi; i++) {
+                long element = t[i];
+                if (element != 0) {
+                    action.accept(element);
+                }
+            }
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            int lo = slot;
+            int mid = (lo + fence) >>> 1;
+            if (lo >= mid) {
+                return null;
+            } else {
+                boolean zero = zeroPending;
+                slot = mid;
+                zeroPending = false;
+                estimate >>>= 1;
+                characteristics &= ~SIZED;
+                return new SlotSpliterator(table, zero, lo, mid, estimate, DISTINCT | IMMUTABLE);
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return characteristics;
+        }
+    }
+
+}
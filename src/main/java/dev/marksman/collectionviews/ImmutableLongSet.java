@@ -0,0 +1,34 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * An {@link LongSet} that is guaranteed at compile-time to be safe from mutation anywhere.
+ * In other words, it owns the sole reference to the underlying collection.
+ */
+public interface ImmutableLongSet extends LongSet, ImmutableSet<Long> {
+
+    @Override
+    default ImmutableLongSet toImmutable() {
+        return this;
+    }
+
+    @Override
+    default Maybe<? extends ImmutableNonEmptyLongSet> toNonEmpty() {
+        return LongSets.tryNonEmptyConvert(this);
+    }
+
+    @Override
+    default ImmutableNonEmptyLongSet toNonEmptyOrThrow() {
+        return LongSets.nonEmptyConvertOrThrow(this);
+    }
+
+    @Override
+    default Spliterator.OfLong spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.DISTINCT | Spliterator.IMMUTABLE);
+    }
+
+}
@@ -0,0 +1,82 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Spliterator;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * A {@link LongVector} that is guaranteed at compile-time to be safe from mutation anywhere.
+ * <p>
+ * {@link ImmutableLongVector#take}, {@link ImmutableLongVector#drop}, {@link ImmutableLongVector#slice}
+ * and {@link ImmutableLongVector#mapLong} always return an {@code ImmutableLongVector}.
+ */
+public interface ImmutableLongVector extends LongVector, ImmutableVector<Long> {
+
+    @Override
+    default ImmutableLongVector drop(int count) {
+        return LongVectors.immutableDrop(count, this);
+    }
+
+    @Override
+    default ImmutableLongVector mapLong(LongUnaryOperator f) {
+        return LongVectors.immutableMapLong(f, this);
+    }
+
+    @Override
+    default ImmutableLongVector slice(int startIndex, int endIndexExclusive) {
+        return LongVectors.immutableSlice(startIndex, endIndexExclusive, this);
+    }
+
+    /**
+     * Returns a {@link Spliterator.OfLong} over the elements of this {@link ImmutableLongVector}.
+     * <p>
+     * In addition to the characteristics reported for any {@link LongVector}, also reports {@link Spliterator#IMMUTABLE}.
+     *
+     * @return a {@link Spliterator.OfLong}
+     */
+    @Override
+    default Spliterator.OfLong spliterator() {
+        return LongVectorSpliterator.immutableLongVectorSpliterator(this);
+    }
+
+    @Override
+    default ImmutableLongVector tail() {
+        return drop(1);
+    }
+
+    @Override
+    default ImmutableLongVector take(int count) {
+        return LongVectors.immutableTake(count, this);
+    }
+
+    @Override
+    default ImmutableLongVector toImmutable() {
+        return this;
+    }
+
+    @Override
+    default Maybe<? extends ImmutableNonEmptyLongVector> toNonEmpty() {
+        return LongVectors.tryNonEmptyConvert(this);
+    }
+
+    @Override
+    default ImmutableNonEmptyLongVector toNonEmptyOrThrow() {
+        return LongVectors.nonEmptyConvertOrThrow(this);
+    }
+
+    /**
+     * Writes this {@link ImmutableLongVector} to {@code out} in the library's binary format,
+     * as a length-prefixed block of raw big-endian {@code long}s.  Read it back with {@link LongVector#readFrom}.
+     * Does not close {@code out}.
+     *
+     * @param out the destination
+     * @throws IOException if {@code out} throws
+     */
+    default void writeTo(OutputStream out) throws IOException {
+        BinaryFormat.writeLongVector(this, out);
+    }
+
+}
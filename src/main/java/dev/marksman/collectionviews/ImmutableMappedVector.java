@@ -2,11 +2,18 @@ package dev.marksman.collectionviews;
 
 import com.jnape.palatable.lambda.functions.Fn1;
 
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+
 class ImmutableMappedVector<A> extends ConcreteVector<A> implements ImmutableNonEmptyVector<A> {
     private final MapperChain mapper;
-    private final ImmutableNonEmptyVector<Object> underlying;
+    /**
+     * underlying must contain at least one element
+     */
+    private final ImmutableVector<Object> underlying;
 
-    ImmutableMappedVector(MapperChain mapper, ImmutableNonEmptyVector<Object> underlying) {
+    ImmutableMappedVector(MapperChain mapper, ImmutableVector<Object> underlying) {
         this.mapper = mapper;
         this.underlying = underlying;
     }
@@ -14,7 +21,7 @@ class ImmutableMappedVector<A> extends ConcreteVector<A> implements ImmutableNon
     @SuppressWarnings("unchecked")
     @Override
     public A head() {
-        return (A) mapper.apply(underlying.head());
+        return (A) mapper.apply(underlying.unsafeGet(0));
     }
 
     @Override
@@ -35,4 +42,41 @@ class ImmutableMappedVector<A> extends ConcreteVector<A> implements ImmutableNon
                 underlying);
     }
 
+    @Override
+    public Iterator<A> iterator() {
+        return Vectors.mappedIterator(mapper, underlying);
+    }
+
+    boolean hasCheapRandomAccess() {
+        return Vectors.hasCheapRandomAccess(underlying);
+    }
+
+    @Override
+    public Spliterator<A> spliterator() {
+        return new MappedSpliterator<>(underlying.spliterator(), mapper.getFn());
+    }
+
+    /**
+     * Streams the underlying elements and applies the compiled mapping function as a single map stage.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Stream<A> stream() {
+        return (Stream<A>) underlying.stream().map(mapper.getFn());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Stream<A> parallelStream() {
+        return (Stream<A>) underlying.parallelStream().map(mapper.getFn());
+    }
+
+    /**
+     * Slices beneath the mapping, so the result is a single {@link ImmutableMappedVector} over a (folded) slice.
+     */
+    static <A> ImmutableMappedVector<A> mappedSlice(int offset, int size, ImmutableMappedVector<A> source) {
+        return new ImmutableMappedVector<>(source.mapper,
+                ImmutableVectorSlice.immutableVectorSlice(offset, size, source.underlying));
+    }
+
 }
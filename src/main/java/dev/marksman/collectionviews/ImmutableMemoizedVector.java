@@ -0,0 +1,13 @@
+package dev.marksman.collectionviews;
+
+/**
+ * A {@link MemoizedVector} that is also an {@link ImmutableVector}.
+ *
+ * @param <A> the element type
+ */
+public interface ImmutableMemoizedVector<A> extends MemoizedVector<A>, ImmutableVector<A> {
+
+    @Override
+    ImmutableMemoizedVector<A> force();
+
+}
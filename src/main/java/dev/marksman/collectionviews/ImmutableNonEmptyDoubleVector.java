@@ -0,0 +1,39 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.function.DoubleUnaryOperator;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+
+/**
+ * A {@link DoubleVector} that is guaranteed at compile-time to be non-empty and safe from mutation anywhere.
+ */
+public interface ImmutableNonEmptyDoubleVector extends ImmutableDoubleVector, NonEmptyDoubleVector, ImmutableNonEmptyVector<Double> {
+
+    @Override
+    default ImmutableNonEmptyDoubleVector mapDouble(DoubleUnaryOperator f) {
+        return DoubleVectors.immutableMapDoubleNonEmpty(f, this);
+    }
+
+    @Override
+    default ImmutableDoubleVector tail() {
+        return drop(1);
+    }
+
+    @Override
+    default ImmutableNonEmptyDoubleVector toImmutable() {
+        return this;
+    }
+
+    @Override
+    default Maybe<? extends ImmutableNonEmptyDoubleVector> toNonEmpty() {
+        return just(this);
+    }
+
+    @Override
+    default ImmutableNonEmptyDoubleVector toNonEmptyOrThrow() {
+        return this;
+    }
+
+}
@@ -0,0 +1,27 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+
+/**
+ * An {@link IntSet} that is guaranteed at compile-time to be non-empty and safe from mutation anywhere.
+ */
+public interface ImmutableNonEmptyIntSet extends ImmutableIntSet, NonEmptyIntSet, ImmutableNonEmptySet<Integer> {
+
+    @Override
+    default ImmutableNonEmptyIntSet toImmutable() {
+        return this;
+    }
+
+    @Override
+    default Maybe<? extends ImmutableNonEmptyIntSet> toNonEmpty() {
+        return just(this);
+    }
+
+    @Override
+    default ImmutableNonEmptyIntSet toNonEmptyOrThrow() {
+        return this;
+    }
+
+}
@@ -0,0 +1,33 @@
+package dev.marksman.collectionviews;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+
+class ImmutableNonEmptyIntSetAdapter extends ConcreteSet<Integer> implements ImmutableNonEmptyIntSet {
+    private final ImmutableIntSet underlying;
+
+    ImmutableNonEmptyIntSetAdapter(ImmutableIntSet underlying) {
+        this.underlying = underlying;
+    }
+
+    @Override
+    public int size() {
+        return underlying.size();
+    }
+
+    @Override
+    public boolean containsInt(int element) {
+        return underlying.containsInt(element);
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        return underlying.iterator();
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return underlying.spliterator();
+    }
+
+}
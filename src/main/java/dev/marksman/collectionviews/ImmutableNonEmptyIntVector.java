@@ -0,0 +1,39 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.function.IntUnaryOperator;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+
+/**
+ * An {@link IntVector} that is guaranteed at compile-time to be non-empty and safe from mutation anywhere.
+ */
+public interface ImmutableNonEmptyIntVector extends ImmutableIntVector, NonEmptyIntVector, ImmutableNonEmptyVector<Integer> {
+
+    @Override
+    default ImmutableNonEmptyIntVector mapInt(IntUnaryOperator f) {
+        return IntVectors.immutableMapIntNonEmpty(f, this);
+    }
+
+    @Override
+    default ImmutableIntVector tail() {
+        return drop(1);
+    }
+
+    @Override
+    default ImmutableNonEmptyIntVector toImmutable() {
+        return this;
+    }
+
+    @Override
+    default Maybe<? extends ImmutableNonEmptyIntVector> toNonEmpty() {
+        return just(this);
+    }
+
+    @Override
+    default ImmutableNonEmptyIntVector toNonEmptyOrThrow() {
+        return this;
+    }
+
+}
@@ -0,0 +1,27 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+
+/**
+ * An {@link LongSet} that is guaranteed at compile-time to be non-empty and safe from mutation anywhere.
+ */
+public interface ImmutableNonEmptyLongSet extends ImmutableLongSet, NonEmptyLongSet, ImmutableNonEmptySet<Long> {
+
+    @Override
+    default ImmutableNonEmptyLongSet toImmutable() {
+        return this;
+    }
+
+    @Override
+    default Maybe<? extends ImmutableNonEmptyLongSet> toNonEmpty() {
+        return just(this);
+    }
+
+    @Override
+    default ImmutableNonEmptyLongSet toNonEmptyOrThrow() {
+        return this;
+    }
+
+}
@@ -0,0 +1,33 @@
+package dev.marksman.collectionviews;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+
+class ImmutableNonEmptyLongSetAdapter extends ConcreteSet<Long> implements ImmutableNonEmptyLongSet {
+    private final ImmutableLongSet underlying;
+
+    ImmutableNonEmptyLongSetAdapter(ImmutableLongSet underlying) {
+        this.underlying = underlying;
+    }
+
+    @Override
+    public int size() {
+        return underlying.size();
+    }
+
+    @Override
+    public boolean containsLong(long element) {
+        return underlying.containsLong(element);
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        return underlying.iterator();
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator() {
+        return underlying.spliterator();
+    }
+
+}
@@ -0,0 +1,39 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.function.LongUnaryOperator;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+
+/**
+ * A {@link LongVector} that is guaranteed at compile-time to be non-empty and safe from mutation anywhere.
+ */
+public interface ImmutableNonEmptyLongVector extends ImmutableLongVector, NonEmptyLongVector, ImmutableNonEmptyVector<Long> {
+
+    @Override
+    default ImmutableNonEmptyLongVector mapLong(LongUnaryOperator f) {
+        return LongVectors.immutableMapLongNonEmpty(f, this);
+    }
+
+    @Override
+    default ImmutableLongVector tail() {
+        return drop(1);
+    }
+
+    @Override
+    default ImmutableNonEmptyLongVector toImmutable() {
+        return this;
+    }
+
+    @Override
+    default Maybe<? extends ImmutableNonEmptyLongVector> toNonEmpty() {
+        return just(this);
+    }
+
+    @Override
+    default ImmutableNonEmptyLongVector toNonEmptyOrThrow() {
+        return this;
+    }
+
+}
@@ -0,0 +1,13 @@
+package dev.marksman.collectionviews;
+
+/**
+ * An {@link ImmutableMemoizedVector} that is guaranteed at compile-time to contain at least one element.
+ *
+ * @param <A> the element type
+ */
+public interface ImmutableNonEmptyMemoizedVector<A> extends ImmutableMemoizedVector<A>, ImmutableNonEmptyVector<A> {
+
+    @Override
+    ImmutableNonEmptyMemoizedVector<A> force();
+
+}
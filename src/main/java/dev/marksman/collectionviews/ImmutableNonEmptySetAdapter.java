@@ -1,6 +1,7 @@
 package dev.marksman.collectionviews;
 
 import java.util.Iterator;
+import java.util.Spliterator;
 
 import static dev.marksman.collectionviews.ProtectedIterator.protectedIterator;
 
@@ -38,4 +39,9 @@ class ImmutableNonEmptySetAdapter<A> extends ConcreteSet<A> implements Immutable
         return protectedIterator(underlying.iterator());
     }
 
+    @Override
+    public Spliterator<A> spliterator() {
+        return underlying.spliterator();
+    }
+
 }
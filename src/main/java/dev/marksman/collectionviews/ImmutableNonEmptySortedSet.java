@@ -0,0 +1,33 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+
+/**
+ * A {@link SortedSet} that is guaranteed at compile-time to be non-empty and safe from mutation anywhere.
+ *
+ * @param <A> the element type
+ */
+public interface ImmutableNonEmptySortedSet<A> extends ImmutableSortedSet<A>, NonEmptySortedSet<A>,
+        ImmutableNonEmptySet<A> {
+
+    @Override
+    ImmutableNonEmptyVector<A> asVector();
+
+    @Override
+    default ImmutableNonEmptySortedSet<A> toImmutable() {
+        return this;
+    }
+
+    @Override
+    default Maybe<? extends ImmutableNonEmptySortedSet<A>> toNonEmpty() {
+        return just(this);
+    }
+
+    @Override
+    default ImmutableNonEmptySortedSet<A> toNonEmptyOrThrow() {
+        return this;
+    }
+
+}
@@ -3,6 +3,10 @@ package dev.marksman.collectionviews;
 import com.jnape.palatable.lambda.adt.Maybe;
 import com.jnape.palatable.lambda.functions.Fn1;
 
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
 import static com.jnape.palatable.lambda.adt.Maybe.just;
 
 /**
@@ -24,6 +28,21 @@ public interface ImmutableNonEmptyVector<A> extends NonEmptyVector<A>, Immutable
         return ImmutableVectors.mapNonEmpty(f, this);
     }
 
+    @Override
+    default ImmutableNonEmptyIntVector mapToInt(ToIntFunction<? super A> f) {
+        return IntVectors.immutableMapToIntNonEmpty(f, this);
+    }
+
+    @Override
+    default ImmutableNonEmptyLongVector mapToLong(ToLongFunction<? super A> f) {
+        return LongVectors.immutableMapToLongNonEmpty(f, this);
+    }
+
+    @Override
+    default ImmutableNonEmptyDoubleVector mapToDouble(ToDoubleFunction<? super A> f) {
+        return DoubleVectors.immutableMapToDoubleNonEmpty(f, this);
+    }
+
     @Override
     default ImmutableVector<A> tail() {
         return drop(1);
@@ -44,4 +63,29 @@ public interface ImmutableNonEmptyVector<A> extends NonEmptyVector<A>, Immutable
         return this;
     }
 
+
+    /**
+     * Returns a new {@link NonEmptyVectorBuilder} that starts with the element {@code first}.
+     *
+     * @param first the first element
+     * @param <A>   the element type
+     * @return a {@code NonEmptyVectorBuilder<A>}
+     */
+    static <A> NonEmptyVectorBuilder<A> builder(A first) {
+        return ArrayVectorBuilder.nonEmptyBuilder(1, first);
+    }
+
+    /**
+     * Returns a new {@link NonEmptyVectorBuilder} that starts with the element {@code first}, and has room for
+     * {@code expectedSize} elements in total.
+     *
+     * @param expectedSize the total number of elements expected, including {@code first}.  Must be &gt;= 0.
+     * @param first        the first element
+     * @param <A>          the element type
+     * @return a {@code NonEmptyVectorBuilder<A>}
+     */
+    static <A> NonEmptyVectorBuilder<A> builder(int expectedSize, A first) {
+        return ArrayVectorBuilder.nonEmptyBuilder(expectedSize, first);
+    }
+
 }
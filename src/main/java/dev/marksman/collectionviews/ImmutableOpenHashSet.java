@@ -0,0 +1,249 @@
+package dev.marksman.collectionviews;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * An {@link ImmutableNonEmptySet} stored in a single flat {@code Object[]} hash table with linear probing.
+ * <p>
+ * The table is sized once, when the set is built, to a power of two at least twice the number of elements, so probe
+ * sequences stay short and no per-element node objects are allocated.  A {@code null} element is stored as a
+ * sentinel, since an empty slot is {@code null}.
+ */
+class ImmutableOpenHashSet<A> extends ConcreteSet<A> implements ImmutableNonEmptySet<A> {
+    private static final Object NULL_ELEMENT = new Object();
+    private static final int MINIMUM_CAPACITY = 4;
+
+    /**
+     * the length of table is a power of two, and at least one slot is always empty
+     */
+    private final Object[] table;
+    private final int size;
+    private final int headSlot;
+
+    private ImmutableOpenHashSet(Object[] table, int size) {
+        this.table = table;
+        this.size = size;
+        int slot = 0;
+        while (table[slot] == null) {
+            slot++;
+        }
+        this.headSlot = slot;
+    }
+
+    @Override
+    public A head() {
+        return element(table[headSlot]);
+    }
+
+    @Override
+    public Iterable<A> tail() {
+        Iterator<A> iterator = iterator();
+        iterator.next();
+        return () -> iterator;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean contains(A element) {
+        Object key = element == null ? NULL_ELEMENT : element;
+        int mask = table.length - 1;
+        for (int slot = slot(key, mask); ; slot = (slot + 1) & mask) {
+            Object candidate = table[slot];
+            if (candidate == null) {
+                return false;
+            } else if (candidate == key || candidate.equals(key)) {
+                return true;
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public Iterator<A> iterator() {
+        return new Iterator<A>() {
+            private int slot = headSlot;
+
+            @Override
+            public boolean hasNext() {
+                return slot < table.length;
+            }
+
+            @Override
+            public A next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                A result = element(table[slot]);
+                do {
+                    slot++;
+                } while (slot < table.length && table[slot] == null);
+                return result;
+            }
+        };
+    }
+
+    /**
+     * Splits by range of table slots, so that a parallel stream divides the work without copying.
+     */
+    @Override
+    public Spliterator<A> spliterator() {
+        return new SlotSpliterator<>(table, headSlot, table.length, size,
+                Spliterator.DISTINCT | Spliterator.IMMUTABLE | Spliterator.SIZED);
+    }
+
+    /**
+     * {@code count} must be &gt;= 1.  If no more than {@link ImmutableSmallSet#MAXIMUM_SIZE} of the elements are
+     * distinct, returns an {@link ImmutableSmallSet} of them instead.
+     */
+    static <A> ImmutableNonEmptySet<A> nonEmptyOpenHashSet(Object[] elements, int count) {
+        Object[] table = new Object[capacityFor(count)];
+        Object[] firstDistinct = new Object[ImmutableSmallSet.MAXIMUM_SIZE];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            if (insert(table, elements[i])) {
+                if (size < firstDistinct.length) {
+                    firstDistinct[size] = elements[i];
+                }
+                size++;
+            }
+        }
+        if (size <= ImmutableSmallSet.MAXIMUM_SIZE) {
+            return ImmutableSmallSet.distinctSmallSet(Arrays.copyOf(firstDistinct, size));
+        } else if (capacityFor(size) < table.length / 2) {
+            table = rehash(table, capacityFor(size));
+        }
+        return new ImmutableOpenHashSet<>(table, size);
+    }
+
+    private static boolean insert(Object[] table, Object element) {
+        Object key = element == null ? NULL_ELEMENT : element;
+        int mask = table.length - 1;
+        for (int slot = slot(key, mask); ; slot = (slot + 1) & mask) {
+            Object candidate = table[slot];
+            if (candidate == null) {
+                table[slot] = key;
+                return true;
+            } else if (candidate == key || candidate.equals(key)) {
+                return false;
+            }
+        }
+    }
+
+    private static Object[] rehash(Object[] table, int capacity) {
+        Object[] result = new Object[capacity];
+        for (Object key : table) {
+            if (key != null) {
+                insert(result, key == NULL_ELEMENT ? null : key);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Spreads the hash with a Fibonacci multiplier so that keys with similar hash codes, such as small
+     * {@code Integer}s, do not form long runs under linear probing.
+     */
+    private static int slot(Object key, int mask) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    /**
+     * The smallest power of two that keeps the load factor at or below one half.
+     */
+    private static int capacityFor(int count) {
+        if (count > (1 << 29)) throw new IllegalArgumentException("too many elements to fit in a single set");
+        return Math.max(MINIMUM_CAPACITY, Integer.highestOneBit(Math.max(count * 2 - 1, 1)) << 1);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A> A element(Object key) {
+        return key == NULL_ELEMENT ? null : (A) key;
+    }
+
+    /**
+     * A {@link Spliterator} over a range of slots of a table, skipping empty ones.  Only the spliterator for the
+     * whole table knows its exact size; each half of a split estimates half of the remaining elements.
+     */
+    private static final class SlotSpliterator<A> implements Spliterator<A> {
+        private final Object[] table;
+        private final int fence;
+        private int characteristics;
+        private int slot;
+        private long estimate;
+
+        SlotSpliterator(Object[] table, int origin, int fence, long estimate, int characteristics) {
+            this.table = table;
+            this.slot = origin;
+            this.fence = fence;
+            this.estimate = estimate;
+            this.characteristics = characteristics;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super A> action) {
+            Objects.requireNonNull(action);
+            while (slot < fence) {
+                Object key = table[slot++];
+                if (key != null) {
+                    estimate = Math.max(estimate - 1, 0);
+                    action.accept(element(key));
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super A> action) {
+            Objects.requireNonNull(action);
+            Object[] t = table;
+            int hi = fence;
+            int i = slot;
+            slot = hi;
+            estimate = 0;
+            for (; i < hi; i++) {
+                Object key = t[i];
+                if (key != null) {
+                    action.accept(element(key));
+                }
+            }
+        }
+
+        @Override
+        public Spliterator<A> trySplit() {
+            int lo = slot;
+            int mid = (lo + fence) >>> 1;
+            if (lo >= mid) {
+                return null;
+            } else {
+                slot = mid;
+                estimate >>>= 1;
+                characteristics &= ~SIZED;
+                return new SlotSpliterator<>(table, lo, mid, estimate, DISTINCT | IMMUTABLE);
+            }
+        }
+
+        @Override
+        public long estimateSize() {
+            return estimate;
+        }
+
+        @Override
+        public int characteristics() {
+            return characteristics;
+        }
+    }
+
+}
@@ -0,0 +1,30 @@
+package dev.marksman.collectionviews;
+
+class ImmutablePackedBooleanVector extends ConcreteVector<Boolean> implements ImmutableBooleanVector {
+    private static final ImmutablePackedBooleanVector EMPTY = new ImmutablePackedBooleanVector(PackedBits.empty());
+
+    private final PackedBits bits;
+
+    ImmutablePackedBooleanVector(PackedBits bits) {
+        this.bits = bits;
+    }
+
+    @Override
+    public int size() {
+        return bits.size();
+    }
+
+    @Override
+    public boolean unsafeGetBoolean(int index) {
+        return bits.get(index);
+    }
+
+    PackedBits bits() {
+        return bits;
+    }
+
+    static ImmutablePackedBooleanVector emptyBooleanVector() {
+        return EMPTY;
+    }
+
+}
@@ -2,6 +2,11 @@ package dev.marksman.collectionviews;
 
 import com.jnape.palatable.lambda.adt.Maybe;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
 public interface ImmutableSet<A> extends Set<A>, Immutable {
 
     @Override
@@ -19,4 +24,29 @@ public interface ImmutableSet<A> extends Set<A>, Immutable {
         return ImmutableSets.nonEmptyConvertOrThrow(this);
     }
 
+    /**
+     * Returns a {@link Spliterator} over the elements of this {@link ImmutableSet}.
+     * <p>
+     * In addition to the characteristics reported for any {@link Set}, also reports {@link Spliterator#IMMUTABLE}.
+     *
+     * @return a {@code Spliterator<A>}
+     */
+    @Override
+    default Spliterator<A> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.DISTINCT | Spliterator.IMMUTABLE);
+    }
+
+    /**
+     * Writes this {@link ImmutableSet} to {@code out} in the library's binary format, using {@code codec}
+     * to write each element.  Read it back with {@link Set#readFrom}.
+     * Does not close {@code out}.
+     *
+     * @param codec the codec used to write each element
+     * @param out   the destination
+     * @throws IOException if {@code out} or {@code codec} throws
+     */
+    default void writeTo(ElementCodec<? super A> codec, OutputStream out) throws IOException {
+        BinaryFormat.writeSet(codec, this, out);
+    }
+
 }
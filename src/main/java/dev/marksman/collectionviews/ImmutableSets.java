@@ -3,12 +3,10 @@ package dev.marksman.collectionviews;
 import com.jnape.palatable.lambda.adt.Maybe;
 import com.jnape.palatable.lambda.functions.builtin.fn2.Take;
 
-import java.util.HashSet;
 import java.util.Objects;
 
 import static com.jnape.palatable.lambda.adt.Maybe.just;
 import static com.jnape.palatable.lambda.adt.Maybe.nothing;
-import static com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection.toCollection;
 
 class ImmutableSets {
 
@@ -16,10 +14,9 @@ class ImmutableSets {
         Objects.requireNonNull(source);
         if (source instanceof ImmutableSet<?>) {
             return (ImmutableSet<A>) source;
-        } else if (!source.iterator().hasNext()) {
-            return Sets.empty();
         } else {
-            return new ImmutableWrappedSet<>(toCollection(HashSet::new, source));
+            Object[] elements = VectorCopies.copyToArray(source);
+            return fromArray(elements, elements.length);
         }
     }
 
@@ -125,11 +122,9 @@ class ImmutableSets {
     static <A> ImmutableSet<A> ensureImmutable(Set<A> set) {
         if (set instanceof ImmutableSet<?>) {
             return (ImmutableSet<A>) set;
-        } else if (set.isEmpty()) {
-            return Sets.empty();
         } else {
-            HashSet<A> copied = toCollection(HashSet::new, set);
-            return new ImmutableWrappedSet<>(copied);
+            Object[] elements = VectorCopies.copyToArray(set);
+            return fromArray(elements, elements.length);
         }
     }
 
@@ -137,8 +132,30 @@ class ImmutableSets {
         if (set instanceof ImmutableNonEmptySet<?>) {
             return (ImmutableNonEmptySet<A>) set;
         } else {
-            HashSet<A> copied = toCollection(HashSet::new, set);
-            return new ImmutableWrappedSet<>(copied);
+            Object[] elements = VectorCopies.copyToArray(set);
+            return nonEmptyFromArray(elements, elements.length);
+        }
+    }
+
+    /**
+     * Builds a set of the distinct elements among the first {@code count} of {@code elements}, choosing the
+     * representation by element type and size.
+     */
+    static <A> ImmutableSet<A> fromArray(Object[] elements, int count) {
+        return count == 0 ? Sets.empty() : nonEmptyFromArray(elements, count);
+    }
+
+    /**
+     * {@code count} must be &gt;= 1
+     */
+    static <A> ImmutableNonEmptySet<A> nonEmptyFromArray(Object[] elements, int count) {
+        Class<?> enumType = EnumSets.commonEnumType(elements, count);
+        if (enumType != null) {
+            return ImmutableEnumSet.nonEmptyEnumSet(enumType, elements, count);
+        } else if (count <= ImmutableSmallSet.MAXIMUM_SIZE) {
+            return ImmutableSmallSet.immutableSmallSet(elements, count);
+        } else {
+            return ImmutableOpenHashSet.nonEmptyOpenHashSet(elements, count);
         }
     }
 
@@ -0,0 +1,120 @@
+package dev.marksman.collectionviews;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+/**
+ * An {@link ImmutableNonEmptySet} of a handful of elements, kept in an array and searched linearly.
+ * <p>
+ * For sets this small, a few {@code equals} checks are cheaper than hashing, and there is no table to allocate.
+ * See {@link ImmutableSmallSet#MAXIMUM_SIZE}.
+ */
+class ImmutableSmallSet<A> extends ConcreteSet<A> implements ImmutableNonEmptySet<A> {
+    /**
+     * Sets of at most this many distinct elements use this class; larger ones use {@link ImmutableOpenHashSet}.
+     */
+    static final int MAXIMUM_SIZE = 8;
+
+    private final A head;
+    /**
+     * distinct elements, the first of which is head
+     */
+    private final Object[] elements;
+
+    private ImmutableSmallSet(Object[] elements) {
+        this.elements = elements;
+        this.head = element(0);
+    }
+
+    @Override
+    public A head() {
+        return head;
+    }
+
+    @Override
+    public Iterable<A> tail() {
+        Iterator<A> iterator = iterator();
+        iterator.next();
+        return () -> iterator;
+    }
+
+    @Override
+    public int size() {
+        return elements.length;
+    }
+
+    @Override
+    public boolean contains(A element) {
+        for (Object candidate : elements) {
+            if (Objects.equals(candidate, element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public Iterator<A> iterator() {
+        return new Iterator<A>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < elements.length;
+            }
+
+            @Override
+            public A next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                return element(index++);
+            }
+        };
+    }
+
+    @Override
+    public Spliterator<A> spliterator() {
+        return Spliterators.spliterator(elements, Spliterator.DISTINCT | Spliterator.IMMUTABLE);
+    }
+
+    @SuppressWarnings("unchecked")
+    private A element(int index) {
+        return (A) elements[index];
+    }
+
+    /**
+     * {@code count} must be between 1 and {@link ImmutableSmallSet#MAXIMUM_SIZE}
+     */
+    static <A> ImmutableSmallSet<A> immutableSmallSet(Object[] elements, int count) {
+        Object[] distinct = new Object[count];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            Object element = elements[i];
+            boolean duplicate = false;
+            for (int j = 0; j < size && !duplicate; j++) {
+                duplicate = Objects.equals(distinct[j], element);
+            }
+            if (!duplicate) {
+                distinct[size++] = element;
+            }
+        }
+        return new ImmutableSmallSet<>(size == count ? distinct : Arrays.copyOf(distinct, size));
+    }
+
+    /**
+     * {@code distinct} must hold between 1 and {@link ImmutableSmallSet#MAXIMUM_SIZE} distinct elements, and is not
+     * copied
+     */
+    static <A> ImmutableSmallSet<A> distinctSmallSet(Object[] distinct) {
+        return new ImmutableSmallSet<>(distinct);
+    }
+
+}
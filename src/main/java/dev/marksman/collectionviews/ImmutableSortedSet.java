@@ -0,0 +1,42 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.Spliterator;
+
+/**
+ * A {@link SortedSet} that is guaranteed at compile-time to be safe from mutation anywhere.
+ *
+ * @param <A> the element type
+ */
+public interface ImmutableSortedSet<A> extends SortedSet<A>, ImmutableSet<A> {
+
+    @Override
+    ImmutableVector<A> asVector();
+
+    @Override
+    default ImmutableSortedSet<A> subSet(A fromElement, A toElement) {
+        return SortedSets.immutableSubSet(fromElement, toElement, this);
+    }
+
+    @Override
+    default Spliterator<A> spliterator() {
+        return new SortedSetSpliterator<>(asVector().spliterator(), comparator(), Spliterator.IMMUTABLE);
+    }
+
+    @Override
+    default ImmutableSortedSet<A> toImmutable() {
+        return this;
+    }
+
+    @Override
+    default Maybe<? extends ImmutableNonEmptySortedSet<A>> toNonEmpty() {
+        return SortedSets.tryNonEmptyConvert(this);
+    }
+
+    @Override
+    default ImmutableNonEmptySortedSet<A> toNonEmptyOrThrow() {
+        return SortedSets.nonEmptyConvertOrThrow(this);
+    }
+
+}
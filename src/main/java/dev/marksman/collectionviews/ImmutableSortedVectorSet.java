@@ -0,0 +1,38 @@
+package dev.marksman.collectionviews;
+
+import java.util.Comparator;
+
+/**
+ * An {@link ImmutableNonEmptySortedSet} view of an {@link ImmutableNonEmptyVector} that is sorted and distinct.
+ * Copies made by {@link SortedSets#copyFrom} are backed by a trimmed array, so cost one reference per element.
+ */
+class ImmutableSortedVectorSet<A> extends ConcreteSet<A> implements ImmutableNonEmptySortedSet<A> {
+    private final Comparator<? super A> comparator;
+    private final ImmutableNonEmptyVector<A> elements;
+
+    ImmutableSortedVectorSet(Comparator<? super A> comparator, ImmutableNonEmptyVector<A> elements) {
+        this.comparator = comparator;
+        this.elements = elements;
+    }
+
+    @Override
+    public Comparator<? super A> comparator() {
+        return comparator;
+    }
+
+    @Override
+    public ImmutableNonEmptyVector<A> asVector() {
+        return elements;
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public boolean contains(A element) {
+        return SortedSets.contains(element, comparator, elements);
+    }
+
+}
@@ -0,0 +1,52 @@
+package dev.marksman.collectionviews;
+
+class ImmutableStringVector extends ConcreteVector<Character> implements ImmutableCharVector, CheapRandomAccess {
+    private final String underlying;
+    private final int offset;
+    private final int size;
+
+    ImmutableStringVector(String underlying, int offset, int size) {
+        this.underlying = underlying;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public char unsafeGetChar(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return underlying.charAt(offset + index);
+    }
+
+    /**
+     * Uses {@link String#indexOf(int, int)}, which the JVM treats as an intrinsic.
+     */
+    @Override
+    public int indexOf(char value, int fromIndex) {
+        if (fromIndex < 0) throw new IllegalArgumentException("fromIndex must be >= 0");
+        if (fromIndex >= size) {
+            return -1;
+        }
+        int found = underlying.indexOf(value, offset + fromIndex);
+        return found < 0 || found >= offset + size ? -1 : found - offset;
+    }
+
+    @Override
+    public void copyInto(char[] destination, int destinationOffset) {
+        if (destinationOffset < 0 || destinationOffset > destination.length - size) {
+            throw new IndexOutOfBoundsException();
+        }
+        underlying.getChars(offset, offset + size, destination, destinationOffset);
+    }
+
+    ImmutableStringVector stringSlice(int startIndex, int count) {
+        return new ImmutableStringVector(underlying, offset + startIndex, count);
+    }
+
+}
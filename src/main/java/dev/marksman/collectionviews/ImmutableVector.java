@@ -3,6 +3,13 @@ package dev.marksman.collectionviews;
 import com.jnape.palatable.lambda.adt.Maybe;
 import com.jnape.palatable.lambda.functions.Fn1;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Spliterator;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
 /**
  * A {@link Vector} that is guaranteed at compile-time to safe from mutation anywhere.  In other words,
  * it owns the sole reference to the underlying collection.
@@ -10,11 +17,13 @@ import com.jnape.palatable.lambda.functions.Fn1;
  * In addition to guarantees of {@link Vector}, provides the following benefits :
  * <ul>
  * <li>{@link ImmutableVector#fmap} always returns a {@code ImmutableVector}.</li>
+ * <li>{@link ImmutableVector#fmapMemoized} always returns a {@code ImmutableMemoizedVector}.</li>
  * <li>{@link ImmutableVector#tail} always returns a {@code ImmutableVector}.</li>
  * <li>{@link ImmutableVector#take} always returns a {@code ImmutableVector}.</li>
  * <li>{@link ImmutableVector#drop} always returns a {@code ImmutableVector}.</li>
  * <li>{@link ImmutableVector#slice} always returns a {@code ImmutableVector}.</li>
  * <li>{@link ImmutableVector#toImmutable} always returns itself.</li>
+ * <li>{@code hashCode} is computed once, on first use, and cached.</li>
  * </ul>
  *
  * @param <A> the element type
@@ -31,11 +40,48 @@ public interface ImmutableVector<A> extends Vector<A>, Immutable {
         return ImmutableVectors.map(f, this);
     }
 
+    @Override
+    default ImmutableIntVector mapToInt(ToIntFunction<? super A> f) {
+        return IntVectors.immutableMapToInt(f, this);
+    }
+
+    @Override
+    default ImmutableLongVector mapToLong(ToLongFunction<? super A> f) {
+        return LongVectors.immutableMapToLong(f, this);
+    }
+
+    @Override
+    default ImmutableDoubleVector mapToDouble(ToDoubleFunction<? super A> f) {
+        return DoubleVectors.immutableMapToDouble(f, this);
+    }
+
+    @Override
+    default <B> ImmutableMemoizedVector<B> fmapMemoized(Fn1<? super A, ? extends B> f) {
+        return ImmutableVectors.mapMemoized(f, this);
+    }
+
+    @Override
+    default <B> ImmutableMemoizedVector<B> fmapMemoized(int cacheSize, Fn1<? super A, ? extends B> f) {
+        return ImmutableVectors.mapMemoized(cacheSize, f, this);
+    }
+
     @Override
     default ImmutableVector<A> slice(int startIndex, int endIndexExclusive) {
         return ImmutableVectors.slice(startIndex, endIndexExclusive, this);
     }
 
+    /**
+     * Returns a {@link Spliterator} over the elements of this {@link ImmutableVector}.
+     * <p>
+     * In addition to the characteristics reported for any {@link Vector}, also reports {@link Spliterator#IMMUTABLE}.
+     *
+     * @return a {@code Spliterator<A>}
+     */
+    @Override
+    default Spliterator<A> spliterator() {
+        return VectorSpliterator.immutableVectorSpliterator(this);
+    }
+
     @Override
     default ImmutableVector<A> tail() {
         return drop(1);
@@ -61,4 +107,60 @@ public interface ImmutableVector<A> extends Vector<A>, Immutable {
         return ImmutableVectors.nonEmptyConvertOrThrow(this);
     }
 
+    /**
+     * Writes this {@link ImmutableVector} to {@code out} in the library's binary format, using {@code codec}
+     * to write each element.  Read it back with {@link Vector#readFrom}.
+     * <p>
+     * A vector created by {@link Vector#fill} is written as its size and single repeated element.
+     * Does not close {@code out}.
+     *
+     * @param codec the codec used to write each element
+     * @param out   the destination
+     * @throws IOException if {@code out} or {@code codec} throws
+     */
+    default void writeTo(ElementCodec<? super A> codec, OutputStream out) throws IOException {
+        BinaryFormat.writeVector(codec, this, out);
+    }
+
+    /**
+     * Writes this {@link ImmutableVector} to {@code out} in the library's indexed binary format, using {@code codec}
+     * to write each element.
+     * <p>
+     * The indexed format adds a table of four-byte offsets, one per element, so that a reader holding the bytes
+     * in memory can decode any element on demand with {@link Vector#viewSerialized}.
+     * It can also be read eagerly with {@link Vector#readFrom}.
+     * Does not close {@code out}.
+     *
+     * @param codec the codec used to write each element
+     * @param out   the destination
+     * @throws IOException if {@code out} or {@code codec} throws
+     */
+    default void writeIndexedTo(ElementCodec<? super A> codec, OutputStream out) throws IOException {
+        BinaryFormat.writeIndexedVector(codec, this, out);
+    }
+
+    /**
+     * Returns a new, empty {@link VectorBuilder}.
+     *
+     * @param <A> the element type
+     * @return a {@code VectorBuilder<A>}
+     */
+    static <A> VectorBuilder<A> builder() {
+        return ArrayVectorBuilder.emptyBuilder(0);
+    }
+
+    /**
+     * Returns a new, empty {@link VectorBuilder} with room for {@code expectedSize} elements.
+     * <p>
+     * If exactly {@code expectedSize} elements are added, {@link VectorBuilder#build} wraps the builder's array
+     * without any copy.  Adding more is allowed, and grows the array as needed.
+     *
+     * @param expectedSize the number of elements expected to be added.  Must be &gt;= 0.
+     * @param <A>          the element type
+     * @return a {@code VectorBuilder<A>}
+     */
+    static <A> VectorBuilder<A> builder(int expectedSize) {
+        return ArrayVectorBuilder.emptyBuilder(expectedSize);
+    }
+
 }
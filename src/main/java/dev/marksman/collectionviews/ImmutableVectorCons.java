@@ -1,31 +1,80 @@
 package dev.marksman.collectionviews;
 
+import java.util.Iterator;
+
+/**
+ * An {@link ImmutableNonEmptyVector} consisting of one or more leading elements followed by a base
+ * {@link ImmutableVector}.  See {@link VectorCons}.
+ */
 class ImmutableVectorCons<A> extends ConcreteVector<A> implements ImmutableNonEmptyVector<A> {
-    private final A head;
-    private final ImmutableVector<A> tail;
+    /**
+     * prefix must contain at least one element
+     */
+    private final Object[] prefix;
+    private final ImmutableVector<A> base;
+    private final int size;
 
-    ImmutableVectorCons(A head, ImmutableVector<A> tail) {
-        this.head = head;
-        this.tail = tail;
+    private ImmutableVectorCons(Object[] prefix, ImmutableVector<A> base) {
+        this.prefix = prefix;
+        this.base = base;
+        this.size = prefix.length + base.size();
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public A head() {
-        return head;
+        return (A) prefix[0];
     }
 
     @Override
     public int size() {
-        return 1 + tail.size();
+        return size;
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public A unsafeGet(int index) {
-        if (index < 0 || index >= size()) throw new IndexOutOfBoundsException();
-        if (index == 0) {
-            return head;
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        if (index < prefix.length) {
+            return (A) prefix[index];
+        } else {
+            return base.unsafeGet(index - prefix.length);
+        }
+    }
+
+    @Override
+    public Iterator<A> iterator() {
+        return Vectors.consIterator(prefix, base);
+    }
+
+    boolean hasCheapRandomAccess() {
+        return Vectors.hasCheapRandomAccess(base);
+    }
+
+    static <A> ImmutableVectorCons<A> immutableVectorCons(A head, ImmutableVector<A> tail) {
+        if (tail instanceof ImmutableVectorCons<?>) {
+            ImmutableVectorCons<A> source = (ImmutableVectorCons<A>) tail;
+            return new ImmutableVectorCons<>(VectorCons.consPrefix(head, source.prefix), source.base);
+        } else {
+            return new ImmutableVectorCons<>(new Object[]{head}, tail);
+        }
+    }
+
+    /**
+     * {@code size} must be &gt;= 1, and {@code offset + size} must not exceed the size of {@code source}.
+     */
+    static <A> ImmutableVector<A> consSlice(int offset, int size, ImmutableVectorCons<A> source) {
+        int prefixLength = source.prefix.length;
+        if (offset >= prefixLength) {
+            return ImmutableVectorSlice.immutableVectorSlice(offset - prefixLength, size, source.base);
         } else {
-            return tail.unsafeGet(index - 1);
+            int fromPrefix = Math.min(prefixLength - offset, size);
+            Object[] prefix = new Object[fromPrefix];
+            System.arraycopy(source.prefix, offset, prefix, 0, fromPrefix);
+            int fromBase = size - fromPrefix;
+            return new ImmutableVectorCons<>(prefix, fromBase > 0
+                    ? ImmutableVectorSlice.immutableVectorSlice(0, fromBase, source.base)
+                    : Vectors.empty());
         }
     }
 
@@ -1,11 +1,13 @@
 package dev.marksman.collectionviews;
 
+import java.util.Iterator;
+
 class ImmutableVectorSlice<A> extends ConcreteVector<A> implements ImmutableVector<A> {
     private final int offset;
     private final int size;
     private final ImmutableVector<A> underlying;
 
-    ImmutableVectorSlice(int offset, int size, ImmutableVector<A> underlying) {
+    private ImmutableVectorSlice(int offset, int size, ImmutableVector<A> underlying) {
         this.offset = offset;
         this.size = size;
         this.underlying = underlying;
@@ -22,4 +24,52 @@ class ImmutableVectorSlice<A> extends ConcreteVector<A> implements ImmutableVect
         return underlying.unsafeGet(offset + index);
     }
 
+    void copyInto(int from, Object[] target, int targetOffset, int count) {
+        Vectors.copyInto(underlying, offset + from, target, targetOffset, count);
+    }
+
+    /**
+     * Reads through the iterator of {@code underlying} if it does not have cheap random access.
+     */
+    @Override
+    public Iterator<A> iterator() {
+        return hasCheapRandomAccess()
+                ? new VectorIterator<>(this)
+                : Vectors.sliceIterator(underlying, offset, size);
+    }
+
+    boolean hasCheapRandomAccess() {
+        return Vectors.hasCheapRandomAccess(underlying);
+    }
+
+    /**
+     * Creates a slice of {@code underlying}, folding nested slices into a single slice over the original base.
+     * See {@link VectorSlice#vectorSlice}.
+     * <p>
+     * {@code size} must be &gt;= 1, and {@code offset + size} must not exceed the size of {@code underlying}.
+     */
+    @SuppressWarnings("unchecked")
+    static <A> ImmutableVector<A> immutableVectorSlice(int offset, int size, ImmutableVector<A> underlying) {
+        if (underlying instanceof ImmutableVectorSlice<?>) {
+            ImmutableVectorSlice<A> source = (ImmutableVectorSlice<A>) underlying;
+            return new ImmutableVectorSlice<>(source.offset + offset, size, source.underlying);
+        } else if (underlying instanceof RepeatingVector<?>) {
+            return new RepeatingVector<>(size, ((RepeatingVector<A>) underlying).head());
+        } else if (underlying instanceof ImmutableVectorCons<?>) {
+            return ImmutableVectorCons.consSlice(offset, size, (ImmutableVectorCons<A>) underlying);
+        } else if (underlying instanceof ImmutableMappedVector<?>) {
+            return ImmutableMappedVector.mappedSlice(offset, size, (ImmutableMappedVector<A>) underlying);
+        } else if (underlying instanceof ImmutableBufferVector<?>) {
+            return ImmutableBufferVector.bufferSlice(offset, size, (ImmutableBufferVector<A>) underlying);
+        } else if (underlying instanceof ChunkedBufferVector<?>) {
+            return ChunkedBufferVector.chunkedSlice(offset, size, (ChunkedBufferVector<A>) underlying);
+        } else if (underlying instanceof SerializedVector<?>) {
+            return SerializedVector.serializedSlice(offset, size, (SerializedVector<A>) underlying);
+        } else if (underlying instanceof RrbVector<?>) {
+            return RrbVector.rrbSlice(offset, size, (RrbVector<A>) underlying);
+        } else {
+            return new ImmutableVectorSlice<>(offset, size, underlying);
+        }
+    }
+
 }
@@ -2,16 +2,13 @@ package dev.marksman.collectionviews;
 
 import com.jnape.palatable.lambda.adt.Maybe;
 import com.jnape.palatable.lambda.functions.Fn1;
-import com.jnape.palatable.lambda.functions.builtin.fn2.Take;
 
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
 
 import static com.jnape.palatable.lambda.adt.Maybe.just;
 import static com.jnape.palatable.lambda.adt.Maybe.nothing;
-import static com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection.toCollection;
 import static dev.marksman.collectionviews.MapperChain.mapperChain;
 
 class ImmutableVectors {
@@ -37,31 +34,40 @@ class ImmutableVectors {
         } else {
             int available = Math.max(sourceSize - startIndex, 0);
             int sliceSize = Math.min(available, requestedSize);
-            return new ImmutableVectorSlice<>(startIndex, sliceSize, source);
+            return ImmutableVectorSlice.immutableVectorSlice(startIndex, sliceSize, source);
         }
     }
 
-    private static <A> Maybe<ImmutableNonEmptyVector<A>> tryNonEmptyWrap(ImmutableVector<A> vec) {
-        Objects.requireNonNull(vec);
-        if (vec instanceof NonEmptyVector<?>) {
-            return just((ImmutableNonEmptyVector<A>) vec);
-        } else if (!vec.isEmpty()) {
-            return just(new ImmutableVectorCons<>(vec.unsafeGet(0), vec.tail()));
+    @SuppressWarnings("unchecked")
+    static <A, B> ImmutableVector<B> map(Fn1<? super A, ? extends B> f, ImmutableVector<A> source) {
+        Objects.requireNonNull(f);
+        if (source.isEmpty()) {
+            return Vectors.empty();
         } else {
-            return nothing();
+            return new ImmutableMappedVector<>(mapperChain((Fn1<Object, Object>) f),
+                    (ImmutableVector<Object>) source);
         }
     }
 
-    static <A, B> ImmutableVector<B> map(Fn1<? super A, ? extends B> f, ImmutableVector<A> source) {
-        return tryNonEmptyWrap(source)
-                .match(__ -> Vectors.empty(),
-                        nonEmpty -> mapNonEmpty(f, nonEmpty));
+    @SuppressWarnings("unchecked")
+    static <A, B> ImmutableMemoizedVector<B> mapMemoized(Fn1<? super A, ? extends B> f, ImmutableVector<A> source) {
+        Objects.requireNonNull(f);
+        return new ImmutableMemoizedMappedVector<>(MemoTable.denseMemoTable(source.size()),
+                (Fn1<Object, Object>) f, (ImmutableVector<Object>) source);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A, B> ImmutableMemoizedVector<B> mapMemoized(int cacheSize, Fn1<? super A, ? extends B> f,
+                                                         ImmutableVector<A> source) {
+        Objects.requireNonNull(f);
+        return new ImmutableMemoizedMappedVector<>(MemoTable.boundedMemoTable(source.size(), cacheSize),
+                (Fn1<Object, Object>) f, (ImmutableVector<Object>) source);
     }
 
     @SuppressWarnings("unchecked")
     static <A, B> ImmutableNonEmptyVector<B> mapNonEmpty(Fn1<? super A, ? extends B> f, ImmutableNonEmptyVector<A> source) {
         return new ImmutableMappedVector<>(mapperChain((Fn1<Object, Object>) f),
-                (ImmutableNonEmptyVector<Object>) source);
+                (ImmutableVector<Object>) source);
     }
 
     static <A> ImmutableVector<A> wrapAndVouchFor(A[] arr) {
@@ -124,7 +130,6 @@ class ImmutableVectors {
     @SuppressWarnings("unchecked")
     static <A> Maybe<ImmutableNonEmptyVector<A>> tryNonEmptyCopyFrom(Iterable<A> source) {
         Objects.requireNonNull(source);
-        if (source.iterator().hasNext()) return nothing();
         return (Maybe<ImmutableNonEmptyVector<A>>) copyFrom(source).toNonEmpty();
     }
 
@@ -133,7 +138,6 @@ class ImmutableVectors {
         Objects.requireNonNull(source);
         if (maxCount < 0) throw new IllegalArgumentException("maxCount must be >= 0");
         if (maxCount == 0) return nothing();
-        if (source.iterator().hasNext()) return nothing();
         return (Maybe<ImmutableNonEmptyVector<A>>) copyFrom(maxCount, source).toNonEmpty();
     }
 
@@ -142,7 +146,7 @@ class ImmutableVectors {
         if (vec instanceof NonEmptyVector<?>) {
             return just((NonEmptyVector<A>) vec);
         } else if (!vec.isEmpty()) {
-            return just(new VectorCons<>(vec.unsafeGet(0), vec.tail()));
+            return just(VectorCons.vectorCons(vec.unsafeGet(0), vec.tail()));
         } else {
             return nothing();
         }
@@ -153,7 +157,7 @@ class ImmutableVectors {
         if (vec instanceof ImmutableNonEmptyVector<?>) {
             return just((ImmutableNonEmptyVector<A>) vec);
         } else if (!vec.isEmpty()) {
-            return just(new ImmutableVectorCons<>(vec.unsafeGet(0), vec.tail()));
+            return just(ImmutableVectorCons.immutableVectorCons(vec.unsafeGet(0), vec.tail()));
         } else {
             return nothing();
         }
@@ -182,11 +186,8 @@ class ImmutableVectors {
     static <A> ImmutableVector<A> ensureImmutable(Vector<A> vector) {
         if (vector instanceof ImmutableVector<?>) {
             return (ImmutableVector<A>) vector;
-        } else if (vector.isEmpty()) {
-            return Vectors.empty();
         } else {
-            ArrayList<A> copied = toCollection(ArrayList::new, vector);
-            return wrapAndVouchFor(copied);
+            return ImmutableVector.<A>builder(vector.size()).addAll(vector).build();
         }
     }
 
@@ -194,8 +195,7 @@ class ImmutableVectors {
         if (vector instanceof ImmutableNonEmptyVector<?>) {
             return (ImmutableNonEmptyVector<A>) vector;
         } else {
-            ArrayList<A> copied = toCollection(ArrayList::new, vector);
-            return new ImmutableListVector<>(copied);
+            return ImmutableVector.<A>builder(vector.size()).addAll(vector).build().toNonEmptyOrThrow();
         }
     }
 
@@ -203,11 +203,8 @@ class ImmutableVectors {
         Objects.requireNonNull(source);
         if (source instanceof ImmutableVector<?>) {
             return (ImmutableVector<A>) source;
-        } else if (!source.iterator().hasNext()) {
-            return Vectors.empty();
         } else {
-            ArrayList<A> copied = toCollection(ArrayList::new, source);
-            return wrapAndVouchFor(copied);
+            return VectorCopies.copy(source);
         }
     }
 
@@ -218,7 +215,7 @@ class ImmutableVectors {
         if (source instanceof ImmutableVector<?>) {
             return ((ImmutableVector<A>) source).take(maxCount);
         } else {
-            return copyFrom(Take.take(maxCount, source));
+            return VectorCopies.copyPrefix(maxCount, source);
         }
     }
 
@@ -229,7 +226,7 @@ class ImmutableVectors {
         if (source instanceof ImmutableVector<?>) {
             return ((ImmutableVector<A>) source).slice(startIndex, endIndexExclusive);
         } else {
-            return Vectors.sliceFromIterable(startIndex, endIndexExclusive, source).toImmutable();
+            return VectorCopies.copySlice(startIndex, Math.max(endIndexExclusive - startIndex, 0), source);
         }
     }
 
@@ -0,0 +1,38 @@
+package dev.marksman.collectionviews;
+
+import java.util.function.IntToDoubleFunction;
+
+/**
+ * A {@link DoubleVector} whose elements are computed from their indices.  Used for views that
+ * are not backed directly by an array, such as mapped vectors and slices of them.
+ */
+class IndexedDoubleVector extends ConcreteVector<Double> implements NonEmptyDoubleVector {
+    private final int offset;
+    /**
+     * must be >= 1
+     */
+    private final int size;
+    private final IntToDoubleFunction valueAt;
+
+    IndexedDoubleVector(int offset, int size, IntToDoubleFunction valueAt) {
+        this.offset = offset;
+        this.size = size;
+        this.valueAt = valueAt;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public double unsafeGetDouble(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        return valueAt.applyAsDouble(offset + index);
+    }
+
+    static IndexedDoubleVector indexedSlice(int offset, int size, IndexedDoubleVector source) {
+        return new IndexedDoubleVector(source.offset + offset, size, source.valueAt);
+    }
+
+}
@@ -0,0 +1,38 @@
+package dev.marksman.collectionviews;
+
+import java.util.function.IntUnaryOperator;
+
+/**
+ * An {@link IntVector} whose elements are computed from their indices.  Used for views that
+ * are not backed directly by an array, such as mapped vectors and slices of them.
+ */
+class IndexedIntVector extends ConcreteVector<Integer> implements NonEmptyIntVector {
+    private final int offset;
+    /**
+     * must be >= 1
+     */
+    private final int size;
+    private final IntUnaryOperator valueAt;
+
+    IndexedIntVector(int offset, int size, IntUnaryOperator valueAt) {
+        this.offset = offset;
+        this.size = size;
+        this.valueAt = valueAt;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int unsafeGetInt(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        return valueAt.applyAsInt(offset + index);
+    }
+
+    static IndexedIntVector indexedSlice(int offset, int size, IndexedIntVector source) {
+        return new IndexedIntVector(source.offset + offset, size, source.valueAt);
+    }
+
+}
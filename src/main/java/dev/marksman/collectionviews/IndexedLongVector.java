@@ -0,0 +1,38 @@
+package dev.marksman.collectionviews;
+
+import java.util.function.IntToLongFunction;
+
+/**
+ * A {@link LongVector} whose elements are computed from their indices.  Used for views that
+ * are not backed directly by an array, such as mapped vectors and slices of them.
+ */
+class IndexedLongVector extends ConcreteVector<Long> implements NonEmptyLongVector {
+    private final int offset;
+    /**
+     * must be >= 1
+     */
+    private final int size;
+    private final IntToLongFunction valueAt;
+
+    IndexedLongVector(int offset, int size, IntToLongFunction valueAt) {
+        this.offset = offset;
+        this.size = size;
+        this.valueAt = valueAt;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long unsafeGetLong(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        return valueAt.applyAsLong(offset + index);
+    }
+
+    static IndexedLongVector indexedSlice(int offset, int size, IndexedLongVector source) {
+        return new IndexedLongVector(source.offset + offset, size, source.valueAt);
+    }
+
+}
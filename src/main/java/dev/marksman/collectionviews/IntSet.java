@@ -0,0 +1,156 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link Set} of {@code int}s that tests membership without boxing.
+ * <p>
+ * In addition to the guarantees of {@link Set}, provides the following:
+ * <ul>
+ * <li>{@link IntSet#containsInt} tests membership of a primitive {@code int}.</li>
+ * <li>{@link IntSet#iterator} returns a {@link PrimitiveIterator.OfInt}.</li>
+ * <li>{@link IntSet#intStream} returns an {@link IntStream}.</li>
+ * </ul>
+ * <p>
+ * An {@code IntSet} is a {@code Set<Integer>}, and may be used anywhere one is expected.
+ * It never contains {@code null}.
+ */
+public interface IntSet extends Set<Integer> {
+
+    /**
+     * Returns {@code true} if {@code element} is a member of this {@link IntSet}.  Does not box.
+     *
+     * @param element the element to test
+     * @return {@code true} if {@code element} is a member of this {@link IntSet}, {@code false} otherwise
+     */
+    boolean containsInt(int element);
+
+    @Override
+    default boolean contains(Integer element) {
+        return element != null && containsInt(element);
+    }
+
+    /**
+     * Returns an iterator over the elements of this {@link IntSet} that can return them unboxed.
+     *
+     * @return a {@link PrimitiveIterator.OfInt}
+     */
+    @Override
+    PrimitiveIterator.OfInt iterator();
+
+    /**
+     * Returns a {@link Spliterator.OfInt} over the elements of this {@link IntSet}.
+     * <p>
+     * The {@link Spliterator} reports {@link Spliterator#SIZED} and {@link Spliterator#DISTINCT}.
+     *
+     * @return a {@link Spliterator.OfInt}
+     */
+    @Override
+    default Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.DISTINCT);
+    }
+
+    /**
+     * Returns a sequential {@link IntStream} over the elements of this {@link IntSet}.
+     *
+     * @return an {@link IntStream}
+     */
+    default IntStream intStream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    /**
+     * Copies the elements of this {@link IntSet} into a new {@code int[]}, in iteration order.
+     *
+     * @return a new {@code int[]} of the same size as this {@link IntSet}
+     */
+    default int[] toIntArray() {
+        return IntSets.toIntArray(this);
+    }
+
+    @Override
+    default ImmutableIntSet toImmutable() {
+        return IntSets.ensureImmutable(this);
+    }
+
+    @Override
+    default Maybe<? extends NonEmptyIntSet> toNonEmpty() {
+        return IntSets.tryNonEmptyWrap(this);
+    }
+
+    @Override
+    default NonEmptyIntSet toNonEmptyOrThrow() {
+        return IntSets.nonEmptyWrapOrThrow(this);
+    }
+
+    /**
+     * Returns an empty {@link ImmutableIntSet}.
+     *
+     * @return an empty {@code ImmutableIntSet}
+     */
+    static ImmutableIntSet empty() {
+        return IntSets.empty();
+    }
+
+    /**
+     * Constructs a new {@link ImmutableNonEmptyIntSet} with the given elements.  Duplicates are ignored.
+     *
+     * @param first the first element
+     * @param more  the remaining elements
+     * @return an {@code ImmutableNonEmptyIntSet}
+     */
+    static ImmutableNonEmptyIntSet of(int first, int... more) {
+        return IntSets.nonEmptyIntSetOf(first, more);
+    }
+
+    /**
+     * Wraps a {@code java.util.Set<Integer>} in an {@link IntSet}.
+     * <p>
+     * This is the adapter for primitive set implementations that also implement {@code java.util.Set<Integer>}.
+     * Membership tests are delegated to {@code underlying}, and so may box; use {@link IntSet#toImmutable}
+     * or {@link IntSet#copyFrom(Iterable)} to get a copy that does not.
+     * <p>
+     * Does *not* make a copy of the given {@link java.util.Set}.
+     * The {@link IntSet} will hold a reference to the underlying {@link java.util.Set}, but will not alter it in any way.
+     * Since this does not make a copy of the underlying data, be aware that anyone that holds a
+     * direct reference to the underlying {@link java.util.Set} can still mutate it.
+     *
+     * @param underlying Set to wrap.  Must not contain {@code null}.
+     * @return an {@code IntSet}
+     */
+    static IntSet wrap(java.util.Set<Integer> underlying) {
+        return IntSets.wrap(underlying);
+    }
+
+    /**
+     * Returns a new {@link ImmutableIntSet} containing the distinct elements of an {@code int[]}.
+     *
+     * @param source the array to copy from.
+     *               This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableIntSet}
+     */
+    static ImmutableIntSet copyFrom(int[] source) {
+        return IntSets.copyFrom(source);
+    }
+
+    /**
+     * Returns a new {@link ImmutableIntSet} containing the distinct elements of an {@link Iterable}.
+     * <p>
+     * An {@link ImmutableIntSet} is returned as-is, and an {@link IntSet} or {@link IntVector} is copied
+     * without boxing.
+     *
+     * @param source the {@link Iterable} to copy from.  Must not contain {@code null}.
+     *               This method will not alter or hold on to a reference of this {@code Iterable}.
+     * @return an {@code ImmutableIntSet}
+     */
+    static ImmutableIntSet copyFrom(Iterable<Integer> source) {
+        return IntSets.copyFrom(source);
+    }
+
+}
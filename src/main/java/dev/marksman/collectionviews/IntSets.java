@@ -0,0 +1,195 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+
+class IntSets {
+
+    static ImmutableIntSet empty() {
+        return EmptyIntSet.emptyIntSet();
+    }
+
+    static ImmutableNonEmptyIntSet nonEmptyIntSetOf(int first, int... more) {
+        Objects.requireNonNull(more);
+        int[] elements = new int[more.length + 1];
+        elements[0] = first;
+        System.arraycopy(more, 0, elements, 1, more.length);
+        return ImmutableIntHashSet.nonEmptyIntHashSet(elements, elements.length);
+    }
+
+    static IntSet wrap(java.util.Set<Integer> underlying) {
+        Objects.requireNonNull(underlying);
+        if (underlying.isEmpty()) {
+            return empty();
+        } else {
+            return new WrappedIntSet(underlying);
+        }
+    }
+
+    static ImmutableIntSet copyFrom(int[] source) {
+        Objects.requireNonNull(source);
+        return fromArray(source, source.length);
+    }
+
+    static ImmutableIntSet copyFrom(Iterable<Integer> source) {
+        Objects.requireNonNull(source);
+        if (source instanceof ImmutableIntSet) {
+            return (ImmutableIntSet) source;
+        } else {
+            int[] elements = copyToIntArray(source);
+            return fromArray(elements, elements.length);
+        }
+    }
+
+    static int[] toIntArray(IntSet source) {
+        int[] result = new int[source.size()];
+        PrimitiveIterator.OfInt iterator = source.iterator();
+        for (int i = 0; i < result.length; i++) {
+            result[i] = iterator.nextInt();
+        }
+        return result;
+    }
+
+    static ImmutableIntSet ensureImmutable(IntSet set) {
+        if (set instanceof ImmutableIntSet) {
+            return (ImmutableIntSet) set;
+        } else {
+            return fromArray(toIntArray(set), set.size());
+        }
+    }
+
+    static ImmutableNonEmptyIntSet ensureImmutable(NonEmptyIntSet set) {
+        if (set instanceof ImmutableNonEmptyIntSet) {
+            return (ImmutableNonEmptyIntSet) set;
+        } else {
+            return ImmutableIntHashSet.nonEmptyIntHashSet(toIntArray(set), set.size());
+        }
+    }
+
+    static Maybe<NonEmptyIntSet> tryNonEmptyWrap(java.util.Set<Integer> underlying) {
+        Objects.requireNonNull(underlying);
+        if (underlying.isEmpty()) {
+            return nothing();
+        } else {
+            return just(new WrappedIntSet(underlying));
+        }
+    }
+
+    static Maybe<NonEmptyIntSet> tryNonEmptyWrap(IntSet underlying) {
+        Objects.requireNonNull(underlying);
+        if (underlying instanceof NonEmptyIntSet) {
+            return just((NonEmptyIntSet) underlying);
+        } else if (!underlying.isEmpty()) {
+            return just(new NonEmptyIntSetAdapter(underlying));
+        } else {
+            return nothing();
+        }
+    }
+
+    static NonEmptyIntSet nonEmptyWrapOrThrow(java.util.Set<Integer> underlying) {
+        return tryNonEmptyWrap(underlying).orElseThrow(Sets.nonEmptyError());
+    }
+
+    static NonEmptyIntSet nonEmptyWrapOrThrow(IntSet underlying) {
+        return tryNonEmptyWrap(underlying).orElseThrow(Sets.nonEmptyError());
+    }
+
+    static Maybe<ImmutableNonEmptyIntSet> tryNonEmptyConvert(ImmutableIntSet source) {
+        Objects.requireNonNull(source);
+        if (source instanceof ImmutableNonEmptyIntSet) {
+            return just((ImmutableNonEmptyIntSet) source);
+        } else if (!source.isEmpty()) {
+            return just(new ImmutableNonEmptyIntSetAdapter(source));
+        } else {
+            return nothing();
+        }
+    }
+
+    static ImmutableNonEmptyIntSet nonEmptyConvertOrThrow(ImmutableIntSet source) {
+        return tryNonEmptyConvert(source).orElseThrow(Sets.nonEmptyError());
+    }
+
+    static Maybe<ImmutableNonEmptyIntSet> tryNonEmptyCopyFrom(int[] source) {
+        Objects.requireNonNull(source);
+        if (source.length == 0) {
+            return nothing();
+        } else {
+            return just(ImmutableIntHashSet.nonEmptyIntHashSet(source, source.length));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static Maybe<ImmutableNonEmptyIntSet> tryNonEmptyCopyFrom(Iterable<Integer> source) {
+        return (Maybe<ImmutableNonEmptyIntSet>) copyFrom(source).toNonEmpty();
+    }
+
+    static ImmutableNonEmptyIntSet nonEmptyCopyFromOrThrow(int[] source) {
+        return tryNonEmptyCopyFrom(source).orElseThrow(Sets.nonEmptyError());
+    }
+
+    static ImmutableNonEmptyIntSet nonEmptyCopyFromOrThrow(Iterable<Integer> source) {
+        return tryNonEmptyCopyFrom(source).orElseThrow(Sets.nonEmptyError());
+    }
+
+    /**
+     * Compares without boxing.
+     */
+    static boolean intSetEquals(IntSet set, IntSet other) {
+        if (set == other) {
+            return true;
+        }
+        if (set.size() != other.size()) {
+            return false;
+        }
+        PrimitiveIterator.OfInt iterator = set.iterator();
+        while (iterator.hasNext()) {
+            if (!other.containsInt(iterator.nextInt())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Elements are read without boxing from an {@link IntSet} or {@link IntVector}.
+     */
+    private static int[] copyToIntArray(Iterable<Integer> source) {
+        if (source instanceof IntSet) {
+            return toIntArray((IntSet) source);
+        } else if (source instanceof IntVector) {
+            return ((IntVector) source).toIntArray();
+        } else if (source instanceof Collection<?>) {
+            Object[] boxed = ((Collection<?>) source).toArray();
+            int[] result = new int[boxed.length];
+            for (int i = 0; i < boxed.length; i++) {
+                result[i] = (Integer) boxed[i];
+            }
+            return result;
+        } else {
+            int[] result = new int[16];
+            int count = 0;
+            for (int element : source) {
+                if (count == result.length) {
+                    result = Arrays.copyOf(result, count + (count >> 1));
+                }
+                result[count++] = element;
+            }
+            return Arrays.copyOf(result, count);
+        }
+    }
+
+    /**
+     * Builds a set of the distinct elements among the first {@code count} of {@code elements}.
+     */
+    private static ImmutableIntSet fromArray(int[] elements, int count) {
+        return count == 0 ? empty() : ImmutableIntHashSet.nonEmptyIntHashSet(elements, count);
+    }
+
+}
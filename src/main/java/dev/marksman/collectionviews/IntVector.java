@@ -0,0 +1,322 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.util.OptionalInt;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link Vector} of {@code int}s that stores and reads its elements without boxing.
+ * <p>
+ * In addition to the guarantees of {@link Vector}, provides the following:
+ * <ul>
+ * <li>{@link IntVector#unsafeGetInt} retrieves an element by index as a primitive {@code int}.</li>
+ * <li>{@link IntVector#iterator} returns a {@link PrimitiveIterator.OfInt}.</li>
+ * <li>{@link IntVector#intStream} returns an {@link IntStream}.</li>
+ * <li>{@link IntVector#take}, {@link IntVector#drop}, {@link IntVector#slice} and {@link IntVector#mapInt}
+ * always return an {@code IntVector}.</li>
+ * </ul>
+ * <p>
+ * An {@code IntVector} is a {@code Vector<Integer>}, and may be used anywhere one is expected.
+ * Elements are boxed only when read through the methods of {@link Vector}.
+ */
+public interface IntVector extends Vector<Integer> {
+
+    /**
+     * Get an element from the {@link IntVector} at an index, without boxing.  Executes in O(1).
+     *
+     * @param index the index of the element to retrieve.  Must be between 0 and <code>size() - 1</code>, otherwise will
+     *              throw an {@link IndexOutOfBoundsException}
+     * @return the element at {@code index}
+     */
+    int unsafeGetInt(int index);
+
+    @Override
+    default Integer unsafeGet(int index) {
+        return unsafeGetInt(index);
+    }
+
+    /**
+     * Returns a new {@link IntVector} that drops the first {@code count} elements.
+     * <p>
+     * Does not make copies of any underlying data structures.
+     *
+     * @param count the number of elements to drop from the {@link IntVector}.  Must be &gt;= 0.
+     *              May exceed size of {@link IntVector}, in which case, the result will be an
+     *              empty {@link IntVector}.
+     * @return an {@code IntVector}
+     */
+    @Override
+    default IntVector drop(int count) {
+        return IntVectors.drop(count, this);
+    }
+
+    /**
+     * Maps a function over the elements in an {@link IntVector} and returns a new {@link IntVector}
+     * of the same size.  Neither the input nor the output elements are boxed.
+     * <p>
+     * Does not make any copies of underlying data structures.
+     *
+     * @param f a function from {@code int} to {@code int}.
+     *          This function should be referentially transparent and not perform side-effects.
+     *          It may be called zero or more times for each element.
+     * @return an {@code IntVector} of the same size
+     */
+    default IntVector mapInt(IntUnaryOperator f) {
+        return IntVectors.mapInt(f, this);
+    }
+
+    /**
+     * Returns an iterator over the elements of this {@link IntVector} that can return them unboxed.
+     *
+     * @return a {@link PrimitiveIterator.OfInt}
+     */
+    @Override
+    default PrimitiveIterator.OfInt iterator() {
+        return new IntVectorIterator(this);
+    }
+
+    /**
+     * Returns a {@link Spliterator.OfInt} over the elements of this {@link IntVector}.
+     * <p>
+     * The {@link Spliterator} reports {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED}
+     * and {@link Spliterator#ORDERED}, and splits evenly by index.
+     *
+     * @return a {@link Spliterator.OfInt}
+     */
+    @Override
+    default Spliterator.OfInt spliterator() {
+        return IntVectorSpliterator.intVectorSpliterator(this);
+    }
+
+    /**
+     * Returns a sequential {@link IntStream} over the elements of this {@link IntVector}.
+     *
+     * @return an {@link IntStream}
+     */
+    default IntStream intStream() {
+        return StreamSupport.intStream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel {@link IntStream} over the elements of this {@link IntVector}.
+     *
+     * @return an {@link IntStream}
+     */
+    default IntStream parallelIntStream() {
+        return StreamSupport.intStream(spliterator(), true);
+    }
+
+    /**
+     * Returns the sum of the elements of this {@link IntVector}, or zero if it is empty.  Does not box.
+     * <p>
+     * As with {@link IntStream#sum}, the result may overflow.
+     *
+     * @return the sum of the elements
+     */
+    default int sum() {
+        return IntVectors.sum(this);
+    }
+
+    /**
+     * Returns the smallest element of this {@link IntVector}.  Does not box.
+     *
+     * @return the smallest element, or an empty {@link OptionalInt} if this {@link IntVector} is empty
+     */
+    default OptionalInt min() {
+        return IntVectors.min(this);
+    }
+
+    /**
+     * Returns the largest element of this {@link IntVector}.  Does not box.
+     *
+     * @return the largest element, or an empty {@link OptionalInt} if this {@link IntVector} is empty
+     */
+    default OptionalInt max() {
+        return IntVectors.max(this);
+    }
+
+    /**
+     * Create a slice of an existing {@link IntVector}.
+     * <p>
+     * Does not make copies of any underlying data structures.
+     *
+     * @param startIndex        the index of the element to begin the slice.  Must be &gt;= 0.
+     *                          May exceed the size of the {@link IntVector}, in which case an empty {@link IntVector} will be returned.
+     * @param endIndexExclusive the end index (exclusive) of the slice.  Must be &gt;= {@code startIndex}.
+     *                          May exceed the size of the {@link IntVector}, in which case the slice will
+     *                          contain as many elements as available.
+     * @return an {@code IntVector}
+     */
+    @Override
+    default IntVector slice(int startIndex, int endIndexExclusive) {
+        return IntVectors.slice(startIndex, endIndexExclusive, this);
+    }
+
+    @Override
+    default IntVector tail() {
+        return drop(1);
+    }
+
+    /**
+     * Returns a new {@link IntVector} that contains at most the first {@code count} elements of this {@link IntVector}.
+     * <p>
+     * Does not make copies of any underlying data structures.
+     *
+     * @param count the maximum number of elements to take from the {@link IntVector}.  Must be &gt;= 0.
+     *              May exceed size of {@link IntVector}.
+     * @return an {@code IntVector} containing between 0 and {@code count} elements
+     */
+    @Override
+    default IntVector take(int count) {
+        return IntVectors.take(count, this);
+    }
+
+    /**
+     * Copies the elements of this {@link IntVector} into a new {@code int[]}.
+     *
+     * @return a new {@code int[]} of the same size as this {@link IntVector}
+     */
+    default int[] toIntArray() {
+        return IntVectors.toIntArray(this);
+    }
+
+    @Override
+    default ImmutableIntVector toImmutable() {
+        return IntVectors.ensureImmutable(this);
+    }
+
+    @Override
+    default Maybe<? extends NonEmptyIntVector> toNonEmpty() {
+        return IntVectors.tryNonEmptyWrap(this);
+    }
+
+    @Override
+    default NonEmptyIntVector toNonEmptyOrThrow() {
+        return IntVectors.nonEmptyWrapOrThrow(this);
+    }
+
+    /**
+     * Returns an empty {@link ImmutableIntVector}.
+     *
+     * @return an empty {@code ImmutableIntVector}
+     */
+    static ImmutableIntVector empty() {
+        return IntVectors.empty();
+    }
+
+    /**
+     * Constructs a new {@link ImmutableNonEmptyIntVector} with the given elements.
+     *
+     * @param first the first element
+     * @param more  the remaining elements
+     * @return an {@code ImmutableNonEmptyIntVector}
+     */
+    static ImmutableNonEmptyIntVector of(int first, int... more) {
+        return IntVectors.nonEmptyIntVectorOf(first, more);
+    }
+
+    /**
+     * Creates an {@link IntVector} that wraps an {@code int[]}.
+     * <p>
+     * Does not make any copies of the given array.
+     * The {@link IntVector} will hold on to a reference to the array, but will never alter it in any way.
+     * <p>
+     * Since this does not make a copy of the array, be aware that anyone that holds a direct reference to
+     * the array can still mutate it.  Use {@link IntVector#copyFrom} instead if you want to avoid this situation.
+     *
+     * @param underlying array to wrap
+     * @return an {@code IntVector}
+     */
+    static IntVector wrap(int[] underlying) {
+        return IntVectors.wrap(underlying);
+    }
+
+    /**
+     * Returns a new {@link ImmutableIntVector} that is copied from an {@code int[]}.
+     *
+     * @param source the array to copy from.
+     *               This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableIntVector}
+     */
+    static ImmutableIntVector copyFrom(int[] source) {
+        return IntVectors.copyFrom(source);
+    }
+
+    /**
+     * Returns a new {@link ImmutableIntVector} that is copied from an {@code int[]},
+     * but copying a maximum number of elements.
+     *
+     * @param maxCount the maximum number of elements to copy from the array.  Must be &gt;= 0.
+     * @param source   the array to copy from.
+     *                 This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableIntVector}
+     */
+    static ImmutableIntVector copyFrom(int maxCount, int[] source) {
+        return IntVectors.copyFrom(maxCount, source);
+    }
+
+    /**
+     * Returns a new {@link ImmutableIntVector} that is copied from a slice of an {@code int[]}.
+     *
+     * @param startIndex        the index of the first element to copy.  Must be &gt;= 0.
+     * @param endIndexExclusive the end index (exclusive) of the elements to copy.  Must be &gt;= 0.
+     *                          May exceed the length of the array.
+     * @param source            the array to copy from.
+     *                          This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableIntVector}
+     */
+    static ImmutableIntVector copySliceFrom(int startIndex, int endIndexExclusive, int[] source) {
+        return IntVectors.copySliceFrom(startIndex, endIndexExclusive, source);
+    }
+
+    /**
+     * Constructs a new {@link ImmutableIntVector} of size {@code size} with elements computed by their
+     * indices using a provided function.  Uses O(1) memory.
+     *
+     * @param size          the number of elements.  Must be &gt;= 0.
+     * @param valueSupplier a function that accepts an index and returns the computed value for
+     *                      that index.  This function should be referentially transparent and not
+     *                      perform side-effects. It may be called zero or more times for each element.
+     * @return an {@code ImmutableIntVector} of {@code size} elements
+     */
+    static ImmutableIntVector lazyFill(int size, IntUnaryOperator valueSupplier) {
+        return IntVectors.lazyFill(size, valueSupplier);
+    }
+
+    /**
+     * Reads an {@link ImmutableIntVector} written by {@link ImmutableIntVector#writeTo(OutputStream)}.
+     * <p>
+     * The values are read straight into the backing array of the result.  Consumes exactly the bytes
+     * that were written, and does not close {@code in}.
+     *
+     * @param in the source
+     * @return an {@code ImmutableIntVector}
+     * @throws IOException if {@code in} throws, or does not contain a {@code IntVector}
+     */
+    static ImmutableIntVector readFrom(InputStream in) throws IOException {
+        return BinaryFormat.readIntVector(BinaryFormat.channel(in));
+    }
+
+    /**
+     * Reads an {@link ImmutableIntVector} written by {@link ImmutableIntVector#writeTo(OutputStream)}.
+     * <p>
+     * The values are read straight into the backing array of the result.  Consumes exactly the bytes
+     * that were written, and does not close {@code in}.
+     *
+     * @param in the source
+     * @return an {@code ImmutableIntVector}
+     * @throws IOException if {@code in} throws, or does not contain a {@code IntVector}
+     */
+    static ImmutableIntVector readFrom(ReadableByteChannel in) throws IOException {
+        return BinaryFormat.readIntVector(in);
+    }
+
+}
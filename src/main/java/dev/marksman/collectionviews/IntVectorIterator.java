@@ -0,0 +1,29 @@
+package dev.marksman.collectionviews;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+final class IntVectorIterator implements PrimitiveIterator.OfInt {
+    private final IntVector underlying;
+    private final int size;
+    private int index;
+
+    IntVectorIterator(IntVector underlying) {
+        this.underlying = underlying;
+        this.size = underlying.size();
+        index = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < size;
+    }
+
+    @Override
+    public int nextInt() {
+        if (index >= size) throw new NoSuchElementException();
+        int result = underlying.unsafeGetInt(index);
+        index += 1;
+        return result;
+    }
+}
@@ -0,0 +1,77 @@
+package dev.marksman.collectionviews;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.IntConsumer;
+
+/**
+ * A {@link Spliterator.OfInt} over a range of indices of an {@link IntVector}.  Splits evenly by index.
+ */
+final class IntVectorSpliterator implements Spliterator.OfInt {
+    private final IntVector vector;
+    private final int fence;
+    private final int characteristics;
+    private int index;
+
+    private IntVectorSpliterator(IntVector vector, int origin, int fence, int characteristics) {
+        this.vector = vector;
+        this.index = origin;
+        this.fence = fence;
+        this.characteristics = characteristics;
+    }
+
+    @Override
+    public boolean tryAdvance(IntConsumer action) {
+        Objects.requireNonNull(action);
+        if (index < fence) {
+            action.accept(vector.unsafeGetInt(index));
+            index += 1;
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public void forEachRemaining(IntConsumer action) {
+        Objects.requireNonNull(action);
+        IntVector v = vector;
+        int hi = fence;
+        int i = index;
+        index = hi;
+        for (; i < hi; i++) {
+            action.accept(v.unsafeGetInt(i));
+        }
+    }
+
+    @Override
+    public Spliterator.OfInt trySplit() {
+        int lo = index;
+        int mid = (lo + fence) >>> 1;
+        if (lo >= mid) {
+            return null;
+        } else {
+            index = mid;
+            return new IntVectorSpliterator(vector, lo, mid, characteristics);
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+
+    static Spliterator.OfInt intVectorSpliterator(IntVector vector) {
+        return new IntVectorSpliterator(vector, 0, vector.size(), ORDERED | SIZED | SUBSIZED);
+    }
+
+    static Spliterator.OfInt immutableIntVectorSpliterator(ImmutableIntVector vector) {
+        return new IntVectorSpliterator(vector, 0, vector.size(), ORDERED | SIZED | SUBSIZED | IMMUTABLE);
+    }
+
+}
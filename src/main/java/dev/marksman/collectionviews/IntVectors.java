@@ -0,0 +1,309 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+
+class IntVectors {
+
+    static ImmutableIntVector empty() {
+        return EmptyIntVector.emptyIntVector();
+    }
+
+    static ImmutableNonEmptyIntVector nonEmptyIntVectorOf(int first, int... more) {
+        Objects.requireNonNull(more);
+        int[] arr = new int[more.length + 1];
+        arr[0] = first;
+        System.arraycopy(more, 0, arr, 1, more.length);
+        return new ImmutableIntArrayVector(arr, 0, arr.length);
+    }
+
+    static IntVector wrap(int[] arr) {
+        Objects.requireNonNull(arr);
+        if (arr.length == 0) {
+            return empty();
+        } else {
+            return new WrappedIntArrayVector(arr, 0, arr.length);
+        }
+    }
+
+    static ImmutableIntVector copyFrom(int[] source) {
+        Objects.requireNonNull(source);
+        return copyFrom(source.length, source);
+    }
+
+    static ImmutableIntVector copyFrom(int maxCount, int[] source) {
+        Objects.requireNonNull(source);
+        if (maxCount < 0) throw new IllegalArgumentException("maxCount must be >= 0");
+        return copySliceFrom(0, maxCount, source);
+    }
+
+    static ImmutableIntVector copySliceFrom(int startIndex, int endIndexExclusive, int[] source) {
+        if (startIndex < 0) throw new IllegalArgumentException("startIndex must be >= 0");
+        if (endIndexExclusive < 0) throw new IllegalArgumentException("endIndex must be >= 0");
+        Objects.requireNonNull(source);
+        int end = Math.min(endIndexExclusive, source.length);
+        if (startIndex >= end) {
+            return empty();
+        } else {
+            int[] copied = Arrays.copyOfRange(source, startIndex, end);
+            return new ImmutableIntArrayVector(copied, 0, copied.length);
+        }
+    }
+
+    static ImmutableIntVector lazyFill(int size, IntUnaryOperator valueSupplier) {
+        if (size < 0) throw new IllegalArgumentException("size must be >= 0");
+        Objects.requireNonNull(valueSupplier);
+        if (size == 0) {
+            return empty();
+        } else {
+            return new ImmutableIndexedIntVector(0, size, valueSupplier);
+        }
+    }
+
+    static IntVector take(int count, IntVector source) {
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        return slice(0, count, source);
+    }
+
+    static ImmutableIntVector immutableTake(int count, ImmutableIntVector source) {
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        return immutableSlice(0, count, source);
+    }
+
+    static IntVector drop(int count, IntVector source) {
+        Objects.requireNonNull(source);
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        return slice(count, Integer.MAX_VALUE, source);
+    }
+
+    static ImmutableIntVector immutableDrop(int count, ImmutableIntVector source) {
+        Objects.requireNonNull(source);
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        return immutableSlice(count, Integer.MAX_VALUE, source);
+    }
+
+    static IntVector slice(int startIndex, int endIndexExclusive, IntVector source) {
+        if (source instanceof ImmutableIntVector) {
+            return immutableSlice(startIndex, endIndexExclusive, (ImmutableIntVector) source);
+        }
+        if (startIndex < 0) throw new IllegalArgumentException("startIndex must be >= 0");
+        if (endIndexExclusive < 0) throw new IllegalArgumentException("endIndex must be >= 0");
+        Objects.requireNonNull(source);
+        int sourceSize = source.size();
+        int end = Math.min(endIndexExclusive, sourceSize);
+        if (startIndex >= end) {
+            return empty();
+        } else if (startIndex == 0 && end == sourceSize) {
+            return source;
+        } else if (source instanceof WrappedIntArrayVector) {
+            return WrappedIntArrayVector.arraySlice(startIndex, end - startIndex, (WrappedIntArrayVector) source);
+        } else if (source instanceof IndexedIntVector) {
+            return IndexedIntVector.indexedSlice(startIndex, end - startIndex, (IndexedIntVector) source);
+        } else {
+            return new IndexedIntVector(startIndex, end - startIndex, source::unsafeGetInt);
+        }
+    }
+
+    static ImmutableIntVector immutableSlice(int startIndex, int endIndexExclusive, ImmutableIntVector source) {
+        if (startIndex < 0) throw new IllegalArgumentException("startIndex must be >= 0");
+        if (endIndexExclusive < 0) throw new IllegalArgumentException("endIndex must be >= 0");
+        Objects.requireNonNull(source);
+        int sourceSize = source.size();
+        int end = Math.min(endIndexExclusive, sourceSize);
+        if (startIndex >= end) {
+            return empty();
+        } else if (startIndex == 0 && end == sourceSize) {
+            return source;
+        } else if (source instanceof ImmutableIntArrayVector) {
+            return ImmutableIntArrayVector.arraySlice(startIndex, end - startIndex, (ImmutableIntArrayVector) source);
+        } else if (source instanceof ImmutableIndexedIntVector) {
+            return ImmutableIndexedIntVector.indexedSlice(startIndex, end - startIndex, (ImmutableIndexedIntVector) source);
+        } else {
+            return new ImmutableIndexedIntVector(startIndex, end - startIndex, source::unsafeGetInt);
+        }
+    }
+
+    static IntVector mapInt(IntUnaryOperator f, IntVector source) {
+        Objects.requireNonNull(f);
+        if (source instanceof ImmutableIntVector) {
+            return immutableMapInt(f, (ImmutableIntVector) source);
+        } else if (source.isEmpty()) {
+            return empty();
+        } else {
+            return new IndexedIntVector(0, source.size(), i -> f.applyAsInt(source.unsafeGetInt(i)));
+        }
+    }
+
+    static NonEmptyIntVector mapIntNonEmpty(IntUnaryOperator f, NonEmptyIntVector source) {
+        Objects.requireNonNull(f);
+        return new IndexedIntVector(0, source.size(), i -> f.applyAsInt(source.unsafeGetInt(i)));
+    }
+
+    static ImmutableIntVector immutableMapInt(IntUnaryOperator f, ImmutableIntVector source) {
+        Objects.requireNonNull(f);
+        if (source.isEmpty()) {
+            return empty();
+        } else {
+            return new ImmutableIndexedIntVector(0, source.size(), i -> f.applyAsInt(source.unsafeGetInt(i)));
+        }
+    }
+
+    static ImmutableNonEmptyIntVector immutableMapIntNonEmpty(IntUnaryOperator f, ImmutableNonEmptyIntVector source) {
+        Objects.requireNonNull(f);
+        return new ImmutableIndexedIntVector(0, source.size(), i -> f.applyAsInt(source.unsafeGetInt(i)));
+    }
+
+    static <A> IntVector mapToInt(ToIntFunction<? super A> f, Vector<A> source) {
+        Objects.requireNonNull(f);
+        if (source instanceof ImmutableVector<?>) {
+            return immutableMapToInt(f, (ImmutableVector<A>) source);
+        } else if (source.isEmpty()) {
+            return empty();
+        } else {
+            return new IndexedIntVector(0, source.size(), i -> f.applyAsInt(source.unsafeGet(i)));
+        }
+    }
+
+    static <A> NonEmptyIntVector mapToIntNonEmpty(ToIntFunction<? super A> f, NonEmptyVector<A> source) {
+        Objects.requireNonNull(f);
+        return new IndexedIntVector(0, source.size(), i -> f.applyAsInt(source.unsafeGet(i)));
+    }
+
+    static <A> ImmutableIntVector immutableMapToInt(ToIntFunction<? super A> f, ImmutableVector<A> source) {
+        Objects.requireNonNull(f);
+        if (source.isEmpty()) {
+            return empty();
+        } else {
+            return new ImmutableIndexedIntVector(0, source.size(), i -> f.applyAsInt(source.unsafeGet(i)));
+        }
+    }
+
+    static <A> ImmutableNonEmptyIntVector immutableMapToIntNonEmpty(ToIntFunction<? super A> f,
+                                                                    ImmutableNonEmptyVector<A> source) {
+        Objects.requireNonNull(f);
+        return new ImmutableIndexedIntVector(0, source.size(), i -> f.applyAsInt(source.unsafeGet(i)));
+    }
+
+    static int sum(IntVector source) {
+        int size = source.size();
+        int result = 0;
+        for (int i = 0; i < size; i++) {
+            result += source.unsafeGetInt(i);
+        }
+        return result;
+    }
+
+    static OptionalInt min(IntVector source) {
+        int size = source.size();
+        if (size == 0) return OptionalInt.empty();
+        int result = source.unsafeGetInt(0);
+        for (int i = 1; i < size; i++) {
+            result = Math.min(result, source.unsafeGetInt(i));
+        }
+        return OptionalInt.of(result);
+    }
+
+    static OptionalInt max(IntVector source) {
+        int size = source.size();
+        if (size == 0) return OptionalInt.empty();
+        int result = source.unsafeGetInt(0);
+        for (int i = 1; i < size; i++) {
+            result = Math.max(result, source.unsafeGetInt(i));
+        }
+        return OptionalInt.of(result);
+    }
+
+    static int[] toIntArray(IntVector source) {
+        int size = source.size();
+        int[] result = new int[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = source.unsafeGetInt(i);
+        }
+        return result;
+    }
+
+    static ImmutableIntVector ensureImmutable(IntVector vector) {
+        if (vector instanceof ImmutableIntVector) {
+            return (ImmutableIntVector) vector;
+        } else if (vector.isEmpty()) {
+            return empty();
+        } else {
+            int[] copied = vector.toIntArray();
+            return new ImmutableIntArrayVector(copied, 0, copied.length);
+        }
+    }
+
+    static ImmutableNonEmptyIntVector ensureImmutable(NonEmptyIntVector vector) {
+        if (vector instanceof ImmutableNonEmptyIntVector) {
+            return (ImmutableNonEmptyIntVector) vector;
+        } else {
+            int[] copied = vector.toIntArray();
+            return new ImmutableIntArrayVector(copied, 0, copied.length);
+        }
+    }
+
+    static Maybe<NonEmptyIntVector> tryNonEmptyWrap(int[] arr) {
+        Objects.requireNonNull(arr);
+        if (arr.length == 0) {
+            return nothing();
+        } else {
+            return just(new WrappedIntArrayVector(arr, 0, arr.length));
+        }
+    }
+
+    static NonEmptyIntVector nonEmptyWrapOrThrow(int[] arr) {
+        return tryNonEmptyWrap(arr).orElseThrow(nonEmptyError());
+    }
+
+    static Maybe<NonEmptyIntVector> tryNonEmptyWrap(IntVector vec) {
+        Objects.requireNonNull(vec);
+        if (vec instanceof NonEmptyIntVector) {
+            return just((NonEmptyIntVector) vec);
+        } else if (!vec.isEmpty()) {
+            return just(new IndexedIntVector(0, vec.size(), vec::unsafeGetInt));
+        } else {
+            return nothing();
+        }
+    }
+
+    static NonEmptyIntVector nonEmptyWrapOrThrow(IntVector vec) {
+        return tryNonEmptyWrap(vec).orElseThrow(nonEmptyError());
+    }
+
+    static Maybe<ImmutableNonEmptyIntVector> tryNonEmptyConvert(ImmutableIntVector vec) {
+        Objects.requireNonNull(vec);
+        if (vec instanceof ImmutableNonEmptyIntVector) {
+            return just((ImmutableNonEmptyIntVector) vec);
+        } else if (!vec.isEmpty()) {
+            return just(new ImmutableIndexedIntVector(0, vec.size(), vec::unsafeGetInt));
+        } else {
+            return nothing();
+        }
+    }
+
+    static ImmutableNonEmptyIntVector nonEmptyConvertOrThrow(ImmutableIntVector vec) {
+        return tryNonEmptyConvert(vec).orElseThrow(nonEmptyError());
+    }
+
+    static Maybe<ImmutableNonEmptyIntVector> tryNonEmptyCopyFrom(int[] source) {
+        return tryNonEmptyConvert(copyFrom(source));
+    }
+
+    static ImmutableNonEmptyIntVector nonEmptyCopyFromOrThrow(int[] source) {
+        return tryNonEmptyCopyFrom(source).orElseThrow(nonEmptyError());
+    }
+
+    static Supplier<IllegalArgumentException> nonEmptyError() {
+        return () -> new IllegalArgumentException("Cannot construct NonEmptyIntVector from empty input");
+    }
+
+}
@@ -0,0 +1,156 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link Set} of {@code long}s that tests membership without boxing.
+ * <p>
+ * In addition to the guarantees of {@link Set}, provides the following:
+ * <ul>
+ * <li>{@link LongSet#containsLong} tests membership of a primitive {@code long}.</li>
+ * <li>{@link LongSet#iterator} returns a {@link PrimitiveIterator.OfLong}.</li>
+ * <li>{@link LongSet#longStream} returns a {@link LongStream}.</li>
+ * </ul>
+ * <p>
+ * A {@code LongSet} is a {@code Set<Long>}, and may be used anywhere one is expected.
+ * It never contains {@code null}.
+ */
+public interface LongSet extends Set<Long> {
+
+    /**
+     * Returns {@code true} if {@code element} is a member of this {@link LongSet}.  Does not box.
+     *
+     * @param element the element to test
+     * @return {@code true} if {@code element} is a member of this {@link LongSet}, {@code false} otherwise
+     */
+    boolean containsLong(long element);
+
+    @Override
+    default boolean contains(Long element) {
+        return element != null && containsLong(element);
+    }
+
+    /**
+     * Returns an iterator over the elements of this {@link LongSet} that can return them unboxed.
+     *
+     * @return a {@link PrimitiveIterator.OfLong}
+     */
+    @Override
+    PrimitiveIterator.OfLong iterator();
+
+    /**
+     * Returns a {@link Spliterator.OfLong} over the elements of this {@link LongSet}.
+     * <p>
+     * The {@link Spliterator} reports {@link Spliterator#SIZED} and {@link Spliterator#DISTINCT}.
+     *
+     * @return a {@link Spliterator.OfLong}
+     */
+    @Override
+    default Spliterator.OfLong spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.DISTINCT);
+    }
+
+    /**
+     * Returns a sequential {@link LongStream} over the elements of this {@link LongSet}.
+     *
+     * @return a {@link LongStream}
+     */
+    default LongStream longStream() {
+        return StreamSupport.longStream(spliterator(), false);
+    }
+
+    /**
+     * Copies the elements of this {@link LongSet} into a new {@code long[]}, in iteration order.
+     *
+     * @return a new {@code long[]} of the same size as this {@link LongSet}
+     */
+    default long[] toLongArray() {
+        return LongSets.toLongArray(this);
+    }
+
+    @Override
+    default ImmutableLongSet toImmutable() {
+        return LongSets.ensureImmutable(this);
+    }
+
+    @Override
+    default Maybe<? extends NonEmptyLongSet> toNonEmpty() {
+        return LongSets.tryNonEmptyWrap(this);
+    }
+
+    @Override
+    default NonEmptyLongSet toNonEmptyOrThrow() {
+        return LongSets.nonEmptyWrapOrThrow(this);
+    }
+
+    /**
+     * Returns an empty {@link ImmutableLongSet}.
+     *
+     * @return an empty {@code ImmutableLongSet}
+     */
+    static ImmutableLongSet empty() {
+        return LongSets.empty();
+    }
+
+    /**
+     * Constructs a new {@link ImmutableNonEmptyLongSet} with the given elements.  Duplicates are ignored.
+     *
+     * @param first the first element
+     * @param more  the remaining elements
+     * @return an {@code ImmutableNonEmptyLongSet}
+     */
+    static ImmutableNonEmptyLongSet of(long first, long... more) {
+        return LongSets.nonEmptyLongSetOf(first, more);
+    }
+
+    /**
+     * Wraps a {@code java.util.Set<Long>} in a {@link LongSet}.
+     * <p>
+     * This is the adapter for primitive set implementations that also implement {@code java.util.Set<Long>}.
+     * Membership tests are delegated to {@code underlying}, and so may box; use {@link LongSet#toImmutable}
+     * or {@link LongSet#copyFrom(Iterable)} to get a copy that does not.
+     * <p>
+     * Does *not* make a copy of the given {@link java.util.Set}.
+     * The {@link LongSet} will hold a reference to the underlying {@link java.util.Set}, but will not alter it in any way.
+     * Since this does not make a copy of the underlying data, be aware that anyone that holds a
+     * direct reference to the underlying {@link java.util.Set} can still mutate it.
+     *
+     * @param underlying Set to wrap.  Must not contain {@code null}.
+     * @return a {@code LongSet}
+     */
+    static LongSet wrap(java.util.Set<Long> underlying) {
+        return LongSets.wrap(underlying);
+    }
+
+    /**
+     * Returns a new {@link ImmutableLongSet} containing the distinct elements of a {@code long[]}.
+     *
+     * @param source the array to copy from.
+     *               This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableLongSet}
+     */
+    static ImmutableLongSet copyFrom(long[] source) {
+        return LongSets.copyFrom(source);
+    }
+
+    /**
+     * Returns a new {@link ImmutableLongSet} containing the distinct elements of an {@link Iterable}.
+     * <p>
+     * An {@link ImmutableLongSet} is returned as-is, and a {@link LongSet} or {@link LongVector} is copied
+     * without boxing.
+     *
+     * @param source the {@link Iterable} to copy from.  Must not contain {@code null}.
+     *               This method will not alter or hold on to a reference of this {@code Iterable}.
+     * @return an {@code ImmutableLongSet}
+     */
+    static ImmutableLongSet copyFrom(Iterable<Long> source) {
+        return LongSets.copyFrom(source);
+    }
+
+}
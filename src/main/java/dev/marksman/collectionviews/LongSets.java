@@ -0,0 +1,195 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+
+class LongSets {
+
+    static ImmutableLongSet empty() {
+        return EmptyLongSet.emptyLongSet();
+    }
+
+    static ImmutableNonEmptyLongSet nonEmptyLongSetOf(long first, long... more) {
+        Objects.requireNonNull(more);
+        long[] elements = new long[more.length + 1];
+        elements[0] = first;
+        System.arraycopy(more, 0, elements, 1, more.length);
+        return ImmutableLongHashSet.nonEmptyLongHashSet(elements, elements.length);
+    }
+
+    static LongSet wrap(java.util.Set<Long> underlying) {
+        Objects.requireNonNull(underlying);
+        if (underlying.isEmpty()) {
+            return empty();
+        } else {
+            return new WrappedLongSet(underlying);
+        }
+    }
+
+    static ImmutableLongSet copyFrom(long[] source) {
+        Objects.requireNonNull(source);
+        return fromArray(source, source.length);
+    }
+
+    static ImmutableLongSet copyFrom(Iterable<Long> source) {
+        Objects.requireNonNull(source);
+        if (source instanceof ImmutableLongSet) {
+            return (ImmutableLongSet) source;
+        } else {
+            long[] elements = copyToLongArray(source);
+            return fromArray(elements, elements.length);
+        }
+    }
+
+    static long[] toLongArray(LongSet source) {
+        long[] result = new long[source.size()];
+        PrimitiveIterator.OfLong iterator = source.iterator();
+        for (int i = 0; i < result.length; i++) {
+            result[i] = iterator.nextLong();
+        }
+        return result;
+    }
+
+    static ImmutableLongSet ensureImmutable(LongSet set) {
+        if (set instanceof ImmutableLongSet) {
+            return (ImmutableLongSet) set;
+        } else {
+            return fromArray(toLongArray(set), set.size());
+        }
+    }
+
+    static ImmutableNonEmptyLongSet ensureImmutable(NonEmptyLongSet set) {
+        if (set instanceof ImmutableNonEmptyLongSet) {
+            return (ImmutableNonEmptyLongSet) set;
+        } else {
+            return ImmutableLongHashSet.nonEmptyLongHashSet(toLongArray(set), set.size());
+        }
+    }
+
+    static Maybe<NonEmptyLongSet> tryNonEmptyWrap(java.util.Set<Long> underlying) {
+        Objects.requireNonNull(underlying);
+        if (underlying.isEmpty()) {
+            return nothing();
+        } else {
+            return just(new WrappedLongSet(underlying));
+        }
+    }
+
+    static Maybe<NonEmptyLongSet> tryNonEmptyWrap(LongSet underlying) {
+        Objects.requireNonNull(underlying);
+        if (underlying instanceof NonEmptyLongSet) {
+            return just((NonEmptyLongSet) underlying);
+        } else if (!underlying.isEmpty()) {
+            return just(new NonEmptyLongSetAdapter(underlying));
+        } else {
+            return nothing();
+        }
+    }
+
+    static NonEmptyLongSet nonEmptyWrapOrThrow(java.util.Set<Long> underlying) {
+        return tryNonEmptyWrap(underlying).orElseThrow(Sets.nonEmptyError());
+    }
+
+    static NonEmptyLongSet nonEmptyWrapOrThrow(LongSet underlying) {
+        return tryNonEmptyWrap(underlying).orElseThrow(Sets.nonEmptyError());
+    }
+
+    static Maybe<ImmutableNonEmptyLongSet> tryNonEmptyConvert(ImmutableLongSet source) {
+        Objects.requireNonNull(source);
+        if (source instanceof ImmutableNonEmptyLongSet) {
+            return just((ImmutableNonEmptyLongSet) source);
+        } else if (!source.isEmpty()) {
+            return just(new ImmutableNonEmptyLongSetAdapter(source));
+        } else {
+            return nothing();
+        }
+    }
+
+    static ImmutableNonEmptyLongSet nonEmptyConvertOrThrow(ImmutableLongSet source) {
+        return tryNonEmptyConvert(source).orElseThrow(Sets.nonEmptyError());
+    }
+
+    static Maybe<ImmutableNonEmptyLongSet> tryNonEmptyCopyFrom(long[] source) {
+        Objects.requireNonNull(source);
+        if (source.length == 0) {
+            return nothing();
+        } else {
+            return just(ImmutableLongHashSet.nonEmptyLongHashSet(source, source.length));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static Maybe<ImmutableNonEmptyLongSet> tryNonEmptyCopyFrom(Iterable<Long> source) {
+        return (Maybe<ImmutableNonEmptyLongSet>) copyFrom(source).toNonEmpty();
+    }
+
+    static ImmutableNonEmptyLongSet nonEmptyCopyFromOrThrow(long[] source) {
+        return tryNonEmptyCopyFrom(source).orElseThrow(Sets.nonEmptyError());
+    }
+
+    static ImmutableNonEmptyLongSet nonEmptyCopyFromOrThrow(Iterable<Long> source) {
+        return tryNonEmptyCopyFrom(source).orElseThrow(Sets.nonEmptyError());
+    }
+
+    /**
+     * Compares without boxing.
+     */
+    static boolean longSetEquals(LongSet set, LongSet other) {
+        if (set == other) {
+            return true;
+        }
+        if (set.size() != other.size()) {
+            return false;
+        }
+        PrimitiveIterator.OfLong iterator = set.iterator();
+        while (iterator.hasNext()) {
+            if (!other.containsLong(iterator.nextLong())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Elements are read without boxing from a {@link LongSet} or {@link LongVector}.
+     */
+    private static long[] copyToLongArray(Iterable<Long> source) {
+        if (source instanceof LongSet) {
+            return toLongArray((LongSet) source);
+        } else if (source instanceof LongVector) {
+            return ((LongVector) source).toLongArray();
+        } else if (source instanceof Collection<?>) {
+            Object[] boxed = ((Collection<?>) source).toArray();
+            long[] result = new long[boxed.length];
+            for (int i = 0; i < boxed.length; i++) {
+                result[i] = (Long) boxed[i];
+            }
+            return result;
+        } else {
+            long[] result = new long[16];
+            int count = 0;
+            for (long element : source) {
+                if (count == result.length) {
+                    result = Arrays.copyOf(result, count + (count >> 1));
+                }
+                result[count++] = element;
+            }
+            return Arrays.copyOf(result, count);
+        }
+    }
+
+    /**
+     * Builds a set of the distinct elements among the first {@code count} of {@code elements}.
+     */
+    private static ImmutableLongSet fromArray(long[] elements, int count) {
+        return count == 0 ? empty() : ImmutableLongHashSet.nonEmptyLongHashSet(elements, count);
+    }
+
+}
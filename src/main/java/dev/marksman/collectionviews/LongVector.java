@@ -0,0 +1,323 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.util.OptionalLong;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.IntToLongFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A {@link Vector} of {@code long}s that stores and reads its elements without boxing.
+ * <p>
+ * In addition to the guarantees of {@link Vector}, provides the following:
+ * <ul>
+ * <li>{@link LongVector#unsafeGetLong} retrieves an element by index as a primitive {@code long}.</li>
+ * <li>{@link LongVector#iterator} returns a {@link PrimitiveIterator.OfLong}.</li>
+ * <li>{@link LongVector#longStream} returns a {@link LongStream}.</li>
+ * <li>{@link LongVector#take}, {@link LongVector#drop}, {@link LongVector#slice} and {@link LongVector#mapLong}
+ * always return a {@code LongVector}.</li>
+ * </ul>
+ * <p>
+ * A {@code LongVector} is a {@code Vector<Long>}, and may be used anywhere one is expected.
+ * Elements are boxed only when read through the methods of {@link Vector}.
+ */
+public interface LongVector extends Vector<Long> {
+
+    /**
+     * Get an element from the {@link LongVector} at an index, without boxing.  Executes in O(1).
+     *
+     * @param index the index of the element to retrieve.  Must be between 0 and <code>size() - 1</code>, otherwise will
+     *              throw an {@link IndexOutOfBoundsException}
+     * @return the element at {@code index}
+     */
+    long unsafeGetLong(int index);
+
+    @Override
+    default Long unsafeGet(int index) {
+        return unsafeGetLong(index);
+    }
+
+    /**
+     * Returns a new {@link LongVector} that drops the first {@code count} elements.
+     * <p>
+     * Does not make copies of any underlying data structures.
+     *
+     * @param count the number of elements to drop from the {@link LongVector}.  Must be &gt;= 0.
+     *              May exceed size of {@link LongVector}, in which case, the result will be an
+     *              empty {@link LongVector}.
+     * @return a {@code LongVector}
+     */
+    @Override
+    default LongVector drop(int count) {
+        return LongVectors.drop(count, this);
+    }
+
+    /**
+     * Maps a function over the elements in a {@link LongVector} and returns a new {@link LongVector}
+     * of the same size.  Neither the input nor the output elements are boxed.
+     * <p>
+     * Does not make any copies of underlying data structures.
+     *
+     * @param f a function from {@code long} to {@code long}.
+     *          This function should be referentially transparent and not perform side-effects.
+     *          It may be called zero or more times for each element.
+     * @return a {@code LongVector} of the same size
+     */
+    default LongVector mapLong(LongUnaryOperator f) {
+        return LongVectors.mapLong(f, this);
+    }
+
+    /**
+     * Returns an iterator over the elements of this {@link LongVector} that can return them unboxed.
+     *
+     * @return a {@link PrimitiveIterator.OfLong}
+     */
+    @Override
+    default PrimitiveIterator.OfLong iterator() {
+        return new LongVectorIterator(this);
+    }
+
+    /**
+     * Returns a {@link Spliterator.OfLong} over the elements of this {@link LongVector}.
+     * <p>
+     * The {@link Spliterator} reports {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED}
+     * and {@link Spliterator#ORDERED}, and splits evenly by index.
+     *
+     * @return a {@link Spliterator.OfLong}
+     */
+    @Override
+    default Spliterator.OfLong spliterator() {
+        return LongVectorSpliterator.longVectorSpliterator(this);
+    }
+
+    /**
+     * Returns a sequential {@link LongStream} over the elements of this {@link LongVector}.
+     *
+     * @return a {@link LongStream}
+     */
+    default LongStream longStream() {
+        return StreamSupport.longStream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel {@link LongStream} over the elements of this {@link LongVector}.
+     *
+     * @return a {@link LongStream}
+     */
+    default LongStream parallelLongStream() {
+        return StreamSupport.longStream(spliterator(), true);
+    }
+
+    /**
+     * Returns the sum of the elements of this {@link LongVector}, or zero if it is empty.  Does not box.
+     * <p>
+     * As with {@link LongStream#sum}, the result may overflow.
+     *
+     * @return the sum of the elements
+     */
+    default long sum() {
+        return LongVectors.sum(this);
+    }
+
+    /**
+     * Returns the smallest element of this {@link LongVector}.  Does not box.
+     *
+     * @return the smallest element, or an empty {@link OptionalLong} if this {@link LongVector} is empty
+     */
+    default OptionalLong min() {
+        return LongVectors.min(this);
+    }
+
+    /**
+     * Returns the largest element of this {@link LongVector}.  Does not box.
+     *
+     * @return the largest element, or an empty {@link OptionalLong} if this {@link LongVector} is empty
+     */
+    default OptionalLong max() {
+        return LongVectors.max(this);
+    }
+
+    /**
+     * Create a slice of an existing {@link LongVector}.
+     * <p>
+     * Does not make copies of any underlying data structures.
+     *
+     * @param startIndex        the index of the element to begin the slice.  Must be &gt;= 0.
+     *                          May exceed the size of the {@link LongVector}, in which case an empty {@link LongVector} will be returned.
+     * @param endIndexExclusive the end index (exclusive) of the slice.  Must be &gt;= {@code startIndex}.
+     *                          May exceed the size of the {@link LongVector}, in which case the slice will
+     *                          contain as many elements as available.
+     * @return a {@code LongVector}
+     */
+    @Override
+    default LongVector slice(int startIndex, int endIndexExclusive) {
+        return LongVectors.slice(startIndex, endIndexExclusive, this);
+    }
+
+    @Override
+    default LongVector tail() {
+        return drop(1);
+    }
+
+    /**
+     * Returns a new {@link LongVector} that contains at most the first {@code count} elements of this {@link LongVector}.
+     * <p>
+     * Does not make copies of any underlying data structures.
+     *
+     * @param count the maximum number of elements to take from the {@link LongVector}.  Must be &gt;= 0.
+     *              May exceed size of {@link LongVector}.
+     * @return a {@code LongVector} containing between 0 and {@code count} elements
+     */
+    @Override
+    default LongVector take(int count) {
+        return LongVectors.take(count, this);
+    }
+
+    /**
+     * Copies the elements of this {@link LongVector} into a new {@code long[]}.
+     *
+     * @return a new {@code long[]} of the same size as this {@link LongVector}
+     */
+    default long[] toLongArray() {
+        return LongVectors.toLongArray(this);
+    }
+
+    @Override
+    default ImmutableLongVector toImmutable() {
+        return LongVectors.ensureImmutable(this);
+    }
+
+    @Override
+    default Maybe<? extends NonEmptyLongVector> toNonEmpty() {
+        return LongVectors.tryNonEmptyWrap(this);
+    }
+
+    @Override
+    default NonEmptyLongVector toNonEmptyOrThrow() {
+        return LongVectors.nonEmptyWrapOrThrow(this);
+    }
+
+    /**
+     * Returns an empty {@link ImmutableLongVector}.
+     *
+     * @return an empty {@code ImmutableLongVector}
+     */
+    static ImmutableLongVector empty() {
+        return LongVectors.empty();
+    }
+
+    /**
+     * Constructs a new {@link ImmutableNonEmptyLongVector} with the given elements.
+     *
+     * @param first the first element
+     * @param more  the remaining elements
+     * @return an {@code ImmutableNonEmptyLongVector}
+     */
+    static ImmutableNonEmptyLongVector of(long first, long... more) {
+        return LongVectors.nonEmptyLongVectorOf(first, more);
+    }
+
+    /**
+     * Creates a {@link LongVector} that wraps an {@code long[]}.
+     * <p>
+     * Does not make any copies of the given array.
+     * The {@link LongVector} will hold on to a reference to the array, but will never alter it in any way.
+     * <p>
+     * Since this does not make a copy of the array, be aware that anyone that holds a direct reference to
+     * the array can still mutate it.  Use {@link LongVector#copyFrom} instead if you want to avoid this situation.
+     *
+     * @param underlying array to wrap
+     * @return a {@code LongVector}
+     */
+    static LongVector wrap(long[] underlying) {
+        return LongVectors.wrap(underlying);
+    }
+
+    /**
+     * Returns a new {@link ImmutableLongVector} that is copied from an {@code long[]}.
+     *
+     * @param source the array to copy from.
+     *               This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableLongVector}
+     */
+    static ImmutableLongVector copyFrom(long[] source) {
+        return LongVectors.copyFrom(source);
+    }
+
+    /**
+     * Returns a new {@link ImmutableLongVector} that is copied from an {@code long[]},
+     * but copying a maximum number of elements.
+     *
+     * @param maxCount the maximum number of elements to copy from the array.  Must be &gt;= 0.
+     * @param source   the array to copy from.
+     *                 This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableLongVector}
+     */
+    static ImmutableLongVector copyFrom(int maxCount, long[] source) {
+        return LongVectors.copyFrom(maxCount, source);
+    }
+
+    /**
+     * Returns a new {@link ImmutableLongVector} that is copied from a slice of an {@code long[]}.
+     *
+     * @param startIndex        the index of the first element to copy.  Must be &gt;= 0.
+     * @param endIndexExclusive the end index (exclusive) of the elements to copy.  Must be &gt;= 0.
+     *                          May exceed the length of the array.
+     * @param source            the array to copy from.
+     *                          This method will not alter or hold on to a reference of this array.
+     * @return an {@code ImmutableLongVector}
+     */
+    static ImmutableLongVector copySliceFrom(int startIndex, int endIndexExclusive, long[] source) {
+        return LongVectors.copySliceFrom(startIndex, endIndexExclusive, source);
+    }
+
+    /**
+     * Constructs a new {@link ImmutableLongVector} of size {@code size} with elements computed by their
+     * indices using a provided function.  Uses O(1) memory.
+     *
+     * @param size          the number of elements.  Must be &gt;= 0.
+     * @param valueSupplier a function that accepts an index and returns the computed value for
+     *                      that index.  This function should be referentially transparent and not
+     *                      perform side-effects. It may be called zero or more times for each element.
+     * @return an {@code ImmutableLongVector} of {@code size} elements
+     */
+    static ImmutableLongVector lazyFill(int size, IntToLongFunction valueSupplier) {
+        return LongVectors.lazyFill(size, valueSupplier);
+    }
+
+    /**
+     * Reads an {@link ImmutableLongVector} written by {@link ImmutableLongVector#writeTo(OutputStream)}.
+     * <p>
+     * The values are read straight into the backing array of the result.  Consumes exactly the bytes
+     * that were written, and does not close {@code in}.
+     *
+     * @param in the source
+     * @return an {@code ImmutableLongVector}
+     * @throws IOException if {@code in} throws, or does not contain a {@code LongVector}
+     */
+    static ImmutableLongVector readFrom(InputStream in) throws IOException {
+        return BinaryFormat.readLongVector(BinaryFormat.channel(in));
+    }
+
+    /**
+     * Reads an {@link ImmutableLongVector} written by {@link ImmutableLongVector#writeTo(OutputStream)}.
+     * <p>
+     * The values are read straight into the backing array of the result.  Consumes exactly the bytes
+     * that were written, and does not close {@code in}.
+     *
+     * @param in the source
+     * @return an {@code ImmutableLongVector}
+     * @throws IOException if {@code in} throws, or does not contain a {@code LongVector}
+     */
+    static ImmutableLongVector readFrom(ReadableByteChannel in) throws IOException {
+        return BinaryFormat.readLongVector(in);
+    }
+
+}
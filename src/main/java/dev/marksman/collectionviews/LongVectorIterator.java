@@ -0,0 +1,29 @@
+package dev.marksman.collectionviews;
+
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+
+final class LongVectorIterator implements PrimitiveIterator.OfLong {
+    private final LongVector underlying;
+    private final int size;
+    private int index;
+
+    LongVectorIterator(LongVector underlying) {
+        this.underlying = underlying;
+        this.size = underlying.size();
+        index = 0;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return index < size;
+    }
+
+    @Override
+    public long nextLong() {
+        if (index >= size) throw new NoSuchElementException();
+        long result = underlying.unsafeGetLong(index);
+        index += 1;
+        return result;
+    }
+}
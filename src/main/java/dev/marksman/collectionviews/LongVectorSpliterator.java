@@ -0,0 +1,77 @@
+package dev.marksman.collectionviews;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+
+/**
+ * A {@link Spliterator.OfLong} over a range of indices of a {@link LongVector}.  Splits evenly by index.
+ */
+final class LongVectorSpliterator implements Spliterator.OfLong {
+    private final LongVector vector;
+    private final int fence;
+    private final int characteristics;
+    private int index;
+
+    private LongVectorSpliterator(LongVector vector, int origin, int fence, int characteristics) {
+        this.vector = vector;
+        this.index = origin;
+        this.fence = fence;
+        this.characteristics = characteristics;
+    }
+
+    @Override
+    public boolean tryAdvance(LongConsumer action) {
+        Objects.requireNonNull(action);
+        if (index < fence) {
+            action.accept(vector.unsafeGetLong(index));
+            index += 1;
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public void forEachRemaining(LongConsumer action) {
+        Objects.requireNonNull(action);
+        LongVector v = vector;
+        int hi = fence;
+        int i = index;
+        index = hi;
+        for (; i < hi; i++) {
+            action.accept(v.unsafeGetLong(i));
+        }
+    }
+
+    @Override
+    public Spliterator.OfLong trySplit() {
+        int lo = index;
+        int mid = (lo + fence) >>> 1;
+        if (lo >= mid) {
+            return null;
+        } else {
+            index = mid;
+            return new LongVectorSpliterator(vector, lo, mid, characteristics);
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+
+    static Spliterator.OfLong longVectorSpliterator(LongVector vector) {
+        return new LongVectorSpliterator(vector, 0, vector.size(), ORDERED | SIZED | SUBSIZED);
+    }
+
+    static Spliterator.OfLong immutableLongVectorSpliterator(ImmutableLongVector vector) {
+        return new LongVectorSpliterator(vector, 0, vector.size(), ORDERED | SIZED | SUBSIZED | IMMUTABLE);
+    }
+
+}
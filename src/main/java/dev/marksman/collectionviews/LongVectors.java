@@ -0,0 +1,310 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.IntToLongFunction;
+import java.util.function.LongUnaryOperator;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+
+class LongVectors {
+
+    static ImmutableLongVector empty() {
+        return EmptyLongVector.emptyLongVector();
+    }
+
+    static ImmutableNonEmptyLongVector nonEmptyLongVectorOf(long first, long... more) {
+        Objects.requireNonNull(more);
+        long[] arr = new long[more.length + 1];
+        arr[0] = first;
+        System.arraycopy(more, 0, arr, 1, more.length);
+        return new ImmutableLongArrayVector(arr, 0, arr.length);
+    }
+
+    static LongVector wrap(long[] arr) {
+        Objects.requireNonNull(arr);
+        if (arr.length == 0) {
+            return empty();
+        } else {
+            return new WrappedLongArrayVector(arr, 0, arr.length);
+        }
+    }
+
+    static ImmutableLongVector copyFrom(long[] source) {
+        Objects.requireNonNull(source);
+        return copyFrom(source.length, source);
+    }
+
+    static ImmutableLongVector copyFrom(int maxCount, long[] source) {
+        Objects.requireNonNull(source);
+        if (maxCount < 0) throw new IllegalArgumentException("maxCount must be >= 0");
+        return copySliceFrom(0, maxCount, source);
+    }
+
+    static ImmutableLongVector copySliceFrom(int startIndex, int endIndexExclusive, long[] source) {
+        if (startIndex < 0) throw new IllegalArgumentException("startIndex must be >= 0");
+        if (endIndexExclusive < 0) throw new IllegalArgumentException("endIndex must be >= 0");
+        Objects.requireNonNull(source);
+        int end = Math.min(endIndexExclusive, source.length);
+        if (startIndex >= end) {
+            return empty();
+        } else {
+            long[] copied = Arrays.copyOfRange(source, startIndex, end);
+            return new ImmutableLongArrayVector(copied, 0, copied.length);
+        }
+    }
+
+    static ImmutableLongVector lazyFill(int size, IntToLongFunction valueSupplier) {
+        if (size < 0) throw new IllegalArgumentException("size must be >= 0");
+        Objects.requireNonNull(valueSupplier);
+        if (size == 0) {
+            return empty();
+        } else {
+            return new ImmutableIndexedLongVector(0, size, valueSupplier);
+        }
+    }
+
+    static LongVector take(int count, LongVector source) {
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        return slice(0, count, source);
+    }
+
+    static ImmutableLongVector immutableTake(int count, ImmutableLongVector source) {
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        return immutableSlice(0, count, source);
+    }
+
+    static LongVector drop(int count, LongVector source) {
+        Objects.requireNonNull(source);
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        return slice(count, Integer.MAX_VALUE, source);
+    }
+
+    static ImmutableLongVector immutableDrop(int count, ImmutableLongVector source) {
+        Objects.requireNonNull(source);
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        return immutableSlice(count, Integer.MAX_VALUE, source);
+    }
+
+    static LongVector slice(int startIndex, int endIndexExclusive, LongVector source) {
+        if (source instanceof ImmutableLongVector) {
+            return immutableSlice(startIndex, endIndexExclusive, (ImmutableLongVector) source);
+        }
+        if (startIndex < 0) throw new IllegalArgumentException("startIndex must be >= 0");
+        if (endIndexExclusive < 0) throw new IllegalArgumentException("endIndex must be >= 0");
+        Objects.requireNonNull(source);
+        int sourceSize = source.size();
+        int end = Math.min(endIndexExclusive, sourceSize);
+        if (startIndex >= end) {
+            return empty();
+        } else if (startIndex == 0 && end == sourceSize) {
+            return source;
+        } else if (source instanceof WrappedLongArrayVector) {
+            return WrappedLongArrayVector.arraySlice(startIndex, end - startIndex, (WrappedLongArrayVector) source);
+        } else if (source instanceof IndexedLongVector) {
+            return IndexedLongVector.indexedSlice(startIndex, end - startIndex, (IndexedLongVector) source);
+        } else {
+            return new IndexedLongVector(startIndex, end - startIndex, source::unsafeGetLong);
+        }
+    }
+
+    static ImmutableLongVector immutableSlice(int startIndex, int endIndexExclusive, ImmutableLongVector source) {
+        if (startIndex < 0) throw new IllegalArgumentException("startIndex must be >= 0");
+        if (endIndexExclusive < 0) throw new IllegalArgumentException("endIndex must be >= 0");
+        Objects.requireNonNull(source);
+        int sourceSize = source.size();
+        int end = Math.min(endIndexExclusive, sourceSize);
+        if (startIndex >= end) {
+            return empty();
+        } else if (startIndex == 0 && end == sourceSize) {
+            return source;
+        } else if (source instanceof ImmutableLongArrayVector) {
+            return ImmutableLongArrayVector.arraySlice(startIndex, end - startIndex, (ImmutableLongArrayVector) source);
+        } else if (source instanceof ImmutableIndexedLongVector) {
+            return ImmutableIndexedLongVector.indexedSlice(startIndex, end - startIndex, (ImmutableIndexedLongVector) source);
+        } else {
+            return new ImmutableIndexedLongVector(startIndex, end - startIndex, source::unsafeGetLong);
+        }
+    }
+
+    static LongVector mapLong(LongUnaryOperator f, LongVector source) {
+        Objects.requireNonNull(f);
+        if (source instanceof ImmutableLongVector) {
+            return immutableMapLong(f, (ImmutableLongVector) source);
+        } else if (source.isEmpty()) {
+            return empty();
+        } else {
+            return new IndexedLongVector(0, source.size(), i -> f.applyAsLong(source.unsafeGetLong(i)));
+        }
+    }
+
+    static NonEmptyLongVector mapLongNonEmpty(LongUnaryOperator f, NonEmptyLongVector source) {
+        Objects.requireNonNull(f);
+        return new IndexedLongVector(0, source.size(), i -> f.applyAsLong(source.unsafeGetLong(i)));
+    }
+
+    static ImmutableLongVector immutableMapLong(LongUnaryOperator f, ImmutableLongVector source) {
+        Objects.requireNonNull(f);
+        if (source.isEmpty()) {
+            return empty();
+        } else {
+            return new ImmutableIndexedLongVector(0, source.size(), i -> f.applyAsLong(source.unsafeGetLong(i)));
+        }
+    }
+
+    static ImmutableNonEmptyLongVector immutableMapLongNonEmpty(LongUnaryOperator f, ImmutableNonEmptyLongVector source) {
+        Objects.requireNonNull(f);
+        return new ImmutableIndexedLongVector(0, source.size(), i -> f.applyAsLong(source.unsafeGetLong(i)));
+    }
+
+    static <A> LongVector mapToLong(ToLongFunction<? super A> f, Vector<A> source) {
+        Objects.requireNonNull(f);
+        if (source instanceof ImmutableVector<?>) {
+            return immutableMapToLong(f, (ImmutableVector<A>) source);
+        } else if (source.isEmpty()) {
+            return empty();
+        } else {
+            return new IndexedLongVector(0, source.size(), i -> f.applyAsLong(source.unsafeGet(i)));
+        }
+    }
+
+    static <A> NonEmptyLongVector mapToLongNonEmpty(ToLongFunction<? super A> f, NonEmptyVector<A> source) {
+        Objects.requireNonNull(f);
+        return new IndexedLongVector(0, source.size(), i -> f.applyAsLong(source.unsafeGet(i)));
+    }
+
+    static <A> ImmutableLongVector immutableMapToLong(ToLongFunction<? super A> f, ImmutableVector<A> source) {
+        Objects.requireNonNull(f);
+        if (source.isEmpty()) {
+            return empty();
+        } else {
+            return new ImmutableIndexedLongVector(0, source.size(), i -> f.applyAsLong(source.unsafeGet(i)));
+        }
+    }
+
+    static <A> ImmutableNonEmptyLongVector immutableMapToLongNonEmpty(ToLongFunction<? super A> f,
+                                                                    ImmutableNonEmptyVector<A> source) {
+        Objects.requireNonNull(f);
+        return new ImmutableIndexedLongVector(0, source.size(), i -> f.applyAsLong(source.unsafeGet(i)));
+    }
+
+    static long sum(LongVector source) {
+        int size = source.size();
+        long result = 0;
+        for (int i = 0; i < size; i++) {
+            result += source.unsafeGetLong(i);
+        }
+        return result;
+    }
+
+    static OptionalLong min(LongVector source) {
+        int size = source.size();
+        if (size == 0) return OptionalLong.empty();
+        long result = source.unsafeGetLong(0);
+        for (int i = 1; i < size; i++) {
+            result = Math.min(result, source.unsafeGetLong(i));
+        }
+        return OptionalLong.of(result);
+    }
+
+    static OptionalLong max(LongVector source) {
+        int size = source.size();
+        if (size == 0) return OptionalLong.empty();
+        long result = source.unsafeGetLong(0);
+        for (int i = 1; i < size; i++) {
+            result = Math.max(result, source.unsafeGetLong(i));
+        }
+        return OptionalLong.of(result);
+    }
+
+    static long[] toLongArray(LongVector source) {
+        int size = source.size();
+        long[] result = new long[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = source.unsafeGetLong(i);
+        }
+        return result;
+    }
+
+    static ImmutableLongVector ensureImmutable(LongVector vector) {
+        if (vector instanceof ImmutableLongVector) {
+            return (ImmutableLongVector) vector;
+        } else if (vector.isEmpty()) {
+            return empty();
+        } else {
+            long[] copied = vector.toLongArray();
+            return new ImmutableLongArrayVector(copied, 0, copied.length);
+        }
+    }
+
+    static ImmutableNonEmptyLongVector ensureImmutable(NonEmptyLongVector vector) {
+        if (vector instanceof ImmutableNonEmptyLongVector) {
+            return (ImmutableNonEmptyLongVector) vector;
+        } else {
+            long[] copied = vector.toLongArray();
+            return new ImmutableLongArrayVector(copied, 0, copied.length);
+        }
+    }
+
+    static Maybe<NonEmptyLongVector> tryNonEmptyWrap(long[] arr) {
+        Objects.requireNonNull(arr);
+        if (arr.length == 0) {
+            return nothing();
+        } else {
+            return just(new WrappedLongArrayVector(arr, 0, arr.length));
+        }
+    }
+
+    static NonEmptyLongVector nonEmptyWrapOrThrow(long[] arr) {
+        return tryNonEmptyWrap(arr).orElseThrow(nonEmptyError());
+    }
+
+    static Maybe<NonEmptyLongVector> tryNonEmptyWrap(LongVector vec) {
+        Objects.requireNonNull(vec);
+        if (vec instanceof NonEmptyLongVector) {
+            return just((NonEmptyLongVector) vec);
+        } else if (!vec.isEmpty()) {
+            return just(new IndexedLongVector(0, vec.size(), vec::unsafeGetLong));
+        } else {
+            return nothing();
+        }
+    }
+
+    static NonEmptyLongVector nonEmptyWrapOrThrow(LongVector vec) {
+        return tryNonEmptyWrap(vec).orElseThrow(nonEmptyError());
+    }
+
+    static Maybe<ImmutableNonEmptyLongVector> tryNonEmptyConvert(ImmutableLongVector vec) {
+        Objects.requireNonNull(vec);
+        if (vec instanceof ImmutableNonEmptyLongVector) {
+            return just((ImmutableNonEmptyLongVector) vec);
+        } else if (!vec.isEmpty()) {
+            return just(new ImmutableIndexedLongVector(0, vec.size(), vec::unsafeGetLong));
+        } else {
+            return nothing();
+        }
+    }
+
+    static ImmutableNonEmptyLongVector nonEmptyConvertOrThrow(ImmutableLongVector vec) {
+        return tryNonEmptyConvert(vec).orElseThrow(nonEmptyError());
+    }
+
+    static Maybe<ImmutableNonEmptyLongVector> tryNonEmptyCopyFrom(long[] source) {
+        return tryNonEmptyConvert(copyFrom(source));
+    }
+
+    static ImmutableNonEmptyLongVector nonEmptyCopyFromOrThrow(long[] source) {
+        return tryNonEmptyCopyFrom(source).orElseThrow(nonEmptyError());
+    }
+
+    static Supplier<IllegalArgumentException> nonEmptyError() {
+        return () -> new IllegalArgumentException("Cannot construct NonEmptyLongVector from empty input");
+    }
+
+}
@@ -0,0 +1,52 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Applies a (composed) mapping function to the elements of an underlying {@link Spliterator}.
+ * Splits wherever the underlying {@link Spliterator} splits.
+ */
+final class MappedSpliterator<A> implements Spliterator<A> {
+    private final Spliterator<Object> underlying;
+    private final Fn1<Object, Object> fn;
+
+    MappedSpliterator(Spliterator<Object> underlying, Fn1<Object, Object> fn) {
+        this.underlying = underlying;
+        this.fn = fn;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean tryAdvance(Consumer<? super A> action) {
+        Objects.requireNonNull(action);
+        return underlying.tryAdvance(x -> action.accept((A) fn.apply(x)));
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public void forEachRemaining(Consumer<? super A> action) {
+        Objects.requireNonNull(action);
+        underlying.forEachRemaining(x -> action.accept((A) fn.apply(x)));
+    }
+
+    @Override
+    public Spliterator<A> trySplit() {
+        Spliterator<Object> split = underlying.trySplit();
+        return split == null ? null : new MappedSpliterator<>(split, fn);
+    }
+
+    @Override
+    public long estimateSize() {
+        return underlying.estimateSize();
+    }
+
+    @Override
+    public int characteristics() {
+        return underlying.characteristics() & ~(SORTED | DISTINCT | NONNULL);
+    }
+
+}
@@ -2,11 +2,18 @@ package dev.marksman.collectionviews;
 
 import com.jnape.palatable.lambda.functions.Fn1;
 
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+
 class MappedVector<A> extends ConcreteVector<A> implements NonEmptyVector<A> {
     private final MapperChain mapper;
-    private final NonEmptyVector<Object> underlying;
+    /**
+     * underlying must contain at least one element
+     */
+    private final Vector<Object> underlying;
 
-    MappedVector(MapperChain mapper, NonEmptyVector<Object> underlying) {
+    MappedVector(MapperChain mapper, Vector<Object> underlying) {
         this.mapper = mapper;
         this.underlying = underlying;
     }
@@ -14,7 +21,7 @@ class MappedVector<A> extends ConcreteVector<A> implements NonEmptyVector<A> {
     @SuppressWarnings("unchecked")
     @Override
     public A head() {
-        return (A) mapper.apply(underlying.head());
+        return (A) mapper.apply(underlying.unsafeGet(0));
     }
 
     @Override
@@ -34,4 +41,40 @@ class MappedVector<A> extends ConcreteVector<A> implements NonEmptyVector<A> {
         return new MappedVector<>(mapper.add((Fn1<Object, Object>) f),
                 underlying);
     }
+
+    @Override
+    public Iterator<A> iterator() {
+        return Vectors.mappedIterator(mapper, underlying);
+    }
+
+    boolean hasCheapRandomAccess() {
+        return Vectors.hasCheapRandomAccess(underlying);
+    }
+
+    @Override
+    public Spliterator<A> spliterator() {
+        return new MappedSpliterator<>(underlying.spliterator(), mapper.getFn());
+    }
+
+    /**
+     * Streams the underlying elements and applies the compiled mapping function as a single map stage.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public Stream<A> stream() {
+        return (Stream<A>) underlying.stream().map(mapper.getFn());
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public Stream<A> parallelStream() {
+        return (Stream<A>) underlying.parallelStream().map(mapper.getFn());
+    }
+
+    /**
+     * Slices beneath the mapping, so the result is a single {@link MappedVector} over a (folded) slice.
+     */
+    static <A> MappedVector<A> mappedSlice(int offset, int size, MappedVector<A> source) {
+        return new MappedVector<>(source.mapper, VectorSlice.vectorSlice(offset, size, source.underlying));
+    }
 }
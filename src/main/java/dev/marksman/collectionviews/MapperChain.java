@@ -2,15 +2,9 @@ package dev.marksman.collectionviews;
 
 import com.jnape.palatable.lambda.functions.Fn1;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.function.Function;
+import java.util.Objects;
 
 import static com.jnape.palatable.lambda.functions.builtin.fn1.Id.id;
-import static com.jnape.palatable.lambda.functions.builtin.fn1.Reverse.reverse;
-import static com.jnape.palatable.lambda.functions.builtin.fn2.Cons.cons;
-import static com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection.toCollection;
-import static com.jnape.palatable.lambda.functions.builtin.fn3.FoldLeft.foldLeft;
 
 interface MapperChain {
     MapperChain add(Fn1<Object, Object> f);
@@ -26,7 +20,7 @@ interface MapperChain {
     }
 
     static MapperChain mapperChain(Fn1<Object, Object> f) {
-        return new MapperChainImpl(Collections.singletonList(lambdaToJava(f)));
+        return new MapperChainImpl(Objects.requireNonNull(f), null);
     }
 
     class EmptyMapperChain implements MapperChain {
@@ -58,13 +52,28 @@ interface MapperChain {
 
     }
 
+    /**
+     * A persistent, singly-linked list of functions, most recently added first.  Adding a function is O(1)
+     * and shares the rest of the chain.
+     * <p>
+     * The chain is compiled into a single composed function the first time it is applied.  Chains of up to
+     * four functions get a composer specialized to their length;  longer chains loop over a flat array.
+     * Applying the compiled function allocates nothing beyond what the mapping functions themselves allocate.
+     */
     class MapperChainImpl implements MapperChain {
-        private Iterable<Function> mappers;
+        private final Fn1<Object, Object> fn;
+        private final MapperChainImpl previous;
+        private final int length;
+        /**
+         * Computed lazily.  Racy publication is safe, since every composer is immutable and only has final
+         * fields; at worst, concurrent first callers each compile an equivalent function.
+         */
         private Fn1<Object, Object> fnComposedOnTheHeap;
 
-        private MapperChainImpl(Iterable<Function> mappers) {
-            this.mappers = mappers;
-            fnComposedOnTheHeap = null;
+        private MapperChainImpl(Fn1<Object, Object> fn, MapperChainImpl previous) {
+            this.fn = fn;
+            this.previous = previous;
+            this.length = previous == null ? 1 : previous.length + 1;
         }
 
         @Override
@@ -73,36 +82,118 @@ interface MapperChain {
         }
 
         public MapperChainImpl add(Fn1<Object, Object> f) {
-            return new MapperChainImpl(cons(lambdaToJava(f), mappers));
+            return new MapperChainImpl(Objects.requireNonNull(f), this);
         }
 
-        @SuppressWarnings("unchecked")
         public Object apply(Object input) {
             return getFn().apply(input);
         }
 
         public Fn1<Object, Object> getFn() {
-            if (fnComposedOnTheHeap == null) {
-                synchronized (this) {
-                    if (fnComposedOnTheHeap == null) {
-                        fnComposedOnTheHeap = build();
-                    }
+            Fn1<Object, Object> result = fnComposedOnTheHeap;
+            if (result == null) {
+                result = build();
+                fnComposedOnTheHeap = result;
+            }
+            return result;
+        }
 
-                }
+        private Fn1<Object, Object> build() {
+            // in order of application
+            Fn1<Object, Object>[] fns = toArray();
+            switch (fns.length) {
+                case 1:
+                    return fns[0];
+                case 2:
+                    return new Composed2(fns[0], fns[1]);
+                case 3:
+                    return new Composed3(fns[0], fns[1], fns[2]);
+                case 4:
+                    return new Composed4(fns[0], fns[1], fns[2], fns[3]);
+                default:
+                    return new ComposedN(fns);
             }
-            return fnComposedOnTheHeap;
         }
 
         @SuppressWarnings("unchecked")
-        private Fn1<Object, Object> build() {
-            ArrayList<Function> fnChain = toCollection(ArrayList::new, reverse(mappers));
-            return o -> foldLeft((x, fn) -> fn.apply(x), o, fnChain);
+        private Fn1<Object, Object>[] toArray() {
+            Fn1<Object, Object>[] result = new Fn1[length];
+            MapperChainImpl current = this;
+            for (int i = length - 1; i >= 0; i--) {
+                result[i] = current.fn;
+                current = current.previous;
+            }
+            return result;
+        }
+    }
+
+    final class Composed2 implements Fn1<Object, Object> {
+        private final Fn1<Object, Object> f0;
+        private final Fn1<Object, Object> f1;
+
+        private Composed2(Fn1<Object, Object> f0, Fn1<Object, Object> f1) {
+            this.f0 = f0;
+            this.f1 = f1;
+        }
+
+        @Override
+        public Object apply(Object input) {
+            return f1.apply(f0.apply(input));
+        }
+    }
+
+    final class Composed3 implements Fn1<Object, Object> {
+        private final Fn1<Object, Object> f0;
+        private final Fn1<Object, Object> f1;
+        private final Fn1<Object, Object> f2;
+
+        private Composed3(Fn1<Object, Object> f0, Fn1<Object, Object> f1, Fn1<Object, Object> f2) {
+            this.f0 = f0;
+            this.f1 = f1;
+            this.f2 = f2;
+        }
+
+        @Override
+        public Object apply(Object input) {
+            return f2.apply(f1.apply(f0.apply(input)));
+        }
+    }
+
+    final class Composed4 implements Fn1<Object, Object> {
+        private final Fn1<Object, Object> f0;
+        private final Fn1<Object, Object> f1;
+        private final Fn1<Object, Object> f2;
+        private final Fn1<Object, Object> f3;
+
+        private Composed4(Fn1<Object, Object> f0, Fn1<Object, Object> f1, Fn1<Object, Object> f2,
+                          Fn1<Object, Object> f3) {
+            this.f0 = f0;
+            this.f1 = f1;
+            this.f2 = f2;
+            this.f3 = f3;
+        }
+
+        @Override
+        public Object apply(Object input) {
+            return f3.apply(f2.apply(f1.apply(f0.apply(input))));
         }
     }
 
-    @SuppressWarnings("FunctionalExpressionCanBeFolded")
-    static Function lambdaToJava(Fn1<Object, Object> f) {
-        return f::apply;
+    final class ComposedN implements Fn1<Object, Object> {
+        private final Fn1<Object, Object>[] fns;
+
+        private ComposedN(Fn1<Object, Object>[] fns) {
+            this.fns = fns;
+        }
+
+        @Override
+        public Object apply(Object input) {
+            Object result = input;
+            for (Fn1<Object, Object> f : fns) {
+                result = f.apply(result);
+            }
+            return result;
+        }
     }
 
 }
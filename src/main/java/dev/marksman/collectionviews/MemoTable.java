@@ -0,0 +1,146 @@
+package dev.marksman.collectionviews;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+/**
+ * A per-index cache of computed values, safe for use by concurrent readers without locks.
+ */
+abstract class MemoTable {
+
+    abstract Object get(int index, IntFunction<Object> compute);
+
+    abstract int materializedCount();
+
+    static MemoTable denseMemoTable(int size) {
+        return new Dense(size);
+    }
+
+    static MemoTable boundedMemoTable(int size, int capacity) {
+        if (capacity < 1) throw new IllegalArgumentException("cacheSize must be >= 1");
+        if (capacity >= size) {
+            return new Dense(size);
+        } else {
+            return new Bounded(capacity);
+        }
+    }
+
+    /**
+     * One slot per index.  A slot is claimed with a CAS of a {@link Pending} placeholder before its value is
+     * computed, so each value is computed at most once;  a reader that finds a slot claimed by another thread blocks
+     * on that placeholder until the value is ready, without spinning, and readers of other slots are unaffected.
+     * If the computation throws, the claim is released so that a later reader (or a waiting one) may retry.
+     * A computation that reads its own index fails with {@link IllegalStateException} instead of waiting on itself.
+     */
+    private static final class Dense extends MemoTable {
+        private static final Object NULL_VALUE = new Object();
+        private static final Object RETRY = new Object();
+
+        private final AtomicReferenceArray<Object> slots;
+        private final AtomicInteger count;
+
+        private Dense(int size) {
+            this.slots = new AtomicReferenceArray<>(size);
+            this.count = new AtomicInteger(0);
+        }
+
+        @Override
+        Object get(int index, IntFunction<Object> compute) {
+            while (true) {
+                Object value = slots.get(index);
+                if (value == null) {
+                    Pending pending = new Pending();
+                    if (slots.compareAndSet(index, null, pending)) {
+                        return fill(index, compute, pending);
+                    }
+                } else if (value instanceof Pending) {
+                    Pending pending = (Pending) value;
+                    if (pending.owner == Thread.currentThread()) {
+                        throw new IllegalStateException("element " + index + " depends on itself");
+                    }
+                    Object result = pending.result.join();
+                    if (result != RETRY) {
+                        return result == NULL_VALUE ? null : result;
+                    }
+                } else {
+                    return value == NULL_VALUE ? null : value;
+                }
+            }
+        }
+
+        @Override
+        int materializedCount() {
+            return count.get();
+        }
+
+        private Object fill(int index, IntFunction<Object> compute, Pending pending) {
+            Object result;
+            try {
+                result = compute.apply(index);
+            } catch (RuntimeException | Error e) {
+                slots.set(index, null);
+                pending.result.complete(RETRY);
+                throw e;
+            }
+            Object stored = result == null ? NULL_VALUE : result;
+            slots.set(index, stored);
+            count.incrementAndGet();
+            pending.result.complete(stored);
+            return result;
+        }
+    }
+
+    /**
+     * Marks a slot of a {@link Dense} table whose value is being computed by {@code owner}.
+     */
+    private static final class Pending {
+        private final Thread owner = Thread.currentThread();
+        private final CompletableFuture<Object> result = new CompletableFuture<>();
+    }
+
+    /**
+     * A fixed number of slots shared by all indices (direct-mapped).  A value evicted by another index will
+     * be recomputed when next read, and readers racing on the same index may each compute it.
+     */
+    private static final class Bounded extends MemoTable {
+        private final AtomicReferenceArray<Entry> slots;
+        private final AtomicInteger count;
+
+        private Bounded(int capacity) {
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.count = new AtomicInteger(0);
+        }
+
+        @Override
+        Object get(int index, IntFunction<Object> compute) {
+            int slot = index % slots.length();
+            Entry entry = slots.get(slot);
+            if (entry != null && entry.index == index) {
+                return entry.value;
+            }
+            Object result = compute.apply(index);
+            if (slots.getAndSet(slot, new Entry(index, result)) == null) {
+                count.incrementAndGet();
+            }
+            return result;
+        }
+
+        @Override
+        int materializedCount() {
+            return count.get();
+        }
+    }
+
+    private static final class Entry {
+        private final int index;
+        private final Object value;
+
+        private Entry(int index, Object value) {
+            this.index = index;
+            this.value = value;
+        }
+    }
+
+}
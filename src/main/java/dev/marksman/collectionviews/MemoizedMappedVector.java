@@ -0,0 +1,43 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.functions.Fn1;
+
+import java.util.function.IntFunction;
+
+class MemoizedMappedVector<A> extends ConcreteVector<A> implements MemoizedVector<A> {
+    private final int size;
+    private final MemoTable memo;
+    private final IntFunction<Object> compute;
+
+    MemoizedMappedVector(MemoTable memo, Fn1<Object, Object> f, Vector<Object> underlying) {
+        this.size = underlying.size();
+        this.memo = memo;
+        this.compute = index -> f.apply(underlying.unsafeGet(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public A unsafeGet(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        return (A) memo.get(index, compute);
+    }
+
+    @Override
+    public MemoizedVector<A> force() {
+        for (int i = 0; i < size; i++) {
+            memo.get(i, compute);
+        }
+        return this;
+    }
+
+    @Override
+    public int materializedCount() {
+        return memo.materializedCount();
+    }
+
+}
@@ -0,0 +1,32 @@
+package dev.marksman.collectionviews;
+
+/**
+ * A {@link Vector} whose elements are computed on demand and cached, so that an expensive computation
+ * is not repeated on every access.
+ * <p>
+ * Concurrent readers of different indices never block each other.  Unless the cache is bounded,
+ * each element is computed at most once.
+ * <p>
+ * See {@link Vector#fmapMemoized}.
+ *
+ * @param <A> the element type
+ */
+public interface MemoizedVector<A> extends Vector<A> {
+
+    /**
+     * Computes every element that has not yet been computed.
+     * <p>
+     * If the cache is bounded, only as many elements as the cache can hold will be retained.
+     *
+     * @return this {@link MemoizedVector}
+     */
+    MemoizedVector<A> force();
+
+    /**
+     * The number of elements that are currently cached.
+     *
+     * @return a number between 0 and {@code size()}
+     */
+    int materializedCount();
+
+}
@@ -0,0 +1,30 @@
+package dev.marksman.collectionviews;
+
+import java.util.function.IntFunction;
+
+class NonEmptyCachedLazyVector<A> extends CachedLazyVector<A> implements ImmutableNonEmptyMemoizedVector<A> {
+
+    /**
+     * size must be &gt;= 1
+     */
+    NonEmptyCachedLazyVector(int size, IntFunction<? extends A> valueSupplier) {
+        super(size, valueSupplier);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public A head() {
+        return unsafeGet(0);
+    }
+
+    @Override
+    public ImmutableNonEmptyMemoizedVector<A> force() {
+        super.force();
+        return this;
+    }
+
+}
@@ -0,0 +1,95 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.PrimitiveIterator;
+import java.util.function.DoubleUnaryOperator;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+
+/**
+ * A {@link DoubleVector} that is guaranteed at compile-time to contain at least one element.
+ */
+public interface NonEmptyDoubleVector extends DoubleVector, NonEmptyVector<Double> {
+
+    /**
+     * Returns the first element, without boxing.
+     *
+     * @return the first element
+     */
+    default double headDouble() {
+        return unsafeGetDouble(0);
+    }
+
+    @Override
+    default Double head() {
+        return headDouble();
+    }
+
+    @Override
+    default NonEmptyDoubleVector mapDouble(DoubleUnaryOperator f) {
+        return DoubleVectors.mapDoubleNonEmpty(f, this);
+    }
+
+    @Override
+    default PrimitiveIterator.OfDouble iterator() {
+        return new DoubleVectorIterator(this);
+    }
+
+    @Override
+    default DoubleVector tail() {
+        return drop(1);
+    }
+
+    @Override
+    default ImmutableNonEmptyDoubleVector toImmutable() {
+        return DoubleVectors.ensureImmutable(this);
+    }
+
+    @Override
+    default Maybe<? extends NonEmptyDoubleVector> toNonEmpty() {
+        return just(this);
+    }
+
+    @Override
+    default NonEmptyDoubleVector toNonEmptyOrThrow() {
+        return this;
+    }
+
+    /**
+     * Attempts to create a {@link NonEmptyDoubleVector} that wraps an {@code double[]}.
+     * <p>
+     * Does not make any copies of the given array.
+     * The {@link NonEmptyDoubleVector} will hold on to a reference to the array, but will never alter it in any way.
+     *
+     * @param underlying array to wrap
+     * @return a {@code NonEmptyDoubleVector} wrapped in a {@link Maybe#just} if {@code underlying} is non-empty;
+     * {@link Maybe#nothing} otherwise.
+     */
+    static Maybe<NonEmptyDoubleVector> tryWrap(double[] underlying) {
+        return DoubleVectors.tryNonEmptyWrap(underlying);
+    }
+
+    /**
+     * Attempts to create a {@link NonEmptyDoubleVector} that wraps an {@code double[]}.
+     * If it is not possible, throws an {@link IllegalArgumentException}.
+     * <p>
+     * Does not make any copies of the given array.
+     * The {@link NonEmptyDoubleVector} will hold on to a reference to the array, but will never alter it in any way.
+     *
+     * @param underlying array to wrap
+     * @return a {@code NonEmptyDoubleVector} if {@code underlying} is non-empty; throws an {@link IllegalArgumentException} otherwise
+     */
+    static NonEmptyDoubleVector wrapOrThrow(double[] underlying) {
+        return DoubleVectors.nonEmptyWrapOrThrow(underlying);
+    }
+
+    static Maybe<ImmutableNonEmptyDoubleVector> tryCopyFrom(double[] source) {
+        return DoubleVectors.tryNonEmptyCopyFrom(source);
+    }
+
+    static ImmutableNonEmptyDoubleVector copyFromOrThrow(double[] source) {
+        return DoubleVectors.nonEmptyCopyFromOrThrow(source);
+    }
+
+}
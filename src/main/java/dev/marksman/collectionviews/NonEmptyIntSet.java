@@ -0,0 +1,79 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.PrimitiveIterator;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+
+/**
+ * An {@link IntSet} that is guaranteed at compile-time to contain at least one element.
+ */
+public interface NonEmptyIntSet extends IntSet, NonEmptySet<Integer> {
+
+    /**
+     * Returns the first element in iteration order, without boxing.
+     *
+     * @return an {@code int}
+     */
+    default int headInt() {
+        return iterator().nextInt();
+    }
+
+    @Override
+    default Integer head() {
+        return headInt();
+    }
+
+    @Override
+    default Iterable<Integer> tail() {
+        return () -> {
+            PrimitiveIterator.OfInt iterator = iterator();
+            iterator.nextInt();
+            return iterator;
+        };
+    }
+
+    @Override
+    PrimitiveIterator.OfInt iterator();
+
+    @Override
+    default ImmutableNonEmptyIntSet toImmutable() {
+        return IntSets.ensureImmutable(this);
+    }
+
+    @Override
+    default Maybe<? extends NonEmptyIntSet> toNonEmpty() {
+        return just(this);
+    }
+
+    @Override
+    default NonEmptyIntSet toNonEmptyOrThrow() {
+        return this;
+    }
+
+    static Maybe<NonEmptyIntSet> tryWrap(java.util.Set<Integer> underlying) {
+        return IntSets.tryNonEmptyWrap(underlying);
+    }
+
+    static NonEmptyIntSet wrapOrThrow(java.util.Set<Integer> underlying) {
+        return IntSets.nonEmptyWrapOrThrow(underlying);
+    }
+
+    static Maybe<ImmutableNonEmptyIntSet> tryCopyFrom(int[] source) {
+        return IntSets.tryNonEmptyCopyFrom(source);
+    }
+
+    static Maybe<ImmutableNonEmptyIntSet> tryCopyFrom(Iterable<Integer> source) {
+        return IntSets.tryNonEmptyCopyFrom(source);
+    }
+
+    static ImmutableNonEmptyIntSet copyFromOrThrow(int[] source) {
+        return IntSets.nonEmptyCopyFromOrThrow(source);
+    }
+
+    static ImmutableNonEmptyIntSet copyFromOrThrow(Iterable<Integer> source) {
+        return IntSets.nonEmptyCopyFromOrThrow(source);
+    }
+
+}
@@ -0,0 +1,95 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.PrimitiveIterator;
+import java.util.function.IntUnaryOperator;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+
+/**
+ * An {@link IntVector} that is guaranteed at compile-time to contain at least one element.
+ */
+public interface NonEmptyIntVector extends IntVector, NonEmptyVector<Integer> {
+
+    /**
+     * Returns the first element, without boxing.
+     *
+     * @return the first element
+     */
+    default int headInt() {
+        return unsafeGetInt(0);
+    }
+
+    @Override
+    default Integer head() {
+        return headInt();
+    }
+
+    @Override
+    default NonEmptyIntVector mapInt(IntUnaryOperator f) {
+        return IntVectors.mapIntNonEmpty(f, this);
+    }
+
+    @Override
+    default PrimitiveIterator.OfInt iterator() {
+        return new IntVectorIterator(this);
+    }
+
+    @Override
+    default IntVector tail() {
+        return drop(1);
+    }
+
+    @Override
+    default ImmutableNonEmptyIntVector toImmutable() {
+        return IntVectors.ensureImmutable(this);
+    }
+
+    @Override
+    default Maybe<? extends NonEmptyIntVector> toNonEmpty() {
+        return just(this);
+    }
+
+    @Override
+    default NonEmptyIntVector toNonEmptyOrThrow() {
+        return this;
+    }
+
+    /**
+     * Attempts to create a {@link NonEmptyIntVector} that wraps an {@code int[]}.
+     * <p>
+     * Does not make any copies of the given array.
+     * The {@link NonEmptyIntVector} will hold on to a reference to the array, but will never alter it in any way.
+     *
+     * @param underlying array to wrap
+     * @return a {@code NonEmptyIntVector} wrapped in a {@link Maybe#just} if {@code underlying} is non-empty;
+     * {@link Maybe#nothing} otherwise.
+     */
+    static Maybe<NonEmptyIntVector> tryWrap(int[] underlying) {
+        return IntVectors.tryNonEmptyWrap(underlying);
+    }
+
+    /**
+     * Attempts to create a {@link NonEmptyIntVector} that wraps an {@code int[]}.
+     * If it is not possible, throws an {@link IllegalArgumentException}.
+     * <p>
+     * Does not make any copies of the given array.
+     * The {@link NonEmptyIntVector} will hold on to a reference to the array, but will never alter it in any way.
+     *
+     * @param underlying array to wrap
+     * @return a {@code NonEmptyIntVector} if {@code underlying} is non-empty; throws an {@link IllegalArgumentException} otherwise
+     */
+    static NonEmptyIntVector wrapOrThrow(int[] underlying) {
+        return IntVectors.nonEmptyWrapOrThrow(underlying);
+    }
+
+    static Maybe<ImmutableNonEmptyIntVector> tryCopyFrom(int[] source) {
+        return IntVectors.tryNonEmptyCopyFrom(source);
+    }
+
+    static ImmutableNonEmptyIntVector copyFromOrThrow(int[] source) {
+        return IntVectors.nonEmptyCopyFromOrThrow(source);
+    }
+
+}
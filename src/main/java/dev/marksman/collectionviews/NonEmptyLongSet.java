@@ -0,0 +1,79 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.PrimitiveIterator;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+
+/**
+ * An {@link LongSet} that is guaranteed at compile-time to contain at least one element.
+ */
+public interface NonEmptyLongSet extends LongSet, NonEmptySet<Long> {
+
+    /**
+     * Returns the first element in iteration order, without boxing.
+     *
+     * @return a {@code long}
+     */
+    default long headLong() {
+        return iterator().nextLong();
+    }
+
+    @Override
+    default Long head() {
+        return headLong();
+    }
+
+    @Override
+    default Iterable<Long> tail() {
+        return () -> {
+            PrimitiveIterator.OfLong iterator = iterator();
+            iterator.nextLong();
+            return iterator;
+        };
+    }
+
+    @Override
+    PrimitiveIterator.OfLong iterator();
+
+    @Override
+    default ImmutableNonEmptyLongSet toImmutable() {
+        return LongSets.ensureImmutable(this);
+    }
+
+    @Override
+    default Maybe<? extends NonEmptyLongSet> toNonEmpty() {
+        return just(this);
+    }
+
+    @Override
+    default NonEmptyLongSet toNonEmptyOrThrow() {
+        return this;
+    }
+
+    static Maybe<NonEmptyLongSet> tryWrap(java.util.Set<Long> underlying) {
+        return LongSets.tryNonEmptyWrap(underlying);
+    }
+
+    static NonEmptyLongSet wrapOrThrow(java.util.Set<Long> underlying) {
+        return LongSets.nonEmptyWrapOrThrow(underlying);
+    }
+
+    static Maybe<ImmutableNonEmptyLongSet> tryCopyFrom(long[] source) {
+        return LongSets.tryNonEmptyCopyFrom(source);
+    }
+
+    static Maybe<ImmutableNonEmptyLongSet> tryCopyFrom(Iterable<Long> source) {
+        return LongSets.tryNonEmptyCopyFrom(source);
+    }
+
+    static ImmutableNonEmptyLongSet copyFromOrThrow(long[] source) {
+        return LongSets.nonEmptyCopyFromOrThrow(source);
+    }
+
+    static ImmutableNonEmptyLongSet copyFromOrThrow(Iterable<Long> source) {
+        return LongSets.nonEmptyCopyFromOrThrow(source);
+    }
+
+}
@@ -0,0 +1,95 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.PrimitiveIterator;
+import java.util.function.LongUnaryOperator;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+
+/**
+ * A {@link LongVector} that is guaranteed at compile-time to contain at least one element.
+ */
+public interface NonEmptyLongVector extends LongVector, NonEmptyVector<Long> {
+
+    /**
+     * Returns the first element, without boxing.
+     *
+     * @return the first element
+     */
+    default long headLong() {
+        return unsafeGetLong(0);
+    }
+
+    @Override
+    default Long head() {
+        return headLong();
+    }
+
+    @Override
+    default NonEmptyLongVector mapLong(LongUnaryOperator f) {
+        return LongVectors.mapLongNonEmpty(f, this);
+    }
+
+    @Override
+    default PrimitiveIterator.OfLong iterator() {
+        return new LongVectorIterator(this);
+    }
+
+    @Override
+    default LongVector tail() {
+        return drop(1);
+    }
+
+    @Override
+    default ImmutableNonEmptyLongVector toImmutable() {
+        return LongVectors.ensureImmutable(this);
+    }
+
+    @Override
+    default Maybe<? extends NonEmptyLongVector> toNonEmpty() {
+        return just(this);
+    }
+
+    @Override
+    default NonEmptyLongVector toNonEmptyOrThrow() {
+        return this;
+    }
+
+    /**
+     * Attempts to create a {@link NonEmptyLongVector} that wraps an {@code long[]}.
+     * <p>
+     * Does not make any copies of the given array.
+     * The {@link NonEmptyLongVector} will hold on to a reference to the array, but will never alter it in any way.
+     *
+     * @param underlying array to wrap
+     * @return a {@code NonEmptyLongVector} wrapped in a {@link Maybe#just} if {@code underlying} is non-empty;
+     * {@link Maybe#nothing} otherwise.
+     */
+    static Maybe<NonEmptyLongVector> tryWrap(long[] underlying) {
+        return LongVectors.tryNonEmptyWrap(underlying);
+    }
+
+    /**
+     * Attempts to create a {@link NonEmptyLongVector} that wraps an {@code long[]}.
+     * If it is not possible, throws an {@link IllegalArgumentException}.
+     * <p>
+     * Does not make any copies of the given array.
+     * The {@link NonEmptyLongVector} will hold on to a reference to the array, but will never alter it in any way.
+     *
+     * @param underlying array to wrap
+     * @return a {@code NonEmptyLongVector} if {@code underlying} is non-empty; throws an {@link IllegalArgumentException} otherwise
+     */
+    static NonEmptyLongVector wrapOrThrow(long[] underlying) {
+        return LongVectors.nonEmptyWrapOrThrow(underlying);
+    }
+
+    static Maybe<ImmutableNonEmptyLongVector> tryCopyFrom(long[] source) {
+        return LongVectors.tryNonEmptyCopyFrom(source);
+    }
+
+    static ImmutableNonEmptyLongVector copyFromOrThrow(long[] source) {
+        return LongVectors.nonEmptyCopyFromOrThrow(source);
+    }
+
+}
@@ -0,0 +1,47 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+
+/**
+ * A {@link PersistentVector} that is guaranteed at compile-time to be non-empty.
+ * <p>
+ * {@link NonEmptyPersistentVector#update} and {@link NonEmptyPersistentVector#concat} always return a
+ * {@code NonEmptyPersistentVector}.
+ *
+ * @param <A> the element type
+ */
+public interface NonEmptyPersistentVector<A> extends PersistentVector<A>, ImmutableNonEmptyVector<A> {
+
+    @Override
+    default NonEmptyPersistentVector<A> update(int index, A value) {
+        return PersistentVectors.updateNonEmpty(index, value, this);
+    }
+
+    @Override
+    default NonEmptyPersistentVector<A> concat(PersistentVector<A> other) {
+        return PersistentVectors.concatNonEmpty(this, other);
+    }
+
+    @Override
+    default PersistentVector<A> tail() {
+        return drop(1);
+    }
+
+    @Override
+    default NonEmptyPersistentVector<A> toImmutable() {
+        return this;
+    }
+
+    @Override
+    default Maybe<? extends NonEmptyPersistentVector<A>> toNonEmpty() {
+        return just(this);
+    }
+
+    @Override
+    default NonEmptyPersistentVector<A> toNonEmptyOrThrow() {
+        return this;
+    }
+
+}
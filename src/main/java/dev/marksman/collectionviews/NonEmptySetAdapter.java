@@ -1,6 +1,7 @@
 package dev.marksman.collectionviews;
 
 import java.util.Iterator;
+import java.util.Spliterator;
 
 import static dev.marksman.collectionviews.ProtectedIterator.protectedIterator;
 
@@ -37,4 +38,9 @@ class NonEmptySetAdapter<A> extends ConcreteSet<A> implements NonEmptySet<A> {
     public Iterator<A> iterator() {
         return protectedIterator(underlying.iterator());
     }
+
+    @Override
+    public Spliterator<A> spliterator() {
+        return underlying.spliterator();
+    }
 }
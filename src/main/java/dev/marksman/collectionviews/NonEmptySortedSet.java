@@ -0,0 +1,50 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.Iterator;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+
+/**
+ * A {@link SortedSet} that is guaranteed at compile-time to contain at least one element.
+ * Its {@link NonEmptySortedSet#head} is its least element.
+ *
+ * @param <A> the element type
+ */
+public interface NonEmptySortedSet<A> extends SortedSet<A>, NonEmptySet<A> {
+
+    @Override
+    NonEmptyVector<A> asVector();
+
+    @Override
+    default A head() {
+        return asVector().head();
+    }
+
+    @Override
+    default Iterable<A> tail() {
+        return asVector().tail();
+    }
+
+    @Override
+    default Iterator<A> iterator() {
+        return asVector().iterator();
+    }
+
+    @Override
+    default ImmutableNonEmptySortedSet<A> toImmutable() {
+        return SortedSets.ensureImmutable(this);
+    }
+
+    @Override
+    default Maybe<? extends NonEmptySortedSet<A>> toNonEmpty() {
+        return just(this);
+    }
+
+    @Override
+    default NonEmptySortedSet<A> toNonEmptyOrThrow() {
+        return this;
+    }
+
+}
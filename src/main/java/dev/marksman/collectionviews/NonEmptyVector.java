@@ -3,8 +3,16 @@ package dev.marksman.collectionviews;
 import com.jnape.palatable.lambda.adt.Maybe;
 import com.jnape.palatable.lambda.functions.Fn1;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.IntFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 import static com.jnape.palatable.lambda.adt.Maybe.just;
 
@@ -27,6 +35,21 @@ public interface NonEmptyVector<A> extends NonEmptyIterable<A>, Vector<A> {
         return Vectors.mapNonEmpty(f, this);
     }
 
+    @Override
+    default NonEmptyIntVector mapToInt(ToIntFunction<? super A> f) {
+        return IntVectors.mapToIntNonEmpty(f, this);
+    }
+
+    @Override
+    default NonEmptyLongVector mapToLong(ToLongFunction<? super A> f) {
+        return LongVectors.mapToLongNonEmpty(f, this);
+    }
+
+    @Override
+    default NonEmptyDoubleVector mapToDouble(ToDoubleFunction<? super A> f) {
+        return DoubleVectors.mapToDoubleNonEmpty(f, this);
+    }
+
     @Override
     default boolean isEmpty() {
         return false;
@@ -206,4 +229,108 @@ public interface NonEmptyVector<A> extends NonEmptyIterable<A>, Vector<A> {
         return Vectors.nonEmptyLazyFill(size, valueSupplier);
     }
 
+    /**
+     * Constructs a new {@link ImmutableNonEmptyMemoizedVector} of size {@code size} with elements computed by their
+     * indices using a provided function, caching each element the first time it is computed.
+     * See {@link Vector#lazyFillCached}.
+     *
+     * @param size          the number of elements.  Must be &gt;= 1.
+     * @param valueSupplier a function that accepts an index and returns the computed value for
+     *                      that index.   This function should be referentially transparent and not
+     *                      perform side-effects.
+     * @param <A>           the element type
+     * @return an {@code ImmutableNonEmptyMemoizedVector<A>} of {@code size} elements
+     */
+    static <A> ImmutableNonEmptyMemoizedVector<A> lazyFillCached(int size, IntFunction<? extends A> valueSupplier) {
+        return Vectors.nonEmptyLazyFillCached(size, valueSupplier);
+    }
+
+    /**
+     * Reads an {@link ImmutableNonEmptyVector} written by {@link ImmutableVector#writeTo}, using {@code codec}
+     * to read each element.  See {@link Vector#readFrom(ElementCodec, InputStream)}.
+     *
+     * @param codec the codec used to read each element
+     * @param in    the source
+     * @param <A>   the element type
+     * @return an {@code ImmutableNonEmptyVector<A>}
+     * @throws IOException if {@code in} or {@code codec} throws, or {@code in} does not contain a non-empty vector
+     */
+    static <A> ImmutableNonEmptyVector<A> readFrom(ElementCodec<A> codec, InputStream in) throws IOException {
+        return BinaryFormat.readNonEmptyVector(codec, in);
+    }
+
+    /**
+     * Reads an {@link ImmutableNonEmptyVector} written by {@link ImmutableVector#writeTo}, using {@code codec}
+     * to read each element.  See {@link Vector#readFrom(ElementCodec, ReadableByteChannel)}.
+     *
+     * @param codec the codec used to read each element
+     * @param in    the source
+     * @param <A>   the element type
+     * @return an {@code ImmutableNonEmptyVector<A>}
+     * @throws IOException if {@code in} or {@code codec} throws, or {@code in} does not contain a non-empty vector
+     */
+    static <A> ImmutableNonEmptyVector<A> readFrom(ElementCodec<A> codec, ReadableByteChannel in) throws IOException {
+        return BinaryFormat.readNonEmptyVector(codec, in);
+    }
+
+    /**
+     * Attempts to create an {@link ImmutableNonEmptyVector} over a vector written by
+     * {@link ImmutableVector#writeIndexedTo}, without deserializing it.  See {@link Vector#viewSerialized}.
+     *
+     * @param codec  the codec used to read each element
+     * @param source the buffer containing the serialized vector
+     * @param <A>    the element type
+     * @return an {@code ImmutableNonEmptyVector<A>} wrapped in a {@link Maybe#just} if the serialized vector
+     * is not empty, otherwise {@link Maybe#nothing}
+     * @throws IllegalArgumentException if {@code source} does not contain a vector in the indexed format
+     */
+    static <A> Maybe<ImmutableNonEmptyVector<A>> tryViewSerialized(ElementCodec<A> codec, ByteBuffer source) {
+        return BinaryFormat.tryViewNonEmptyIndexedVector(codec, source);
+    }
+
+    /**
+     * Creates an {@link ImmutableNonEmptyVector} over a vector written by {@link ImmutableVector#writeIndexedTo},
+     * without deserializing it.  See {@link Vector#viewSerialized}.
+     *
+     * @param codec  the codec used to read each element
+     * @param source the buffer containing the serialized vector
+     * @param <A>    the element type
+     * @return an {@code ImmutableNonEmptyVector<A>}
+     * @throws IllegalArgumentException if {@code source} does not contain a non-empty vector in the indexed format
+     */
+    static <A> ImmutableNonEmptyVector<A> viewSerializedOrThrow(ElementCodec<A> codec, ByteBuffer source) {
+        return BinaryFormat.viewNonEmptyIndexedVectorOrThrow(codec, source);
+    }
+
+    /**
+     * Same as {@link NonEmptyVector#tryViewSerialized}, but each element is decoded at most once, the first time
+     * it is accessed, and then cached.  See {@link Vector#viewSerializedMemoized}.
+     *
+     * @param codec  the codec used to read each element
+     * @param source the buffer containing the serialized vector
+     * @param <A>    the element type
+     * @return an {@code ImmutableNonEmptyMemoizedVector<A>} wrapped in a {@link Maybe#just} if the serialized vector
+     * is not empty, otherwise {@link Maybe#nothing}
+     * @throws IllegalArgumentException if {@code source} does not contain a vector in the indexed format
+     */
+    static <A> Maybe<ImmutableNonEmptyMemoizedVector<A>> tryViewSerializedMemoized(ElementCodec<A> codec,
+                                                                                  ByteBuffer source) {
+        return BinaryFormat.tryViewNonEmptyIndexedVectorMemoized(codec, source);
+    }
+
+    /**
+     * Same as {@link NonEmptyVector#viewSerializedOrThrow}, but each element is decoded at most once, the first time
+     * it is accessed, and then cached.  See {@link Vector#viewSerializedMemoized}.
+     *
+     * @param codec  the codec used to read each element
+     * @param source the buffer containing the serialized vector
+     * @param <A>    the element type
+     * @return an {@code ImmutableNonEmptyMemoizedVector<A>}
+     * @throws IllegalArgumentException if {@code source} does not contain a non-empty vector in the indexed format
+     */
+    static <A> ImmutableNonEmptyMemoizedVector<A> viewSerializedMemoizedOrThrow(ElementCodec<A> codec,
+                                                                               ByteBuffer source) {
+        return BinaryFormat.viewNonEmptyIndexedVectorMemoizedOrThrow(codec, source);
+    }
+
 }
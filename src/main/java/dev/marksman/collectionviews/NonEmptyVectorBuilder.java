@@ -0,0 +1,20 @@
+package dev.marksman.collectionviews;
+
+/**
+ * A {@link VectorBuilder} that is guaranteed at compile-time to contain at least one element, and so always builds
+ * an {@link ImmutableNonEmptyVector}.
+ *
+ * @param <A> the element type
+ */
+public interface NonEmptyVectorBuilder<A> extends VectorBuilder<A> {
+
+    @Override
+    NonEmptyVectorBuilder<A> addAll(Vector<A> elements);
+
+    @Override
+    NonEmptyVectorBuilder<A> addAll(Iterable<A> elements);
+
+    @Override
+    ImmutableNonEmptyVector<A> build();
+
+}
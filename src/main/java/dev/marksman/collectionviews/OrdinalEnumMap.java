@@ -0,0 +1,127 @@
+package dev.marksman.collectionviews;
+
+import java.util.function.BiConsumer;
+
+/**
+ * An {@link ImmutableEnumMap} that keeps its values in an array indexed by the ordinal of their keys,
+ * with {@code null} marking an absent key.
+ */
+final class OrdinalEnumMap<K extends Enum<K>, V> implements ImmutableEnumMap<K, V> {
+    private final Class<K> keyType;
+    /**
+     * all constants of keyType, indexed by ordinal
+     */
+    private final Object[] universe;
+    /**
+     * same length as universe
+     */
+    private final Object[] values;
+    private final ImmutableSet<K> keys;
+
+    OrdinalEnumMap(Class<K> keyType, Object[] universe, Object[] values) {
+        this.keyType = keyType;
+        this.universe = universe;
+        this.values = values;
+        Object[] present = new Object[universe.length];
+        int count = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                present[count++] = universe[i];
+            }
+        }
+        this.keys = ImmutableSets.fromArray(present, count);
+    }
+
+    @Override
+    public Class<K> keyType() {
+        return keyType;
+    }
+
+    @Override
+    public int size() {
+        return keys.size();
+    }
+
+    @Override
+    public boolean containsKey(K key) {
+        return key != null && key.getDeclaringClass() == keyType && values[key.ordinal()] != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public V getOrElse(K key, V other) {
+        if (key == null || key.getDeclaringClass() != keyType) {
+            return other;
+        }
+        Object value = values[key.ordinal()];
+        return value != null ? (V) value : other;
+    }
+
+    @Override
+    public ImmutableSet<K> keys() {
+        return keys;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEach(BiConsumer<? super K, ? super V> action) {
+        for (int i = 0; i < values.length; i++) {
+            Object value = values[i];
+            if (value != null) {
+                action.accept((K) universe[i], (V) value);
+            }
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof ImmutableEnumMap<?, ?>)) {
+            return false;
+        }
+        ImmutableEnumMap<?, ?> other = (ImmutableEnumMap<?, ?>) o;
+        if (other.keyType() != keyType || other.size() != size()) {
+            return false;
+        }
+        ImmutableEnumMap<K, ?> sameKeys = (ImmutableEnumMap<K, ?>) other;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null && !values[i].equals(sameKeys.getOrElse((K) universe[i], null))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int h = 0;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                h += universe[i].hashCode() ^ values[i].hashCode();
+            }
+        }
+        return h;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder output = new StringBuilder();
+        output.append("EnumMap(");
+        boolean inner = false;
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                if (inner) {
+                    output.append(", ");
+                }
+                output.append(universe[i]).append('=').append(values[i]);
+                inner = true;
+            }
+        }
+        output.append(')');
+        return output.toString();
+    }
+
+}
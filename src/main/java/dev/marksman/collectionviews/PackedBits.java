@@ -0,0 +1,163 @@
+package dev.marksman.collectionviews;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * A range of bits within a {@code long[]}, using the same layout as {@link BitSet#toLongArray}:  bit {@code i}
+ * is bit {@code i % 64} of word {@code i / 64}.
+ * <p>
+ * All scanning and bulk operations work a word at a time, even when the range does not start on a word boundary.
+ */
+final class PackedBits {
+    private static final PackedBits EMPTY = new PackedBits(new long[0], 0, 0);
+
+    private final long[] words;
+    private final int offset;
+    private final int size;
+
+    private PackedBits(long[] words, int offset, int size) {
+        this.words = words;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean get(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        int bitIndex = offset + index;
+        return ((words[bitIndex >>> 6] >>> bitIndex) & 1L) != 0;
+    }
+
+    PackedBits slice(int startIndex, int sliceSize) {
+        return new PackedBits(words, offset + startIndex, sliceSize);
+    }
+
+    int countTrue() {
+        int result = 0;
+        for (int i = 0; i < size; i += 64) {
+            result += Long.bitCount(chunk(i));
+        }
+        return result;
+    }
+
+    int nextTrue(int fromIndex) {
+        if (fromIndex < 0) throw new IllegalArgumentException("fromIndex must be >= 0");
+        for (int i = fromIndex; i < size; i += 64) {
+            long bits = chunk(i);
+            if (bits != 0) {
+                return i + Long.numberOfTrailingZeros(bits);
+            }
+        }
+        return -1;
+    }
+
+    PackedBits and(PackedBits other) {
+        requireSameSize(other);
+        long[] result = new long[wordCount(size)];
+        for (int i = 0; i < size; i += 64) {
+            result[i >>> 6] = chunk(i) & other.chunk(i);
+        }
+        return new PackedBits(result, 0, size);
+    }
+
+    PackedBits or(PackedBits other) {
+        requireSameSize(other);
+        long[] result = new long[wordCount(size)];
+        for (int i = 0; i < size; i += 64) {
+            result[i >>> 6] = chunk(i) | other.chunk(i);
+        }
+        return new PackedBits(result, 0, size);
+    }
+
+    PackedBits xor(PackedBits other) {
+        requireSameSize(other);
+        long[] result = new long[wordCount(size)];
+        for (int i = 0; i < size; i += 64) {
+            result[i >>> 6] = chunk(i) ^ other.chunk(i);
+        }
+        return new PackedBits(result, 0, size);
+    }
+
+    /**
+     * Returns a copy of these bits that starts on a word boundary and shares nothing with this one.
+     */
+    PackedBits compact() {
+        long[] result = new long[wordCount(size)];
+        for (int i = 0; i < size; i += 64) {
+            result[i >>> 6] = chunk(i);
+        }
+        return new PackedBits(result, 0, size);
+    }
+
+    BitSet toBitSet() {
+        return BitSet.valueOf(compact().words);
+    }
+
+    /**
+     * Returns the (up to) 64 bits starting at index {@code i}, with any bits at or beyond {@code size} cleared.
+     */
+    private long chunk(int i) {
+        int bitIndex = offset + i;
+        int wordIndex = bitIndex >>> 6;
+        int shift = bitIndex & 63;
+        long result = words[wordIndex] >>> shift;
+        if (shift != 0 && wordIndex + 1 < words.length) {
+            result |= words[wordIndex + 1] << (64 - shift);
+        }
+        int remaining = size - i;
+        if (remaining < 64) {
+            result &= (1L << remaining) - 1;
+        }
+        return result;
+    }
+
+    private void requireSameSize(PackedBits other) {
+        if (other.size != size) throw new IllegalArgumentException("BooleanVectors must be the same size");
+    }
+
+    private static int wordCount(int size) {
+        return (size + 63) >>> 6;
+    }
+
+    static PackedBits empty() {
+        return EMPTY;
+    }
+
+    static PackedBits wrap(long[] words, int size) {
+        return new PackedBits(words, 0, size);
+    }
+
+    static PackedBits copyFrom(boolean[] source, int count) {
+        long[] words = new long[wordCount(count)];
+        for (int i = 0; i < count; i++) {
+            if (source[i]) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+        return new PackedBits(words, 0, count);
+    }
+
+    static PackedBits copyFrom(BitSet source, int size) {
+        long[] words = Arrays.copyOf(source.toLongArray(), wordCount(size));
+        if ((size & 63) != 0) {
+            words[words.length - 1] &= (1L << size) - 1;
+        }
+        return new PackedBits(words, 0, size);
+    }
+
+    static PackedBits copyFrom(Vector<Boolean> source) {
+        int size = source.size();
+        long[] words = new long[wordCount(size)];
+        for (int i = 0; i < size; i++) {
+            if (source.unsafeGet(i)) {
+                words[i >>> 6] |= 1L << i;
+            }
+        }
+        return new PackedBits(words, 0, size);
+    }
+
+}
@@ -0,0 +1,24 @@
+package dev.marksman.collectionviews;
+
+class PackedBooleanVector extends ConcreteVector<Boolean> implements BooleanVector {
+    private final PackedBits bits;
+
+    PackedBooleanVector(PackedBits bits) {
+        this.bits = bits;
+    }
+
+    @Override
+    public int size() {
+        return bits.size();
+    }
+
+    @Override
+    public boolean unsafeGetBoolean(int index) {
+        return bits.get(index);
+    }
+
+    PackedBits bits() {
+        return bits;
+    }
+
+}
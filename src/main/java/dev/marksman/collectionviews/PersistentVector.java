@@ -0,0 +1,176 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+
+/**
+ * An {@link ImmutableVector} that supports efficient non-destructive modification.
+ * <p>
+ * A {@code PersistentVector} is a relaxed radix balanced tree with a branching factor of 32.
+ * {@link PersistentVector#append}, {@link PersistentVector#prepend}, {@link PersistentVector#update},
+ * {@link PersistentVector#concat} and {@link PersistentVector#split} each return a new {@code PersistentVector}
+ * sharing all but the modified path with the original.  Lookup by index is O(log<sub>32</sub> n), which is
+ * effectively constant for any size that fits in memory.
+ * <p>
+ * {@code update} is always O(log<sub>32</sub> n).  {@code append}, {@code prepend}, {@code concat} and
+ * {@code split} are O(log<sub>32</sub> n) except when they trigger a rebuild, so the bound is amortized rather
+ * than worst case.  They do not redistribute elements between the nodes along the seam they create, so a long run
+ * of them (concatenating many small vectors, say) can leave partly filled nodes behind.  When that makes the tree
+ * more than two levels taller than a densely packed tree of the same size, the operation that notices rebuilds
+ * the whole tree in O(n).  The rebuilt tree is dense, so another rebuild needs another such run.
+ * <p>
+ * In addition to the guarantees of {@link ImmutableVector}, provides the following benefits:
+ * <ul>
+ * <li>{@link PersistentVector#take}, {@link PersistentVector#drop}, {@link PersistentVector#slice} and
+ * {@link PersistentVector#tail} always return a {@code PersistentVector}, reusing the subtrees of this one
+ * rather than wrapping it.</li>
+ * </ul>
+ *
+ * @param <A> the element type
+ */
+public interface PersistentVector<A> extends ImmutableVector<A> {
+
+    /**
+     * Returns a new {@link NonEmptyPersistentVector} with {@code element} added to the end.
+     *
+     * @param element the element to append
+     * @return a {@code NonEmptyPersistentVector<A>}
+     */
+    default NonEmptyPersistentVector<A> append(A element) {
+        return PersistentVectors.append(element, this);
+    }
+
+    /**
+     * Returns a new {@link NonEmptyPersistentVector} with {@code element} added to the front.
+     *
+     * @param element the element to prepend
+     * @return a {@code NonEmptyPersistentVector<A>}
+     */
+    default NonEmptyPersistentVector<A> prepend(A element) {
+        return PersistentVectors.prepend(element, this);
+    }
+
+    /**
+     * Returns a new {@link PersistentVector} with the element at {@code index} replaced by {@code value}.
+     *
+     * @param index the index of the element to replace.  Must be between 0 and <code>size() - 1</code>, otherwise
+     *              will throw an {@link IndexOutOfBoundsException}
+     * @param value the new element
+     * @return a {@code PersistentVector<A>} of the same size
+     */
+    default PersistentVector<A> update(int index, A value) {
+        return PersistentVectors.update(index, value, this);
+    }
+
+    /**
+     * Returns a new {@link PersistentVector} with the elements of {@code other} following the elements of this one.
+     *
+     * @param other the {@code PersistentVector} to append
+     * @return a {@code PersistentVector<A>}
+     */
+    default PersistentVector<A> concat(PersistentVector<A> other) {
+        return PersistentVectors.concat(this, other);
+    }
+
+    /**
+     * Splits this {@link PersistentVector} in two at {@code index}.
+     * <p>
+     * Equivalent to {@code tuple(take(index), drop(index))}.
+     *
+     * @param index the index of the first element of the second half.  Must be &gt;= 0.  May exceed the size of
+     *              this {@link PersistentVector}, in which case the second half will be empty.
+     * @return a {@code Tuple2} of the elements before {@code index} and the elements from {@code index} on
+     */
+    default Tuple2<PersistentVector<A>, PersistentVector<A>> split(int index) {
+        return PersistentVectors.split(index, this);
+    }
+
+    @Override
+    default PersistentVector<A> drop(int count) {
+        return PersistentVectors.drop(count, this);
+    }
+
+    @Override
+    default PersistentVector<A> slice(int startIndex, int endIndexExclusive) {
+        return PersistentVectors.slice(startIndex, endIndexExclusive, this);
+    }
+
+    @Override
+    default PersistentVector<A> tail() {
+        return drop(1);
+    }
+
+    @Override
+    default PersistentVector<A> take(int count) {
+        return PersistentVectors.take(count, this);
+    }
+
+    @Override
+    default PersistentVector<A> toImmutable() {
+        return this;
+    }
+
+    @Override
+    default Maybe<? extends NonEmptyPersistentVector<A>> toNonEmpty() {
+        return PersistentVectors.tryNonEmptyConvert(this);
+    }
+
+    @Override
+    default NonEmptyPersistentVector<A> toNonEmptyOrThrow() {
+        return PersistentVectors.nonEmptyConvertOrThrow(this);
+    }
+
+    /**
+     * Returns an empty {@link PersistentVector}.
+     *
+     * @param <A> the element type
+     * @return an empty {@code PersistentVector<A>}
+     */
+    static <A> PersistentVector<A> empty() {
+        return EmptyPersistentVector.emptyPersistentVector();
+    }
+
+    /**
+     * Constructs a new {@link NonEmptyPersistentVector} with the given elements.
+     *
+     * @param first the first element
+     * @param more  the remaining elements
+     * @param <A>   the element type
+     * @return a {@code NonEmptyPersistentVector<A>}
+     */
+    @SafeVarargs
+    static <A> NonEmptyPersistentVector<A> of(A first, A... more) {
+        return PersistentVectors.of(first, more);
+    }
+
+    /**
+     * Constructs a new {@link PersistentVector} from any {@link Iterable}.
+     * <p>
+     * The entire {@link Iterable} will be eagerly iterated, so be careful not
+     * to pass in an infinite {@link Iterable} or this method will not terminate.
+     * <p>
+     * The tree is built bottom-up in a single pass, so this is much cheaper than appending the elements one at a time.
+     * If {@code source} already is a {@link PersistentVector}, it will be returned directly.
+     *
+     * @param source an {@code Iterable<A>} that will be iterated eagerly in its entirety
+     * @param <A>    the element type
+     * @return a {@code PersistentVector<A>}
+     */
+    static <A> PersistentVector<A> copyFrom(Iterable<A> source) {
+        return PersistentVectors.copyFrom(source);
+    }
+
+    /**
+     * Constructs a new {@link PersistentVector} from an array.
+     * <p>
+     * Since the array is copied, it is safe to modify it afterwards.
+     *
+     * @param source the array to copy
+     * @param <A>    the element type
+     * @return a {@code PersistentVector<A>}
+     */
+    static <A> PersistentVector<A> copyFrom(A[] source) {
+        return PersistentVectors.copyFrom(source);
+    }
+
+}
@@ -0,0 +1,143 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Objects;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+import static com.jnape.palatable.lambda.adt.hlist.HList.tuple;
+
+class PersistentVectors {
+
+    static <A> NonEmptyPersistentVector<A> append(A element, PersistentVector<A> source) {
+        return new RrbVector<>(RrbTree.concat(tree(source), RrbTree.singleton(element)));
+    }
+
+    static <A> NonEmptyPersistentVector<A> prepend(A element, PersistentVector<A> source) {
+        return new RrbVector<>(RrbTree.concat(RrbTree.singleton(element), tree(source)));
+    }
+
+    static <A> PersistentVector<A> update(int index, A value, PersistentVector<A> source) {
+        if (source.isEmpty()) throw new IndexOutOfBoundsException();
+        return updateNonEmpty(index, value, source);
+    }
+
+    static <A> NonEmptyPersistentVector<A> updateNonEmpty(int index, A value, PersistentVector<A> source) {
+        RrbTree tree = tree(source);
+        if (index < 0 || index >= tree.size()) throw new IndexOutOfBoundsException();
+        return new RrbVector<>(tree.update(index, value));
+    }
+
+    static <A> PersistentVector<A> concat(PersistentVector<A> first, PersistentVector<A> second) {
+        Objects.requireNonNull(second);
+        if (first.isEmpty()) return second;
+        if (second.isEmpty()) return first;
+        return persistentVector(RrbTree.concat(tree(first), tree(second)));
+    }
+
+    static <A> NonEmptyPersistentVector<A> concatNonEmpty(NonEmptyPersistentVector<A> first,
+                                                          PersistentVector<A> second) {
+        Objects.requireNonNull(second);
+        if (second.isEmpty()) return first;
+        return new RrbVector<>(RrbTree.concat(tree(first), tree(second)));
+    }
+
+    static <A> Tuple2<PersistentVector<A>, PersistentVector<A>> split(int index, PersistentVector<A> source) {
+        if (index < 0) throw new IllegalArgumentException("index must be >= 0");
+        RrbTree tree = tree(source);
+        return tuple(persistentVector(tree.take(index)), persistentVector(tree.drop(index)));
+    }
+
+    static <A> PersistentVector<A> drop(int count, PersistentVector<A> source) {
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        if (count == 0) return source;
+        return persistentVector(tree(source).drop(count));
+    }
+
+    static <A> PersistentVector<A> take(int count, PersistentVector<A> source) {
+        if (count < 0) throw new IllegalArgumentException("count must be >= 0");
+        return slice(0, count, source);
+    }
+
+    static <A> PersistentVector<A> slice(int startIndex, int endIndexExclusive, PersistentVector<A> source) {
+        if (startIndex < 0) throw new IllegalArgumentException("startIndex must be >= 0");
+        if (endIndexExclusive < 0) throw new IllegalArgumentException("endIndex must be >= 0");
+        int requestedSize = endIndexExclusive - startIndex;
+        if (requestedSize < 1) {
+            return EmptyPersistentVector.emptyPersistentVector();
+        }
+        if (startIndex == 0 && requestedSize >= source.size()) {
+            return source;
+        }
+        return persistentVector(tree(source).slice(startIndex, requestedSize));
+    }
+
+    static <A> Maybe<NonEmptyPersistentVector<A>> tryNonEmptyConvert(PersistentVector<A> source) {
+        Objects.requireNonNull(source);
+        if (source instanceof NonEmptyPersistentVector<?>) {
+            return just((NonEmptyPersistentVector<A>) source);
+        } else if (!source.isEmpty()) {
+            return just(new RrbVector<>(tree(source)));
+        } else {
+            return nothing();
+        }
+    }
+
+    static <A> NonEmptyPersistentVector<A> nonEmptyConvertOrThrow(PersistentVector<A> source) {
+        return tryNonEmptyConvert(source).orElseThrow(Vectors.nonEmptyError());
+    }
+
+    @SafeVarargs
+    static <A> NonEmptyPersistentVector<A> of(A first, A... more) {
+        Object[] elements = new Object[1 + more.length];
+        elements[0] = first;
+        System.arraycopy(more, 0, elements, 1, more.length);
+        return new RrbVector<>(RrbTree.fromArray(elements));
+    }
+
+    static <A> PersistentVector<A> copyFrom(A[] source) {
+        Objects.requireNonNull(source);
+        return persistentVector(RrbTree.fromArray(source.clone()));
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A> PersistentVector<A> copyFrom(Iterable<A> source) {
+        Objects.requireNonNull(source);
+        if (source instanceof PersistentVector<?>) {
+            return (PersistentVector<A>) source;
+        } else if (source instanceof Collection<?>) {
+            return persistentVector(RrbTree.fromArray(((Collection<A>) source).toArray()));
+        } else {
+            ArrayList<A> elements = new ArrayList<>();
+            source.forEach(elements::add);
+            return persistentVector(RrbTree.fromArray(elements.toArray()));
+        }
+    }
+
+    private static <A> PersistentVector<A> persistentVector(RrbTree tree) {
+        return tree.size() == 0 ? EmptyPersistentVector.emptyPersistentVector() : new RrbVector<>(tree);
+    }
+
+    /**
+     * Other implementations of {@link PersistentVector} are copied into a new tree.
+     */
+    private static RrbTree tree(PersistentVector<?> source) {
+        Objects.requireNonNull(source);
+        if (source instanceof RrbVector<?>) {
+            return ((RrbVector<?>) source).tree();
+        } else if (source.isEmpty()) {
+            return RrbTree.EMPTY;
+        } else {
+            Object[] elements = new Object[source.size()];
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = source.unsafeGet(i);
+            }
+            return RrbTree.fromArray(elements);
+        }
+    }
+
+}
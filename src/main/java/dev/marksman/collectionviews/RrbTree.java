@@ -0,0 +1,347 @@
+package dev.marksman.collectionviews;
+
+import java.util.Arrays;
+
+/**
+ * The structure behind {@link PersistentVector}: a relaxed radix balanced tree with a branching factor of 32.
+ * <p>
+ * Leaves are {@code Object[]}s holding up to 32 elements.  A {@link Branch} holds up to 32 children of equal height,
+ * along with a table of cumulative child sizes, so that subtrees are not required to be full.  Lookup first guesses
+ * the child by radix, then scans forward through the size table; for the mostly dense trees built here, that is
+ * rarely more than a step or two.
+ * <p>
+ * Trees are never modified after construction; every operation copies the path it changes and shares the rest.
+ */
+final class RrbTree {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+
+    static final RrbTree EMPTY = new RrbTree(new Object[0], 0, 0);
+
+    /**
+     * an Object[] leaf when height is 0, otherwise a Branch
+     */
+    private final Object root;
+    private final int height;
+    private final int size;
+
+    private RrbTree(Object root, int height, int size) {
+        this.root = root;
+        this.height = height;
+        this.size = size;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int height() {
+        return height;
+    }
+
+    Object get(int index) {
+        Object node = root;
+        for (int h = height; h > 0; h--) {
+            Branch branch = (Branch) node;
+            int c = branch.childIndex(index, h);
+            index -= branch.offset(c);
+            node = branch.children[c];
+        }
+        return ((Object[]) node)[index];
+    }
+
+    /**
+     * Returns the leaf containing {@code index}, and stores the index of its first element in {@code startOut[0]}.
+     */
+    Object[] leafAt(int index, int[] startOut) {
+        Object node = root;
+        int start = 0;
+        for (int h = height; h > 0; h--) {
+            Branch branch = (Branch) node;
+            int c = branch.childIndex(index - start, h);
+            start += branch.offset(c);
+            node = branch.children[c];
+        }
+        startOut[0] = start;
+        return (Object[]) node;
+    }
+
+    RrbTree update(int index, Object value) {
+        return new RrbTree(update(root, height, index, value), height, size);
+    }
+
+    RrbTree take(int count) {
+        if (count <= 0) return EMPTY;
+        if (count >= size) return this;
+        return normalized(take(root, height, count), height, count);
+    }
+
+    RrbTree drop(int count) {
+        if (count <= 0) return this;
+        if (count >= size) return EMPTY;
+        return normalized(drop(root, height, count), height, size - count);
+    }
+
+    RrbTree slice(int offset, int count) {
+        return drop(offset).take(count);
+    }
+
+    static RrbTree concat(RrbTree left, RrbTree right) {
+        if (left.size == 0) return right;
+        if (right.size == 0) return left;
+        int height;
+        Object[] nodes;
+        if (left.height >= right.height) {
+            height = left.height;
+            nodes = joinRight(left.root, left.height, right.root, right.height);
+        } else {
+            height = right.height;
+            nodes = joinLeft(left.root, left.height, right.root, right.height);
+        }
+        if (nodes.length == 1) {
+            return balanced(nodes[0], height, left.size + right.size);
+        } else {
+            return balanced(branch(nodes, height + 1), height + 1, left.size + right.size);
+        }
+    }
+
+    static RrbTree singleton(Object element) {
+        return new RrbTree(new Object[]{element}, 0, 1);
+    }
+
+    /**
+     * Builds a densely packed tree bottom-up.  Takes ownership of {@code elements}.
+     */
+    static RrbTree fromArray(Object[] elements) {
+        int count = elements.length;
+        if (count == 0) return EMPTY;
+        if (count <= WIDTH) return new RrbTree(elements, 0, count);
+        Object[] nodes = new Object[(count + WIDTH - 1) / WIDTH];
+        for (int i = 0; i < nodes.length; i++) {
+            nodes[i] = Arrays.copyOfRange(elements, i * WIDTH, Math.min(count, (i + 1) * WIDTH));
+        }
+        int height = 0;
+        while (nodes.length > 1) {
+            height += 1;
+            Object[] parents = new Object[(nodes.length + WIDTH - 1) / WIDTH];
+            for (int i = 0; i < parents.length; i++) {
+                parents[i] = branch(Arrays.copyOfRange(nodes, i * WIDTH, Math.min(nodes.length, (i + 1) * WIDTH)),
+                        height);
+            }
+            nodes = parents;
+        }
+        return new RrbTree(nodes[0], height, count);
+    }
+
+    Object[] toArray() {
+        Object[] result = new Object[size];
+        copyInto(0, result, 0, size);
+        return result;
+    }
+
+    void copyInto(int from, Object[] target, int targetOffset, int count) {
+        int[] start = new int[1];
+        int index = from;
+        int end = from + count;
+        while (index < end) {
+            Object[] leaf = leafAt(index, start);
+            int offsetInLeaf = index - start[0];
+            int copied = Math.min(leaf.length - offsetInLeaf, end - index);
+            System.arraycopy(leaf, offsetInLeaf, target, targetOffset + index - from, copied);
+            index += copied;
+        }
+    }
+
+    private static Object update(Object node, int height, int index, Object value) {
+        if (height == 0) {
+            Object[] leaf = ((Object[]) node).clone();
+            leaf[index] = value;
+            return leaf;
+        }
+        Branch branch = (Branch) node;
+        int c = branch.childIndex(index, height);
+        Object[] children = branch.children.clone();
+        children[c] = update(children[c], height - 1, index - branch.offset(c), value);
+        return new Branch(children, branch.sizes);
+    }
+
+    /**
+     * count must be between 1 and the size of node, inclusive
+     */
+    private static Object take(Object node, int height, int count) {
+        if (height == 0) {
+            Object[] leaf = (Object[]) node;
+            return count == leaf.length ? leaf : Arrays.copyOf(leaf, count);
+        }
+        Branch branch = (Branch) node;
+        int c = branch.childIndex(count - 1, height);
+        Object[] children = Arrays.copyOf(branch.children, c + 1);
+        int[] sizes = Arrays.copyOf(branch.sizes, c + 1);
+        children[c] = take(children[c], height - 1, count - branch.offset(c));
+        sizes[c] = count;
+        return new Branch(children, sizes);
+    }
+
+    /**
+     * count must be between 0 and the size of node, exclusive
+     */
+    private static Object drop(Object node, int height, int count) {
+        if (height == 0) {
+            Object[] leaf = (Object[]) node;
+            return count == 0 ? leaf : Arrays.copyOfRange(leaf, count, leaf.length);
+        }
+        Branch branch = (Branch) node;
+        int c = branch.childIndex(count, height);
+        int n = branch.children.length - c;
+        Object[] children = Arrays.copyOfRange(branch.children, c, branch.children.length);
+        int[] sizes = new int[n];
+        for (int i = 0; i < n; i++) {
+            sizes[i] = branch.sizes[c + i] - count;
+        }
+        children[0] = drop(children[0], height - 1, count - branch.offset(c));
+        return new Branch(children, sizes);
+    }
+
+    /**
+     * Joins two trees where leftHeight &gt;= rightHeight, descending the right spine of the left tree.
+     * Returns one or two nodes of height leftHeight.
+     */
+    private static Object[] joinRight(Object left, int leftHeight, Object right, int rightHeight) {
+        if (leftHeight == rightHeight) return merge(left, right, leftHeight);
+        Branch branch = (Branch) left;
+        int n = branch.children.length;
+        Object[] joined = joinRight(branch.children[n - 1], leftHeight - 1, right, rightHeight);
+        Object[] children = Arrays.copyOf(branch.children, n - 1 + joined.length);
+        System.arraycopy(joined, 0, children, n - 1, joined.length);
+        return pack(children, leftHeight, true);
+    }
+
+    /**
+     * Joins two trees where leftHeight &lt; rightHeight, descending the left spine of the right tree.
+     * Returns one or two nodes of height rightHeight.
+     */
+    private static Object[] joinLeft(Object left, int leftHeight, Object right, int rightHeight) {
+        if (leftHeight == rightHeight) return merge(left, right, rightHeight);
+        Branch branch = (Branch) right;
+        int n = branch.children.length;
+        Object[] joined = joinLeft(left, leftHeight, branch.children[0], rightHeight - 1);
+        Object[] children = new Object[joined.length + n - 1];
+        System.arraycopy(joined, 0, children, 0, joined.length);
+        System.arraycopy(branch.children, 1, children, joined.length, n - 1);
+        return pack(children, rightHeight, false);
+    }
+
+    /**
+     * Merges two nodes of equal height along their common seam; the leaves that meet there are combined if they fit
+     * in one.
+     * Returns one or two nodes of the same height.
+     */
+    private static Object[] merge(Object left, Object right, int height) {
+        if (height == 0) {
+            Object[] l = (Object[]) left;
+            Object[] r = (Object[]) right;
+            if (l.length + r.length > WIDTH) {
+                return new Object[]{l, r};
+            }
+            Object[] leaf = Arrays.copyOf(l, l.length + r.length);
+            System.arraycopy(r, 0, leaf, l.length, r.length);
+            return new Object[]{leaf};
+        }
+        Branch l = (Branch) left;
+        Branch r = (Branch) right;
+        int ln = l.children.length;
+        int rn = r.children.length;
+        Object[] seam = merge(l.children[ln - 1], r.children[0], height - 1);
+        Object[] children = new Object[ln - 1 + seam.length + rn - 1];
+        System.arraycopy(l.children, 0, children, 0, ln - 1);
+        System.arraycopy(seam, 0, children, ln - 1, seam.length);
+        System.arraycopy(r.children, 1, children, ln - 1 + seam.length, rn - 1);
+        return pack(children, height, true);
+    }
+
+    /**
+     * Wraps at most 2 * WIDTH children of the given height minus one into one or two branches.  When two are needed,
+     * the one away from the end being grown is filled completely, so that repeated appends (or prepends) leave
+     * full nodes behind them.
+     */
+    private static Object[] pack(Object[] children, int height, boolean fillFirst) {
+        if (children.length <= WIDTH) {
+            return new Object[]{branch(children, height)};
+        }
+        int split = fillFirst ? WIDTH : children.length - WIDTH;
+        return new Object[]{branch(Arrays.copyOf(children, split), height),
+                branch(Arrays.copyOfRange(children, split, children.length), height)};
+    }
+
+    private static Branch branch(Object[] children, int height) {
+        int[] sizes = new int[children.length];
+        int total = 0;
+        for (int i = 0; i < children.length; i++) {
+            total += nodeSize(children[i], height - 1);
+            sizes[i] = total;
+        }
+        return new Branch(children, sizes);
+    }
+
+    private static int nodeSize(Object node, int height) {
+        if (height == 0) {
+            return ((Object[]) node).length;
+        }
+        int[] sizes = ((Branch) node).sizes;
+        return sizes[sizes.length - 1];
+    }
+
+    private static RrbTree normalized(Object root, int height, int size) {
+        while (height > 0 && ((Branch) root).children.length == 1) {
+            root = ((Branch) root).children[0];
+            height -= 1;
+        }
+        return balanced(root, height, size);
+    }
+
+    /**
+     * Repeated slicing and concatenation can leave sparse nodes behind; if the tree has grown noticeably taller
+     * than a dense tree of the same size, it is rebuilt.
+     */
+    private static RrbTree balanced(Object root, int height, int size) {
+        RrbTree result = new RrbTree(root, height, size);
+        return height > minimumHeight(size) + 2 ? fromArray(result.toArray()) : result;
+    }
+
+    private static int minimumHeight(int size) {
+        int height = 0;
+        long capacity = WIDTH;
+        while (capacity < size) {
+            capacity *= WIDTH;
+            height += 1;
+        }
+        return height;
+    }
+
+    private static final class Branch {
+        final Object[] children;
+        /**
+         * sizes[i] is the total number of elements in children[0..i]
+         */
+        final int[] sizes;
+
+        Branch(Object[] children, int[] sizes) {
+            this.children = children;
+            this.sizes = sizes;
+        }
+
+        int offset(int child) {
+            return child == 0 ? 0 : sizes[child - 1];
+        }
+
+        int childIndex(int index, int height) {
+            int shift = BITS * height;
+            int c = shift >= Integer.SIZE - 1 ? 0 : Math.min(index >>> shift, sizes.length - 1);
+            while (sizes[c] <= index) {
+                c += 1;
+            }
+            return c;
+        }
+    }
+
+}
@@ -0,0 +1,77 @@
+package dev.marksman.collectionviews;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A {@link NonEmptyPersistentVector} backed by an {@link RrbTree}.
+ */
+class RrbVector<A> extends ConcreteVector<A> implements NonEmptyPersistentVector<A>, CheapRandomAccess {
+    /**
+     * tree must contain at least one element
+     */
+    private final RrbTree tree;
+
+    RrbVector(RrbTree tree) {
+        this.tree = tree;
+    }
+
+    @Override
+    public A head() {
+        return unsafeGet(0);
+    }
+
+    @Override
+    public int size() {
+        return tree.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public A unsafeGet(int index) {
+        if (index < 0 || index >= tree.size()) throw new IndexOutOfBoundsException();
+        return (A) tree.get(index);
+    }
+
+    /**
+     * Walks the tree a leaf at a time, rather than descending from the root for every element.
+     */
+    @Override
+    public Iterator<A> iterator() {
+        return new Iterator<A>() {
+            private final int[] leafStart = new int[1];
+            private Object[] leaf = new Object[0];
+            private int index;
+            private int position;
+
+            @Override
+            public boolean hasNext() {
+                return index < tree.size();
+            }
+
+            @SuppressWarnings("unchecked")
+            @Override
+            public A next() {
+                if (!hasNext()) throw new NoSuchElementException();
+                if (position == leaf.length) {
+                    leaf = tree.leafAt(index, leafStart);
+                    position = index - leafStart[0];
+                }
+                index += 1;
+                return (A) leaf[position++];
+            }
+        };
+    }
+
+    RrbTree tree() {
+        return tree;
+    }
+
+    /**
+     * {@code size} must be &gt;= 1, and {@code offset + size} must not exceed the size of {@code source}.
+     */
+    static <A> RrbVector<A> rrbSlice(int offset, int size, RrbVector<A> source) {
+        return new RrbVector<>(source.tree.slice(offset, size));
+    }
+
+}
@@ -0,0 +1,149 @@
+package dev.marksman.collectionviews;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * A view over a vector written in the indexed layout of {@link BinaryFormat}.  Element {@code i} occupies the bytes
+ * between {@code offsets[i]} and {@code offsets[i + 1]} of the data section, and is decoded every time it is accessed,
+ * unless the view has a {@link MemoTable}.  Decoding reads the buffer by absolute offset, without duplicating it.
+ * <p>
+ * The memo table is indexed by the position of the element in the whole serialized vector, so slices share it.
+ */
+class SerializedVector<A> extends ConcreteVector<A> implements ImmutableNonEmptyVector<A> {
+    /**
+     * underlying is a read-only view; size must be &gt;= 1
+     */
+    private final ByteBuffer underlying;
+    private final ElementCodec<A> codec;
+    private final int offsetTable;
+    private final int dataStart;
+    private final int offset;
+    private final int size;
+    /**
+     * null if elements are not cached
+     */
+    private final MemoTable memo;
+
+    SerializedVector(ByteBuffer underlying, ElementCodec<A> codec, int offsetTable, int dataStart,
+                     int offset, int size, MemoTable memo) {
+        this.underlying = underlying;
+        this.codec = codec;
+        this.offsetTable = offsetTable;
+        this.dataStart = dataStart;
+        this.offset = offset;
+        this.size = size;
+        this.memo = memo;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public A head() {
+        return unsafeGet(0);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public A unsafeGet(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        return get(offset + index, new ByteBufferDataInput(underlying));
+    }
+
+    /**
+     * Decodes every element through a single reader.
+     */
+    @Override
+    public Iterator<A> iterator() {
+        ByteBufferDataInput reader = new ByteBufferDataInput(underlying);
+        return new Iterator<A>() {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext() {
+                return index < size;
+            }
+
+            @Override
+            public A next() {
+                if (index >= size) throw new NoSuchElementException();
+                return get(offset + index++, reader);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private A get(int element, ByteBufferDataInput reader) {
+        if (memo == null) {
+            return decode(element, reader);
+        } else {
+            return (A) memo.get(element, e -> decode(e, reader));
+        }
+    }
+
+    /**
+     * Checks the offsets of {@code element} against the data section before decoding it, so that a corrupt
+     * offset table fails with an {@link UncheckedIOException} rather than reading outside of the element.
+     */
+    private A decode(int element, ByteBufferDataInput reader) {
+        int slot = offsetTable + element * Integer.BYTES;
+        int start = underlying.getInt(slot);
+        int end = underlying.getInt(slot + Integer.BYTES);
+        if (start < 0 || end < start || (long) dataStart + end > underlying.limit()) {
+            throw new UncheckedIOException(new IOException("corrupt offset table at element " + element));
+        }
+        try {
+            return codec.read(reader.reset(dataStart + start, dataStart + end));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static <A> SerializedVector<A> serializedSlice(int offset, int size, SerializedVector<A> source) {
+        return new SerializedVector<>(source.underlying, source.codec, source.offsetTable, source.dataStart,
+                source.offset + offset, size, source.memo);
+    }
+
+    /**
+     * A view of a whole serialized vector that caches each element the first time it is decoded.
+     */
+    static final class Memoized<A> extends SerializedVector<A> implements ImmutableNonEmptyMemoizedVector<A> {
+        private final MemoTable memo;
+
+        private Memoized(ByteBuffer underlying, ElementCodec<A> codec, int offsetTable, int dataStart, int size,
+                         MemoTable memo) {
+            super(underlying, codec, offsetTable, dataStart, 0, size, memo);
+            this.memo = memo;
+        }
+
+        Memoized(ByteBuffer underlying, ElementCodec<A> codec, int offsetTable, int dataStart, int size) {
+            this(underlying, codec, offsetTable, dataStart, size, MemoTable.denseMemoTable(size));
+        }
+
+        @Override
+        public ImmutableNonEmptyMemoizedVector<A> force() {
+            Iterator<A> elements = iterator();
+            while (elements.hasNext()) {
+                elements.next();
+            }
+            return this;
+        }
+
+        @Override
+        public int materializedCount() {
+            return memo.materializedCount();
+        }
+
+    }
+
+}
@@ -2,6 +2,14 @@ package dev.marksman.collectionviews;
 
 import com.jnape.palatable.lambda.adt.Maybe;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
 public interface Set<A> extends Iterable<A> {
 
     /**
@@ -28,6 +36,36 @@ public interface Set<A> extends Iterable<A> {
         return size() == 0;
     }
 
+    /**
+     * Returns a {@link Spliterator} over the elements of this {@link Set}.
+     * <p>
+     * The {@link Spliterator} reports {@link Spliterator#SIZED} and {@link Spliterator#DISTINCT}.
+     *
+     * @return a {@code Spliterator<A>}
+     */
+    @Override
+    default Spliterator<A> spliterator() {
+        return Spliterators.spliterator(iterator(), size(), Spliterator.DISTINCT);
+    }
+
+    /**
+     * Returns a sequential {@link Stream} over the elements of this {@link Set}.
+     *
+     * @return a {@code Stream<A>}
+     */
+    default Stream<A> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel {@link Stream} over the elements of this {@link Set}.
+     *
+     * @return a {@code Stream<A>}
+     */
+    default Stream<A> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     /**
      * Returns an {@link ImmutableSet} containing the same elements as this one.
      * This method will make a copy of the underlying data structure if necessary to
@@ -178,4 +216,39 @@ public interface Set<A> extends Iterable<A> {
         return ImmutableSets.copyFrom(maxCount, source);
     }
 
+    /**
+     * Reads an {@link ImmutableSet} written by {@link ImmutableSet#writeTo}, using {@code codec}
+     * to read each element.
+     * <p>
+     * Consumes exactly the bytes that were written, and does not close {@code in}.
+     * Since {@code codec} may read a few bytes at a time, {@code in} should be buffered.
+     *
+     * @param codec the codec used to read each element
+     * @param in    the source
+     * @param <A>   the element type
+     * @return an {@code ImmutableSet<A>}
+     * @throws IOException if {@code in} or {@code codec} throws, or {@code in} does not contain a set
+     */
+    static <A> ImmutableSet<A> readFrom(ElementCodec<A> codec, InputStream in) throws IOException {
+        return BinaryFormat.readSet(codec, in);
+    }
+
+    /**
+     * Reads an {@link ImmutableSet} written by {@link ImmutableSet#writeTo}, using {@code codec}
+     * to read each element.
+     * <p>
+     * Reads from {@code in} in bulk, so it need not be buffered.  Consumes exactly the bytes that were written if
+     * {@code in} is a {@link java.nio.channels.SeekableByteChannel}; otherwise it may read past them.
+     * Does not close {@code in}.
+     *
+     * @param codec the codec used to read each element
+     * @param in    the source
+     * @param <A>   the element type
+     * @return an {@code ImmutableSet<A>}
+     * @throws IOException if {@code in} or {@code codec} throws, or {@code in} does not contain a set
+     */
+    static <A> ImmutableSet<A> readFrom(ElementCodec<A> codec, ReadableByteChannel in) throws IOException {
+        return BinaryFormat.readSet(codec, in);
+    }
+
 }
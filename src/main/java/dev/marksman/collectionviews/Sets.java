@@ -2,7 +2,6 @@ package dev.marksman.collectionviews;
 
 import com.jnape.palatable.lambda.adt.Maybe;
 
-import java.util.Arrays;
 import java.util.Objects;
 import java.util.function.Supplier;
 
@@ -26,10 +25,10 @@ class Sets {
 
     @SafeVarargs
     static <A> ImmutableNonEmptySet<A> nonEmptySetOf(A first, A... more) {
-        java.util.Set<A> underlying = new java.util.HashSet<>();
-        underlying.add(first);
-        underlying.addAll(Arrays.asList(more));
-        return new ImmutableWrappedSet<>(underlying);
+        Object[] elements = new Object[1 + more.length];
+        elements[0] = first;
+        System.arraycopy(more, 0, elements, 1, more.length);
+        return ImmutableSets.nonEmptyFromArray(elements, elements.length);
     }
 
     static <A> Maybe<NonEmptySet<A>> tryNonEmptyWrap(java.util.Set<A> underlying) {
@@ -0,0 +1,183 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+
+/**
+ * A {@link Set} whose elements are kept in a {@link Vector}, sorted and distinct according to a {@link Comparator}.
+ * <p>
+ * In addition to the guarantees of {@link Set}, provides the following:
+ * <ul>
+ * <li>{@link SortedSet#contains}, {@link SortedSet#floor} and {@link SortedSet#ceiling} execute in O(log n),
+ * by binary search.</li>
+ * <li>Iteration is in ascending order.</li>
+ * <li>{@link SortedSet#subSet} and {@link SortedSet#asVector} do not make copies of the underlying
+ * {@link Vector}.</li>
+ * </ul>
+ * <p>
+ * Membership is decided by the {@link Comparator} alone, so it should be consistent with {@code equals}
+ * for the set to behave like other {@link Set}s.
+ *
+ * @param <A> the element type
+ */
+public interface SortedSet<A> extends Set<A> {
+
+    /**
+     * The {@link Comparator} that orders the elements of this {@link SortedSet}.
+     *
+     * @return a {@code Comparator}
+     */
+    Comparator<? super A> comparator();
+
+    /**
+     * Returns the elements of this {@link SortedSet} as a {@link Vector}, in ascending order.
+     * <p>
+     * Does not make copies of any underlying data structures.
+     *
+     * @return a {@code Vector<A>}
+     */
+    Vector<A> asVector();
+
+    /**
+     * Returns the greatest element of this {@link SortedSet} that is less than or equal to {@code element}.
+     * Executes in O(log n).
+     *
+     * @param element the element to search for
+     * @return the greatest element &lt;= {@code element}, or {@link Maybe#nothing} if there is none
+     */
+    default Maybe<A> floor(A element) {
+        return SortedSets.floor(element, this);
+    }
+
+    /**
+     * Returns the least element of this {@link SortedSet} that is greater than or equal to {@code element}.
+     * Executes in O(log n).
+     *
+     * @param element the element to search for
+     * @return the least element &gt;= {@code element}, or {@link Maybe#nothing} if there is none
+     */
+    default Maybe<A> ceiling(A element) {
+        return SortedSets.ceiling(element, this);
+    }
+
+    /**
+     * Returns the elements of this {@link SortedSet} from {@code fromElement} (inclusive) to {@code toElement}
+     * (exclusive).  Executes in O(log n).
+     * <p>
+     * Does not make copies of any underlying data structures.
+     *
+     * @param fromElement the lower bound (inclusive).  Need not be a member of this {@link SortedSet}.
+     * @param toElement   the upper bound (exclusive).  Need not be a member of this {@link SortedSet}.
+     *                    Must not be less than {@code fromElement}.
+     * @return a {@code SortedSet<A>}
+     */
+    default SortedSet<A> subSet(A fromElement, A toElement) {
+        return SortedSets.subSet(fromElement, toElement, this);
+    }
+
+    /**
+     * Returns a {@link Spliterator} over the elements of this {@link SortedSet}.
+     * <p>
+     * The {@link Spliterator} splits like that of {@link SortedSet#asVector}, and additionally reports
+     * {@link Spliterator#DISTINCT} and {@link Spliterator#SORTED} by {@link SortedSet#comparator}.
+     *
+     * @return a {@code Spliterator<A>}
+     */
+    @Override
+    default Spliterator<A> spliterator() {
+        return new SortedSetSpliterator<>(asVector().spliterator(), comparator(), 0);
+    }
+
+    @Override
+    default ImmutableSortedSet<A> toImmutable() {
+        return SortedSets.ensureImmutable(this);
+    }
+
+    @Override
+    default Maybe<? extends NonEmptySortedSet<A>> toNonEmpty() {
+        return SortedSets.tryNonEmptyWrap(this);
+    }
+
+    @Override
+    default NonEmptySortedSet<A> toNonEmptyOrThrow() {
+        return SortedSets.nonEmptyWrapOrThrow(this);
+    }
+
+    /**
+     * Returns an empty {@link ImmutableSortedSet}.
+     *
+     * @param comparator the {@link Comparator} of the result
+     * @param <A>        the element type
+     * @return an empty {@code ImmutableSortedSet<A>}
+     */
+    static <A> ImmutableSortedSet<A> empty(Comparator<? super A> comparator) {
+        return SortedSets.empty(comparator);
+    }
+
+    /**
+     * Views a {@link Vector} that is already sorted by {@code comparator} as a {@link SortedSet}.
+     * <p>
+     * Does *not* make a copy of the given {@link Vector}, but checks in O(n) that it is in strictly
+     * ascending order.  Be aware that anyone that holds a direct reference to data underlying the
+     * {@link Vector} can still mutate it.
+     *
+     * @param comparator the {@link Comparator} that {@code underlying} is sorted by
+     * @param underlying the {@link Vector} to view.  Must be sorted by {@code comparator} and contain no duplicates.
+     * @param <A>        the element type
+     * @return a {@code SortedSet<A>}
+     * @throws IllegalArgumentException if {@code underlying} is not in strictly ascending order
+     */
+    static <A> SortedSet<A> wrap(Comparator<? super A> comparator, Vector<A> underlying) {
+        return SortedSets.wrap(comparator, underlying);
+    }
+
+    /**
+     * Views an {@link ImmutableVector} that is already sorted by {@code comparator} as an {@link ImmutableSortedSet}.
+     * <p>
+     * Does not make a copy of the given {@link ImmutableVector}, but checks in O(n) that it is in strictly
+     * ascending order.
+     *
+     * @param comparator the {@link Comparator} that {@code underlying} is sorted by
+     * @param underlying the {@link ImmutableVector} to view.  Must be sorted by {@code comparator}
+     *                   and contain no duplicates.
+     * @param <A>        the element type
+     * @return an {@code ImmutableSortedSet<A>}
+     * @throws IllegalArgumentException if {@code underlying} is not in strictly ascending order
+     */
+    static <A> ImmutableSortedSet<A> wrap(Comparator<? super A> comparator, ImmutableVector<A> underlying) {
+        return SortedSets.wrap(comparator, underlying);
+    }
+
+    /**
+     * Returns a new {@link ImmutableSortedSet} holding the distinct elements of an {@link Iterable},
+     * sorted by {@code comparator} into a compact array.
+     * <p>
+     * An {@link ImmutableSortedSet} with the same {@link Comparator} is returned as-is.
+     *
+     * @param comparator the {@link Comparator} to sort by
+     * @param source     the {@link Iterable} to copy from.
+     *                   This method will not alter or hold on to a reference of this {@code Iterable}.
+     * @param <A>        the element type
+     * @return an {@code ImmutableSortedSet<A>}
+     */
+    static <A> ImmutableSortedSet<A> copyFrom(Comparator<? super A> comparator, Iterable<A> source) {
+        return SortedSets.copyFrom(comparator, source);
+    }
+
+    /**
+     * Returns a new {@link ImmutableSortedSet} holding the distinct elements of an array,
+     * sorted by {@code comparator} into a compact array.
+     *
+     * @param comparator the {@link Comparator} to sort by
+     * @param source     the array to copy from.
+     *                   This method will not alter or hold on to a reference of this array.
+     * @param <A>        the element type
+     * @return an {@code ImmutableSortedSet<A>}
+     */
+    static <A> ImmutableSortedSet<A> copyFrom(Comparator<? super A> comparator, A[] source) {
+        return SortedSets.copyFrom(comparator, source);
+    }
+
+}
@@ -0,0 +1,59 @@
+package dev.marksman.collectionviews;
+
+import java.util.Comparator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Adapts the {@link Spliterator} of the vector behind a {@link SortedSet}, adding {@link Spliterator#DISTINCT}
+ * and {@link Spliterator#SORTED}.  Splits wherever the underlying {@link Spliterator} splits.
+ */
+final class SortedSetSpliterator<A> implements Spliterator<A> {
+    private final Spliterator<A> underlying;
+    private final Comparator<? super A> comparator;
+    private final int additionalCharacteristics;
+
+    SortedSetSpliterator(Spliterator<A> underlying, Comparator<? super A> comparator,
+                         int additionalCharacteristics) {
+        this.underlying = underlying;
+        this.comparator = comparator;
+        this.additionalCharacteristics = additionalCharacteristics | DISTINCT | SORTED | ORDERED;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super A> action) {
+        return underlying.tryAdvance(action);
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super A> action) {
+        underlying.forEachRemaining(action);
+    }
+
+    @Override
+    public Spliterator<A> trySplit() {
+        Spliterator<A> split = underlying.trySplit();
+        return split == null ? null : new SortedSetSpliterator<>(split, comparator, additionalCharacteristics);
+    }
+
+    @Override
+    public long estimateSize() {
+        return underlying.estimateSize();
+    }
+
+    @Override
+    public long getExactSizeIfKnown() {
+        return underlying.getExactSizeIfKnown();
+    }
+
+    @Override
+    public int characteristics() {
+        return underlying.characteristics() | additionalCharacteristics;
+    }
+
+    @Override
+    public Comparator<? super A> getComparator() {
+        return comparator;
+    }
+
+}
@@ -0,0 +1,210 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+
+class SortedSets {
+
+    static <A> ImmutableSortedSet<A> empty(Comparator<? super A> comparator) {
+        Objects.requireNonNull(comparator);
+        return new EmptySortedSet<>(comparator);
+    }
+
+    static <A> SortedSet<A> wrap(Comparator<? super A> comparator, Vector<A> underlying) {
+        Objects.requireNonNull(comparator);
+        Objects.requireNonNull(underlying);
+        if (underlying instanceof ImmutableVector<?>) {
+            return wrap(comparator, (ImmutableVector<A>) underlying);
+        }
+        requireStrictlyAscending(comparator, underlying);
+        return underlying.toNonEmpty()
+                .<SortedSet<A>>fmap(elements -> new SortedVectorSet<>(comparator, elements))
+                .orElseGet(() -> empty(comparator));
+    }
+
+    static <A> ImmutableSortedSet<A> wrap(Comparator<? super A> comparator, ImmutableVector<A> underlying) {
+        Objects.requireNonNull(comparator);
+        Objects.requireNonNull(underlying);
+        requireStrictlyAscending(comparator, underlying);
+        return wrapAndVouchFor(comparator, underlying);
+    }
+
+    static <A> ImmutableSortedSet<A> copyFrom(Comparator<? super A> comparator, Iterable<A> source) {
+        Objects.requireNonNull(comparator);
+        Objects.requireNonNull(source);
+        if (source instanceof ImmutableSortedSet<?>
+                && ((ImmutableSortedSet<A>) source).comparator().equals(comparator)) {
+            return (ImmutableSortedSet<A>) source;
+        }
+        return sortAndWrap(comparator, VectorCopies.copyToArray(source));
+    }
+
+    static <A> ImmutableSortedSet<A> copyFrom(Comparator<? super A> comparator, A[] source) {
+        Objects.requireNonNull(comparator);
+        Objects.requireNonNull(source);
+        return sortAndWrap(comparator, source.clone());
+    }
+
+    static <A> Maybe<A> floor(A element, SortedSet<A> set) {
+        Vector<A> elements = set.asVector();
+        int index = indexOf(element, set.comparator(), elements);
+        return elements.get(index >= 0 ? index : -index - 2);
+    }
+
+    static <A> Maybe<A> ceiling(A element, SortedSet<A> set) {
+        Vector<A> elements = set.asVector();
+        int index = indexOf(element, set.comparator(), elements);
+        return elements.get(index >= 0 ? index : -index - 1);
+    }
+
+    static <A> SortedSet<A> subSet(A fromElement, A toElement, SortedSet<A> set) {
+        if (set instanceof ImmutableSortedSet<?>) {
+            return immutableSubSet(fromElement, toElement, (ImmutableSortedSet<A>) set);
+        }
+        Comparator<? super A> comparator = set.comparator();
+        Vector<A> elements = set.asVector();
+        Vector<A> slice = elements.slice(lowerBound(fromElement, toElement, comparator, elements),
+                lowerBound(toElement, comparator, elements));
+        return slice.toNonEmpty()
+                .<SortedSet<A>>fmap(s -> new SortedVectorSet<>(comparator, s))
+                .orElseGet(() -> empty(comparator));
+    }
+
+    static <A> ImmutableSortedSet<A> immutableSubSet(A fromElement, A toElement, ImmutableSortedSet<A> set) {
+        Comparator<? super A> comparator = set.comparator();
+        ImmutableVector<A> elements = set.asVector();
+        return wrapAndVouchFor(comparator, elements.slice(lowerBound(fromElement, toElement, comparator, elements),
+                lowerBound(toElement, comparator, elements)));
+    }
+
+    static <A> ImmutableSortedSet<A> ensureImmutable(SortedSet<A> set) {
+        if (set instanceof ImmutableSortedSet<?>) {
+            return (ImmutableSortedSet<A>) set;
+        } else {
+            return wrapAndVouchFor(set.comparator(), set.asVector().toImmutable());
+        }
+    }
+
+    static <A> ImmutableNonEmptySortedSet<A> ensureImmutable(NonEmptySortedSet<A> set) {
+        if (set instanceof ImmutableNonEmptySortedSet<?>) {
+            return (ImmutableNonEmptySortedSet<A>) set;
+        } else {
+            return new ImmutableSortedVectorSet<>(set.comparator(), set.asVector().toImmutable());
+        }
+    }
+
+    static <A> Maybe<NonEmptySortedSet<A>> tryNonEmptyWrap(SortedSet<A> set) {
+        Objects.requireNonNull(set);
+        if (set instanceof NonEmptySortedSet<?>) {
+            return just((NonEmptySortedSet<A>) set);
+        } else {
+            return set.asVector().toNonEmpty().fmap(elements -> new SortedVectorSet<>(set.comparator(), elements));
+        }
+    }
+
+    static <A> NonEmptySortedSet<A> nonEmptyWrapOrThrow(SortedSet<A> set) {
+        return tryNonEmptyWrap(set).orElseThrow(Sets.nonEmptyError());
+    }
+
+    static <A> Maybe<ImmutableNonEmptySortedSet<A>> tryNonEmptyConvert(ImmutableSortedSet<A> set) {
+        Objects.requireNonNull(set);
+        if (set instanceof ImmutableNonEmptySortedSet<?>) {
+            return just((ImmutableNonEmptySortedSet<A>) set);
+        } else {
+            return set.asVector().toNonEmpty()
+                    .fmap(elements -> new ImmutableSortedVectorSet<>(set.comparator(), elements));
+        }
+    }
+
+    static <A> ImmutableNonEmptySortedSet<A> nonEmptyConvertOrThrow(ImmutableSortedSet<A> set) {
+        return tryNonEmptyConvert(set).orElseThrow(Sets.nonEmptyError());
+    }
+
+    /**
+     * Binary search for {@code element}.  An element that {@code comparator} rejects, by throwing
+     * {@link ClassCastException} or {@link NullPointerException}, is not present; as in
+     * {@link java.util.AbstractSet#equals}, this keeps {@code equals} between sets of different types from throwing.
+     */
+    static <A> boolean contains(A element, Comparator<? super A> comparator, Vector<A> elements) {
+        try {
+            return indexOf(element, comparator, elements) >= 0;
+        } catch (ClassCastException | NullPointerException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Binary search, with the same result as {@link java.util.Collections#binarySearch}: the index of
+     * {@code element} if it is present, otherwise {@code -(insertion point) - 1}.
+     */
+    static <A> int indexOf(A element, Comparator<? super A> comparator, Vector<A> elements) {
+        int low = 0;
+        int high = elements.size() - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            int c = comparator.compare(elements.unsafeGet(mid), element);
+            if (c < 0) {
+                low = mid + 1;
+            } else if (c > 0) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static <A> int lowerBound(A element, Comparator<? super A> comparator, Vector<A> elements) {
+        int index = indexOf(element, comparator, elements);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    private static <A> int lowerBound(A fromElement, A toElement, Comparator<? super A> comparator,
+                                      Vector<A> elements) {
+        if (comparator.compare(fromElement, toElement) > 0) {
+            throw new IllegalArgumentException("fromElement must not be greater than toElement");
+        }
+        return lowerBound(fromElement, comparator, elements);
+    }
+
+    private static <A> void requireStrictlyAscending(Comparator<? super A> comparator, Vector<A> elements) {
+        for (int i = 1; i < elements.size(); i++) {
+            if (comparator.compare(elements.unsafeGet(i - 1), elements.unsafeGet(i)) >= 0) {
+                throw new IllegalArgumentException("underlying must be sorted and contain no duplicates");
+            }
+        }
+    }
+
+    /**
+     * Sorts {@code elements} in place, drops duplicates, and takes ownership of the (trimmed) array.
+     */
+    @SuppressWarnings("unchecked")
+    private static <A> ImmutableSortedSet<A> sortAndWrap(Comparator<? super A> comparator, Object[] elements) {
+        A[] sorted = (A[]) elements;
+        Arrays.sort(sorted, comparator);
+        int count = 0;
+        for (A element : sorted) {
+            if (count == 0 || comparator.compare(sorted[count - 1], element) != 0) {
+                sorted[count++] = element;
+            }
+        }
+        if (count < sorted.length) {
+            sorted = Arrays.copyOf(sorted, count);
+        }
+        return wrapAndVouchFor(comparator, ImmutableVectors.wrapAndVouchFor(sorted));
+    }
+
+    private static <A> ImmutableSortedSet<A> wrapAndVouchFor(Comparator<? super A> comparator,
+                                                            ImmutableVector<A> elements) {
+        return elements.toNonEmpty()
+                .<ImmutableSortedSet<A>>fmap(s -> new ImmutableSortedVectorSet<>(comparator, s))
+                .orElseGet(() -> empty(comparator));
+    }
+
+}
@@ -0,0 +1,37 @@
+package dev.marksman.collectionviews;
+
+import java.util.Comparator;
+
+/**
+ * A {@link NonEmptySortedSet} view of a {@link NonEmptyVector} that has been checked to be sorted and distinct.
+ */
+class SortedVectorSet<A> extends ConcreteSet<A> implements NonEmptySortedSet<A> {
+    private final Comparator<? super A> comparator;
+    private final NonEmptyVector<A> elements;
+
+    SortedVectorSet(Comparator<? super A> comparator, NonEmptyVector<A> elements) {
+        this.comparator = comparator;
+        this.elements = elements;
+    }
+
+    @Override
+    public Comparator<? super A> comparator() {
+        return comparator;
+    }
+
+    @Override
+    public NonEmptyVector<A> asVector() {
+        return elements;
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public boolean contains(A element) {
+        return SortedSets.contains(element, comparator, elements);
+    }
+
+}
@@ -3,9 +3,21 @@ package dev.marksman.collectionviews;
 import com.jnape.palatable.lambda.adt.Maybe;
 import com.jnape.palatable.lambda.functions.Fn1;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Path;
 import java.util.Iterator;
 import java.util.List;
 import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.function.IntFunction;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.jnape.palatable.lambda.adt.Maybe.maybe;
 import static com.jnape.palatable.lambda.adt.Maybe.nothing;
@@ -89,6 +101,89 @@ public interface Vector<A> extends Iterable<A>, RandomAccess {
         return Vectors.map(f, this);
     }
 
+    /**
+     * Maps a function to {@code int} over the elements in a {@link Vector} and returns a new {@link IntVector}
+     * of the same size, whose elements are not boxed when read through {@link IntVector#unsafeGetInt}.
+     * <p>
+     * Does not make any copies of underlying data structures.
+     *
+     * @param f a function from {@code A} to {@code int}.
+     *          This function should be referentially transparent and not perform side-effects.
+     *          It may be called zero or more times for each element.
+     * @return an {@code IntVector} of the same size
+     */
+    default IntVector mapToInt(ToIntFunction<? super A> f) {
+        return IntVectors.mapToInt(f, this);
+    }
+
+    /**
+     * Maps a function to {@code long} over the elements in a {@link Vector} and returns a new {@link LongVector}
+     * of the same size, whose elements are not boxed when read through {@link LongVector#unsafeGetLong}.
+     * <p>
+     * Does not make any copies of underlying data structures.
+     *
+     * @param f a function from {@code A} to {@code long}.
+     *          This function should be referentially transparent and not perform side-effects.
+     *          It may be called zero or more times for each element.
+     * @return a {@code LongVector} of the same size
+     */
+    default LongVector mapToLong(ToLongFunction<? super A> f) {
+        return LongVectors.mapToLong(f, this);
+    }
+
+    /**
+     * Maps a function to {@code double} over the elements in a {@link Vector} and returns a new {@link DoubleVector}
+     * of the same size, whose elements are not boxed when read through {@link DoubleVector#unsafeGetDouble}.
+     * <p>
+     * Does not make any copies of underlying data structures.
+     *
+     * @param f a function from {@code A} to {@code double}.
+     *          This function should be referentially transparent and not perform side-effects.
+     *          It may be called zero or more times for each element.
+     * @return a {@code DoubleVector} of the same size
+     */
+    default DoubleVector mapToDouble(ToDoubleFunction<? super A> f) {
+        return DoubleVectors.mapToDouble(f, this);
+    }
+
+    /**
+     * Maps a function over the elements in a {@link Vector}, caching each result the first time it is computed.
+     * Use this instead of {@link Vector#fmap} when {@code f} is expensive and elements will be read more than once.
+     * <p>
+     * Each element is computed at most once.  Concurrent readers do not block each other, except when
+     * waiting for an element that another reader is computing.  Call {@link MemoizedVector#force} to compute
+     * every element eagerly.
+     * <p>
+     * Does not make any copies of underlying data structures, but does allocate a cache with one slot per element.
+     * Changes to the underlying collection are not reflected in elements that have already been computed.
+     *
+     * @param f   a function from {@code A} to {@code B}.
+     *            This function should be referentially transparent and not perform side-effects.
+     * @param <B> The type of the elements contained in the output Vector.
+     * @return a {@code MemoizedVector<B>} of the same size
+     */
+    default <B> MemoizedVector<B> fmapMemoized(Fn1<? super A, ? extends B> f) {
+        return Vectors.mapMemoized(f, this);
+    }
+
+    /**
+     * Maps a function over the elements in a {@link Vector}, caching up to {@code cacheSize} results.
+     * <p>
+     * Uses O({@code cacheSize}) memory rather than one slot per element.  Elements whose cache slot is reused by
+     * another element will be recomputed when next read, and concurrent readers of the same uncached element may
+     * each compute it.  If {@code cacheSize} is at least the size of this {@link Vector}, this behaves the same as
+     * {@link Vector#fmapMemoized(Fn1)}.
+     *
+     * @param cacheSize the maximum number of elements to cache.  Must be &gt;= 1.
+     * @param f         a function from {@code A} to {@code B}.
+     *                  This function should be referentially transparent and not perform side-effects.
+     * @param <B>       The type of the elements contained in the output Vector.
+     * @return a {@code MemoizedVector<B>} of the same size
+     */
+    default <B> MemoizedVector<B> fmapMemoized(int cacheSize, Fn1<? super A, ? extends B> f) {
+        return Vectors.mapMemoized(cacheSize, f, this);
+    }
+
     /**
      * Get an element from the Vector at an index.  Executes in O(1).
      * Will never return null.
@@ -124,6 +219,39 @@ public interface Vector<A> extends Iterable<A>, RandomAccess {
         return new VectorIterator<>(this);
     }
 
+    /**
+     * Returns a {@link Spliterator} over the elements of this {@link Vector}.
+     * <p>
+     * The {@link Spliterator} reports {@link Spliterator#SIZED}, {@link Spliterator#SUBSIZED}
+     * and {@link Spliterator#ORDERED}, and splits evenly by index, so it parallelizes well.
+     *
+     * @return a {@code Spliterator<A>}
+     */
+    @Override
+    default Spliterator<A> spliterator() {
+        return VectorSpliterator.vectorSpliterator(this);
+    }
+
+    /**
+     * Returns a sequential {@link Stream} over the elements of this {@link Vector}.
+     *
+     * @return a {@code Stream<A>}
+     */
+    default Stream<A> stream() {
+        return StreamSupport.stream(spliterator(), false);
+    }
+
+    /**
+     * Returns a possibly parallel {@link Stream} over the elements of this {@link Vector}.
+     * <p>
+     * Since a {@link Vector} splits evenly by index, work is divided evenly between threads.
+     *
+     * @return a {@code Stream<A>}
+     */
+    default Stream<A> parallelStream() {
+        return StreamSupport.stream(spliterator(), true);
+    }
+
     /**
      * Create a slice of an existing {@link Vector}.
      * <p>
@@ -268,6 +396,25 @@ public interface Vector<A> extends Iterable<A>, RandomAccess {
         return Vectors.lazyFill(size, valueSupplier);
     }
 
+    /**
+     * Constructs a new {@link ImmutableMemoizedVector} of size {@code size} with elements computed by their
+     * indices using a provided function, caching each element the first time it is computed.
+     * <p>
+     * Unlike {@link Vector#lazyFill}, {@code valueSupplier} is called exactly once for each element that is read,
+     * even when many threads read the same element concurrently.  Readers of different elements never block each
+     * other.  Uses memory proportional to {@code size} for the cache.
+     *
+     * @param size          the number of elements.  Must be &gt;= 0.
+     * @param valueSupplier a function that accepts an index and returns the computed value for
+     *                      that index.   This function should be referentially transparent and not
+     *                      perform side-effects.
+     * @param <A>           the element type
+     * @return an {@code ImmutableMemoizedVector<A>} of {@code size} elements
+     */
+    static <A> ImmutableMemoizedVector<A> lazyFillCached(int size, IntFunction<? extends A> valueSupplier) {
+        return Vectors.lazyFillCached(size, valueSupplier);
+    }
+
     /**
      * Creates a {@link Vector} that wraps an array.
      * <p>
@@ -310,6 +457,30 @@ public interface Vector<A> extends Iterable<A>, RandomAccess {
         return Vectors.wrap(underlying);
     }
 
+    /**
+     * Creates a {@link Vector} that decodes its elements in place from the remaining bytes of a {@link ByteBuffer},
+     * i.e. those between its position and its limit at the time this method is called.
+     * <p>
+     * Each element occupies {@link FixedWidthCodec#width()} bytes, and is decoded by {@code codec} every time it is
+     * accessed.  If {@code underlying} is a direct buffer, the elements are never held on the heap,
+     * which keeps very large tables of fixed-width records out of the way of the garbage collector.
+     * <p>
+     * Does not make any copies of the buffer's contents, and does not alter the buffer's position or limit.
+     * The codec is handed a read-only view of the buffer with the same byte order, so it can never alter it.
+     * Slices of the returned {@link Vector} are views over the same region of memory.
+     * <p>
+     * Since this does not make a copy, be aware that anyone that holds a direct reference to
+     * the buffer can still mutate its contents.  Use {@link Vector#copyOffHeap} instead if you want to avoid this situation.
+     *
+     * @param underlying buffer to wrap.  Its remaining bytes must be a multiple of the codec's width.
+     * @param codec      the codec used to decode elements
+     * @param <A>        the element type
+     * @return a {@code Vector<A>}
+     */
+    static <A> Vector<A> wrap(ByteBuffer underlying, FixedWidthCodec<A> codec) {
+        return BufferVectors.wrap(underlying, codec);
+    }
+
     /**
      * Constructs a new {@link ImmutableVector} from any {@link Iterable}.
      * <p>
@@ -405,4 +576,126 @@ public interface Vector<A> extends Iterable<A>, RandomAccess {
         return ImmutableVectors.copySliceFrom(startIndex, endIndexExclusive, source);
     }
 
+    /**
+     * Constructs a new {@link ImmutableVector} by encoding every element of an {@link Iterable} into a newly allocated
+     * direct {@link ByteBuffer}, using {@code codec}.
+     * <p>
+     * Elements are decoded in place every time they are accessed, so they are never held on the heap.
+     * The buffer has the byte order of {@link FixedWidthCodec#byteOrder}, the same as a file read by
+     * {@link Vector#mapFile}.  Slices of the returned {@link ImmutableVector} are views over the same region of memory.
+     * <p>
+     * The entire {@link Iterable} will be eagerly iterated, so be careful not
+     * to pass in an infinite {@link Iterable} or this method will not terminate.
+     *
+     * @param codec  the codec used to encode and decode elements
+     * @param source an {@code Iterable<A>} that will be iterated eagerly in its entirety
+     * @param <A>    the element type
+     * @return an {@code ImmutableVector<A>}
+     */
+    static <A> ImmutableVector<A> copyOffHeap(FixedWidthCodec<A> codec, Iterable<A> source) {
+        return BufferVectors.copyOffHeap(codec, source);
+    }
+
+    /**
+     * Creates an {@link ImmutableVector} over a file of fixed-width records, by mapping the file into memory read-only.
+     * <p>
+     * Nothing is read up front; the operating system pages the file in as elements are accessed, and each element
+     * is decoded in place by {@code codec} every time it is accessed.  Random access is O(1).
+     * Files larger than 2 GB are mapped in several chunks, all in the byte order of {@link FixedWidthCodec#byteOrder}.
+     * Slices are views over the same mappings.
+     * <p>
+     * If the file is not empty, the returned {@link ImmutableVector} is also an {@link ImmutableNonEmptyVector}.
+     * <p>
+     * The mapping stays valid after the file is closed, but be aware that changes made to the file by
+     * anyone else while it is mapped may be visible, and truncating it may cause errors on access.
+     *
+     * @param path  the file to map.  Its size must be a multiple of the codec's width,
+     *              and it must contain no more than {@code Integer.MAX_VALUE} records.
+     * @param codec the codec used to decode elements
+     * @param <A>   the element type
+     * @return an {@code ImmutableVector<A>}
+     * @throws java.io.UncheckedIOException if the file cannot be opened or mapped
+     */
+    static <A> ImmutableVector<A> mapFile(Path path, FixedWidthCodec<A> codec) {
+        return BufferVectors.mapFile(path, codec);
+    }
+
+    /**
+     * Reads an {@link ImmutableVector} written by {@link ImmutableVector#writeTo}, using {@code codec}
+     * to read each element.
+     * <p>
+     * The elements are read straight into the backing array of the result.  Consumes exactly the bytes
+     * that were written, and does not close {@code in}.  Since {@code codec} may read a few bytes at a time,
+     * {@code in} should be buffered.
+     *
+     * @param codec the codec used to read each element
+     * @param in    the source
+     * @param <A>   the element type
+     * @return an {@code ImmutableVector<A>}
+     * @throws IOException if {@code in} or {@code codec} throws, or {@code in} does not contain a vector
+     */
+    static <A> ImmutableVector<A> readFrom(ElementCodec<A> codec, InputStream in) throws IOException {
+        return BinaryFormat.readVector(codec, in);
+    }
+
+    /**
+     * Reads an {@link ImmutableVector} written by {@link ImmutableVector#writeTo}, using {@code codec}
+     * to read each element.
+     * <p>
+     * The elements are read straight into the backing array of the result.  Reads from {@code in} in bulk, so
+     * it need not be buffered.  Consumes exactly the bytes that were written if {@code in} is a
+     * {@link java.nio.channels.SeekableByteChannel}; otherwise it may read past them.  Does not close {@code in}.
+     *
+     * @param codec the codec used to read each element
+     * @param in    the source
+     * @param <A>   the element type
+     * @return an {@code ImmutableVector<A>}
+     * @throws IOException if {@code in} or {@code codec} throws, or {@code in} does not contain a vector
+     */
+    static <A> ImmutableVector<A> readFrom(ElementCodec<A> codec, ReadableByteChannel in) throws IOException {
+        return BinaryFormat.readVector(codec, in);
+    }
+
+    /**
+     * Creates an {@link ImmutableVector} over a vector written by {@link ImmutableVector#writeIndexedTo},
+     * without deserializing it.
+     * <p>
+     * Reads the remaining bytes of {@code source}, starting at its current position.  Elements are decoded by
+     * {@code codec} every time they are accessed, so a caller that only looks at a few elements of a large vector
+     * only pays for those.  Slices are views over the same bytes.  To read from a {@code byte[]},
+     * use {@link ByteBuffer#wrap(byte[])}.
+     * <p>
+     * If the vector is not empty, the returned {@link ImmutableVector} is also an {@link ImmutableNonEmptyVector}.
+     * <p>
+     * Does not make any copies of the buffer's contents, and does not alter the buffer's position or limit.
+     * The contents of the buffer must not be modified while the returned {@link ImmutableVector} is in use.
+     * If {@code codec} fails while decoding an element, an {@link java.io.UncheckedIOException} is thrown.
+     *
+     * @param codec  the codec used to read each element
+     * @param source the buffer containing the serialized vector
+     * @param <A>    the element type
+     * @return an {@code ImmutableVector<A>}
+     * @throws IllegalArgumentException if {@code source} does not contain a vector in the indexed format
+     */
+    static <A> ImmutableVector<A> viewSerialized(ElementCodec<A> codec, ByteBuffer source) {
+        return BinaryFormat.viewIndexedVector(codec, source);
+    }
+
+    /**
+     * Same as {@link Vector#viewSerialized}, but each element is decoded at most once, the first time
+     * it is accessed, and then cached.  Slices share the cache of the vector they were taken from.
+     * <p>
+     * If the vector is not empty, the returned {@link ImmutableMemoizedVector} is also an
+     * {@link ImmutableNonEmptyMemoizedVector}.
+     *
+     * @param codec  the codec used to read each element
+     * @param source the buffer containing the serialized vector
+     * @param <A>    the element type
+     * @return an {@code ImmutableMemoizedVector<A>}
+     * @throws IllegalArgumentException if {@code source} does not contain a vector in the indexed format
+     */
+    static <A> ImmutableMemoizedVector<A> viewSerializedMemoized(ElementCodec<A> codec, ByteBuffer source) {
+        return BinaryFormat.viewIndexedVectorMemoized(codec, source);
+    }
+
 }
@@ -0,0 +1,60 @@
+package dev.marksman.collectionviews;
+
+/**
+ * Accumulates elements into an array sized up front, and produces an {@link ImmutableVector} that wraps that array
+ * directly, without copying it into an intermediate {@link java.util.List}.
+ * <p>
+ * A {@code VectorBuilder} is meant to have a single owner and is not thread-safe.  It may keep being used after
+ * {@link VectorBuilder#build}; the next modification copies the array first, so vectors that have already been
+ * built are never affected.
+ *
+ * @param <A> the element type
+ */
+public interface VectorBuilder<A> {
+
+    /**
+     * Adds an element to the end of this builder.
+     *
+     * @param element the element to add
+     * @return this builder, which is now guaranteed to be non-empty
+     */
+    NonEmptyVectorBuilder<A> add(A element);
+
+    /**
+     * Adds all elements of a {@link Vector} to the end of this builder.
+     * <p>
+     * The capacity needed is reserved once.  Array-backed {@link Vector}s, and slices of them, are copied in bulk.
+     *
+     * @param elements the elements to add
+     * @return this builder
+     */
+    VectorBuilder<A> addAll(Vector<A> elements);
+
+    /**
+     * Adds all elements of an {@link Iterable} to the end of this builder.
+     * <p>
+     * The entire {@link Iterable} will be eagerly iterated, so be careful not
+     * to pass in an infinite {@link Iterable} or this method will not terminate.
+     *
+     * @param elements the elements to add
+     * @return this builder
+     */
+    VectorBuilder<A> addAll(Iterable<A> elements);
+
+    /**
+     * The number of elements added so far.
+     *
+     * @return the number of elements in this builder
+     */
+    int size();
+
+    /**
+     * Returns an {@link ImmutableVector} of the elements added so far.
+     * <p>
+     * If the array has spare capacity, it is trimmed once here; otherwise it is wrapped without a copy.
+     *
+     * @return an {@code ImmutableVector<A>}
+     */
+    ImmutableVector<A> build();
+
+}
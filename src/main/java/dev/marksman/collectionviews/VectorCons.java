@@ -1,32 +1,90 @@
 package dev.marksman.collectionviews;
 
+import java.util.Iterator;
+
+/**
+ * A non-empty {@link Vector} consisting of one or more leading elements followed by a base {@link Vector}.
+ * <p>
+ * Nested cons cells are flattened into a single prefix over a single base, so that {@code size},
+ * {@code unsafeGet} and iteration are O(1) per element regardless of how the vector was assembled.
+ */
 class VectorCons<A> extends ConcreteVector<A> implements NonEmptyVector<A> {
-    private final A head;
-    private final Vector<A> tail;
+    /**
+     * prefix must contain at least one element
+     */
+    private final Object[] prefix;
+    private final Vector<A> base;
+    private final int size;
 
-    VectorCons(A head, Vector<A> tail) {
-        this.head = head;
-        this.tail = tail;
+    private VectorCons(Object[] prefix, Vector<A> base) {
+        this.prefix = prefix;
+        this.base = base;
+        this.size = prefix.length + base.size();
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public A head() {
-        return head;
+        return (A) prefix[0];
     }
 
     @Override
     public int size() {
-        return 1 + tail.size();
+        return size;
     }
 
+    @SuppressWarnings("unchecked")
     @Override
     public A unsafeGet(int index) {
-        if (index < 0 || index >= size()) throw new IndexOutOfBoundsException();
-        if (index == 0) {
-            return head;
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        if (index < prefix.length) {
+            return (A) prefix[index];
+        } else {
+            return base.unsafeGet(index - prefix.length);
+        }
+    }
+
+    @Override
+    public Iterator<A> iterator() {
+        return Vectors.consIterator(prefix, base);
+    }
+
+    boolean hasCheapRandomAccess() {
+        return Vectors.hasCheapRandomAccess(base);
+    }
+
+    static <A> VectorCons<A> vectorCons(A head, Vector<A> tail) {
+        if (tail instanceof VectorCons<?>) {
+            VectorCons<A> source = (VectorCons<A>) tail;
+            return new VectorCons<>(consPrefix(head, source.prefix), source.base);
+        } else {
+            return new VectorCons<>(new Object[]{head}, tail);
+        }
+    }
+
+    /**
+     * {@code size} must be &gt;= 1, and {@code offset + size} must not exceed the size of {@code source}.
+     */
+    static <A> Vector<A> consSlice(int offset, int size, VectorCons<A> source) {
+        int prefixLength = source.prefix.length;
+        if (offset >= prefixLength) {
+            return VectorSlice.vectorSlice(offset - prefixLength, size, source.base);
         } else {
-            return tail.unsafeGet(index - 1);
+            int fromPrefix = Math.min(prefixLength - offset, size);
+            Object[] prefix = new Object[fromPrefix];
+            System.arraycopy(source.prefix, offset, prefix, 0, fromPrefix);
+            int fromBase = size - fromPrefix;
+            return new VectorCons<>(prefix, fromBase > 0
+                    ? VectorSlice.vectorSlice(0, fromBase, source.base)
+                    : Vectors.empty());
         }
     }
 
+    static Object[] consPrefix(Object head, Object[] prefix) {
+        Object[] result = new Object[prefix.length + 1];
+        result[0] = head;
+        System.arraycopy(prefix, 0, result, 1, prefix.length);
+        return result;
+    }
+
 }
@@ -0,0 +1,111 @@
+package dev.marksman.collectionviews;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Copies an arbitrary {@link Iterable} (or a prefix or slice of one) into a new {@link ImmutableVector}, using the
+ * cheapest bulk path available for the type of the source:
+ * <ul>
+ * <li>a {@link Vector} is copied into an array of exactly the right size (see {@link Vectors#copyInto}): with
+ * {@link System#arraycopy} when it is array-backed, by index when it has cheap random access, and otherwise with a
+ * single pass of its iterator, so that a {@code Vector} over a sequential {@link List} is never read by index;</li>
+ * <li>a {@link Collection} is copied with {@link Collection#toArray}, and the array is used directly;</li>
+ * <li>a {@link List} prefix or slice is copied with {@code subList(...).toArray()};</li>
+ * <li>anything else is iterated once into a {@link VectorBuilder}.</li>
+ * </ul>
+ * The source is iterated at most once, and only as far as needed.  Callers that can return an
+ * {@link ImmutableVector} source as-is should do so before calling these.
+ */
+class VectorCopies {
+
+    static <A> ImmutableVector<A> copy(Iterable<A> source) {
+        if (source instanceof Vector<?>) {
+            Vector<A> vector = (Vector<A>) source;
+            return copyRange(vector, 0, vector.size());
+        } else if (source instanceof Collection<?>) {
+            return wrap(((Collection<?>) source).toArray());
+        } else {
+            return ImmutableVector.<A>builder().addAll(source).build();
+        }
+    }
+
+    /**
+     * Returns a new array holding the elements of {@code source}, by the same strategies as {@link VectorCopies#copy}.
+     */
+    static Object[] copyToArray(Iterable<?> source) {
+        if (source instanceof Vector<?>) {
+            Vector<?> vector = (Vector<?>) source;
+            Object[] copied = new Object[vector.size()];
+            Vectors.copyInto(vector, 0, copied, 0, copied.length);
+            return copied;
+        } else if (source instanceof Collection<?>) {
+            return ((Collection<?>) source).toArray();
+        } else {
+            ArrayList<Object> copied = new ArrayList<>();
+            source.forEach(copied::add);
+            return copied.toArray();
+        }
+    }
+
+    /**
+     * maxCount must be &gt;= 0
+     */
+    static <A> ImmutableVector<A> copyPrefix(int maxCount, Iterable<A> source) {
+        return copySlice(0, maxCount, source);
+    }
+
+    /**
+     * startIndex and count must be &gt;= 0
+     */
+    static <A> ImmutableVector<A> copySlice(int startIndex, int count, Iterable<A> source) {
+        if (count == 0) {
+            return Vectors.empty();
+        } else if (source instanceof Vector<?>) {
+            Vector<A> vector = (Vector<A>) source;
+            int available = Math.max(vector.size() - startIndex, 0);
+            return copyRange(vector, startIndex, Math.min(available, count));
+        } else if (source instanceof Collection<?>) {
+            Collection<A> collection = (Collection<A>) source;
+            int size = collection.size();
+            if (startIndex == 0 && count >= size) {
+                return wrap(collection.toArray());
+            } else if (startIndex >= size) {
+                return Vectors.empty();
+            } else if (source instanceof List<?>) {
+                int end = startIndex + Math.min(size - startIndex, count);
+                return wrap(((List<A>) source).subList(startIndex, end).toArray());
+            }
+        }
+        return iterateSlice(startIndex, count, source);
+    }
+
+    private static <A> ImmutableVector<A> copyRange(Vector<A> source, int from, int count) {
+        if (count <= 0) {
+            return Vectors.empty();
+        }
+        Object[] copied = new Object[count];
+        Vectors.copyInto(source, from, copied, 0, count);
+        return wrap(copied);
+    }
+
+    private static <A> ImmutableVector<A> iterateSlice(int startIndex, int count, Iterable<A> source) {
+        Iterator<A> iterator = source.iterator();
+        for (int skipped = 0; skipped < startIndex && iterator.hasNext(); skipped++) {
+            iterator.next();
+        }
+        VectorBuilder<A> builder = ImmutableVector.builder();
+        for (int taken = 0; taken < count && iterator.hasNext(); taken++) {
+            builder.add(iterator.next());
+        }
+        return builder.build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <A> ImmutableVector<A> wrap(Object[] copied) {
+        return ImmutableVectors.wrapAndVouchFor((A[]) copied);
+    }
+
+}
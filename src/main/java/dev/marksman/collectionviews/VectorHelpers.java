@@ -24,6 +24,17 @@ public class VectorHelpers {
             return false;
         }
 
+        if (vector instanceof ConcreteVector<?> && other instanceof ConcreteVector<?>) {
+            int h1 = ((ConcreteVector<?>) vector).cachedHashCode();
+            int h2 = ((ConcreteVector<?>) other).cachedHashCode();
+            if (h1 != 0 && h2 != 0 && h1 != h2) {
+                return false;
+            }
+        }
+        if (Vectors.hasCheapRandomAccess(vector) && Vectors.hasCheapRandomAccess(other)) {
+            return indexedEquals(vector, other);
+        }
+
         Iterator<?> e1 = vector.iterator();
         Iterator<?> e2 = other.iterator();
         while (e1.hasNext() && e2.hasNext()) {
@@ -35,6 +46,22 @@ public class VectorHelpers {
         return !(e1.hasNext() || e2.hasNext());
     }
 
+    /**
+     * Compares element by element with {@code unsafeGet}, without allocating iterators.  Only used when both
+     * {@link Vector}s have cheap random access; anything else (such as a view over a sequential {@link java.util.List})
+     * is compared using iterators.
+     */
+    private static boolean indexedEquals(Vector<?> vector, Vector<?> other) {
+        int size = vector.size();
+        for (int i = 0; i < size; i++) {
+            Object o1 = vector.unsafeGet(i);
+            Object o2 = other.unsafeGet(i);
+            if (!(o1 == null ? o2 == null : o1.equals(o2)))
+                return false;
+        }
+        return true;
+    }
+
     public static int vectorHashCode(Vector<?> vector) {
         int hashCode = 1;
         for (Object e : vector)
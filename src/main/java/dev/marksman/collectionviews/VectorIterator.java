@@ -5,21 +5,23 @@ import java.util.NoSuchElementException;
 
 public final class VectorIterator<A> implements Iterator<A> {
     private final Vector<A> underlying;
+    private final int size;
     private int index;
 
     public VectorIterator(Vector<A> underlying) {
         this.underlying = underlying;
+        this.size = underlying.size();
         index = 0;
     }
 
     @Override
     public boolean hasNext() {
-        return index < underlying.size();
+        return index < size;
     }
 
     @Override
     public A next() {
-        if (index >= underlying.size()) throw new NoSuchElementException();
+        if (index >= size) throw new NoSuchElementException();
         A result = underlying.unsafeGet(index);
         index += 1;
         return result;
@@ -1,11 +1,13 @@
 package dev.marksman.collectionviews;
 
+import java.util.Iterator;
+
 class VectorSlice<A> extends ConcreteVector<A> implements Vector<A> {
     private final int offset;
     private final int size;
     private final Vector<A> underlying;
 
-    VectorSlice(int offset, int size, Vector<A> underlying) {
+    private VectorSlice(int offset, int size, Vector<A> underlying) {
         this.offset = offset;
         this.size = size;
         this.underlying = underlying;
@@ -22,4 +24,47 @@ class VectorSlice<A> extends ConcreteVector<A> implements Vector<A> {
         return underlying.unsafeGet(offset + index);
     }
 
+    void copyInto(int from, Object[] target, int targetOffset, int count) {
+        Vectors.copyInto(underlying, offset + from, target, targetOffset, count);
+    }
+
+    /**
+     * Reads through the iterator of {@code underlying} if it does not have cheap random access.
+     */
+    @Override
+    public Iterator<A> iterator() {
+        return hasCheapRandomAccess()
+                ? new VectorIterator<>(this)
+                : Vectors.sliceIterator(underlying, offset, size);
+    }
+
+    boolean hasCheapRandomAccess() {
+        return Vectors.hasCheapRandomAccess(underlying);
+    }
+
+    /**
+     * Creates a slice of {@code underlying}.  If {@code underlying} is itself a slice (or a view that can be
+     * sliced directly), the offsets are folded into a single slice over the original base, so that the depth
+     * of a view does not grow no matter how many times it is re-sliced.
+     * <p>
+     * {@code size} must be &gt;= 1, and {@code offset + size} must not exceed the size of {@code underlying}.
+     */
+    @SuppressWarnings("unchecked")
+    static <A> Vector<A> vectorSlice(int offset, int size, Vector<A> underlying) {
+        if (underlying instanceof ImmutableVector<?>) {
+            return ImmutableVectorSlice.immutableVectorSlice(offset, size, (ImmutableVector<A>) underlying);
+        } else if (underlying instanceof VectorSlice<?>) {
+            VectorSlice<A> source = (VectorSlice<A>) underlying;
+            return new VectorSlice<>(source.offset + offset, size, source.underlying);
+        } else if (underlying instanceof VectorCons<?>) {
+            return VectorCons.consSlice(offset, size, (VectorCons<A>) underlying);
+        } else if (underlying instanceof MappedVector<?>) {
+            return MappedVector.mappedSlice(offset, size, (MappedVector<A>) underlying);
+        } else if (underlying instanceof BufferVector<?>) {
+            return BufferVector.bufferSlice(offset, size, (BufferVector<A>) underlying);
+        } else {
+            return new VectorSlice<>(offset, size, underlying);
+        }
+    }
+
 }
@@ -0,0 +1,77 @@
+package dev.marksman.collectionviews;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * A {@link Spliterator} over a range of indices of a {@link Vector}.  Splits evenly by index.
+ */
+final class VectorSpliterator<A> implements Spliterator<A> {
+    private final Vector<A> vector;
+    private final int fence;
+    private final int characteristics;
+    private int index;
+
+    private VectorSpliterator(Vector<A> vector, int origin, int fence, int characteristics) {
+        this.vector = vector;
+        this.index = origin;
+        this.fence = fence;
+        this.characteristics = characteristics;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super A> action) {
+        Objects.requireNonNull(action);
+        if (index < fence) {
+            action.accept(vector.unsafeGet(index));
+            index += 1;
+            return true;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public void forEachRemaining(Consumer<? super A> action) {
+        Objects.requireNonNull(action);
+        Vector<A> v = vector;
+        int hi = fence;
+        int i = index;
+        index = hi;
+        for (; i < hi; i++) {
+            action.accept(v.unsafeGet(i));
+        }
+    }
+
+    @Override
+    public Spliterator<A> trySplit() {
+        int lo = index;
+        int mid = (lo + fence) >>> 1;
+        if (lo >= mid) {
+            return null;
+        } else {
+            index = mid;
+            return new VectorSpliterator<>(vector, lo, mid, characteristics);
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return fence - index;
+    }
+
+    @Override
+    public int characteristics() {
+        return characteristics;
+    }
+
+    static <A> Spliterator<A> vectorSpliterator(Vector<A> vector) {
+        return new VectorSpliterator<>(vector, 0, vector.size(), ORDERED | SIZED | SUBSIZED);
+    }
+
+    static <A> Spliterator<A> immutableVectorSpliterator(ImmutableVector<A> vector) {
+        return new VectorSpliterator<>(vector, 0, vector.size(), ORDERED | SIZED | SUBSIZED | IMMUTABLE);
+    }
+
+}
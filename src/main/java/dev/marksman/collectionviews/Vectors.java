@@ -7,8 +7,12 @@ import com.jnape.palatable.lambda.functions.builtin.fn2.Drop;
 import com.jnape.palatable.lambda.functions.builtin.fn2.Take;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 
 import static com.jnape.palatable.lambda.adt.Maybe.just;
@@ -40,16 +44,162 @@ class Vectors {
         }
     }
 
+    /**
+     * Copies {@code count} elements of {@code source}, starting at {@code from}, into {@code target}.  Array-backed
+     * vectors, slices of them, and {@link PersistentVector}s (a leaf at a time) are copied with
+     * {@link System#arraycopy}, and wrapped {@link List}s through {@link List#subList}.  Other vectors are read by
+     * index if they have cheap random access (see {@link Vectors#hasCheapRandomAccess}), or else with a single
+     * iterator.
+     */
+    static void copyInto(Vector<?> source, int from, Object[] target, int targetOffset, int count) {
+        if (source instanceof ImmutableArrayVector<?>) {
+            ((ImmutableArrayVector<?>) source).copyInto(from, target, targetOffset, count);
+        } else if (source instanceof WrappedArrayVector<?>) {
+            ((WrappedArrayVector<?>) source).copyInto(from, target, targetOffset, count);
+        } else if (source instanceof ImmutableVectorSlice<?>) {
+            ((ImmutableVectorSlice<?>) source).copyInto(from, target, targetOffset, count);
+        } else if (source instanceof VectorSlice<?>) {
+            ((VectorSlice<?>) source).copyInto(from, target, targetOffset, count);
+        } else if (source instanceof RrbVector<?>) {
+            ((RrbVector<?>) source).tree().copyInto(from, target, targetOffset, count);
+        } else if (source instanceof WrappedListVector<?>) {
+            ((WrappedListVector<?>) source).copyInto(from, target, targetOffset, count);
+        } else if (source instanceof ImmutableListVector<?>) {
+            ((ImmutableListVector<?>) source).copyInto(from, target, targetOffset, count);
+        } else if (hasCheapRandomAccess(source)) {
+            for (int i = 0; i < count; i++) {
+                target[targetOffset + i] = source.unsafeGet(from + i);
+            }
+        } else {
+            Iterator<?> iterator = source.iterator();
+            for (int i = 0; i < from; i++) {
+                iterator.next();
+            }
+            for (int i = 0; i < count; i++) {
+                target[targetOffset + i] = iterator.next();
+            }
+        }
+    }
+
+    /**
+     * Returns {@code true} if {@link Vector#unsafeGet} on {@code source} is known to be cheap: it is marked
+     * {@link CheapRandomAccess}, wraps a {@link List} that is {@link RandomAccess}, or is a slice, mapping or cons
+     * of such a vector.
+     */
+    static boolean hasCheapRandomAccess(Vector<?> source) {
+        if (source instanceof CheapRandomAccess) {
+            return true;
+        } else if (source instanceof WrappedListVector<?>) {
+            return ((WrappedListVector<?>) source).hasRandomAccess();
+        } else if (source instanceof ImmutableListVector<?>) {
+            return ((ImmutableListVector<?>) source).hasRandomAccess();
+        } else if (source instanceof VectorSlice<?>) {
+            return ((VectorSlice<?>) source).hasCheapRandomAccess();
+        } else if (source instanceof ImmutableVectorSlice<?>) {
+            return ((ImmutableVectorSlice<?>) source).hasCheapRandomAccess();
+        } else if (source instanceof MappedVector<?>) {
+            return ((MappedVector<?>) source).hasCheapRandomAccess();
+        } else if (source instanceof ImmutableMappedVector<?>) {
+            return ((ImmutableMappedVector<?>) source).hasCheapRandomAccess();
+        } else if (source instanceof VectorCons<?>) {
+            return ((VectorCons<?>) source).hasCheapRandomAccess();
+        } else if (source instanceof ImmutableVectorCons<?>) {
+            return ((ImmutableVectorCons<?>) source).hasCheapRandomAccess();
+        } else {
+            return false;
+        }
+    }
+
+    /**
+     * Iterates {@code size} elements of {@code underlying}, starting at {@code offset}, using the iterator of
+     * {@code underlying} rather than {@link Vector#unsafeGet}.  The first {@code offset} elements are skipped when
+     * iteration starts.
+     */
+    static <A> Iterator<A> sliceIterator(Vector<A> underlying, int offset, int size) {
+        return new Iterator<A>() {
+            private Iterator<A> iterator;
+            private int remaining = size;
+
+            @Override
+            public boolean hasNext() {
+                return remaining > 0;
+            }
+
+            @Override
+            public A next() {
+                if (remaining <= 0) throw new NoSuchElementException();
+                if (iterator == null) {
+                    iterator = underlying.iterator();
+                    for (int i = 0; i < offset; i++) {
+                        iterator.next();
+                    }
+                }
+                remaining -= 1;
+                return iterator.next();
+            }
+        };
+    }
+
+    /**
+     * Iterates {@code underlying} through its own iterator, applying {@code mapper} to each element.
+     */
+    @SuppressWarnings("unchecked")
+    static <A> Iterator<A> mappedIterator(MapperChain mapper, Vector<Object> underlying) {
+        Iterator<Object> iterator = underlying.iterator();
+        return new Iterator<A>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public A next() {
+                return (A) mapper.apply(iterator.next());
+            }
+        };
+    }
+
+    /**
+     * Iterates the elements of {@code prefix}, followed by those of {@code base} through its own iterator.
+     */
+    @SuppressWarnings("unchecked")
+    static <A> Iterator<A> consIterator(Object[] prefix, Vector<A> base) {
+        return new Iterator<A>() {
+            private int index = 0;
+            private Iterator<A> baseIterator;
+
+            @Override
+            public boolean hasNext() {
+                return index < prefix.length || baseIterator().hasNext();
+            }
+
+            @Override
+            public A next() {
+                if (index < prefix.length) {
+                    return (A) prefix[index++];
+                }
+                return baseIterator().next();
+            }
+
+            private Iterator<A> baseIterator() {
+                if (baseIterator == null) {
+                    baseIterator = base.iterator();
+                }
+                return baseIterator;
+            }
+        };
+    }
+
     static <A> Vector<A> take(int count, Vector<A> source) {
         return takeFromIterable(count, source);
     }
 
     static <A> Vector<A> drop(int count, Vector<A> source) {
-        return dropImpl(VectorSlice::new, count, source);
+        return dropImpl(VectorSlice::vectorSlice, count, source);
     }
 
     static <A> ImmutableVector<A> immutableDrop(int count, ImmutableVector<A> source) {
-        return dropImpl(ImmutableVectorSlice::new, count, source);
+        return dropImpl(ImmutableVectorSlice::immutableVectorSlice, count, source);
     }
 
     private static <A, V extends Vector<A>> V dropImpl(Fn3<Integer, Integer, V, V> factory, int count, V source) {
@@ -84,7 +234,7 @@ class Vectors {
             } else {
                 int available = Math.max(sourceSize - startIndex, 0);
                 int sliceSize = Math.min(available, requestedSize);
-                return new VectorSlice<>(startIndex, sliceSize, sourceVector);
+                return VectorSlice.vectorSlice(startIndex, sliceSize, sourceVector);
             }
         } else if (source instanceof List<?>) {
             List<A> sourceList = (List<A>) source;
@@ -96,7 +246,7 @@ class Vectors {
             } else {
                 int available = Math.max(sourceSize - startIndex, 0);
                 int sliceSize = Math.min(available, requestedSize);
-                return new VectorSlice<>(startIndex, sliceSize, wrap(sourceList));
+                return VectorSlice.vectorSlice(startIndex, sliceSize, wrap(sourceList));
             }
         } else {
             ArrayList<A> newList = toCollection(ArrayList::new, Take.take(requestedSize, Drop.drop(startIndex, source)));
@@ -106,7 +256,7 @@ class Vectors {
 
     @SafeVarargs
     static <A> ImmutableNonEmptyVector<A> of(A first, A... more) {
-        return new ImmutableVectorCons<>(first, ImmutableVectors.wrapAndVouchFor(more));
+        return ImmutableVectorCons.immutableVectorCons(first, ImmutableVectors.wrapAndVouchFor(more));
     }
 
     static <A> ImmutableVector<A> fill(int size, A value) {
@@ -121,6 +271,20 @@ class Vectors {
         else return nonEmptyLazyFill(size, valueSupplier);
     }
 
+    static <A> ImmutableMemoizedVector<A> lazyFillCached(int size, IntFunction<? extends A> valueSupplier) {
+        if (size < 0) throw new IllegalArgumentException("size must be >= 0");
+        Objects.requireNonNull(valueSupplier);
+        if (size == 0) return new CachedLazyVector<>(0, valueSupplier);
+        else return nonEmptyLazyFillCached(size, valueSupplier);
+    }
+
+    static <A> ImmutableNonEmptyMemoizedVector<A> nonEmptyLazyFillCached(int size,
+                                                                         IntFunction<? extends A> valueSupplier) {
+        if (size < 1) throw new IllegalArgumentException("size must be >= 1");
+        Objects.requireNonNull(valueSupplier);
+        return new NonEmptyCachedLazyVector<>(size, valueSupplier);
+    }
+
     static <A> ImmutableNonEmptyVector<A> nonEmptyFill(int size, A value) {
         if (size < 0) throw new IllegalArgumentException("size must be >= 1");
         return new RepeatingVector<>(size, value);
@@ -161,16 +325,35 @@ class Vectors {
         return getNonEmptyOrThrow(ImmutableVectors.tryNonEmptyWrap(vec));
     }
 
+    @SuppressWarnings("unchecked")
     static <A, B> Vector<B> map(Fn1<? super A, ? extends B> f, Vector<A> source) {
-        return ImmutableVectors.tryNonEmptyWrap(source)
-                .match(__ -> empty(),
-                        nonEmpty -> mapNonEmpty(f, nonEmpty));
+        Objects.requireNonNull(f);
+        if (source.isEmpty()) {
+            return empty();
+        } else {
+            return new MappedVector<>(mapperChain((Fn1<Object, Object>) f),
+                    (Vector<Object>) source);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A, B> MemoizedVector<B> mapMemoized(Fn1<? super A, ? extends B> f, Vector<A> source) {
+        Objects.requireNonNull(f);
+        return new MemoizedMappedVector<>(MemoTable.denseMemoTable(source.size()),
+                (Fn1<Object, Object>) f, (Vector<Object>) source);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <A, B> MemoizedVector<B> mapMemoized(int cacheSize, Fn1<? super A, ? extends B> f, Vector<A> source) {
+        Objects.requireNonNull(f);
+        return new MemoizedMappedVector<>(MemoTable.boundedMemoTable(source.size(), cacheSize),
+                (Fn1<Object, Object>) f, (Vector<Object>) source);
     }
 
     @SuppressWarnings("unchecked")
     static <A, B> NonEmptyVector<B> mapNonEmpty(Fn1<? super A, ? extends B> f, NonEmptyVector<A> source) {
         return new MappedVector<>(mapperChain((Fn1<Object, Object>) f),
-                (NonEmptyVector<Object>) source);
+                (Vector<Object>) source);
     }
 
     private static <A> Vector<A> takeFromIterable(int count, Iterable<A> source) {
@@ -1,8 +1,10 @@
 package dev.marksman.collectionviews;
 
 import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
 
-class WrappedArrayVector<A> extends ConcreteVector<A> implements NonEmptyVector<A> {
+class WrappedArrayVector<A> extends ConcreteVector<A> implements NonEmptyVector<A>, CheapRandomAccess {
     /**
      * underlying must contain at least one element
      */
@@ -33,10 +35,19 @@ class WrappedArrayVector<A> extends ConcreteVector<A> implements NonEmptyVector<
         return underlying[index];
     }
 
+    @Override
+    public Spliterator<A> spliterator() {
+        return Spliterators.spliterator(underlying, Spliterator.ORDERED);
+    }
+
     @Override
     public ImmutableNonEmptyVector<A> toImmutable() {
         A[] copied = Arrays.copyOf(underlying, underlying.length);
         return new ImmutableArrayVector<>(copied);
     }
 
+    void copyInto(int from, Object[] target, int targetOffset, int count) {
+        System.arraycopy(underlying, from, target, targetOffset, count);
+    }
+
 }
@@ -0,0 +1,51 @@
+package dev.marksman.collectionviews;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+class WrappedDoubleArrayVector extends ConcreteVector<Double> implements NonEmptyDoubleVector, CheapRandomAccess {
+    private final double[] underlying;
+    private final int offset;
+    /**
+     * must be >= 1
+     */
+    private final int size;
+
+    WrappedDoubleArrayVector(double[] underlying, int offset, int size) {
+        this.underlying = underlying;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public double unsafeGetDouble(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        return underlying[offset + index];
+    }
+
+    @Override
+    public Spliterator.OfDouble spliterator() {
+        return Spliterators.spliterator(underlying, offset, offset + size, Spliterator.ORDERED);
+    }
+
+    @Override
+    public double[] toDoubleArray() {
+        return Arrays.copyOfRange(underlying, offset, offset + size);
+    }
+
+    @Override
+    public ImmutableNonEmptyDoubleVector toImmutable() {
+        return new ImmutableDoubleArrayVector(toDoubleArray(), 0, size);
+    }
+
+    static WrappedDoubleArrayVector arraySlice(int offset, int size, WrappedDoubleArrayVector source) {
+        return new WrappedDoubleArrayVector(source.underlying, source.offset + offset, size);
+    }
+
+}
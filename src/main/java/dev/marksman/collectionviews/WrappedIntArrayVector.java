@@ -0,0 +1,51 @@
+package dev.marksman.collectionviews;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+class WrappedIntArrayVector extends ConcreteVector<Integer> implements NonEmptyIntVector, CheapRandomAccess {
+    private final int[] underlying;
+    private final int offset;
+    /**
+     * must be >= 1
+     */
+    private final int size;
+
+    WrappedIntArrayVector(int[] underlying, int offset, int size) {
+        this.underlying = underlying;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int unsafeGetInt(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        return underlying[offset + index];
+    }
+
+    @Override
+    public Spliterator.OfInt spliterator() {
+        return Spliterators.spliterator(underlying, offset, offset + size, Spliterator.ORDERED);
+    }
+
+    @Override
+    public int[] toIntArray() {
+        return Arrays.copyOfRange(underlying, offset, offset + size);
+    }
+
+    @Override
+    public ImmutableNonEmptyIntVector toImmutable() {
+        return new ImmutableIntArrayVector(toIntArray(), 0, size);
+    }
+
+    static WrappedIntArrayVector arraySlice(int offset, int size, WrappedIntArrayVector source) {
+        return new WrappedIntArrayVector(source.underlying, source.offset + offset, size);
+    }
+
+}
@@ -0,0 +1,49 @@
+package dev.marksman.collectionviews;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+
+class WrappedIntSet extends ConcreteSet<Integer> implements NonEmptyIntSet {
+
+    /**
+     * underlying must contain at least one element
+     */
+    private final java.util.Set<Integer> underlying;
+
+    WrappedIntSet(Set<Integer> underlying) {
+        this.underlying = underlying;
+    }
+
+    @Override
+    public int size() {
+        return underlying.size();
+    }
+
+    @Override
+    public boolean containsInt(int element) {
+        return underlying.contains(element);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public PrimitiveIterator.OfInt iterator() {
+        Iterator<Integer> iterator = underlying.iterator();
+        return new PrimitiveIterator.OfInt() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public int nextInt() {
+                return iterator.next();
+            }
+        };
+    }
+
+}
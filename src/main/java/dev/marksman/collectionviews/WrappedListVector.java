@@ -1,9 +1,10 @@
 package dev.marksman.collectionviews;
 
-import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.RandomAccess;
 
-import static com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection.toCollection;
+import static dev.marksman.collectionviews.ProtectedIterator.protectedIterator;
 
 class WrappedListVector<A> extends ConcreteVector<A> implements NonEmptyVector<A> {
     /**
@@ -35,10 +36,31 @@ class WrappedListVector<A> extends ConcreteVector<A> implements NonEmptyVector<A
         return underlying.get(index);
     }
 
+    @Override
+    public Iterator<A> iterator() {
+        return protectedIterator(underlying.iterator());
+    }
+
+    /**
+     * {@code true} if {@code get} on the underlying {@link List} is cheap, according to {@link RandomAccess}.
+     */
+    boolean hasRandomAccess() {
+        return underlying instanceof RandomAccess;
+    }
+
+    /**
+     * Goes through {@link List#subList}, so that a sequential list is walked once rather than once per element.
+     */
+    void copyInto(int from, Object[] target, int targetOffset, int count) {
+        Object[] copied = underlying.subList(from, from + count).toArray();
+        System.arraycopy(copied, 0, target, targetOffset, count);
+    }
+
     @Override
     public ImmutableNonEmptyVector<A> toImmutable() {
-        ArrayList<A> copied = toCollection(ArrayList::new, underlying);
-        return new ImmutableListVector<>(copied);
+        return ImmutableNonEmptyVector.builder(underlying.size(), underlying.get(0))
+                .addAll(underlying.subList(1, underlying.size()))
+                .build();
     }
 
 }
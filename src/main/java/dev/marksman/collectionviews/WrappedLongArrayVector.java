@@ -0,0 +1,51 @@
+package dev.marksman.collectionviews;
+
+import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.Spliterators;
+
+class WrappedLongArrayVector extends ConcreteVector<Long> implements NonEmptyLongVector, CheapRandomAccess {
+    private final long[] underlying;
+    private final int offset;
+    /**
+     * must be >= 1
+     */
+    private final int size;
+
+    WrappedLongArrayVector(long[] underlying, int offset, int size) {
+        this.underlying = underlying;
+        this.offset = offset;
+        this.size = size;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public long unsafeGetLong(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException();
+        return underlying[offset + index];
+    }
+
+    @Override
+    public Spliterator.OfLong spliterator() {
+        return Spliterators.spliterator(underlying, offset, offset + size, Spliterator.ORDERED);
+    }
+
+    @Override
+    public long[] toLongArray() {
+        return Arrays.copyOfRange(underlying, offset, offset + size);
+    }
+
+    @Override
+    public ImmutableNonEmptyLongVector toImmutable() {
+        return new ImmutableLongArrayVector(toLongArray(), 0, size);
+    }
+
+    static WrappedLongArrayVector arraySlice(int offset, int size, WrappedLongArrayVector source) {
+        return new WrappedLongArrayVector(source.underlying, source.offset + offset, size);
+    }
+
+}
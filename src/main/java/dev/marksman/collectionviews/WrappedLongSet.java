@@ -0,0 +1,49 @@
+package dev.marksman.collectionviews;
+
+import java.util.Iterator;
+import java.util.PrimitiveIterator;
+import java.util.Set;
+
+class WrappedLongSet extends ConcreteSet<Long> implements NonEmptyLongSet {
+
+    /**
+     * underlying must contain at least one element
+     */
+    private final java.util.Set<Long> underlying;
+
+    WrappedLongSet(Set<Long> underlying) {
+        this.underlying = underlying;
+    }
+
+    @Override
+    public int size() {
+        return underlying.size();
+    }
+
+    @Override
+    public boolean containsLong(long element) {
+        return underlying.contains(element);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return false;
+    }
+
+    @Override
+    public PrimitiveIterator.OfLong iterator() {
+        Iterator<Long> iterator = underlying.iterator();
+        return new PrimitiveIterator.OfLong() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public long nextLong() {
+                return iterator.next();
+            }
+        };
+    }
+
+}
@@ -2,6 +2,7 @@ package dev.marksman.collectionviews;
 
 import java.util.Iterator;
 import java.util.Set;
+import java.util.Spliterator;
 
 import static dev.marksman.collectionviews.ProtectedIterator.protectedIterator;
 
@@ -48,4 +49,9 @@ class WrappedSet<A> extends ConcreteSet<A> implements NonEmptySet<A> {
         return protectedIterator(underlying.iterator());
     }
 
+    @Override
+    public Spliterator<A> spliterator() {
+        return underlying.spliterator();
+    }
+
 }
@@ -0,0 +1,210 @@
+package dev.marksman.collectionviews;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyIterable.emptyIterable;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BooleanVectorTest {
+
+    private static boolean[] randomBooleans(int size, long seed) {
+        Random random = new Random(seed);
+        boolean[] result = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = random.nextBoolean();
+        }
+        return result;
+    }
+
+    private static int countTrueIn(boolean[] values, int from, int to) {
+        int result = 0;
+        for (int i = from; i < to; i++) {
+            if (values[i]) result += 1;
+        }
+        return result;
+    }
+
+    @Nested
+    @DisplayName("empty")
+    class EmptyTests {
+
+        @Test
+        void isEmpty() {
+            BooleanVector subject = BooleanVector.empty();
+            assertTrue(subject.isEmpty());
+            assertThat(subject, emptyIterable());
+            assertEquals(0, subject.countTrue());
+            assertEquals(-1, subject.firstTrue());
+            assertEquals(Vector.empty(), subject);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("wrap")
+    class WrapTests {
+
+        @Test
+        void throwsOnInvalidArguments() {
+            assertThrows(NullPointerException.class, () -> BooleanVector.wrap(null, 0));
+            assertThrows(IllegalArgumentException.class, () -> BooleanVector.wrap(new long[1], -1));
+            assertThrows(IllegalArgumentException.class, () -> BooleanVector.wrap(new long[1], 65));
+        }
+
+        @Test
+        void usesBitSetLayout() {
+            long[] words = {0b1010L, 1L};
+            BooleanVector subject = BooleanVector.wrap(words, 65);
+            assertEquals(65, subject.size());
+            assertFalse(subject.unsafeGetBoolean(0));
+            assertTrue(subject.unsafeGetBoolean(1));
+            assertTrue(subject.unsafeGetBoolean(3));
+            assertTrue(subject.unsafeGetBoolean(64));
+            assertThrows(IndexOutOfBoundsException.class, () -> subject.unsafeGetBoolean(65));
+            assertEquals(BitSet.valueOf(words), subject.toBitSet());
+        }
+
+        @Test
+        void visibleMutation() {
+            long[] words = {0L};
+            BooleanVector subject = BooleanVector.wrap(words, 3);
+            words[0] = 0b100L;
+            assertThat(subject, contains(false, false, true));
+        }
+
+        @Test
+        void toImmutableMakesCopy() {
+            long[] words = {0b1L};
+            ImmutableBooleanVector copy = BooleanVector.wrap(words, 2).toImmutable();
+            words[0] = 0b10L;
+            assertThat(copy, contains(true, false));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("copyFrom")
+    class CopyFromTests {
+
+        @Test
+        void copyFromArray() {
+            boolean[] source = {true, false, true};
+            ImmutableBooleanVector subject = BooleanVector.copyFrom(source);
+            source[0] = false;
+            assertThat(subject, contains(true, false, true));
+            assertThat(BooleanVector.copyFrom(2, new boolean[]{true, false, true}), contains(true, false));
+            assertThrows(IllegalArgumentException.class, () -> BooleanVector.copyFrom(-1, new boolean[0]));
+        }
+
+        @Test
+        void copyFromBitSet() {
+            BitSet bits = new BitSet();
+            bits.set(1);
+            bits.set(100);
+            ImmutableBooleanVector subject = BooleanVector.copyFrom(bits, 70);
+            assertEquals(70, subject.size());
+            assertEquals(1, subject.countTrue());
+            assertTrue(subject.unsafeGetBoolean(1));
+        }
+
+        @Test
+        void copyFromIterable() {
+            assertThat(BooleanVector.copyFrom(asList(true, true, false)), contains(true, true, false));
+            assertThat(BooleanVector.copyFrom(Vector.of(false, true)), contains(false, true));
+            ImmutableBooleanVector immutable = BooleanVector.copyFrom(new boolean[]{true});
+            assertSame(immutable, BooleanVector.copyFrom(immutable));
+        }
+
+        @Test
+        void equality() {
+            ImmutableBooleanVector subject = BooleanVector.copyFrom(new boolean[]{true, false});
+            assertEquals(Vector.of(true, false), subject);
+            assertEquals(Vector.of(true, false).hashCode(), subject.hashCode());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("scanning")
+    class ScanningTests {
+
+        @Test
+        void countTrue() {
+            boolean[] values = randomBooleans(1_000, 1L);
+            BooleanVector subject = BooleanVector.copyFrom(values);
+            assertEquals(countTrueIn(values, 0, 1_000), subject.countTrue());
+            assertEquals(countTrueIn(values, 3, 997), subject.slice(3, 997).countTrue());
+            assertEquals(countTrueIn(values, 65, 130), subject.slice(65, 130).countTrue());
+        }
+
+        @Test
+        void nextTrue() {
+            boolean[] values = new boolean[300];
+            values[5] = true;
+            values[130] = true;
+            values[299] = true;
+            BooleanVector subject = BooleanVector.copyFrom(values);
+            assertEquals(5, subject.firstTrue());
+            assertEquals(130, subject.nextTrue(6));
+            assertEquals(299, subject.nextTrue(131));
+            assertEquals(-1, subject.nextTrue(300));
+            assertEquals(125, subject.drop(5).nextTrue(1));
+            assertEquals(-1, subject.slice(6, 130).firstTrue());
+            assertThrows(IllegalArgumentException.class, () -> subject.nextTrue(-1));
+        }
+
+        @Test
+        void slicesAreNotCopies() {
+            long[] words = {0L, 0L};
+            BooleanVector slice = BooleanVector.wrap(words, 128).slice(60, 70);
+            words[1] = 1L;
+            assertEquals(4, slice.firstTrue());
+            assertThat(slice.take(5), contains(false, false, false, false, true));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("bulk operations")
+    class BulkTests {
+
+        @Test
+        void andOrXor() {
+            BooleanVector a = BooleanVector.copyFrom(new boolean[]{true, true, false, false});
+            BooleanVector b = BooleanVector.copyFrom(new boolean[]{true, false, true, false});
+            assertThat(a.and(b), contains(true, false, false, false));
+            assertThat(a.or(b), contains(true, true, true, false));
+            assertThat(a.xor(b), contains(false, true, true, false));
+        }
+
+        @Test
+        void unalignedSlices() {
+            boolean[] x = randomBooleans(500, 2L);
+            boolean[] y = randomBooleans(500, 3L);
+            BooleanVector left = BooleanVector.copyFrom(x).slice(7, 307);
+            BooleanVector right = BooleanVector.copyFrom(y).slice(130, 430);
+            ImmutableBooleanVector result = left.xor(right);
+            assertEquals(300, result.size());
+            for (int i = 0; i < 300; i++) {
+                assertEquals(x[7 + i] ^ y[130 + i], result.unsafeGetBoolean(i));
+            }
+        }
+
+        @Test
+        void throwsOnSizeMismatch() {
+            BooleanVector a = BooleanVector.copyFrom(new boolean[]{true});
+            BooleanVector b = BooleanVector.copyFrom(new boolean[]{true, false});
+            assertThrows(IllegalArgumentException.class, () -> a.and(b));
+        }
+
+    }
+
+}
@@ -0,0 +1,242 @@
+package dev.marksman.collectionviews;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Every.everyItem;
+import static org.hamcrest.core.IsEqual.equalTo;
+import static org.hamcrest.collection.IsEmptyIterable.emptyIterable;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.jupiter.api.Assertions.*;
+
+class BufferVectorTest {
+
+    private static final FixedWidthCodec<Integer> INT_CODEC = new FixedWidthCodec<Integer>() {
+        @Override
+        public int width() {
+            return 4;
+        }
+
+        @Override
+        public Integer decode(ByteBuffer source, int offset) {
+            return source.getInt(offset);
+        }
+
+        @Override
+        public void encode(Integer value, ByteBuffer target, int offset) {
+            target.putInt(offset, value);
+        }
+    };
+
+    private static ByteBuffer intBuffer(int... values) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(values.length * 4);
+        for (int value : values) {
+            buffer.putInt(value);
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    private static Path intFile(int count) throws IOException {
+        ByteBuffer contents = ByteBuffer.allocate(count * 4);
+        for (int i = 0; i < count; i++) {
+            contents.putInt(i);
+        }
+        Path path = Files.createTempFile("buffer-vector-test", ".bin");
+        path.toFile().deleteOnExit();
+        Files.write(path, contents.array());
+        return path;
+    }
+
+    @Nested
+    @DisplayName("wrap")
+    class WrapTests {
+
+        @Test
+        void throwsOnInvalidArguments() {
+            assertThrows(NullPointerException.class, () -> Vector.wrap(null, INT_CODEC));
+            assertThrows(NullPointerException.class, () -> Vector.wrap(intBuffer(1), null));
+            assertThrows(IllegalArgumentException.class, () -> Vector.wrap(ByteBuffer.allocate(5), INT_CODEC));
+        }
+
+        @Test
+        void emptyBufferYieldsEmptyVector() {
+            assertThat(Vector.wrap(ByteBuffer.allocate(0), INT_CODEC), emptyIterable());
+        }
+
+        @Test
+        void decodesInPlace() {
+            Vector<Integer> subject = Vector.wrap(intBuffer(10, 20, 30), INT_CODEC);
+            assertEquals(3, subject.size());
+            assertThat(subject, contains(10, 20, 30));
+            assertEquals(Vector.of(10, 20, 30), subject);
+            assertThrows(IndexOutOfBoundsException.class, () -> subject.unsafeGet(3));
+        }
+
+        @Test
+        void wrapsOnlyRemainingBytesAndLeavesBufferAlone() {
+            ByteBuffer buffer = intBuffer(10, 20, 30, 40);
+            buffer.position(4);
+            buffer.limit(12);
+            Vector<Integer> subject = Vector.wrap(buffer, INT_CODEC);
+            assertThat(subject, contains(20, 30));
+            assertEquals(4, buffer.position());
+            assertEquals(12, buffer.limit());
+        }
+
+        @Test
+        void visibleMutation() {
+            ByteBuffer buffer = intBuffer(10, 20, 30);
+            Vector<Integer> subject = Vector.wrap(buffer, INT_CODEC);
+            buffer.putInt(4, 99);
+            assertThat(subject, contains(10, 99, 30));
+        }
+
+        @Test
+        void slicesAreViewsOverTheSameRegion() {
+            ByteBuffer buffer = intBuffer(10, 20, 30, 40, 50);
+            Vector<Integer> slice = Vector.wrap(buffer, INT_CODEC).drop(1).take(3).tail();
+            assertThat(slice, contains(30, 40));
+            assertTrue(slice instanceof BufferVector<?>);
+            buffer.putInt(8, 99);
+            assertThat(slice, contains(99, 40));
+        }
+
+        @Test
+        void fmapComposes() {
+            Vector<Integer> subject = Vector.wrap(intBuffer(1, 2, 3, 4), INT_CODEC);
+            assertThat(subject.fmap(n -> n * 10).fmap(n -> n + 1).slice(1, 3), contains(21, 31));
+        }
+
+        @Test
+        void toImmutableCopiesBytes() {
+            ByteBuffer buffer = intBuffer(10, 20, 30);
+            ImmutableVector<Integer> copy = Vector.wrap(buffer, INT_CODEC).drop(1).toImmutable();
+            buffer.putInt(4, 99);
+            assertThat(copy, contains(20, 30));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("copyOffHeap")
+    class CopyOffHeapTests {
+
+        @Test
+        void copiesFromAnyIterable() {
+            assertThat(Vector.copyOffHeap(INT_CODEC, asList(1, 2, 3)), contains(1, 2, 3));
+            assertThat(Vector.copyOffHeap(INT_CODEC, Vector.of(4, 5)), contains(4, 5));
+            assertThat(Vector.copyOffHeap(INT_CODEC, Vector.of(1, 2, 3, 4).fmap(n -> n * 2).drop(2)),
+                    contains(6, 8));
+            assertThat(Vector.copyOffHeap(INT_CODEC, new ArrayList<>()), emptyIterable());
+        }
+
+        @Test
+        void isNotAffectedBySourceMutation() {
+            List<Integer> source = new ArrayList<>(asList(1, 2, 3));
+            ImmutableVector<Integer> subject = Vector.copyOffHeap(INT_CODEC, source);
+            source.set(0, 99);
+            assertThat(subject, contains(1, 2, 3));
+        }
+
+        @Test
+        void immutableSlicesAreViews() {
+            ImmutableVector<Integer> subject = Vector.copyOffHeap(INT_CODEC, asList(1, 2, 3, 4, 5));
+            ImmutableVector<Integer> slice = subject.slice(1, 4).drop(1);
+            assertTrue(slice instanceof ImmutableBufferVector<?>);
+            assertThat(slice, contains(3, 4));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("mapFile")
+    class MapFileTests {
+
+        @Test
+        void mapsRecords() throws IOException {
+            ImmutableVector<Integer> subject = Vector.mapFile(intFile(100), INT_CODEC);
+            assertEquals(100, subject.size());
+            assertTrue(subject instanceof ImmutableNonEmptyVector<?>);
+            assertEquals(Integer.valueOf(57), subject.unsafeGet(57));
+            assertThat(subject.slice(10, 13), contains(10, 11, 12));
+        }
+
+        @Test
+        void emptyFileYieldsEmptyVector() throws IOException {
+            assertThat(Vector.mapFile(intFile(0), INT_CODEC), emptyIterable());
+        }
+
+        @Test
+        void throwsOnInvalidArguments() throws IOException {
+            Path path = intFile(3);
+            Files.write(path, new byte[]{1, 2, 3});
+            assertThrows(IllegalArgumentException.class, () -> Vector.mapFile(path, INT_CODEC));
+            assertThrows(UncheckedIOException.class,
+                    () -> Vector.mapFile(path.resolveSibling(path.getFileName() + ".missing"), INT_CODEC));
+        }
+
+        @Test
+        void chunkedMapping() throws IOException {
+            ImmutableVector<Integer> subject = BufferVectors.mapFile(intFile(100), INT_CODEC, 30);
+            assertTrue(subject instanceof ChunkedBufferVector<?>);
+            for (int i = 0; i < 100; i++) {
+                assertEquals(Integer.valueOf(i), subject.unsafeGet(i));
+            }
+            assertThat(subject.slice(5, 9), contains(5, 6, 7, 8));
+            assertTrue(subject.slice(0, 7) instanceof ImmutableBufferVector<?>);
+            assertTrue(subject.slice(5, 9) instanceof ChunkedBufferVector<?>);
+            assertThat(subject.drop(96), contains(96, 97, 98, 99));
+            assertEquals(Vector.copyFrom(subject), subject.fmap(n -> n));
+        }
+
+        @Test
+        void everyChunkAndCopyUsesTheCodecByteOrder() throws IOException {
+            List<ByteOrder> orders = new ArrayList<>();
+            FixedWidthCodec<Integer> littleEndian = new FixedWidthCodec<Integer>() {
+                @Override
+                public int width() {
+                    return 4;
+                }
+
+                @Override
+                public ByteOrder byteOrder() {
+                    return ByteOrder.LITTLE_ENDIAN;
+                }
+
+                @Override
+                public Integer decode(ByteBuffer source, int offset) {
+                    orders.add(source.order());
+                    return source.getInt(offset);
+                }
+
+                @Override
+                public void encode(Integer value, ByteBuffer target, int offset) {
+                    orders.add(target.order());
+                    target.putInt(offset, value);
+                }
+            };
+            ImmutableVector<Integer> mapped = BufferVectors.mapFile(intFile(100), littleEndian, 30);
+            assertEquals(Integer.reverseBytes(1), mapped.unsafeGet(1));
+            assertEquals(Integer.reverseBytes(99), mapped.unsafeGet(99));
+            assertThat(Vector.copyOffHeap(littleEndian, mapped.take(3)),
+                    contains(0, Integer.reverseBytes(1), Integer.reverseBytes(2)));
+            assertThat(orders, everyItem(equalTo(ByteOrder.LITTLE_ENDIAN)));
+            assertThat(Vector.mapFile(intFile(3), INT_CODEC), contains(0, 1, 2));
+        }
+
+    }
+
+}
@@ -0,0 +1,263 @@
+package dev.marksman.collectionviews;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyIterable.emptyIterable;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ByteVectorTest {
+
+    private static byte[] randomBytes(int size, long seed) {
+        byte[] result = new byte[size];
+        new Random(seed).nextBytes(result);
+        return result;
+    }
+
+    private static int naiveIndexOf(byte value, int from, byte[] bytes, int start, int end) {
+        for (int i = start + from; i < end; i++) {
+            if (bytes[i] == value) return i - start;
+        }
+        return -1;
+    }
+
+    @Nested
+    @DisplayName("empty")
+    class EmptyTests {
+
+        @Test
+        void isEmpty() {
+            ByteVector subject = ByteVector.empty();
+            assertTrue(subject.isEmpty());
+            assertThat(subject, emptyIterable());
+            assertEquals(-1, subject.indexOf((byte) 0));
+            assertEquals(0, subject.toByteArray().length);
+            assertEquals(Vector.empty(), subject);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("wrap array")
+    class WrapArrayTests {
+
+        @Test
+        void throwsOnNullArgument() {
+            assertThrows(NullPointerException.class, () -> ByteVector.wrap((byte[]) null));
+        }
+
+        @Test
+        void iteratesAll() {
+            ByteVector subject = ByteVector.wrap(new byte[]{1, 2, 3});
+            assertThat(subject, contains((byte) 1, (byte) 2, (byte) 3));
+            assertEquals(2, subject.unsafeGetByte(1));
+            assertThrows(IndexOutOfBoundsException.class, () -> subject.unsafeGetByte(3));
+            assertEquals(Vector.of((byte) 1, (byte) 2, (byte) 3), subject);
+        }
+
+        @Test
+        void visibleMutation() {
+            byte[] underlying = {1, 2, 3};
+            ByteVector subject = ByteVector.wrap(underlying);
+            underlying[0] = 9;
+            assertThat(subject, contains((byte) 9, (byte) 2, (byte) 3));
+        }
+
+        @Test
+        void slicesAreNotCopies() {
+            byte[] underlying = {1, 2, 3, 4, 5};
+            ByteVector slice = ByteVector.wrap(underlying).drop(1).take(3);
+            underlying[2] = 9;
+            assertThat(slice, contains((byte) 2, (byte) 9, (byte) 4));
+            assertThat(slice.tail(), contains((byte) 9, (byte) 4));
+        }
+
+        @Test
+        void toImmutableMakesCopy() {
+            byte[] underlying = {1, 2, 3};
+            ImmutableByteVector copy = ByteVector.wrap(underlying).slice(1, 3).toImmutable();
+            underlying[1] = 9;
+            assertThat(copy, contains((byte) 2, (byte) 3));
+        }
+
+        @Test
+        void asReadOnlyByteBuffer() {
+            byte[] underlying = {1, 2, 3, 4};
+            ByteBuffer buffer = ByteVector.wrap(underlying).slice(1, 3).asReadOnlyByteBuffer();
+            assertTrue(buffer.isReadOnly());
+            assertEquals(0, buffer.position());
+            assertEquals(2, buffer.remaining());
+            underlying[1] = 9;
+            assertEquals(9, buffer.get(0));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("wrap ByteBuffer")
+    class WrapByteBufferTests {
+
+        @Test
+        void wrapsRemainingBytes() {
+            ByteBuffer buffer = ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5});
+            buffer.position(1);
+            buffer.limit(4);
+            ByteVector subject = ByteVector.wrap(buffer);
+            assertThat(subject, contains((byte) 2, (byte) 3, (byte) 4));
+            assertEquals(1, buffer.position());
+            assertEquals(4, buffer.limit());
+            assertEquals(ByteOrder.BIG_ENDIAN, buffer.order());
+        }
+
+        @Test
+        void visibleMutation() {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(3);
+            ByteVector subject = ByteVector.wrap(buffer);
+            buffer.put(2, (byte) 7);
+            assertThat(subject, contains((byte) 0, (byte) 0, (byte) 7));
+        }
+
+        @Test
+        void slicesAndCopies() {
+            ByteBuffer buffer = ByteBuffer.wrap(new byte[]{1, 2, 3, 4, 5});
+            ByteVector slice = ByteVector.wrap(buffer).slice(1, 4);
+            assertThat(slice, contains((byte) 2, (byte) 3, (byte) 4));
+            byte[] destination = new byte[5];
+            slice.copyInto(destination, 2);
+            assertArrayEquals(new byte[]{0, 0, 2, 3, 4}, destination);
+            assertThrows(IndexOutOfBoundsException.class, () -> slice.copyInto(destination, 3));
+            ByteBuffer view = slice.asReadOnlyByteBuffer();
+            assertTrue(view.isReadOnly());
+            assertEquals(3, view.remaining());
+            assertEquals(2, view.get(0));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("copyFrom")
+    class CopyFromTests {
+
+        @Test
+        void copyFromArray() {
+            byte[] source = {1, 2, 3};
+            ImmutableByteVector subject = ByteVector.copyFrom(source);
+            source[0] = 9;
+            assertThat(subject, contains((byte) 1, (byte) 2, (byte) 3));
+            assertThat(ByteVector.copyFrom(2, new byte[]{1, 2, 3}), contains((byte) 1, (byte) 2));
+            assertThat(ByteVector.copySliceFrom(1, 10, new byte[]{1, 2, 3}), contains((byte) 2, (byte) 3));
+            assertThrows(IllegalArgumentException.class, () -> ByteVector.copyFrom(-1, new byte[0]));
+        }
+
+        @Test
+        void copyFromByteBuffer() {
+            ByteBuffer buffer = ByteBuffer.wrap(new byte[]{1, 2, 3});
+            buffer.position(1);
+            ImmutableByteVector subject = ByteVector.copyFrom(buffer);
+            buffer.put(2, (byte) 9);
+            assertThat(subject, contains((byte) 2, (byte) 3));
+            assertEquals(1, buffer.position());
+        }
+
+        @Test
+        void immutableSlicesStayImmutable() {
+            ImmutableByteVector subject = ByteVector.copyFrom(new byte[]{1, 2, 3, 4});
+            ImmutableByteVector slice = subject.slice(1, 3);
+            assertThat(slice, contains((byte) 2, (byte) 3));
+            assertSame(slice, slice.toImmutable());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("other implementations")
+    class OtherImplementationTests {
+
+        private final byte[] underlying = {1, 2, 3, 4, 5};
+
+        private ByteVector foreign() {
+            return new ByteVector() {
+                @Override
+                public int size() {
+                    return underlying.length;
+                }
+
+                @Override
+                public byte unsafeGetByte(int index) {
+                    return underlying[index];
+                }
+            };
+        }
+
+        @Test
+        void slicesAreViews() {
+            ByteVector slice = ByteVectors.slice(1, 4, foreign());
+            assertTrue(slice instanceof ByteVectorSlice);
+            underlying[2] = 9;
+            assertThat(slice, contains((byte) 2, (byte) 9, (byte) 4));
+            assertThrows(IndexOutOfBoundsException.class, () -> slice.unsafeGetByte(3));
+            assertThat(ByteVectors.slice(1, 3, slice), contains((byte) 9, (byte) 4));
+            assertThat(ByteVectors.drop(2, slice), contains((byte) 4));
+        }
+
+        @Test
+        void immutableSlicesAreViews() {
+            ImmutableByteVector immutable = new ImmutableByteVectorSlice(0, 5, ByteVector.copyFrom(underlying));
+            ImmutableByteVector slice = ByteVectors.immutableSlice(1, 4, immutable);
+            assertTrue(slice instanceof ImmutableByteVectorSlice);
+            assertThat(slice, contains((byte) 2, (byte) 3, (byte) 4));
+            assertThat(ByteVectors.immutableSlice(1, 3, slice), contains((byte) 3, (byte) 4));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("indexOf")
+    class IndexOfTests {
+
+        @Test
+        void findsFirstOccurrence() {
+            ByteVector subject = ByteVector.wrap(new byte[]{5, 6, 7, 6});
+            assertEquals(1, subject.indexOf((byte) 6));
+            assertEquals(3, subject.indexOf((byte) 6, 2));
+            assertEquals(-1, subject.indexOf((byte) 8));
+            assertEquals(-1, subject.indexOf((byte) 5, 10));
+            assertThrows(IllegalArgumentException.class, () -> subject.indexOf((byte) 5, -1));
+        }
+
+        @Test
+        void matchesNaiveSearchOverArraysAndBuffers() {
+            byte[] bytes = randomBytes(1_000, 1L);
+            ByteVector array = ByteVector.wrap(bytes).slice(3, 997);
+            ByteVector buffer = ByteVector.wrap(ByteBuffer.wrap(bytes)).slice(3, 997);
+            for (int value = -128; value < 128; value += 7) {
+                for (int from = 0; from < 1_000; from += 97) {
+                    int expected = naiveIndexOf((byte) value, from, bytes, 3, 997);
+                    assertEquals(expected, array.indexOf((byte) value, from));
+                    assertEquals(expected, buffer.indexOf((byte) value, from));
+                }
+            }
+        }
+
+        @Test
+        void highBitAndZeroValues() {
+            byte[] bytes = new byte[40];
+            bytes[37] = (byte) 0x80;
+            bytes[39] = (byte) 0xff;
+            ByteVector subject = ByteVector.wrap(bytes);
+            assertEquals(37, subject.indexOf((byte) 0x80));
+            assertEquals(39, subject.indexOf((byte) 0xff));
+            assertEquals(0, subject.indexOf((byte) 0));
+            assertEquals(38, subject.indexOf((byte) 0, 38));
+        }
+
+    }
+
+}
@@ -0,0 +1,160 @@
+package dev.marksman.collectionviews;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyIterable.emptyIterable;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CharVectorTest {
+
+    @Nested
+    @DisplayName("empty")
+    class EmptyTests {
+
+        @Test
+        void isEmpty() {
+            CharVector subject = CharVector.empty();
+            assertTrue(subject.isEmpty());
+            assertThat(subject, emptyIterable());
+            assertEquals(-1, subject.indexOf('a'));
+            assertEquals(Vector.empty(), subject);
+            assertSame(CharVector.empty(), CharVector.wrap(""));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("wrap array")
+    class WrapArrayTests {
+
+        @Test
+        void throwsOnNullArgument() {
+            assertThrows(NullPointerException.class, () -> CharVector.wrap((char[]) null));
+        }
+
+        @Test
+        void iteratesAll() {
+            CharVector subject = CharVector.wrap(new char[]{'a', 'b', 'c'});
+            assertThat(subject, contains('a', 'b', 'c'));
+            assertEquals('b', subject.unsafeGetChar(1));
+            assertThrows(IndexOutOfBoundsException.class, () -> subject.unsafeGetChar(3));
+            assertEquals(Vector.of('a', 'b', 'c'), subject);
+        }
+
+        @Test
+        void slicesAreNotCopies() {
+            char[] underlying = {'a', 'b', 'c', 'd'};
+            CharVector slice = CharVector.wrap(underlying).slice(1, 3);
+            underlying[1] = 'z';
+            assertThat(slice, contains('z', 'c'));
+        }
+
+        @Test
+        void toImmutableMakesCopy() {
+            char[] underlying = {'a', 'b'};
+            ImmutableCharVector copy = CharVector.wrap(underlying).toImmutable();
+            underlying[0] = 'z';
+            assertThat(copy, contains('a', 'b'));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("wrap CharSequence")
+    class WrapCharSequenceTests {
+
+        @Test
+        void wrapsStringWithoutCopying() {
+            CharVector subject = CharVector.wrap("hello");
+            assertTrue(subject instanceof ImmutableCharVector);
+            assertThat(subject.drop(3), contains('l', 'o'));
+            assertThat(CharVector.copyFrom("hello").slice(1, 3), contains('e', 'l'));
+        }
+
+        @Test
+        void visibleMutationOfBuilder() {
+            StringBuilder builder = new StringBuilder("abc");
+            CharVector subject = CharVector.wrap(builder);
+            CharVector slice = subject.tail();
+            builder.setCharAt(1, 'z');
+            assertThat(slice, contains('z', 'c'));
+        }
+
+        @Test
+        void copyFromBuilderMakesCopy() {
+            StringBuilder builder = new StringBuilder("abc");
+            ImmutableCharVector copy = CharVector.copyFrom(builder);
+            builder.setCharAt(0, 'z');
+            assertThat(copy, contains('a', 'b', 'c'));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("copyFrom")
+    class CopyFromTests {
+
+        @Test
+        void copyFromArray() {
+            char[] source = {'a', 'b', 'c'};
+            ImmutableCharVector subject = CharVector.copyFrom(source);
+            source[0] = 'z';
+            assertThat(subject, contains('a', 'b', 'c'));
+            assertThat(CharVector.copyFrom(2, new char[]{'a', 'b', 'c'}), contains('a', 'b'));
+            assertThat(CharVector.copySliceFrom(1, 10, new char[]{'a', 'b', 'c'}), contains('b', 'c'));
+            assertThrows(IllegalArgumentException.class, () -> CharVector.copyFrom(-1, new char[0]));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("indexOf")
+    class IndexOfTests {
+
+        @Test
+        void searchesWithinSliceBounds() {
+            String text = "abcabcabc";
+            CharVector[] subjects = {
+                    CharVector.wrap(text.toCharArray()).slice(1, 5),
+                    CharVector.wrap(new StringBuilder(text)).slice(1, 5),
+                    CharVector.copyFrom(text).slice(1, 5)
+            };
+            for (CharVector subject : subjects) {
+                assertEquals(2, subject.indexOf('a'));
+                assertEquals(0, subject.indexOf('b'));
+                assertEquals(3, subject.indexOf('b', 1));
+                assertEquals(-1, subject.indexOf('c', 2));
+                assertEquals(-1, subject.indexOf('a', 10));
+                assertThrows(IllegalArgumentException.class, () -> subject.indexOf('a', -1));
+            }
+        }
+
+    }
+
+    @Nested
+    @DisplayName("copyInto")
+    class CopyIntoTests {
+
+        @Test
+        void copiesAtOffset() {
+            CharVector[] subjects = {
+                    CharVector.wrap("xabcx".toCharArray()).slice(1, 4),
+                    CharVector.wrap(new StringBuilder("xabcx")).slice(1, 4),
+                    CharVector.copyFrom("xabcx").slice(1, 4)
+            };
+            for (CharVector subject : subjects) {
+                char[] destination = new char[5];
+                subject.copyInto(destination, 1);
+                assertArrayEquals(new char[]{0, 'a', 'b', 'c', 0}, destination);
+                assertArrayEquals(new char[]{'a', 'b', 'c'}, subject.toCharArray());
+                assertThrows(IndexOutOfBoundsException.class, () -> subject.copyInto(destination, 3));
+            }
+        }
+
+    }
+
+}
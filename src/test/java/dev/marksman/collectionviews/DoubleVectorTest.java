@@ -0,0 +1,147 @@
+package dev.marksman.collectionviews;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyIterable.emptyIterable;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.jupiter.api.Assertions.*;
+
+class DoubleVectorTest {
+
+    @Nested
+    @DisplayName("empty")
+    class EmptyTests {
+
+        @Test
+        void isEmpty() {
+            assertTrue(DoubleVector.empty().isEmpty());
+            assertThat(DoubleVector.empty(), emptyIterable());
+            assertThrows(IndexOutOfBoundsException.class, () -> DoubleVector.empty().unsafeGetDouble(0));
+            assertEquals(nothing(), DoubleVector.empty().toNonEmpty());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("wrap")
+    class WrapTests {
+
+        @Test
+        void throwsOnNullArgument() {
+            assertThrows(NullPointerException.class, () -> DoubleVector.wrap(null));
+        }
+
+        @Test
+        void wrap() {
+            DoubleVector subject = DoubleVector.wrap(new double[]{1.5, 2.5, 3.5});
+            assertThat(subject, contains(1.5, 2.5, 3.5));
+            assertEquals(2.5, subject.unsafeGetDouble(1));
+            assertThrows(IndexOutOfBoundsException.class, () -> subject.unsafeGetDouble(-1));
+        }
+
+        @Test
+        void primitiveIterator() {
+            PrimitiveIterator.OfDouble iterator = DoubleVector.wrap(new double[]{0.5}).iterator();
+            assertEquals(0.5, iterator.nextDouble());
+            assertFalse(iterator.hasNext());
+        }
+
+        @Test
+        void slicesAreViews() {
+            double[] underlying = {1.0, 2.0, 3.0, 4.0};
+            DoubleVector slice = DoubleVector.wrap(underlying).drop(2);
+            assertThat(slice, contains(3.0, 4.0));
+            underlying[3] = 40.0;
+            assertThat(slice, contains(3.0, 40.0));
+            assertArrayEquals(new double[]{3.0, 40.0}, slice.toDoubleArray());
+        }
+
+        @Test
+        void toImmutableMakesCopy() {
+            double[] underlying = {1.0, 2.0};
+            ImmutableDoubleVector copy = DoubleVector.wrap(underlying).toImmutable();
+            underlying[0] = 10.0;
+            assertThat(copy, contains(1.0, 2.0));
+        }
+
+        @Test
+        void equality() {
+            assertEquals(Vector.of(1.0, 2.0), DoubleVector.of(1.0, 2.0));
+            assertEquals(Vector.of(1.0, 2.0).hashCode(), DoubleVector.wrap(new double[]{1.0, 2.0}).hashCode());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("copyFrom")
+    class CopyFromTests {
+
+        @Test
+        void notAffectedByMutation() {
+            double[] underlying = {1.0, 2.0, 3.0};
+            ImmutableDoubleVector subject = DoubleVector.copyFrom(underlying);
+            underlying[0] = 10.0;
+            assertThat(subject, contains(1.0, 2.0, 3.0));
+            assertThat(DoubleVector.copySliceFrom(1, 10, underlying), contains(2.0, 3.0));
+        }
+
+        @Test
+        void nonEmpty() {
+            assertEquals(nothing(), NonEmptyDoubleVector.tryWrap(new double[0]));
+            assertEquals(0.25, NonEmptyDoubleVector.wrapOrThrow(new double[]{0.25}).headDouble());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("mapping")
+    class MappingTests {
+
+        @Test
+        void mapDouble() {
+            DoubleVector subject = DoubleVector.of(1.0, 4.0, 9.0).mapDouble(Math::sqrt);
+            assertThat(subject, contains(1.0, 2.0, 3.0));
+        }
+
+        @Test
+        void mapToDouble() {
+            DoubleVector subject = Vector.wrap(asList(1, 2, 4)).mapToDouble(n -> n / 2.0);
+            assertThat(subject, contains(0.5, 1.0, 2.0));
+            assertThat(subject.slice(1, 2), contains(1.0));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("streams and reductions")
+    class ReductionTests {
+
+        @Test
+        void doubleStream() {
+            DoubleVector subject = DoubleVector.lazyFill(1_000, n -> 0.5);
+            assertEquals(500.0, subject.doubleStream().sum());
+            assertEquals(500.0, subject.parallelDoubleStream().sum());
+            assertTrue(subject.spliterator().hasCharacteristics(Spliterator.SIZED | Spliterator.IMMUTABLE));
+        }
+
+        @Test
+        void sumMinMax() {
+            DoubleVector subject = DoubleVector.of(2.5, -1.0, 8.0);
+            assertEquals(9.5, subject.sum());
+            assertEquals(-1.0, subject.min().getAsDouble());
+            assertEquals(8.0, subject.max().getAsDouble());
+            assertTrue(Double.isNaN(DoubleVector.of(1.0, Double.NaN).max().getAsDouble()));
+            assertFalse(DoubleVector.empty().max().isPresent());
+        }
+
+    }
+
+}
@@ -0,0 +1,117 @@
+package dev.marksman.collectionviews;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyIterable.emptyIterable;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.jupiter.api.Assertions.*;
+
+class ImmutableEnumMapTest {
+
+    enum Level {LOW, MEDIUM, HIGH}
+
+    @Nested
+    @DisplayName("construction")
+    class ConstructionTests {
+
+        @Test
+        void empty() {
+            ImmutableEnumMap<Level, String> subject = ImmutableEnumMap.empty(Level.class);
+            assertTrue(subject.isEmpty());
+            assertEquals(0, subject.size());
+            assertFalse(subject.containsKey(Level.LOW));
+            assertEquals(nothing(), subject.get(Level.LOW));
+            assertThat(subject.keys(), emptyIterable());
+            assertSame(Level.class, subject.keyType());
+        }
+
+        @Test
+        void copyFromMap() {
+            EnumMap<Level, Integer> source = new EnumMap<>(Level.class);
+            source.put(Level.HIGH, 3);
+            source.put(Level.LOW, 1);
+            ImmutableEnumMap<Level, Integer> subject = ImmutableEnumMap.copyFrom(Level.class, source);
+            source.put(Level.MEDIUM, 2);
+            assertEquals(2, subject.size());
+            assertEquals(just(1), subject.get(Level.LOW));
+            assertEquals(nothing(), subject.get(Level.MEDIUM));
+            assertEquals(Integer.valueOf(3), subject.getOrElse(Level.HIGH, 0));
+            assertEquals(Integer.valueOf(0), subject.getOrElse(Level.MEDIUM, 0));
+            assertThat(subject.keys(), contains(Level.LOW, Level.HIGH));
+        }
+
+        @Test
+        void copyFromLeavesOutNullValues() {
+            HashMap<Level, String> source = new HashMap<>();
+            source.put(Level.LOW, null);
+            source.put(Level.HIGH, "h");
+            ImmutableEnumMap<Level, String> subject = ImmutableEnumMap.copyFrom(Level.class, source);
+            assertFalse(subject.containsKey(Level.LOW));
+            assertTrue(subject.containsKey(Level.HIGH));
+        }
+
+        @Test
+        void fill() {
+            ImmutableEnumMap<Level, Integer> subject = ImmutableEnumMap.fill(Level.class,
+                    level -> level == Level.MEDIUM ? null : level.ordinal() * 10);
+            assertEquals(2, subject.size());
+            assertEquals(just(20), subject.get(Level.HIGH));
+            assertFalse(subject.containsKey(Level.MEDIUM));
+        }
+
+        @Test
+        void keysAreAnEnumSet() {
+            ImmutableEnumMap<Level, Integer> subject = ImmutableEnumMap.fill(Level.class, Enum::ordinal);
+            assertTrue(subject.keys() instanceof ImmutableEnumSet<?>);
+            assertEquals(Set.of(Level.LOW, Level.MEDIUM, Level.HIGH), subject.keys());
+        }
+
+        @Test
+        void nullKeysAreAbsent() {
+            ImmutableEnumMap<Level, Integer> subject = ImmutableEnumMap.fill(Level.class, Enum::ordinal);
+            assertFalse(subject.containsKey(null));
+            assertEquals(nothing(), subject.get(null));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("iteration and equality")
+    class IterationTests {
+
+        @Test
+        void forEachVisitsInOrdinalOrder() {
+            ImmutableEnumMap<Level, String> subject = ImmutableEnumMap.fill(Level.class, Enum::name);
+            List<String> visited = new ArrayList<>();
+            subject.forEach((key, value) -> visited.add(key.ordinal() + value));
+            assertEquals(asList("0LOW", "1MEDIUM", "2HIGH"), visited);
+        }
+
+        @Test
+        void equality() {
+            EnumMap<Level, String> source = new EnumMap<>(Level.class);
+            for (Level level : Level.values()) {
+                source.put(level, level.name());
+            }
+            ImmutableEnumMap<Level, String> subject = ImmutableEnumMap.fill(Level.class, Enum::name);
+            assertEquals(ImmutableEnumMap.copyFrom(Level.class, source), subject);
+            assertEquals(source.hashCode(), subject.hashCode());
+            assertNotEquals(ImmutableEnumMap.fill(Level.class, level -> "x"), subject);
+            assertNotEquals(ImmutableEnumMap.empty(Level.class), subject);
+            assertEquals("EnumMap(LOW=LOW, MEDIUM=MEDIUM, HIGH=HIGH)", subject.toString());
+        }
+
+    }
+
+}
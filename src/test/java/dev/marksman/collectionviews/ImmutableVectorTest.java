@@ -7,10 +7,15 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.jnape.palatable.lambda.adt.Maybe.just;
 import static com.jnape.palatable.lambda.adt.Maybe.nothing;
@@ -819,6 +824,156 @@ class ImmutableVectorTest {
         }
     }
 
+    @Nested
+    @DisplayName("copy strategies")
+    class CopyStrategyTests {
+
+        @Test
+        void collectionsAreCopiedInBulk() {
+            ImmutableVector<Integer> copied = Vector.copyFrom(new ArrayList<>(asList(1, 2, 3)));
+            assertTrue(copied instanceof ImmutableArrayVector<?>);
+            assertThat(copied, contains(1, 2, 3));
+            assertThat(Vector.copyFrom(2, new ArrayDeque<>(asList(1, 2, 3))), contains(1, 2));
+        }
+
+        @Test
+        void listPrefixesAndSlices() {
+            List<Integer> source = new ArrayList<>(asList(0, 1, 2, 3, 4, 5));
+            assertThat(Vector.copyFrom(2, source), contains(0, 1));
+            assertThat(Vector.copySliceFrom(2, 4, source), contains(2, 3));
+            assertThat(Vector.copySliceFrom(4, 100, source), contains(4, 5));
+            assertThat(Vector.copySliceFrom(6, 100, source), emptyIterable());
+        }
+
+        @Test
+        void mutableVectorsAndSlicesOfThem() {
+            Integer[] underlying = {0, 1, 2, 3, 4, 5};
+            Vector<Integer> wrapped = Vector.wrap(underlying);
+            ImmutableVector<Integer> whole = Vector.copyFrom(wrapped);
+            ImmutableVector<Integer> slice = Vector.copyFrom(wrapped.slice(1, 5));
+            ImmutableVector<Integer> prefix = Vector.copyFrom(3, wrapped.drop(1));
+            ImmutableVector<Integer> sliced = Vector.copySliceFrom(2, 4, wrapped);
+            underlying[2] = 100;
+            assertThat(whole, contains(0, 1, 2, 3, 4, 5));
+            assertThat(slice, contains(1, 2, 3, 4));
+            assertThat(prefix, contains(1, 2, 3));
+            assertThat(sliced, contains(2, 3));
+        }
+
+        @Test
+        void mappedVectorsAreCopiedByIndex() {
+            Vector<Integer> mapped = Vector.wrap(asList(1, 2, 3)).fmap(n -> n * 10);
+            assertThat(Vector.copyFrom(mapped), contains(10, 20, 30));
+            assertThat(Vector.copySliceFrom(1, 10, mapped), contains(20, 30));
+        }
+
+        @Test
+        void sequentialListsAreNotReadByIndex() {
+            List<Integer> source = new IndexCountingLinkedList<>();
+            for (int i = 0; i < 150_000; i++) {
+                source.add(i);
+            }
+            Vector<Integer> wrapped = Vector.wrap(source);
+            ImmutableVector<Integer> prefix = wrapped.take(100_000).toImmutable();
+            ImmutableVector<Integer> slice = Vector.copyFrom(wrapped.slice(50_000, 50_003));
+            assertEquals(100_000, prefix.size());
+            assertEquals(Integer.valueOf(99_999), prefix.unsafeGet(99_999));
+            assertThat(slice, contains(50_000, 50_001, 50_002));
+            assertEquals(0, ((IndexCountingLinkedList<Integer>) source).indexedReads);
+        }
+
+        @Test
+        void viewsOfSequentialListsAreCopiedInOnePass() {
+            IndexCountingLinkedList<Integer> source = new IndexCountingLinkedList<>();
+            for (int i = 0; i < 200_000; i++) {
+                source.add(i);
+            }
+            Vector<Integer> wrapped = Vector.wrap(source);
+            ImmutableVector<Integer> whole = Vector.copyFrom(wrapped);
+            ImmutableVector<Integer> mapped = Vector.copyFrom(wrapped.fmap(n -> n + 1).drop(199_998));
+            ImmutableVector<Integer> sliced = Vector.copyFrom(wrapped.slice(10, 13));
+            Set<Integer> set = Set.copyFrom(wrapped);
+            assertEquals(200_000, whole.size());
+            assertThat(mapped, contains(199_999, 200_000));
+            assertThat(sliced, contains(10, 11, 12));
+            assertEquals(200_000, set.size());
+            assertEquals(0, source.indexedReads);
+        }
+
+        @Test
+        void tryCopyFromNonEmptyIterable() {
+            assertEquals(just(Vector.of(1, 2)), NonEmptyVector.tryCopyFrom(asList(1, 2)));
+            assertEquals(just(Vector.of(1)), NonEmptyVector.tryCopyFrom(1, asList(1, 2)));
+            assertEquals(nothing(), NonEmptyVector.tryCopyFrom(emptyList()));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("hashCode and equals")
+    class HashCodeTests {
+
+        @Test
+        void hashCodeIsComputedOnce() {
+            AtomicInteger evaluations = new AtomicInteger();
+            ImmutableVector<Integer> subject = Vector.lazyFill(3, i -> {
+                evaluations.incrementAndGet();
+                return i;
+            });
+            int first = subject.hashCode();
+            assertEquals(first, subject.hashCode());
+            assertEquals(3, evaluations.get());
+            assertEquals(asList(0, 1, 2).hashCode(), first);
+        }
+
+        @Test
+        void mutableVectorsAreNotCached() {
+            Integer[] underlying = {1, 2, 3};
+            Vector<Integer> subject = Vector.wrap(underlying);
+            int before = subject.hashCode();
+            underlying[0] = 100;
+            assertNotEquals(before, subject.hashCode());
+        }
+
+        @Test
+        void cachedHashesRejectMismatchesWithoutComparingElements() {
+            AtomicInteger evaluations = new AtomicInteger();
+            ImmutableVector<Integer> first = Vector.lazyFill(3, i -> {
+                evaluations.incrementAndGet();
+                return i;
+            });
+            ImmutableVector<Integer> second = Vector.of(0, 1, 3);
+            first.hashCode();
+            second.hashCode();
+            evaluations.set(0);
+            assertNotEquals(first, second);
+            assertEquals(0, evaluations.get());
+        }
+
+        @Test
+        void equalityAcrossImplementations() {
+            assertEquals(Vector.of(1, 2, 3), Vector.wrap(asList(1, 2, 3)));
+            assertEquals(Vector.of(1, 2, 3), PersistentVector.of(1, 2, 3));
+            assertEquals(PersistentVector.of(1, 2, 3).hashCode(), Vector.of(1, 2, 3).hashCode());
+            assertEquals(Vector.of(1, 2, null), Vector.copyFrom(asList(1, 2, null)));
+            assertNotEquals(Vector.of(1, 2, 3), Vector.of(1, 2, 4));
+        }
+
+        @Test
+        void sequentialListsAreComparedWithIterators() {
+            IndexCountingLinkedList<Integer> first = new IndexCountingLinkedList<>();
+            IndexCountingLinkedList<Integer> second = new IndexCountingLinkedList<>();
+            for (int i = 0; i < 100_000; i++) {
+                first.add(i);
+                second.add(i);
+            }
+            assertEquals(Vector.wrap(first), Vector.wrap(second));
+            assertEquals(Vector.wrap(first).drop(1), Vector.lazyFill(100_000, i -> i).drop(1));
+            assertEquals(0, first.indexedReads + second.indexedReads);
+        }
+
+    }
+
     @Nested
     @DisplayName("fmap")
     class FmapTests {
@@ -866,6 +1021,17 @@ class ImmutableVectorTest {
                     subject, replicate(10_000, UNIT));
             assertThat(mapped, contains(10_001, 10_002, 10_003));
         }
+
+        @Test
+        void chainsOfEveryLength() {
+            ImmutableVector<Integer> mapped = subject;
+            for (int depth = 1; depth <= 8; depth++) {
+                mapped = mapped.fmap(n -> n * 2);
+                int factor = 1 << depth;
+                assertThat(mapped, contains(factor, 2 * factor, 3 * factor));
+                assertEquals(factor, mapped.toNonEmptyOrThrow().head());
+            }
+        }
     }
 
     @Nested
@@ -1035,6 +1201,77 @@ class ImmutableVectorTest {
             assertThat(slice3, contains("baz"));
         }
 
+        @Test
+        void sliceOfSlice() {
+            ImmutableVector<Integer> source = Vector.copyFrom(asList(1, 2, 3, 4, 5, 6, 7, 8));
+            assertThat(source.slice(1, 7).slice(1, 5).slice(1, 3), contains(4, 5));
+            assertThat(source.drop(2).take(4).drop(1), contains(4, 5, 6));
+        }
+
+        @Test
+        void repeatedTailIsStackSafe() {
+            ImmutableVector<Integer> source = Vector.lazyFill(100_003, n -> n);
+            ImmutableVector<Integer> sliced = foldLeft((acc, __) -> acc.tail(), source, replicate(100_000, UNIT));
+            assertThat(sliced, contains(100_000, 100_001, 100_002));
+        }
+
+        @Test
+        void interleavedSliceAndFmapIsStackSafe() {
+            ImmutableVector<Integer> result = foldLeft((acc, __) -> acc.drop(1).fmap(n -> n + 1),
+                    Vector.lazyFill(20_003, n -> n), replicate(20_000, UNIT));
+            assertThat(result, contains(40_000, 40_001, 40_002));
+        }
+
+        @Test
+        void sliceOfFillIsFill() {
+            assertEquals(Vector.fill(3, "foo"), Vector.fill(10, "foo").slice(2, 5));
+            assertEquals(Vector.fill(9, "foo"), Vector.fill(10, "foo").tail());
+            assertThat(Vector.fill(10, "foo").drop(8), contains("foo", "foo"));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("spliterator")
+    class SpliteratorTests {
+
+        @Test
+        void reportsImmutable() {
+            assertImmutable(Vector.copyFrom(new Integer[]{1, 2, 3}).spliterator(), 3);
+            assertImmutable(Vector.copyFrom(asList(1, 2, 3)).spliterator(), 3);
+            assertImmutable(Vector.copyFrom(asList(1, 2, 3, 4)).drop(1).spliterator(), 3);
+            assertImmutable(Vector.of(1, 2, 3).fmap(n -> n * 2).spliterator(), 3);
+            assertImmutable(Vector.fill(3, "foo").spliterator(), 3);
+            assertImmutable(Vector.lazyFill(3, n -> n).spliterator(), 3);
+        }
+
+        @Test
+        void traversesInOrder() {
+            List<Integer> elements = new ArrayList<>();
+            Vector.of(1, 2, 3).fmap(n -> n * 2).spliterator().forEachRemaining(elements::add);
+            assertEquals(asList(2, 4, 6), elements);
+        }
+
+        private void assertImmutable(Spliterator<?> spliterator, long expectedSize) {
+            assertTrue(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+            assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+            assertEquals(expectedSize, spliterator.getExactSizeIfKnown());
+        }
+
+    }
+
+    private static final class IndexCountingLinkedList<A> extends LinkedList<A> {
+        private int indexedReads;
+
+        @Override
+        public A get(int index) {
+            if (index > 0) {
+                indexedReads++;
+            }
+            return super.get(index);
+        }
     }
 
 }
@@ -0,0 +1,244 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.Maybe;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.Spliterator;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyIterable.emptyIterable;
+import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntSetTest {
+
+    @Nested
+    @DisplayName("empty")
+    class EmptyTests {
+
+        @Test
+        void alwaysYieldsSameReference() {
+            assertSame(IntSet.empty(), IntSet.empty());
+            assertSame(IntSet.empty(), IntSet.copyFrom(new int[0]));
+        }
+
+        @Test
+        void containsNothing() {
+            IntSet subject = IntSet.empty();
+            assertTrue(subject.isEmpty());
+            assertFalse(subject.containsInt(0));
+            assertFalse(subject.contains(null));
+            assertThat(subject, emptyIterable());
+            assertEquals(Maybe.nothing(), subject.toNonEmpty());
+            assertThrows(IllegalArgumentException.class, subject::toNonEmptyOrThrow);
+        }
+
+        @Test
+        void equalToEmptySet() {
+            assertEquals(Set.empty(), IntSet.empty());
+            assertEquals(IntSet.empty(), Set.empty());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("immutable copies")
+    class CopyTests {
+
+        @Test
+        void of() {
+            ImmutableNonEmptyIntSet subject = IntSet.of(3, 1, 2, 3, 1);
+            assertEquals(3, subject.size());
+            assertThat(subject, containsInAnyOrder(1, 2, 3));
+            assertTrue(subject.containsInt(2));
+            assertFalse(subject.containsInt(4));
+            assertTrue(subject.contains(3));
+            assertFalse(subject.contains(null));
+        }
+
+        @Test
+        void zeroAndNegativeElements() {
+            ImmutableNonEmptyIntSet subject = IntSet.of(0, -1, Integer.MIN_VALUE, Integer.MAX_VALUE, 0);
+            assertEquals(4, subject.size());
+            assertTrue(subject.containsInt(0));
+            assertTrue(subject.containsInt(Integer.MIN_VALUE));
+            assertFalse(IntSet.of(1).containsInt(0));
+            assertThat(subject, containsInAnyOrder(0, -1, Integer.MIN_VALUE, Integer.MAX_VALUE));
+            assertEquals(1, IntSet.of(0, 0).size());
+        }
+
+        @Test
+        void copyFromArrayIsNotAffectedByLaterChanges() {
+            int[] source = {1, 2, 3};
+            ImmutableIntSet subject = IntSet.copyFrom(source);
+            source[0] = 100;
+            assertThat(subject, containsInAnyOrder(1, 2, 3));
+        }
+
+        @Test
+        void copyFromIterables() {
+            assertThat(IntSet.copyFrom(asList(1, 2, 2, 3)), containsInAnyOrder(1, 2, 3));
+            assertThat(IntSet.copyFrom(IntVector.of(5, 4, 5)), containsInAnyOrder(4, 5));
+            assertThat(IntSet.copyFrom(() -> asList(7, 8, 7).iterator()), containsInAnyOrder(7, 8));
+            ImmutableIntSet immutable = IntSet.of(1, 2);
+            assertSame(immutable, IntSet.copyFrom(immutable));
+        }
+
+        @Test
+        void copyFromRejectsNull() {
+            assertThrows(NullPointerException.class, () -> IntSet.copyFrom(asList(1, null)));
+        }
+
+        @Test
+        void nonEmptyCopies() {
+            assertThat(NonEmptyIntSet.copyFromOrThrow(new int[]{1, 1}), containsInAnyOrder(1));
+            assertThat(NonEmptyIntSet.copyFromOrThrow(asList(2, 3)), containsInAnyOrder(2, 3));
+            assertThrows(IllegalArgumentException.class, () -> NonEmptyIntSet.copyFromOrThrow(new int[0]));
+            assertThrows(IllegalArgumentException.class,
+                    () -> NonEmptyIntSet.copyFromOrThrow(new ArrayList<>()));
+        }
+
+        @Test
+        void matchesReferenceSet() {
+            Random random = new Random(23);
+            int[] source = new int[5_000];
+            java.util.Set<Integer> expected = new HashSet<>();
+            for (int i = 0; i < source.length; i++) {
+                source[i] = random.nextInt(4_000) - 2_000;
+                expected.add(source[i]);
+            }
+            ImmutableIntSet subject = IntSet.copyFrom(source);
+            assertEquals(expected.size(), subject.size());
+            for (int i = -3_000; i < 3_000; i++) {
+                assertEquals(expected.contains(i), subject.containsInt(i));
+            }
+            assertEquals(expected, new HashSet<>(asList(subject.intStream().boxed().toArray(Integer[]::new))));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("wrap")
+    class WrapTests {
+
+        @Test
+        void wrapsJavaUtilSet() {
+            java.util.Set<Integer> underlying = new HashSet<>(asList(1, 2, 3));
+            IntSet subject = IntSet.wrap(underlying);
+            assertTrue(subject.containsInt(2));
+            assertFalse(subject.containsInt(4));
+            underlying.add(4);
+            assertTrue(subject.containsInt(4));
+            assertEquals(4, subject.size());
+        }
+
+        @Test
+        void wrapEmpty() {
+            assertSame(IntSet.empty(), IntSet.wrap(new HashSet<>()));
+            assertThrows(IllegalArgumentException.class, () -> NonEmptyIntSet.wrapOrThrow(new HashSet<>()));
+        }
+
+        @Test
+        void toImmutableMakesCopy() {
+            java.util.Set<Integer> underlying = new HashSet<>(asList(1, 2, 3));
+            ImmutableIntSet copy = IntSet.wrap(underlying).toImmutable();
+            underlying.add(4);
+            assertThat(copy, containsInAnyOrder(1, 2, 3));
+            assertTrue(copy instanceof ImmutableIntHashSet);
+        }
+
+        @Test
+        void toNonEmpty() {
+            NonEmptyIntSet subject = IntSet.wrap(new HashSet<>(asList(5))).toNonEmptyOrThrow();
+            assertEquals(5, subject.headInt());
+            assertThat(subject.tail(), emptyIterable());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("iteration")
+    class IterationTests {
+
+        @Test
+        void primitiveIterator() {
+            List<Integer> seen = new ArrayList<>();
+            PrimitiveIterator.OfInt iterator = IntSet.of(0, 10, 20).iterator();
+            while (iterator.hasNext()) {
+                seen.add(iterator.nextInt());
+            }
+            assertThat(seen, containsInAnyOrder(0, 10, 20));
+            assertThrows(NoSuchElementException.class, iterator::nextInt);
+        }
+
+        @Test
+        void toIntArrayAndStream() {
+            IntSet subject = IntSet.of(1, 2, 3, 4);
+            assertEquals(10, subject.intStream().sum());
+            assertEquals(4, subject.toIntArray().length);
+            assertEquals(10, IntVector.wrap(subject.toIntArray()).sum());
+        }
+
+        @Test
+        void spliteratorReportsZeroFirstAndSplits() {
+            int[] elements = new int[1_000];
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = i - 500;
+            }
+            ImmutableIntSet subject = IntSet.copyFrom(elements);
+            Spliterator.OfInt right = subject.spliterator();
+            assertTrue(right.hasCharacteristics(Spliterator.DISTINCT | Spliterator.IMMUTABLE | Spliterator.SIZED));
+            assertEquals(1_000, right.getExactSizeIfKnown());
+            Spliterator.OfInt left = right.trySplit();
+            assertNotNull(left);
+            assertFalse(right.hasCharacteristics(Spliterator.SIZED));
+            int[] first = new int[1];
+            assertTrue(left.tryAdvance((int element) -> first[0] = element));
+            assertEquals(0, first[0]);
+            assertEquals(subject.intStream().sum(), subject.intStream().parallel().sum());
+            assertEquals(1_000, subject.intStream().parallel().distinct().count());
+            assertEquals(-500, subject.intStream().parallel().min().getAsInt());
+        }
+
+        @Test
+        void headAndTail() {
+            ImmutableNonEmptyIntSet subject = IntSet.of(7, 8, 9);
+            List<Integer> elements = new ArrayList<>();
+            elements.add(subject.head());
+            subject.tail().forEach(elements::add);
+            assertThat(elements, containsInAnyOrder(7, 8, 9));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("equality")
+    class EqualityTests {
+
+        @Test
+        void equalToOtherSetsWithSameElements() {
+            assertEquals(IntSet.of(1, 2, 3), IntSet.of(3, 2, 1));
+            assertEquals(IntSet.of(1, 2, 3), Set.of(1, 2, 3));
+            assertEquals(Set.of(1, 2, 3), IntSet.of(1, 2, 3));
+            assertEquals(IntSet.of(1, 2, 3), IntSet.wrap(new HashSet<>(asList(1, 2, 3))));
+            assertNotEquals(IntSet.of(1, 2, 3), IntSet.of(1, 2, 4));
+            assertNotEquals(IntSet.of(1, 2, 3), IntSet.of(1, 2));
+        }
+
+        @Test
+        void hashCodeMatchesSet() {
+            assertEquals(Set.of(-5, 0, 17).hashCode(), IntSet.of(-5, 0, 17).hashCode());
+        }
+
+    }
+
+}
@@ -0,0 +1,359 @@
+package dev.marksman.collectionviews;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyIterable.emptyIterable;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntVectorTest {
+
+    @Nested
+    @DisplayName("empty")
+    class EmptyTests {
+
+        @Test
+        void isEmpty() {
+            assertTrue(IntVector.empty().isEmpty());
+            assertEquals(0, IntVector.empty().size());
+            assertThat(IntVector.empty(), emptyIterable());
+            assertEquals(0, IntVector.empty().intStream().count());
+        }
+
+        @Test
+        void unsafeGetIntThrows() {
+            assertThrows(IndexOutOfBoundsException.class, () -> IntVector.empty().unsafeGetInt(0));
+        }
+
+        @Test
+        void toNonEmpty() {
+            assertEquals(nothing(), IntVector.empty().toNonEmpty());
+            assertThrows(IllegalArgumentException.class, () -> IntVector.empty().toNonEmptyOrThrow());
+        }
+
+        @Test
+        void equalToEmptyVector() {
+            assertEquals(Vector.empty(), IntVector.empty());
+            assertEquals(IntVector.empty(), Vector.empty());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("wrap")
+    class WrapTests {
+
+        private int[] underlying;
+        private IntVector subject;
+
+        @Test
+        void throwsOnNullArgument() {
+            assertThrows(NullPointerException.class, () -> IntVector.wrap(null));
+        }
+
+        @Test
+        void wrapEmptyArray() {
+            assertSame(IntVector.empty(), IntVector.wrap(new int[0]));
+        }
+
+        @Test
+        void iteratesCorrectly() {
+            subject = IntVector.wrap(new int[]{1, 2, 3});
+            assertThat(subject, contains(1, 2, 3));
+        }
+
+        @Test
+        void unsafeGetInt() {
+            subject = IntVector.wrap(new int[]{1, 2, 3});
+            assertEquals(1, subject.unsafeGetInt(0));
+            assertEquals(3, subject.unsafeGetInt(2));
+            assertEquals(Integer.valueOf(2), subject.unsafeGet(1));
+            assertThrows(IndexOutOfBoundsException.class, () -> subject.unsafeGetInt(3));
+            assertThrows(IndexOutOfBoundsException.class, () -> subject.unsafeGetInt(-1));
+        }
+
+        @Test
+        void primitiveIterator() {
+            PrimitiveIterator.OfInt iterator = IntVector.wrap(new int[]{1, 2}).iterator();
+            assertTrue(iterator.hasNext());
+            assertEquals(1, iterator.nextInt());
+            assertEquals(2, iterator.nextInt());
+            assertFalse(iterator.hasNext());
+        }
+
+        @Test
+        void intStream() {
+            subject = IntVector.wrap(new int[]{1, 2, 3, 4});
+            assertEquals(10, subject.intStream().sum());
+            assertEquals(10, subject.parallelIntStream().sum());
+            assertEquals(asList(1, 2, 3, 4), asList(subject.stream().toArray()));
+        }
+
+        @Test
+        void visibleMutation() {
+            underlying = new int[]{1, 2, 3};
+            subject = IntVector.wrap(underlying);
+            underlying[0] = 10;
+            assertThat(subject, contains(10, 2, 3));
+        }
+
+        @Test
+        void slicesAreViews() {
+            underlying = new int[]{1, 2, 3, 4, 5};
+            subject = IntVector.wrap(underlying);
+            IntVector slice = subject.slice(1, 4);
+            assertThat(slice, contains(2, 3, 4));
+            assertThat(slice.drop(1).take(1), contains(3));
+            assertThat(subject.tail(), contains(2, 3, 4, 5));
+            underlying[2] = 30;
+            assertThat(slice, contains(2, 30, 4));
+            assertArrayEquals(new int[]{2, 30, 4}, slice.toIntArray());
+        }
+
+        @Test
+        void sliceEdgeCases() {
+            subject = IntVector.wrap(new int[]{1, 2, 3});
+            assertSame(subject, subject.take(3));
+            assertSame(subject, subject.drop(0));
+            assertTrue(subject.drop(3).isEmpty());
+            assertTrue(subject.slice(5, 10).isEmpty());
+            assertThrows(IllegalArgumentException.class, () -> subject.take(-1));
+            assertThrows(IllegalArgumentException.class, () -> subject.drop(-1));
+            assertThrows(IllegalArgumentException.class, () -> subject.slice(-1, 2));
+        }
+
+        @Test
+        void toImmutableMakesCopy() {
+            underlying = new int[]{1, 2, 3};
+            ImmutableIntVector copy = IntVector.wrap(underlying).toImmutable();
+            underlying[0] = 10;
+            assertThat(copy, contains(1, 2, 3));
+        }
+
+        @Test
+        void equality() {
+            subject = IntVector.wrap(new int[]{1, 2, 3});
+            assertEquals(Vector.of(1, 2, 3), subject);
+            assertEquals(subject, Vector.of(1, 2, 3));
+            assertEquals(Vector.of(1, 2, 3).hashCode(), subject.hashCode());
+            assertNotEquals(Vector.of(1, 2), subject);
+        }
+
+        @Test
+        void usableAsVectorOfInteger() {
+            Vector<Integer> asVector = IntVector.wrap(new int[]{1, 2, 3});
+            assertThat(asVector.fmap(n -> n * 2), contains(2, 4, 6));
+            assertThat(asVector.drop(1), contains(2, 3));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("copyFrom")
+    class CopyFromTests {
+
+        @Test
+        void notAffectedByMutation() {
+            int[] underlying = {1, 2, 3};
+            ImmutableIntVector subject = IntVector.copyFrom(underlying);
+            underlying[0] = 10;
+            assertThat(subject, contains(1, 2, 3));
+        }
+
+        @Test
+        void maxCount() {
+            assertThat(IntVector.copyFrom(2, new int[]{1, 2, 3}), contains(1, 2));
+            assertThat(IntVector.copyFrom(10, new int[]{1, 2, 3}), contains(1, 2, 3));
+            assertTrue(IntVector.copyFrom(0, new int[]{1, 2, 3}).isEmpty());
+            assertThrows(IllegalArgumentException.class, () -> IntVector.copyFrom(-1, new int[]{1}));
+        }
+
+        @Test
+        void copySliceFrom() {
+            assertThat(IntVector.copySliceFrom(1, 3, new int[]{1, 2, 3, 4}), contains(2, 3));
+            assertThat(IntVector.copySliceFrom(2, 100, new int[]{1, 2, 3, 4}), contains(3, 4));
+            assertTrue(IntVector.copySliceFrom(5, 10, new int[]{1, 2, 3, 4}).isEmpty());
+        }
+
+        @Test
+        void slicesStayImmutable() {
+            ImmutableIntVector subject = IntVector.copyFrom(new int[]{1, 2, 3, 4});
+            ImmutableIntVector slice = subject.slice(1, 3);
+            assertThat(slice, contains(2, 3));
+            assertSame(slice, slice.toImmutable());
+            assertTrue(slice.spliterator().hasCharacteristics(Spliterator.IMMUTABLE));
+        }
+
+        @Test
+        void of() {
+            ImmutableNonEmptyIntVector subject = IntVector.of(1, 2, 3);
+            assertEquals(1, subject.headInt());
+            assertThat(subject, contains(1, 2, 3));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("mapInt")
+    class MapIntTests {
+
+        @Test
+        void throwsOnNullFunction() {
+            assertThrows(NullPointerException.class, () -> IntVector.of(1).mapInt(null));
+        }
+
+        @Test
+        void mapInt() {
+            IntVector subject = IntVector.wrap(new int[]{1, 2, 3}).mapInt(n -> n * 10);
+            assertThat(subject, contains(10, 20, 30));
+            assertThat(subject.mapInt(n -> n + 1), contains(11, 21, 31));
+            assertThat(subject.slice(1, 3), contains(20, 30));
+            assertThat(subject.slice(1, 3).drop(1), contains(30));
+        }
+
+        @Test
+        void mapIntOverImmutableIsImmutable() {
+            ImmutableNonEmptyIntVector subject = IntVector.of(1, 2, 3).mapInt(n -> -n);
+            assertThat(subject, contains(-1, -2, -3));
+        }
+
+        @Test
+        void mapIntOverEmpty() {
+            assertTrue(IntVector.empty().mapInt(n -> n).isEmpty());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("mapToInt")
+    class MapToIntTests {
+
+        @Test
+        void mapToInt() {
+            IntVector subject = Vector.wrap(asList("a", "bb", "ccc")).mapToInt(String::length);
+            assertEquals(3, subject.size());
+            assertEquals(2, subject.unsafeGetInt(1));
+            assertEquals(6, subject.intStream().sum());
+        }
+
+        @Test
+        void preservesImmutabilityAndNonEmptiness() {
+            ImmutableNonEmptyIntVector subject = Vector.of("a", "bb").mapToInt(String::length);
+            assertThat(subject, contains(1, 2));
+            ImmutableIntVector dropped = Vector.of("a", "bb").drop(1).mapToInt(String::length);
+            assertThat(dropped, contains(2));
+        }
+
+        @Test
+        void mapToIntOverEmpty() {
+            assertTrue(Vector.<String>empty().mapToInt(String::length).isEmpty());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("lazyFill")
+    class LazyFillTests {
+
+        @Test
+        void lazyFill() {
+            ImmutableIntVector subject = IntVector.lazyFill(4, n -> n * n);
+            assertThat(subject, contains(0, 1, 4, 9));
+            assertThat(subject.drop(2), contains(4, 9));
+            assertThrows(IllegalArgumentException.class, () -> IntVector.lazyFill(-1, n -> n));
+            assertTrue(IntVector.lazyFill(0, n -> n).isEmpty());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("NonEmptyIntVector")
+    class NonEmptyTests {
+
+        @Test
+        void tryWrap() {
+            assertEquals(nothing(), NonEmptyIntVector.tryWrap(new int[0]));
+            assertThat(NonEmptyIntVector.tryWrap(new int[]{1, 2}).orElseThrow(AssertionError::new), contains(1, 2));
+        }
+
+        @Test
+        void wrapOrThrow() {
+            assertThrows(IllegalArgumentException.class, () -> NonEmptyIntVector.wrapOrThrow(new int[0]));
+            assertEquals(5, NonEmptyIntVector.wrapOrThrow(new int[]{5}).headInt());
+        }
+
+        @Test
+        void copyFromOrThrow() {
+            assertThrows(IllegalArgumentException.class, () -> NonEmptyIntVector.copyFromOrThrow(new int[0]));
+            assertThat(NonEmptyIntVector.copyFromOrThrow(new int[]{1, 2}), contains(1, 2));
+        }
+
+        @Test
+        void toNonEmptyOfSlice() {
+            NonEmptyIntVector subject = IntVector.wrap(new int[]{1, 2, 3}).drop(1).toNonEmptyOrThrow();
+            assertEquals(2, subject.headInt());
+            assertThat(subject, contains(2, 3));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("spliterator")
+    class SpliteratorTests {
+
+        @Test
+        void sizedAndSplittable() {
+            Spliterator.OfInt right = IntVector.lazyFill(8, n -> n).spliterator();
+            assertTrue(right.hasCharacteristics(Spliterator.SIZED));
+            assertTrue(right.hasCharacteristics(Spliterator.SUBSIZED));
+            assertTrue(right.hasCharacteristics(Spliterator.IMMUTABLE));
+            Spliterator.OfInt left = right.trySplit();
+            assertNotNull(left);
+            assertEquals(4, left.estimateSize());
+            assertEquals(4, right.estimateSize());
+        }
+
+        @Test
+        void wrappedIsNotImmutable() {
+            assertFalse(IntVector.wrap(new int[]{1, 2}).spliterator().hasCharacteristics(Spliterator.IMMUTABLE));
+            assertFalse(IntVector.wrap(new int[]{1, 2}).mapInt(n -> n).spliterator().hasCharacteristics(Spliterator.IMMUTABLE));
+        }
+
+        @Test
+        void parallelSum() {
+            assertEquals(49_995_000L, IntVector.lazyFill(10_000, n -> n).parallelIntStream().asLongStream().sum());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("reductions")
+    class ReductionTests {
+
+        @Test
+        void sum() {
+            assertEquals(0, IntVector.empty().sum());
+            assertEquals(6, IntVector.wrap(new int[]{1, 2, 3}).sum());
+            assertEquals(5, IntVector.wrap(new int[]{1, 2, 3}).drop(1).sum());
+        }
+
+        @Test
+        void minAndMax() {
+            assertFalse(IntVector.empty().min().isPresent());
+            assertFalse(IntVector.empty().max().isPresent());
+            IntVector subject = IntVector.of(3, -1, 7, 2);
+            assertEquals(-1, subject.min().getAsInt());
+            assertEquals(7, subject.max().getAsInt());
+        }
+
+    }
+
+}
@@ -0,0 +1,139 @@
+package dev.marksman.collectionviews;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Random;
+import java.util.Spliterator;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyIterable.emptyIterable;
+import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongSetTest {
+
+    @Nested
+    @DisplayName("empty")
+    class EmptyTests {
+
+        @Test
+        void containsNothing() {
+            LongSet subject = LongSet.empty();
+            assertSame(subject, LongSet.copyFrom(new long[0]));
+            assertFalse(subject.containsLong(0L));
+            assertThat(subject, emptyIterable());
+            assertThrows(IllegalArgumentException.class, subject::toNonEmptyOrThrow);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("immutable copies")
+    class CopyTests {
+
+        @Test
+        void of() {
+            ImmutableNonEmptyLongSet subject = LongSet.of(0L, Long.MIN_VALUE, Long.MAX_VALUE, 1L << 40, 0L);
+            assertEquals(4, subject.size());
+            assertTrue(subject.containsLong(0L));
+            assertTrue(subject.containsLong(1L << 40));
+            assertFalse(subject.containsLong(1L << 41));
+            assertFalse(subject.contains(null));
+            assertThat(subject, containsInAnyOrder(0L, Long.MIN_VALUE, Long.MAX_VALUE, 1L << 40));
+        }
+
+        @Test
+        void copyFromIterables() {
+            assertThat(LongSet.copyFrom(asList(1L, 2L, 2L)), containsInAnyOrder(1L, 2L));
+            assertThat(LongSet.copyFrom(LongVector.of(5L, 4L, 5L)), containsInAnyOrder(4L, 5L));
+            ImmutableLongSet immutable = LongSet.of(1L);
+            assertSame(immutable, LongSet.copyFrom(immutable));
+        }
+
+        @Test
+        void matchesReferenceSet() {
+            Random random = new Random(29);
+            long[] source = new long[5_000];
+            java.util.Set<Long> expected = new HashSet<>();
+            for (int i = 0; i < source.length; i++) {
+                source[i] = (random.nextInt(4_000) - 2_000) * (1L << 32);
+                expected.add(source[i]);
+            }
+            ImmutableLongSet subject = LongSet.copyFrom(source);
+            assertEquals(expected.size(), subject.size());
+            for (long i = -3_000; i < 3_000; i++) {
+                assertEquals(expected.contains(i << 32), subject.containsLong(i << 32));
+                assertFalse(subject.containsLong((i << 32) + 1));
+            }
+        }
+
+    }
+
+    @Nested
+    @DisplayName("wrap")
+    class WrapTests {
+
+        @Test
+        void wrapsJavaUtilSet() {
+            java.util.Set<Long> underlying = new HashSet<>(asList(1L, 2L));
+            LongSet subject = LongSet.wrap(underlying);
+            assertTrue(subject.containsLong(2L));
+            underlying.add(3L);
+            assertTrue(subject.containsLong(3L));
+            assertThat(subject.toImmutable(), containsInAnyOrder(1L, 2L, 3L));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("iteration and equality")
+    class IterationTests {
+
+        @Test
+        void primitiveIterator() {
+            List<Long> seen = new ArrayList<>();
+            PrimitiveIterator.OfLong iterator = LongSet.of(0L, 10L, 20L).iterator();
+            while (iterator.hasNext()) {
+                seen.add(iterator.nextLong());
+            }
+            assertThat(seen, containsInAnyOrder(0L, 10L, 20L));
+            assertEquals(30L, LongSet.of(0L, 10L, 20L).longStream().sum());
+        }
+
+        @Test
+        void spliteratorReportsZeroFirstAndSplits() {
+            long[] elements = new long[1_000];
+            for (int i = 0; i < elements.length; i++) {
+                elements[i] = (i - 500) * (1L << 33);
+            }
+            ImmutableLongSet subject = LongSet.copyFrom(elements);
+            Spliterator.OfLong right = subject.spliterator();
+            assertTrue(right.hasCharacteristics(Spliterator.DISTINCT | Spliterator.IMMUTABLE | Spliterator.SIZED));
+            Spliterator.OfLong left = right.trySplit();
+            assertNotNull(left);
+            long[] first = new long[1];
+            assertTrue(left.tryAdvance((long element) -> first[0] = element));
+            assertEquals(0L, first[0]);
+            assertEquals(subject.longStream().sum(), subject.longStream().parallel().sum());
+            assertEquals(1_000, subject.longStream().parallel().distinct().count());
+        }
+
+        @Test
+        void equality() {
+            assertEquals(LongSet.of(1L, 2L), LongSet.of(2L, 1L));
+            assertEquals(Set.of(1L, 2L), LongSet.of(1L, 2L));
+            assertEquals(LongSet.of(1L, 2L), Set.of(1L, 2L));
+            assertEquals(Set.of(-1L, 1L << 40).hashCode(), LongSet.of(-1L, 1L << 40).hashCode());
+            assertNotEquals(LongSet.of(1L, 2L), LongSet.of(1L, 3L));
+        }
+
+    }
+
+}
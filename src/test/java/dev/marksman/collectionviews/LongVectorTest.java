@@ -0,0 +1,149 @@
+package dev.marksman.collectionviews;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyIterable.emptyIterable;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongVectorTest {
+
+    @Nested
+    @DisplayName("empty")
+    class EmptyTests {
+
+        @Test
+        void isEmpty() {
+            assertTrue(LongVector.empty().isEmpty());
+            assertThat(LongVector.empty(), emptyIterable());
+            assertThrows(IndexOutOfBoundsException.class, () -> LongVector.empty().unsafeGetLong(0));
+            assertEquals(nothing(), LongVector.empty().toNonEmpty());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("wrap")
+    class WrapTests {
+
+        @Test
+        void throwsOnNullArgument() {
+            assertThrows(NullPointerException.class, () -> LongVector.wrap(null));
+        }
+
+        @Test
+        void wrap() {
+            LongVector subject = LongVector.wrap(new long[]{1L, 2L, 3L});
+            assertThat(subject, contains(1L, 2L, 3L));
+            assertEquals(2L, subject.unsafeGetLong(1));
+            assertThrows(IndexOutOfBoundsException.class, () -> subject.unsafeGetLong(3));
+        }
+
+        @Test
+        void primitiveIterator() {
+            PrimitiveIterator.OfLong iterator = LongVector.wrap(new long[]{5L}).iterator();
+            assertEquals(5L, iterator.nextLong());
+            assertFalse(iterator.hasNext());
+        }
+
+        @Test
+        void slicesAreViews() {
+            long[] underlying = {1L, 2L, 3L, 4L};
+            LongVector slice = LongVector.wrap(underlying).slice(1, 3);
+            assertThat(slice, contains(2L, 3L));
+            assertThat(slice.take(1), contains(2L));
+            assertThat(slice.tail(), contains(3L));
+            underlying[1] = 20L;
+            assertThat(slice, contains(20L, 3L));
+        }
+
+        @Test
+        void toImmutableMakesCopy() {
+            long[] underlying = {1L, 2L};
+            ImmutableLongVector copy = LongVector.wrap(underlying).toImmutable();
+            underlying[0] = 10L;
+            assertThat(copy, contains(1L, 2L));
+        }
+
+        @Test
+        void equality() {
+            assertEquals(Vector.of(1L, 2L), LongVector.of(1L, 2L));
+            assertEquals(Vector.of(1L, 2L).hashCode(), LongVector.wrap(new long[]{1L, 2L}).hashCode());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("copyFrom")
+    class CopyFromTests {
+
+        @Test
+        void notAffectedByMutation() {
+            long[] underlying = {1L, 2L, 3L};
+            ImmutableLongVector subject = LongVector.copyFrom(underlying);
+            underlying[0] = 10L;
+            assertThat(subject, contains(1L, 2L, 3L));
+            assertThat(LongVector.copyFrom(2, underlying), contains(10L, 2L));
+        }
+
+        @Test
+        void nonEmpty() {
+            assertThrows(IllegalArgumentException.class, () -> NonEmptyLongVector.copyFromOrThrow(new long[0]));
+            assertEquals(7L, NonEmptyLongVector.copyFromOrThrow(new long[]{7L}).headLong());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("mapping")
+    class MappingTests {
+
+        @Test
+        void mapLong() {
+            LongVector subject = LongVector.wrap(new long[]{1L, 2L, 3L}).mapLong(n -> n * 1_000_000_000_000L);
+            assertThat(subject.drop(1), contains(2_000_000_000_000L, 3_000_000_000_000L));
+        }
+
+        @Test
+        void mapToLong() {
+            ImmutableNonEmptyLongVector subject = Vector.of("a", "bb").mapToLong(String::length);
+            assertThat(subject, contains(1L, 2L));
+            LongVector wrapped = Vector.wrap(asList("a", "bb", "ccc")).mapToLong(String::length);
+            assertEquals(6L, wrapped.sum());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("streams and reductions")
+    class ReductionTests {
+
+        @Test
+        void longStream() {
+            LongVector subject = LongVector.lazyFill(10_000, n -> n);
+            assertEquals(49_995_000L, subject.longStream().sum());
+            assertEquals(49_995_000L, subject.parallelLongStream().sum());
+            assertTrue(subject.spliterator().hasCharacteristics(Spliterator.SIZED | Spliterator.IMMUTABLE));
+        }
+
+        @Test
+        void sumMinMax() {
+            LongVector subject = LongVector.of(Long.MAX_VALUE, -5L, 0L);
+            assertEquals(-5L, subject.min().getAsLong());
+            assertEquals(Long.MAX_VALUE, subject.max().getAsLong());
+            assertEquals(Long.MAX_VALUE - 5L, subject.sum());
+            assertEquals(0L, LongVector.empty().sum());
+            assertFalse(LongVector.empty().min().isPresent());
+        }
+
+    }
+
+}
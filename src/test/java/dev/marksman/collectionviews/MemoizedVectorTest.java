@@ -0,0 +1,408 @@
+package dev.marksman.collectionviews;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyIterable.emptyIterable;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.jupiter.api.Assertions.*;
+
+class MemoizedVectorTest {
+
+    @Nested
+    @DisplayName("fmapMemoized")
+    class FmapMemoizedTests {
+
+        private AtomicInteger calls;
+        private MemoizedVector<Integer> subject;
+
+        @BeforeEach
+        void beforeEach() {
+            calls = new AtomicInteger(0);
+            subject = Vector.wrap(new Integer[]{1, 2, 3}).fmapMemoized(n -> {
+                calls.incrementAndGet();
+                return n * 10;
+            });
+        }
+
+        @Test
+        void throwsOnNullFunction() {
+            assertThrows(NullPointerException.class, () -> Vector.wrap(asList(1, 2, 3)).fmapMemoized(null));
+        }
+
+        @Test
+        void fmapMemoized() {
+            assertThat(subject, contains(10, 20, 30));
+        }
+
+        @Test
+        void isLazy() {
+            assertEquals(0, calls.get());
+            assertEquals(0, subject.materializedCount());
+        }
+
+        @Test
+        void computesEachElementOnce() {
+            assertEquals(20, subject.unsafeGet(1));
+            assertEquals(20, subject.unsafeGet(1));
+            assertThat(subject, contains(10, 20, 30));
+            assertThat(subject, contains(10, 20, 30));
+            assertEquals(subject.hashCode(), subject.hashCode());
+            assertEquals(3, calls.get());
+            assertEquals(3, subject.materializedCount());
+        }
+
+        @Test
+        void force() {
+            assertSame(subject, subject.force());
+            assertEquals(3, calls.get());
+            assertEquals(3, subject.materializedCount());
+            assertThat(subject, contains(10, 20, 30));
+            assertEquals(3, calls.get());
+        }
+
+        @Test
+        void unsafeGetThrowsForInvalidIndices() {
+            assertThrows(IndexOutOfBoundsException.class, () -> subject.unsafeGet(3));
+            assertThrows(IndexOutOfBoundsException.class, () -> subject.unsafeGet(-1));
+        }
+
+        @Test
+        void cachesNulls() {
+            AtomicInteger nullCalls = new AtomicInteger(0);
+            MemoizedVector<String> nulls = Vector.wrap(new Integer[]{1, 2}).fmapMemoized(n -> {
+                nullCalls.incrementAndGet();
+                return null;
+            });
+            assertNull(nulls.unsafeGet(0));
+            assertNull(nulls.unsafeGet(0));
+            assertEquals(1, nullCalls.get());
+        }
+
+        @Test
+        void retriesAfterFailure() {
+            AtomicInteger attempts = new AtomicInteger(0);
+            MemoizedVector<Integer> flaky = Vector.wrap(new Integer[]{1}).fmapMemoized(n -> {
+                if (attempts.incrementAndGet() == 1) throw new IllegalStateException();
+                return n;
+            });
+            assertThrows(IllegalStateException.class, () -> flaky.unsafeGet(0));
+            assertEquals(1, flaky.unsafeGet(0));
+            assertEquals(1, flaky.materializedCount());
+        }
+
+        @Test
+        void failsWhenAnElementDependsOnItself() {
+            AtomicReference<MemoizedVector<Integer>> self = new AtomicReference<>();
+            self.set(Vector.wrap(new Integer[]{1, 2}).fmapMemoized(n -> n == 2 ? self.get().unsafeGet(1) : n));
+            assertThrows(IllegalStateException.class, () -> self.get().unsafeGet(1));
+            assertEquals(1, self.get().unsafeGet(0));
+        }
+
+        @Test
+        void waitersShareTheResultOfASlowComputation() throws InterruptedException {
+            CountDownLatch computing = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            AtomicInteger computations = new AtomicInteger(0);
+            MemoizedVector<Integer> slow = Vector.wrap(new Integer[]{7}).fmapMemoized(n -> {
+                computations.incrementAndGet();
+                computing.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IllegalStateException(e);
+                }
+                return n * 2;
+            });
+            AtomicInteger owner = new AtomicInteger();
+            AtomicInteger waiter = new AtomicInteger();
+            Thread first = new Thread(() -> owner.set(slow.unsafeGet(0)));
+            first.start();
+            computing.await();
+            Thread second = new Thread(() -> waiter.set(slow.unsafeGet(0)));
+            second.start();
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            while (second.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+                Thread.sleep(1);
+            }
+            assertEquals(Thread.State.WAITING, second.getState());
+            release.countDown();
+            first.join();
+            second.join();
+            assertEquals(14, owner.get());
+            assertEquals(14, waiter.get());
+            assertEquals(1, computations.get());
+        }
+
+        @Test
+        void emptySource() {
+            MemoizedVector<Integer> empty = Vector.<Integer>empty().fmapMemoized(n -> n);
+            assertThat(empty, emptyIterable());
+            assertTrue(empty.isEmpty());
+            assertEquals(0, empty.force().materializedCount());
+        }
+
+        @Test
+        void equality() {
+            assertEquals(Vector.of(10, 20, 30), subject);
+            assertEquals(subject, Vector.of(10, 20, 30));
+            assertEquals(Vector.of(10, 20, 30).hashCode(), subject.hashCode());
+        }
+
+        @Test
+        void slicesAndFmapReuseCache() {
+            assertThat(subject.drop(1), contains(20, 30));
+            assertThat(subject.fmap(n -> n + 1), contains(11, 21, 31));
+            assertEquals(3, calls.get());
+        }
+
+        @Test
+        void eachElementComputedOnceUnderContention() throws InterruptedException {
+            int size = 1_000;
+            AtomicIntegerArray callsPerIndex = new AtomicIntegerArray(size);
+            MemoizedVector<Integer> contended = Vector.lazyFill(size, n -> n).fmapMemoized(n -> {
+                callsPerIndex.incrementAndGet(n);
+                return n * 2;
+            });
+            int threadCount = 8;
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            AtomicInteger mismatches = new AtomicInteger(0);
+            for (int t = 0; t < threadCount; t++) {
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < size; i++) {
+                        if (contended.unsafeGet(i) != i * 2) mismatches.incrementAndGet();
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertEquals(0, mismatches.get());
+            assertEquals(size, contended.materializedCount());
+            for (int i = 0; i < size; i++) {
+                assertEquals(1, callsPerIndex.get(i));
+            }
+        }
+
+    }
+
+    @Nested
+    @DisplayName("fmapMemoized with bounded cache")
+    class BoundedTests {
+
+        private AtomicInteger calls;
+        private MemoizedVector<Integer> subject;
+
+        @BeforeEach
+        void beforeEach() {
+            calls = new AtomicInteger(0);
+            subject = Vector.wrap(new Integer[]{1, 2, 3, 4}).fmapMemoized(2, n -> {
+                calls.incrementAndGet();
+                return n * 10;
+            });
+        }
+
+        @Test
+        void throwsOnInvalidCacheSize() {
+            assertThrows(IllegalArgumentException.class, () -> Vector.wrap(asList(1, 2, 3)).fmapMemoized(0, n -> n));
+        }
+
+        @Test
+        void fmapMemoized() {
+            assertThat(subject, contains(10, 20, 30, 40));
+        }
+
+        @Test
+        void cachesUpToCacheSize() {
+            subject.unsafeGet(0);
+            subject.unsafeGet(0);
+            subject.unsafeGet(1);
+            subject.unsafeGet(1);
+            assertEquals(2, calls.get());
+            assertEquals(2, subject.materializedCount());
+        }
+
+        @Test
+        void recomputesEvictedElements() {
+            subject.force();
+            assertEquals(4, calls.get());
+            assertEquals(2, subject.materializedCount());
+            assertThat(subject, contains(10, 20, 30, 40));
+            assertTrue(calls.get() > 4);
+        }
+
+        @Test
+        void cacheSizeAtLeastSizeCachesEverything() {
+            MemoizedVector<Integer> large = Vector.wrap(new Integer[]{1, 2, 3}).fmapMemoized(100, n -> {
+                calls.incrementAndGet();
+                return n;
+            });
+            assertThat(large, contains(1, 2, 3));
+            assertThat(large, contains(1, 2, 3));
+            assertEquals(3, calls.get());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("ImmutableVector")
+    class ImmutableTests {
+
+        @Test
+        void returnsImmutableMemoizedVector() {
+            ImmutableMemoizedVector<String> subject = Vector.of(1, 2, 3).fmapMemoized(Object::toString);
+            assertThat(subject.force(), contains("1", "2", "3"));
+            assertSame(subject, subject.toImmutable());
+        }
+
+        @Test
+        void notAffectedByMutation() {
+            Integer[] underlying = {1, 2, 3};
+            ImmutableMemoizedVector<Integer> subject = Vector.copyFrom(underlying).fmapMemoized(2, n -> n * 2);
+            underlying[0] = 10;
+            assertThat(subject, contains(2, 4, 6));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("lazyFillCached")
+    class LazyFillCachedTests {
+
+        @Test
+        void throwsOnNegativeSize() {
+            assertThrows(IllegalArgumentException.class, () -> Vector.lazyFillCached(-1, n -> n));
+        }
+
+        @Test
+        void throwsOnNullSupplier() {
+            assertThrows(NullPointerException.class, () -> Vector.lazyFillCached(1, null));
+        }
+
+        @Test
+        void lazyFillCached() {
+            ImmutableMemoizedVector<String> subject = Vector.lazyFillCached(3, n -> "x" + n);
+            assertEquals(3, subject.size());
+            assertThat(subject, contains("x0", "x1", "x2"));
+            assertEquals(Vector.of("x0", "x1", "x2"), subject);
+        }
+
+        @Test
+        void sizeZero() {
+            ImmutableMemoizedVector<Integer> subject = Vector.lazyFillCached(0, n -> n);
+            assertTrue(subject.isEmpty());
+            assertThat(subject, emptyIterable());
+        }
+
+        @Test
+        void computesEachElementOnce() {
+            AtomicIntegerArray callsPerIndex = new AtomicIntegerArray(5);
+            ImmutableMemoizedVector<Integer> subject = Vector.lazyFillCached(5, n -> {
+                callsPerIndex.incrementAndGet(n);
+                return n * n;
+            });
+            assertEquals(0, subject.materializedCount());
+            assertEquals(9, subject.unsafeGet(3));
+            assertEquals(9, subject.unsafeGet(3));
+            assertEquals(1, subject.materializedCount());
+            assertThat(subject.force(), contains(0, 1, 4, 9, 16));
+            assertThat(subject, contains(0, 1, 4, 9, 16));
+            assertEquals(5, subject.materializedCount());
+            for (int i = 0; i < 5; i++) {
+                assertEquals(1, callsPerIndex.get(i));
+            }
+        }
+
+        @Test
+        void unsafeGetThrowsForInvalidIndices() {
+            ImmutableMemoizedVector<Integer> subject = Vector.lazyFillCached(3, n -> n);
+            assertThrows(IndexOutOfBoundsException.class, () -> subject.unsafeGet(3));
+            assertThrows(IndexOutOfBoundsException.class, () -> subject.unsafeGet(-1));
+        }
+
+        @Test
+        void eachElementComputedOnceUnderContention() throws InterruptedException {
+            int size = 1_000;
+            AtomicIntegerArray callsPerIndex = new AtomicIntegerArray(size);
+            ImmutableMemoizedVector<Integer> subject = Vector.lazyFillCached(size, n -> {
+                callsPerIndex.incrementAndGet(n);
+                return n;
+            });
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = size - 1; i >= 0; i--) {
+                        subject.unsafeGet(i);
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertEquals(size, subject.materializedCount());
+            for (int i = 0; i < size; i++) {
+                assertEquals(1, callsPerIndex.get(i));
+            }
+        }
+
+        @Test
+        void nonEmptyThrowsOnSizeZero() {
+            assertThrows(IllegalArgumentException.class, () -> NonEmptyVector.lazyFillCached(0, n -> n));
+        }
+
+        @Test
+        void nonEmptyLazyFillCached() {
+            AtomicIntegerArray callsPerIndex = new AtomicIntegerArray(3);
+            ImmutableNonEmptyMemoizedVector<Integer> subject = NonEmptyVector.lazyFillCached(3, n -> {
+                callsPerIndex.incrementAndGet(n);
+                return n * 10;
+            });
+            assertFalse(subject.isEmpty());
+            assertEquals(0, subject.head());
+            ImmutableNonEmptyMemoizedVector<Integer> forced = subject.force();
+            assertSame(subject, forced);
+            assertThat(forced, contains(0, 10, 20));
+            assertEquals(3, subject.materializedCount());
+            for (int i = 0; i < 3; i++) {
+                assertEquals(1, callsPerIndex.get(i));
+            }
+        }
+
+        @Test
+        void nonEmptyWhenSizeIsPositive() {
+            assertTrue(Vector.lazyFillCached(2, n -> n) instanceof ImmutableNonEmptyMemoizedVector);
+            assertFalse(Vector.lazyFillCached(0, n -> n) instanceof NonEmptyVector);
+        }
+
+    }
+
+}
@@ -148,4 +148,50 @@ class NonEmptyVectorTest {
 
     }
 
+    @Nested
+    @DisplayName("toNonEmpty")
+    class ToNonEmptyTests {
+
+        @Test
+        void sliceToNonEmpty() {
+            NonEmptyVector<Integer> subject = Vector.wrap(asList(1, 2, 3, 4, 5)).slice(1, 4).toNonEmptyOrThrow();
+            assertEquals(2, subject.head());
+            assertEquals(3, subject.size());
+            assertThat(subject, contains(2, 3, 4));
+            assertThat(subject.tail(), contains(3, 4));
+            assertThat(subject.take(2), contains(2, 3));
+            assertThat(subject.take(1), contains(2));
+            assertThat(subject.slice(1, 2), contains(3));
+        }
+
+        @Test
+        void unsafeGetThrowsForInvalidIndices() {
+            NonEmptyVector<Integer> subject = Vector.wrap(asList(1, 2, 3, 4, 5)).slice(1, 4).toNonEmptyOrThrow();
+            assertThrows(IndexOutOfBoundsException.class, () -> subject.unsafeGet(3));
+            assertThrows(IndexOutOfBoundsException.class, () -> subject.unsafeGet(-1));
+        }
+
+        @Test
+        void repeatedTailAndToNonEmptyIsStackSafe() {
+            Integer[] underlying = new Integer[100_003];
+            for (int i = 0; i < underlying.length; i++) {
+                underlying[i] = i;
+            }
+            Vector<Integer> source = Vector.wrap(underlying).drop(0).take(underlying.length);
+            NonEmptyVector<Integer> result = foldLeft((acc, __) -> acc.tail().toNonEmptyOrThrow(),
+                    source.toNonEmptyOrThrow(), replicate(100_000, UNIT));
+            assertEquals(100_000, result.head());
+            assertThat(result, contains(100_000, 100_001, 100_002));
+        }
+
+        @Test
+        void repeatedTakeAndToNonEmptyIsStackSafe() {
+            Vector<Integer> source = Vector.wrap(asList(1, 2, 3)).slice(1, 3);
+            NonEmptyVector<Integer> result = foldLeft((acc, __) -> acc.take(2).toNonEmptyOrThrow(),
+                    source.toNonEmptyOrThrow(), replicate(100_000, UNIT));
+            assertThat(result, contains(2, 3));
+        }
+
+    }
+
 }
@@ -0,0 +1,244 @@
+package dev.marksman.collectionviews;
+
+import com.jnape.palatable.lambda.adt.hlist.Tuple2;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyIterable.emptyIterable;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentVectorTest {
+
+    private static PersistentVector<Integer> range(int from, int to) {
+        List<Integer> elements = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            elements.add(i);
+        }
+        return PersistentVector.copyFrom(elements);
+    }
+
+    private static void assertSameElements(List<Integer> expected, PersistentVector<Integer> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.unsafeGet(i));
+        }
+        List<Integer> iterated = new ArrayList<>();
+        actual.forEach(iterated::add);
+        assertEquals(expected, iterated);
+        if (actual instanceof RrbVector<?>) {
+            assertTrue(((RrbVector<?>) actual).tree().height() <= 8);
+        }
+    }
+
+    @Nested
+    @DisplayName("construction")
+    class ConstructionTests {
+
+        @Test
+        void empty() {
+            assertThat(PersistentVector.empty(), emptyIterable());
+            assertTrue(PersistentVector.empty().isEmpty());
+            assertEquals(Vector.empty(), PersistentVector.empty());
+        }
+
+        @Test
+        void of() {
+            NonEmptyPersistentVector<String> subject = PersistentVector.of("foo", "bar", "baz");
+            assertThat(subject, contains("foo", "bar", "baz"));
+            assertEquals("foo", subject.head());
+        }
+
+        @Test
+        void copyFromIterable() {
+            PersistentVector<Integer> subject = range(0, 10_000);
+            assertEquals(10_000, subject.size());
+            assertEquals(Integer.valueOf(9_999), subject.unsafeGet(9_999));
+            assertEquals(Vector.lazyFill(10_000, i -> i), subject);
+            assertSame(subject, PersistentVector.copyFrom(subject));
+        }
+
+        @Test
+        void copyFromArrayIsNotAffectedByLaterChanges() {
+            Integer[] source = {1, 2, 3};
+            PersistentVector<Integer> subject = PersistentVector.copyFrom(source);
+            source[0] = 100;
+            assertThat(subject, contains(1, 2, 3));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("modification")
+    class ModificationTests {
+
+        @Test
+        void appendAndPrepend() {
+            PersistentVector<Integer> subject = PersistentVector.empty();
+            for (int i = 0; i < 2_000; i++) {
+                subject = subject.append(i).prepend(-i - 1);
+            }
+            assertEquals(4_000, subject.size());
+            assertEquals(Integer.valueOf(-2_000), subject.unsafeGet(0));
+            assertEquals(Integer.valueOf(1_999), subject.unsafeGet(3_999));
+            assertEquals(range(-2_000, 2_000), subject);
+        }
+
+        @Test
+        void appendLeavesOriginalUnchanged() {
+            NonEmptyPersistentVector<String> original = PersistentVector.of("a", "b");
+            NonEmptyPersistentVector<String> appended = original.append("c");
+            assertThat(original, contains("a", "b"));
+            assertThat(appended, contains("a", "b", "c"));
+        }
+
+        @Test
+        void update() {
+            PersistentVector<Integer> original = range(0, 5_000);
+            PersistentVector<Integer> updated = original.update(4_321, -1);
+            assertEquals(Integer.valueOf(-1), updated.unsafeGet(4_321));
+            assertEquals(Integer.valueOf(4_321), original.unsafeGet(4_321));
+            assertEquals(original.take(4_321), updated.take(4_321));
+            assertEquals(original.drop(4_322), updated.drop(4_322));
+        }
+
+        @Test
+        void updateOutOfBounds() {
+            assertThrows(IndexOutOfBoundsException.class, () -> PersistentVector.of(1).update(1, 2));
+            assertThrows(IndexOutOfBoundsException.class, () -> PersistentVector.of(1).update(-1, 2));
+            assertThrows(IndexOutOfBoundsException.class, () -> PersistentVector.<Integer>empty().update(0, 2));
+        }
+
+        @Test
+        void concat() {
+            PersistentVector<Integer> left = range(0, 1_000);
+            PersistentVector<Integer> right = range(1_000, 50_000);
+            assertEquals(range(0, 50_000), left.concat(right));
+            assertEquals(range(0, 50_000), right.concat(left).drop(49_000).concat(right));
+            assertSame(left, left.concat(PersistentVector.empty()));
+            assertSame(left, PersistentVector.<Integer>empty().concat(left));
+        }
+
+        @Test
+        void split() {
+            Tuple2<PersistentVector<Integer>, PersistentVector<Integer>> halves = range(0, 3_000).split(1_234);
+            assertEquals(range(0, 1_234), halves._1());
+            assertEquals(range(1_234, 3_000), halves._2());
+            assertThat(range(0, 3).split(5)._2(), emptyIterable());
+            assertThrows(IllegalArgumentException.class, () -> range(0, 3).split(-1));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("slicing")
+    class SliceTests {
+
+        @Test
+        void slicesArePersistentVectors() {
+            PersistentVector<Integer> subject = range(0, 100_000);
+            PersistentVector<Integer> slice = subject.slice(40_000, 40_100);
+            assertTrue(slice instanceof RrbVector<?>);
+            assertEquals(range(40_000, 40_100), slice);
+            assertTrue(((RrbVector<?>) slice).tree().height() <= 1);
+            assertTrue(subject.drop(1) instanceof RrbVector<?>);
+            assertTrue(subject.tail() instanceof RrbVector<?>);
+        }
+
+        @Test
+        void edgeCases() {
+            PersistentVector<Integer> subject = range(0, 10);
+            assertSame(subject, subject.take(10));
+            assertSame(subject, subject.drop(0));
+            assertThat(subject.drop(10), emptyIterable());
+            assertThat(subject.slice(5, 3), emptyIterable());
+            assertThrows(IllegalArgumentException.class, () -> subject.take(-1));
+            assertThrows(IllegalArgumentException.class, () -> subject.slice(-1, 3));
+        }
+
+        @Test
+        void slicesOfMappedViewsReuseTheTree() {
+            ImmutableVector<Integer> doubled = range(0, 1_000).fmap(n -> n * 2);
+            assertThat(doubled.slice(10, 13), contains(20, 22, 24));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("random operations")
+    class RandomOperationTests {
+
+        @Test
+        void matchesReferenceList() {
+            Random random = new Random(17);
+            List<Integer> expected = new ArrayList<>();
+            PersistentVector<Integer> actual = PersistentVector.empty();
+            for (int step = 0; step < 3_000; step++) {
+                int size = expected.size();
+                switch (random.nextInt(6)) {
+                    case 0: {
+                        int value = random.nextInt();
+                        expected.add(value);
+                        actual = actual.append(value);
+                        break;
+                    }
+                    case 1: {
+                        int value = random.nextInt();
+                        expected.add(0, value);
+                        actual = actual.prepend(value);
+                        break;
+                    }
+                    case 2: {
+                        if (size > 0) {
+                            int index = random.nextInt(size);
+                            int value = random.nextInt();
+                            expected.set(index, value);
+                            actual = actual.update(index, value);
+                        }
+                        break;
+                    }
+                    case 3: {
+                        int count = random.nextInt(200);
+                        List<Integer> other = new ArrayList<>();
+                        for (int i = 0; i < count; i++) {
+                            other.add(random.nextInt());
+                        }
+                        expected.addAll(other);
+                        actual = actual.concat(PersistentVector.copyFrom(other));
+                        break;
+                    }
+                    case 4: {
+                        int index = random.nextInt(size + 1);
+                        Tuple2<PersistentVector<Integer>, PersistentVector<Integer>> halves = actual.split(index);
+                        List<Integer> rotated = new ArrayList<>(expected.subList(index, size));
+                        rotated.addAll(expected.subList(0, index));
+                        expected = rotated;
+                        actual = halves._2().concat(halves._1());
+                        break;
+                    }
+                    default: {
+                        if (size > 10) {
+                            int start = random.nextInt(size / 10);
+                            int end = size - random.nextInt(size / 10);
+                            expected = new ArrayList<>(expected.subList(start, end));
+                            actual = actual.slice(start, end);
+                        }
+                        break;
+                    }
+                }
+                if (step % 100 == 0) {
+                    assertSameElements(expected, actual);
+                }
+            }
+            assertSameElements(expected, actual);
+        }
+
+    }
+
+}
@@ -0,0 +1,438 @@
+package dev.marksman.collectionviews;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyIterable.emptyIterable;
+import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SerializationTest {
+
+    private static InputStream input(ByteArrayOutputStream out) {
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    @Nested
+    @DisplayName("Vector")
+    class VectorTests {
+
+        @Test
+        void roundTrip() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Vector.of("foo", "bar", "").writeTo(ElementCodec.strings(), out);
+            assertThat(Vector.readFrom(ElementCodec.strings(), input(out)), contains("foo", "bar", ""));
+        }
+
+        @Test
+        void roundTripEmpty() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Vector.<Integer>empty().writeTo(ElementCodec.integers(), out);
+            assertThat(Vector.readFrom(ElementCodec.integers(), input(out)), emptyIterable());
+            assertThrows(IOException.class, () -> NonEmptyVector.readFrom(ElementCodec.integers(), input(out)));
+        }
+
+        @Test
+        void roundTripViaChannel() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Vector.copyFrom(asList(1L, 2L, 3L)).drop(1).writeTo(ElementCodec.longs(), out);
+            ImmutableNonEmptyVector<Long> result = NonEmptyVector.readFrom(ElementCodec.longs(),
+                    Channels.newChannel(input(out)));
+            assertThat(result, contains(2L, 3L));
+        }
+
+        @Test
+        void repeatingVectorIsWrittenCompactly() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Vector.fill(1_000_000, 7.5).writeTo(ElementCodec.doubles(), out);
+            assertTrue(out.size() < 32);
+            ImmutableVector<Double> result = Vector.readFrom(ElementCodec.doubles(), input(out));
+            assertEquals(1_000_000, result.size());
+            assertEquals(Vector.fill(1_000_000, 7.5), result);
+        }
+
+        @Test
+        void valuesCanBeWrittenBackToBack() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Vector.of(1, 2).writeTo(ElementCodec.integers(), out);
+            IntVector.of(3, 4).writeTo(out);
+            Set.of("x").writeTo(ElementCodec.strings(), out);
+            InputStream in = input(out);
+            assertThat(Vector.readFrom(ElementCodec.integers(), in), contains(1, 2));
+            assertThat(IntVector.readFrom(in), contains(3, 4));
+            assertThat(Set.readFrom(ElementCodec.strings(), in), contains("x"));
+            assertEquals(-1, in.read());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("Set")
+    class SetTests {
+
+        @Test
+        void roundTrip() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Set.copyFrom(asList("a", "b", "c")).writeTo(ElementCodec.strings(), out);
+            assertThat(Set.readFrom(ElementCodec.strings(), input(out)), containsInAnyOrder("a", "b", "c"));
+            assertThat(Set.readFrom(ElementCodec.strings(), Channels.newChannel(input(out))),
+                    containsInAnyOrder("a", "b", "c"));
+        }
+
+        @Test
+        void roundTripEmpty() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Set.<String>empty().writeTo(ElementCodec.strings(), out);
+            assertThat(Set.readFrom(ElementCodec.strings(), input(out)), emptyIterable());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("primitive vectors")
+    class PrimitiveTests {
+
+        @Test
+        void intVector() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImmutableIntVector source = IntVector.lazyFill(5_000, i -> i * 3);
+            source.writeTo(out);
+            assertEquals(8 + 5_000 * 4, out.size());
+            assertEquals(source, IntVector.readFrom(input(out)));
+            assertEquals(source, IntVector.readFrom(Channels.newChannel(input(out))));
+        }
+
+        @Test
+        void longVector() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImmutableLongVector source = LongVector.copyFrom(new long[]{Long.MIN_VALUE, 0L, Long.MAX_VALUE});
+            source.writeTo(out);
+            assertThat(LongVector.readFrom(input(out)), contains(Long.MIN_VALUE, 0L, Long.MAX_VALUE));
+        }
+
+        @Test
+        void doubleVector() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            DoubleVector.copyFrom(new double[]{1.5, Double.NaN, -0.0}).writeTo(out);
+            assertThat(DoubleVector.readFrom(input(out)), contains(1.5, Double.NaN, -0.0));
+        }
+
+        @Test
+        void byteVector() throws IOException {
+            byte[] bytes = new byte[20_000];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = (byte) i;
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ByteVector.copyFrom(bytes).drop(1).writeTo(out);
+            ImmutableByteVector result = ByteVector.readFrom(input(out));
+            assertEquals(19_999, result.size());
+            assertEquals((byte) 1, result.unsafeGetByte(0));
+            assertEquals(ByteVector.copyFrom(bytes).drop(1), result);
+        }
+
+        @Test
+        void empty() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            IntVector.empty().writeTo(out);
+            assertThat(IntVector.readFrom(input(out)), emptyIterable());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("viewSerialized")
+    class ViewSerializedTests {
+
+        private ByteBuffer indexed(ImmutableVector<String> source) throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            out.write(new byte[]{9, 9, 9});
+            source.writeIndexedTo(ElementCodec.strings(), out);
+            ByteBuffer buffer = ByteBuffer.wrap(out.toByteArray());
+            buffer.position(3);
+            return buffer;
+        }
+
+        @Test
+        void decodesElementsOnDemand() throws IOException {
+            ByteBuffer buffer = indexed(Vector.of("alpha", "", "gamma", "delta"));
+            ImmutableVector<String> subject = Vector.viewSerialized(ElementCodec.strings(), buffer);
+            assertEquals(3, buffer.position());
+            assertTrue(subject instanceof ImmutableNonEmptyVector<?>);
+            assertEquals(4, subject.size());
+            assertEquals("gamma", subject.unsafeGet(2));
+            assertThat(subject, contains("alpha", "", "gamma", "delta"));
+            assertEquals(Vector.of("alpha", "", "gamma", "delta"), subject);
+        }
+
+        @Test
+        void slicesAndFmapWork() throws IOException {
+            ImmutableVector<String> subject = Vector.viewSerialized(ElementCodec.strings(),
+                    indexed(Vector.of("a", "bb", "ccc", "dddd")));
+            ImmutableVector<String> slice = subject.drop(1).take(2);
+            assertTrue(slice instanceof SerializedVector<?>);
+            assertThat(slice, contains("bb", "ccc"));
+            assertThat(subject.fmap(String::length).slice(2, 4), contains(3, 4));
+        }
+
+        @Test
+        void canAlsoBeReadEagerly() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Vector.of("x", "y").writeIndexedTo(ElementCodec.strings(), out);
+            assertThat(Vector.readFrom(ElementCodec.strings(), input(out)), contains("x", "y"));
+        }
+
+        @Test
+        void empty() throws IOException {
+            assertThat(Vector.viewSerialized(ElementCodec.strings(), indexed(Vector.empty())), emptyIterable());
+        }
+
+        private ElementCodec<String> counting(AtomicInteger decodes) {
+            return new ElementCodec<String>() {
+                @Override
+                public void write(String value, DataOutput out) throws IOException {
+                    ElementCodec.strings().write(value, out);
+                }
+
+                @Override
+                public String read(DataInput in) throws IOException {
+                    decodes.incrementAndGet();
+                    return ElementCodec.strings().read(in);
+                }
+            };
+        }
+
+        @Test
+        void memoizedDecodesEachElementOnce() throws IOException {
+            AtomicInteger decodes = new AtomicInteger();
+            ImmutableMemoizedVector<String> subject = Vector.viewSerializedMemoized(counting(decodes),
+                    indexed(Vector.of("a", "b", "c")));
+            assertTrue(subject instanceof ImmutableNonEmptyMemoizedVector<?>);
+            assertEquals("b", subject.unsafeGet(1));
+            assertEquals("b", subject.unsafeGet(1));
+            assertEquals(1, decodes.get());
+            assertEquals(1, subject.materializedCount());
+        }
+
+        @Test
+        void memoizedSlicesShareTheCache() throws IOException {
+            AtomicInteger decodes = new AtomicInteger();
+            ImmutableMemoizedVector<String> subject = Vector.viewSerializedMemoized(counting(decodes),
+                    indexed(Vector.of("a", "b", "c", "d")));
+            ImmutableVector<String> slice = subject.slice(1, 3);
+            assertTrue(slice instanceof SerializedVector<?>);
+            assertThat(slice, contains("b", "c"));
+            assertEquals(2, subject.materializedCount());
+            assertThat(subject.force(), contains("a", "b", "c", "d"));
+            assertThat(slice, contains("b", "c"));
+            assertEquals(4, decodes.get());
+            assertEquals(4, subject.materializedCount());
+        }
+
+        @Test
+        void memoizedEmpty() throws IOException {
+            ImmutableMemoizedVector<String> subject = Vector.viewSerializedMemoized(ElementCodec.strings(),
+                    indexed(Vector.empty()));
+            assertThat(subject, emptyIterable());
+            assertEquals(0, subject.materializedCount());
+        }
+
+        @Test
+        void nonEmpty() throws IOException {
+            ImmutableNonEmptyVector<String> subject = NonEmptyVector.viewSerializedOrThrow(ElementCodec.strings(),
+                    indexed(Vector.of("x", "y")));
+            assertEquals("x", subject.head());
+            assertThat(subject, contains("x", "y"));
+            assertThat(NonEmptyVector.tryViewSerialized(ElementCodec.strings(), indexed(Vector.of("x")))
+                    .orElseThrow(AssertionError::new), contains("x"));
+            assertEquals(nothing(), NonEmptyVector.tryViewSerialized(ElementCodec.strings(), indexed(Vector.empty())));
+            assertThrows(IllegalArgumentException.class,
+                    () -> NonEmptyVector.viewSerializedOrThrow(ElementCodec.strings(), indexed(Vector.empty())));
+        }
+
+        @Test
+        void nonEmptyMemoized() throws IOException {
+            AtomicInteger decodes = new AtomicInteger();
+            ImmutableNonEmptyMemoizedVector<String> subject =
+                    NonEmptyVector.viewSerializedMemoizedOrThrow(counting(decodes), indexed(Vector.of("x", "y")));
+            assertEquals("x", subject.head());
+            assertEquals("x", subject.head());
+            assertEquals(1, decodes.get());
+            assertThat(subject.force(), contains("x", "y"));
+            assertEquals(2, subject.materializedCount());
+            assertEquals(nothing(),
+                    NonEmptyVector.tryViewSerializedMemoized(ElementCodec.strings(), indexed(Vector.empty())));
+            assertThrows(IllegalArgumentException.class,
+                    () -> NonEmptyVector.viewSerializedMemoizedOrThrow(ElementCodec.strings(),
+                            indexed(Vector.empty())));
+        }
+
+        @Test
+        void rejectsOtherLayouts() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Vector.of("x").writeTo(ElementCodec.strings(), out);
+            assertThrows(IllegalArgumentException.class,
+                    () -> Vector.viewSerialized(ElementCodec.strings(), ByteBuffer.wrap(out.toByteArray())));
+            byte[] truncated = Arrays.copyOf(indexed(Vector.of("x")).array(), 12);
+            assertThrows(IllegalArgumentException.class,
+                    () -> Vector.viewSerialized(ElementCodec.strings(), ByteBuffer.wrap(truncated, 3, 9)));
+        }
+
+        @Test
+        void corruptOffsetsFailOnAccess() throws IOException {
+            ByteBuffer buffer = indexed(Vector.of("foo", "bar"));
+            buffer.putInt(3 + 8 + Integer.BYTES, 0x7fff0000);
+            ImmutableVector<String> subject = Vector.viewSerialized(ElementCodec.strings(), buffer);
+            assertThrows(UncheckedIOException.class, () -> subject.unsafeGet(0));
+            assertThrows(UncheckedIOException.class, () -> subject.unsafeGet(1));
+            assertThrows(UncheckedIOException.class, () -> subject.iterator().next());
+        }
+
+        @Test
+        void iterationDecodesEveryElement() throws IOException {
+            ImmutableVector<String> source = Vector.lazyFill(1_000, i -> "element " + i).toImmutable();
+            ImmutableVector<String> subject = Vector.viewSerialized(ElementCodec.strings(), indexed(source));
+            assertEquals(source, subject);
+            assertEquals(source.drop(500), subject.drop(500));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("malformed input")
+    class MalformedInputTests {
+
+        @Test
+        void wrongKind() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            IntVector.of(1).writeTo(out);
+            assertThrows(IOException.class, () -> LongVector.readFrom(input(out)));
+            assertThrows(IOException.class, () -> Vector.readFrom(ElementCodec.integers(), input(out)));
+        }
+
+        @Test
+        void badMagic() {
+            assertThrows(IOException.class,
+                    () -> IntVector.readFrom(new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 0, 0, 0, 0})));
+        }
+
+        @Test
+        void truncated() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            IntVector.of(1, 2, 3).writeTo(out);
+            byte[] truncated = Arrays.copyOf(out.toByteArray(), out.size() - 1);
+            assertThrows(EOFException.class, () -> IntVector.readFrom(new ByteArrayInputStream(truncated)));
+        }
+
+        @Test
+        void elementCountIsNotTrusted() {
+            assertThrows(EOFException.class, () -> Vector.readFrom(ElementCodec.integers(), hostile(1)));
+            assertThrows(EOFException.class,
+                    () -> Vector.readFrom(ElementCodec.integers(), Channels.newChannel(hostile(1))));
+            assertThrows(EOFException.class, () -> Vector.readFrom(ElementCodec.integers(), hostile(8)));
+            assertThrows(EOFException.class, () -> Set.readFrom(ElementCodec.integers(), hostile(3)));
+            assertThrows(EOFException.class, () -> IntVector.readFrom(hostile(4)));
+            assertThrows(EOFException.class, () -> LongVector.readFrom(hostile(5)));
+            assertThrows(EOFException.class, () -> DoubleVector.readFrom(hostile(6)));
+            assertThrows(EOFException.class, () -> ByteVector.readFrom(hostile(7)));
+        }
+
+        /**
+         * A header of the given kind that claims Integer.MAX_VALUE elements, followed by only four bytes.
+         */
+        private InputStream hostile(int kind) {
+            return new ByteArrayInputStream(new byte[]{0x43, 0x56, 1, (byte) kind,
+                    0x7f, (byte) 0xff, (byte) 0xff, (byte) 0xff, 0, 0, 0, 1});
+        }
+
+    }
+
+    @Nested
+    @DisplayName("channels")
+    class ChannelTests {
+
+        @Test
+        void largeValuesRoundTrip() throws IOException {
+            ImmutableVector<Integer> elements = Vector.lazyFill(50_000, i -> i).toImmutable();
+            ImmutableByteVector bytes = ByteVector.copyFrom(new byte[50_000]);
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            elements.writeTo(ElementCodec.integers(), out);
+            bytes.writeTo(out);
+            InputStream in = input(out);
+            assertEquals(elements, Vector.readFrom(ElementCodec.integers(), in));
+            assertEquals(bytes, ByteVector.readFrom(in));
+        }
+
+        @Test
+        void codecElementsAreReadInBulk() throws IOException {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            Vector.lazyFill(10_000, i -> i).toImmutable().writeTo(ElementCodec.integers(), out);
+            AtomicInteger reads = new AtomicInteger();
+            ReadableByteChannel source = Channels.newChannel(input(out));
+            ReadableByteChannel counting = new ReadableByteChannel() {
+                @Override
+                public int read(ByteBuffer dst) throws IOException {
+                    reads.incrementAndGet();
+                    return source.read(dst);
+                }
+
+                @Override
+                public boolean isOpen() {
+                    return source.isOpen();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    source.close();
+                }
+            };
+            assertEquals(10_000, Vector.readFrom(ElementCodec.integers(), counting).size());
+            assertTrue(reads.get() < 100);
+        }
+
+        @Test
+        void seekableChannelsCanBeReadBackToBack() throws IOException {
+            Path file = Files.createTempFile("collection-views", ".bin");
+            try {
+                try (OutputStream out = Files.newOutputStream(file)) {
+                    Vector.of("foo", "bar").writeTo(ElementCodec.strings(), out);
+                    Set.of(1, 2).writeTo(ElementCodec.integers(), out);
+                    IntVector.of(3, 4).writeTo(out);
+                }
+                try (FileChannel in = FileChannel.open(file)) {
+                    assertThat(Vector.readFrom(ElementCodec.strings(), in), contains("foo", "bar"));
+                    assertThat(Set.readFrom(ElementCodec.integers(), in), containsInAnyOrder(1, 2));
+                    assertEquals(IntVector.of(3, 4), IntVector.readFrom(in));
+                    assertEquals(in.size(), in.position());
+                }
+            } finally {
+                Files.delete(file);
+            }
+        }
+
+    }
+
+}
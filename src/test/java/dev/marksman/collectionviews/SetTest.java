@@ -5,17 +5,22 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
 
 import static com.jnape.palatable.lambda.functions.builtin.fn2.ToCollection.toCollection;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsEmptyIterable.emptyIterable;
 import static org.hamcrest.collection.IsIterableContainingInAnyOrder.containsInAnyOrder;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.junit.jupiter.api.Assertions.*;
 
 class SetTest {
@@ -362,4 +367,257 @@ class SetTest {
 
     }
 
+    @Nested
+    @DisplayName("stream")
+    class StreamTests {
+
+        @Test
+        void stream() {
+            assertThat(Set.wrap(new HashSet<>(asList(1, 2, 3))).stream().collect(toList()), containsInAnyOrder(1, 2, 3));
+            assertThat(Set.of(1, 2, 3).stream().collect(toList()), containsInAnyOrder(1, 2, 3));
+            assertEquals(0, Set.empty().stream().count());
+        }
+
+        @Test
+        void spliteratorIsSizedAndDistinct() {
+            Spliterator<Integer> wrapped = Set.wrap(new HashSet<>(asList(1, 2, 3))).spliterator();
+            assertEquals(3, wrapped.getExactSizeIfKnown());
+            assertTrue(wrapped.hasCharacteristics(Spliterator.DISTINCT));
+            Spliterator<Integer> immutable = Set.of(1, 2, 3).spliterator();
+            assertEquals(3, immutable.getExactSizeIfKnown());
+            assertTrue(immutable.hasCharacteristics(Spliterator.DISTINCT));
+        }
+
+        @Test
+        void parallelStream() {
+            java.util.Set<Integer> underlying = new HashSet<>();
+            for (int i = 0; i < 10_000; i++) {
+                underlying.add(i);
+            }
+            Set<Integer> subject = Set.wrap(underlying);
+            assertTrue(subject.parallelStream().isParallel());
+            assertEquals(49_995_000L, subject.parallelStream().mapToLong(n -> n).sum());
+            assertEquals(49_995_000L, Set.copyFrom(underlying).parallelStream().mapToLong(n -> n).sum());
+        }
+
+        @Test
+        void immutableSetsSplitWithoutCopying() {
+            java.util.Set<Object> source = new HashSet<>();
+            for (int i = 0; i < 1_000; i++) {
+                source.add(i);
+            }
+            source.add(null);
+            assertSplitsInto(1_001, Set.copyFrom(source));
+            assertSplitsInto(3, Set.of(1, 2, 3));
+            assertSplitsInto(2, Set.of(Color.RED, Color.BLUE));
+            assertSplitsInto(70, Set.copyFrom(asList(Big.values())));
+        }
+
+        private void assertSplitsInto(int size, ImmutableSet<?> subject) {
+            Spliterator<?> spliterator = subject.spliterator();
+            assertEquals(size, spliterator.getExactSizeIfKnown());
+            assertTrue(spliterator.hasCharacteristics(Spliterator.DISTINCT));
+            assertTrue(spliterator.hasCharacteristics(Spliterator.IMMUTABLE));
+            List<Object> visited = new ArrayList<>();
+            Spliterator<?> prefix = spliterator.trySplit();
+            if (size > 1) {
+                assertNotNull(prefix);
+                prefix.forEachRemaining(visited::add);
+            }
+            assertTrue(spliterator.tryAdvance(visited::add));
+            spliterator.forEachRemaining(visited::add);
+            assertEquals(size, visited.size());
+            assertEquals(subject, Set.copyFrom(visited));
+            assertEquals(size, subject.parallelStream().count());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("immutable copies")
+    class ImmutableCopyTests {
+
+        @Test
+        void largeCopyContainsEveryElement() {
+            java.util.Set<Integer> source = new HashSet<>();
+            for (int i = 0; i < 10_000; i++) {
+                source.add(i * 7);
+            }
+            ImmutableSet<Integer> subject = Set.copyFrom(source);
+            assertEquals(10_000, subject.size());
+            for (int i = 0; i < 70_000; i++) {
+                assertEquals(i % 7 == 0, subject.contains(i));
+            }
+            assertEquals(Set.wrap(source), subject);
+            assertEquals(source.hashCode(), subject.hashCode());
+        }
+
+        @Test
+        void duplicatesAreRemoved() {
+            ImmutableSet<String> subject = Set.copyFrom(asList("a", "b", "a", "c", "b", "a"));
+            assertEquals(3, subject.size());
+            assertThat(subject, containsInAnyOrder("a", "b", "c"));
+            assertThat(Set.of("x", "x", "x"), containsInAnyOrder("x"));
+        }
+
+        @Test
+        void nullIsAnElementLikeAnyOther() {
+            ImmutableSet<String> subject = Set.copyFrom(asList("a", null, "b"));
+            assertEquals(3, subject.size());
+            assertTrue(subject.contains(null));
+            assertThat(subject, containsInAnyOrder("a", null, "b"));
+            assertFalse(Set.of("a").contains(null));
+        }
+
+        @Test
+        void copiesOfWrappedSetsAreIndependent() {
+            java.util.Set<Integer> underlying = new HashSet<>(asList(1, 2, 3));
+            ImmutableSet<Integer> copied = Set.wrap(underlying).toImmutable();
+            underlying.add(4);
+            assertThat(copied, containsInAnyOrder(1, 2, 3));
+            assertFalse(copied.contains(4));
+        }
+
+        @Test
+        void iteratorIsExhausted() {
+            Iterator<Integer> iterator = Set.of(1, 2).iterator();
+            iterator.next();
+            iterator.next();
+            assertFalse(iterator.hasNext());
+            assertThrows(NoSuchElementException.class, iterator::next);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("small sets")
+    class SmallSetTests {
+
+        @Test
+        void smallSetsUseLinearScan() {
+            ImmutableNonEmptySet<String> subject = Set.of("a", "b", "c");
+            assertTrue(subject instanceof ImmutableSmallSet<?>);
+            assertEquals("a", subject.head());
+            assertTrue(subject.contains("b"));
+            assertFalse(subject.contains("d"));
+            assertThat(subject.tail(), containsInAnyOrder("b", "c"));
+        }
+
+        @Test
+        void thresholdIsOnDistinctCount() {
+            assertTrue(Set.copyFrom(asList(1, 2, 3, 4, 5, 6, 7, 8)) instanceof ImmutableSmallSet<?>);
+            assertTrue(Set.copyFrom(asList(1, 2, 3, 4, 5, 6, 7, 8, 9)) instanceof ImmutableOpenHashSet<?>);
+            assertTrue(NonEmptySet.copyFromOrThrow(asList(1, 1, 2)) instanceof ImmutableSmallSet<?>);
+            ImmutableNonEmptySet<Integer> repeated = Set.of(1, 1, 1, 1, 1, 1, 1, 1, 1);
+            assertTrue(repeated instanceof ImmutableSmallSet<?>);
+            assertThat(repeated, contains(1));
+            ImmutableSet<Integer> fewDistinct = Set.copyFrom(asList(3, null, 1, 3, 2, null, 1, 2, 3, 4, 5, 6, 7));
+            assertTrue(fewDistinct instanceof ImmutableSmallSet<?>);
+            assertThat(fewDistinct, contains(3, null, 1, 2, 4, 5, 6, 7));
+        }
+
+        @Test
+        void duplicatesAndNulls() {
+            ImmutableNonEmptySet<String> subject = Set.of("a", null, "a", null);
+            assertEquals(2, subject.size());
+            assertTrue(subject.contains(null));
+            assertThat(subject, containsInAnyOrder("a", null));
+        }
+
+        @Test
+        void equalToLargerRepresentations() {
+            java.util.Set<Integer> source = new HashSet<>(asList(3, 1, 2));
+            assertEquals(Set.wrap(source), Set.of(1, 2, 3));
+            assertEquals(Set.of(1, 2, 3), Set.of(3, 2, 1));
+            assertEquals(source.hashCode(), Set.of(1, 2, 3).hashCode());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("enum sets")
+    class EnumSetTests {
+
+        @Test
+        void enumElementsUseBitmask() {
+            ImmutableNonEmptySet<Color> subject = Set.of(Color.BLUE, Color.RED, Color.BLUE);
+            assertTrue(subject instanceof ImmutableEnumSet<?>);
+            assertEquals(2, subject.size());
+            assertTrue(subject.contains(Color.RED));
+            assertFalse(subject.contains(Color.GREEN));
+            assertFalse(subject.contains(null));
+            assertThat(subject, contains(Color.RED, Color.BLUE));
+            assertEquals(Color.RED, subject.head());
+            assertThat(subject.tail(), contains(Color.BLUE));
+        }
+
+        @Test
+        void copyFromDetectsEnums() {
+            assertTrue(Set.copyFrom(java.util.EnumSet.allOf(Color.class)) instanceof ImmutableEnumSet<?>);
+            assertTrue(Set.copyFrom(asList(Color.RED, Big.C1)) instanceof ImmutableSmallSet<?>);
+            assertTrue(Set.copyFrom(asList(Color.RED, null)) instanceof ImmutableSmallSet<?>);
+        }
+
+        @Test
+        void doesNotConfuseEnumTypesWithSameOrdinal() {
+            @SuppressWarnings("unchecked")
+            Set<Object> subject = (Set<Object>) (Set<?>) Set.of(Color.RED);
+            assertFalse(subject.contains(Big.C0));
+            assertFalse(subject.contains("RED"));
+        }
+
+        @Test
+        void constantsWithBodies() {
+            ImmutableNonEmptySet<Op> subject = Set.of(Op.MINUS, Op.PLUS);
+            assertTrue(subject instanceof ImmutableEnumSet<?>);
+            assertTrue(subject.contains(Op.PLUS));
+            assertThat(subject, contains(Op.PLUS, Op.MINUS));
+        }
+
+        @Test
+        void largeEnums() {
+            ImmutableNonEmptySet<Big> subject = Set.of(Big.C69, Big.C0, Big.C64, Big.C63);
+            assertEquals(4, subject.size());
+            assertTrue(subject.contains(Big.C64));
+            assertFalse(subject.contains(Big.C65));
+            assertThat(subject, contains(Big.C0, Big.C63, Big.C64, Big.C69));
+            List<Big> visited = new ArrayList<>();
+            subject.forEach(visited::add);
+            assertEquals(asList(Big.C0, Big.C63, Big.C64, Big.C69), visited);
+            assertEquals(Big.C64, Set.of(Big.C64, Big.C69).head());
+        }
+
+        @Test
+        void equality() {
+            assertEquals(Set.of(Color.RED, Color.GREEN), Set.of(Color.GREEN, Color.RED));
+            assertNotEquals(Set.of(Color.RED, Color.GREEN), Set.of(Color.RED, Color.BLUE));
+            assertEquals(Set.wrap(java.util.EnumSet.of(Color.RED, Color.GREEN)), Set.of(Color.GREEN, Color.RED));
+            assertEquals(Set.of(Color.GREEN, Color.RED), Set.wrap(java.util.EnumSet.of(Color.RED, Color.GREEN)));
+            assertEquals(java.util.EnumSet.of(Color.RED, Color.GREEN).hashCode(),
+                    Set.of(Color.GREEN, Color.RED).hashCode());
+        }
+
+    }
+
+    enum Color {RED, GREEN, BLUE}
+
+    enum Op {
+        PLUS {
+            @Override
+            int apply(int a, int b) {
+                return a + b;
+            }
+        },
+        MINUS {
+            @Override
+            int apply(int a, int b) {
+                return a - b;
+            }
+        };
+
+        abstract int apply(int a, int b);
+    }
+
+    enum Big {C0, C1, C2, C3, C4, C5, C6, C7, C8, C9, C10, C11, C12, C13, C14, C15, C16, C17, C18, C19, C20, C21, C22, C23, C24, C25, C26, C27, C28, C29, C30, C31, C32, C33, C34, C35, C36, C37, C38, C39, C40, C41, C42, C43, C44, C45, C46, C47, C48, C49, C50, C51, C52, C53, C54, C55, C56, C57, C58, C59, C60, C61, C62, C63, C64, C65, C66, C67, C68, C69}
+
 }
@@ -0,0 +1,234 @@
+package dev.marksman.collectionviews;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.TreeSet;
+
+import static com.jnape.palatable.lambda.adt.Maybe.just;
+import static com.jnape.palatable.lambda.adt.Maybe.maybe;
+import static com.jnape.palatable.lambda.adt.Maybe.nothing;
+import static java.util.Arrays.asList;
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.reverseOrder;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyIterable.emptyIterable;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortedSetTest {
+
+    private static final Comparator<Integer> NATURAL = naturalOrder();
+
+    @Nested
+    @DisplayName("wrap")
+    class WrapTests {
+
+        @Test
+        void viewsSortedVector() {
+            Integer[] underlying = {1, 3, 5, 7};
+            SortedSet<Integer> subject = SortedSet.wrap(NATURAL, Vector.wrap(underlying));
+            assertEquals(4, subject.size());
+            assertTrue(subject.contains(5));
+            assertFalse(subject.contains(4));
+            assertThat(subject, contains(1, 3, 5, 7));
+            assertSame(NATURAL, subject.comparator());
+        }
+
+        @Test
+        void doesNotCopy() {
+            Integer[] underlying = {1, 3, 5, 7};
+            SortedSet<Integer> subject = SortedSet.wrap(NATURAL, Vector.wrap(underlying));
+            underlying[3] = 9;
+            assertTrue(subject.contains(9));
+            assertThat(subject.toImmutable(), contains(1, 3, 5, 9));
+        }
+
+        @Test
+        void immutableVectorGivesImmutableSet() {
+            ImmutableSortedSet<Integer> subject = SortedSet.wrap(NATURAL, Vector.of(2, 4, 6));
+            assertTrue(subject.contains(4));
+            assertTrue(SortedSet.wrap(NATURAL, (Vector<Integer>) Vector.of(2, 4, 6)) instanceof ImmutableSortedSet<?>);
+            assertEquals(Integer.valueOf(2), subject.toNonEmptyOrThrow().head());
+        }
+
+        @Test
+        void rejectsUnsortedOrDuplicates() {
+            assertThrows(IllegalArgumentException.class, () -> SortedSet.wrap(NATURAL, Vector.of(2, 1)));
+            assertThrows(IllegalArgumentException.class, () -> SortedSet.wrap(NATURAL, Vector.of(1, 1)));
+            assertThat(SortedSet.wrap(Comparator.<Integer>reverseOrder(), Vector.of(3, 2, 1)), contains(3, 2, 1));
+        }
+
+        @Test
+        void wrapEmpty() {
+            SortedSet<Integer> subject = SortedSet.wrap(NATURAL, Vector.<Integer>empty());
+            assertTrue(subject.isEmpty());
+            assertEquals(nothing(), subject.floor(1));
+            assertEquals(nothing(), subject.toNonEmpty());
+            assertThrows(IllegalArgumentException.class, subject::toNonEmptyOrThrow);
+        }
+
+    }
+
+    @Nested
+    @DisplayName("spliterator")
+    class SpliteratorTests {
+
+        @Test
+        void reportsSortedByComparator() {
+            Spliterator<Integer> subject = SortedSet.wrap(NATURAL, Vector.wrap(new Integer[]{1, 3, 5})).spliterator();
+            assertTrue(subject.hasCharacteristics(Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.SIZED));
+            assertFalse(subject.hasCharacteristics(Spliterator.IMMUTABLE));
+            assertSame(NATURAL, subject.getComparator());
+            Spliterator<Integer> immutable = SortedSet.copyFrom(NATURAL, asList(1, 3, 5)).spliterator();
+            assertTrue(immutable.hasCharacteristics(Spliterator.DISTINCT | Spliterator.SORTED | Spliterator.IMMUTABLE));
+            assertSame(NATURAL, immutable.getComparator());
+        }
+
+        @Test
+        void splits() {
+            ImmutableSortedSet<Integer> subject = SortedSet.copyFrom(NATURAL, Vector.lazyFill(1_000, i -> i));
+            Spliterator<Integer> right = subject.spliterator();
+            Spliterator<Integer> left = right.trySplit();
+            assertNotNull(left);
+            assertTrue(left.hasCharacteristics(Spliterator.SORTED));
+            assertSame(NATURAL, left.getComparator());
+            assertEquals(1_000, left.estimateSize() + right.estimateSize());
+            assertEquals(subject.asVector(), Vector.copyFrom(subject.stream().parallel().toArray(Integer[]::new)));
+            assertEquals(499_500, subject.subSet(0, 1_000).stream().parallel().mapToInt(i -> i).sum());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("copyFrom")
+    class CopyTests {
+
+        @Test
+        void sortsAndRemovesDuplicates() {
+            ImmutableSortedSet<Integer> subject = SortedSet.copyFrom(NATURAL, asList(5, 1, 3, 1, 5));
+            assertThat(subject, contains(1, 3, 5));
+            assertTrue(subject.asVector() instanceof ImmutableArrayVector<?>);
+        }
+
+        @Test
+        void copyFromArrayIsNotAffectedByLaterChanges() {
+            Integer[] source = {3, 2, 1};
+            ImmutableSortedSet<Integer> subject = SortedSet.copyFrom(NATURAL, source);
+            source[0] = 100;
+            assertThat(subject, contains(1, 2, 3));
+            assertThat(asList(source), contains(100, 2, 1));
+        }
+
+        @Test
+        void reusesSetWithSameComparator() {
+            ImmutableSortedSet<Integer> subject = SortedSet.copyFrom(NATURAL, asList(1, 2));
+            assertSame(subject, SortedSet.copyFrom(NATURAL, subject));
+            assertThat(SortedSet.copyFrom(reverseOrder(), subject), contains(2, 1));
+        }
+
+        @Test
+        void empty() {
+            assertThat(SortedSet.copyFrom(NATURAL, new Integer[0]), emptyIterable());
+            assertThat(SortedSet.empty(NATURAL).subSet(1, 2), emptyIterable());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("range queries")
+    class RangeTests {
+
+        private final ImmutableSortedSet<Integer> subject = SortedSet.copyFrom(NATURAL, asList(10, 20, 30, 40));
+
+        @Test
+        void floorAndCeiling() {
+            assertEquals(just(20), subject.floor(20));
+            assertEquals(just(20), subject.floor(25));
+            assertEquals(nothing(), subject.floor(5));
+            assertEquals(just(40), subject.floor(100));
+            assertEquals(just(30), subject.ceiling(30));
+            assertEquals(just(30), subject.ceiling(25));
+            assertEquals(just(10), subject.ceiling(-5));
+            assertEquals(nothing(), subject.ceiling(41));
+        }
+
+        @Test
+        void subSet() {
+            assertThat(subject.subSet(20, 40), contains(20, 30));
+            assertThat(subject.subSet(15, 35), contains(20, 30));
+            assertThat(subject.subSet(0, 100), contains(10, 20, 30, 40));
+            assertThat(subject.subSet(21, 29), emptyIterable());
+            assertThat(subject.subSet(20, 20), emptyIterable());
+            assertThrows(IllegalArgumentException.class, () -> subject.subSet(30, 20));
+        }
+
+        @Test
+        void subSetIsAView() {
+            Integer[] underlying = {10, 20, 30, 40, 50};
+            SortedSet<Integer> range = SortedSet.wrap(NATURAL, Vector.wrap(underlying)).subSet(20, 50);
+            assertThat(range, contains(20, 30, 40));
+            underlying[2] = 35;
+            assertTrue(range.contains(35));
+            assertEquals(just(40), range.floor(100));
+            assertFalse(range.contains(50));
+        }
+
+        @Test
+        void matchesTreeSet() {
+            Random random = new Random(24);
+            TreeSet<Integer> expected = new TreeSet<>();
+            for (int i = 0; i < 2_000; i++) {
+                expected.add(random.nextInt(10_000));
+            }
+            ImmutableSortedSet<Integer> actual = SortedSet.copyFrom(NATURAL, expected);
+            for (int i = -1; i <= 10_000; i += 7) {
+                assertEquals(expected.contains(i), actual.contains(i));
+                assertEquals(maybe(expected.floor(i)), actual.floor(i));
+                assertEquals(maybe(expected.ceiling(i)), actual.ceiling(i));
+            }
+            assertEquals(new HashSet<>(expected.subSet(2_500, 7_500)),
+                    new HashSet<>(asList(actual.subSet(2_500, 7_500).stream().toArray(Integer[]::new))));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("equality and non-empty")
+    class EqualityTests {
+
+        @Test
+        void equalToOtherSets() {
+            assertEquals(Set.of(1, 2, 3), SortedSet.copyFrom(NATURAL, asList(3, 2, 1)));
+            assertEquals(SortedSet.copyFrom(NATURAL, asList(3, 2, 1)), Set.of(1, 2, 3));
+            assertEquals(Set.of(1, 2, 3).hashCode(), SortedSet.copyFrom(NATURAL, asList(3, 2, 1)).hashCode());
+        }
+
+        @Test
+        void equalityNeverThrows() {
+            ImmutableSortedSet<String> strings = SortedSet.copyFrom(Comparator.<String>naturalOrder(), asList("a", "b"));
+            assertNotEquals(Set.of(1, 2), strings);
+            assertNotEquals(strings, Set.of(1, 2));
+            assertNotEquals(Set.of(null, "a"), strings);
+            assertNotEquals(strings, Set.of(null, "a"));
+            @SuppressWarnings("unchecked")
+            Set<Object> untyped = (Set<Object>) (Set<?>) strings;
+            assertFalse(untyped.contains(1));
+            assertFalse(strings.contains(null));
+        }
+
+        @Test
+        void nonEmptyHeadIsLeast() {
+            NonEmptySortedSet<Integer> subject = SortedSet.copyFrom(NATURAL, asList(3, 2, 1)).toNonEmptyOrThrow();
+            assertEquals(Integer.valueOf(1), subject.head());
+            assertThat(subject.tail(), contains(2, 3));
+        }
+
+    }
+
+}
@@ -0,0 +1,135 @@
+package dev.marksman.collectionviews;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.collection.IsEmptyIterable.emptyIterable;
+import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.jupiter.api.Assertions.*;
+
+class VectorBuilderTest {
+
+    @Nested
+    @DisplayName("builder")
+    class BuilderTests {
+
+        @Test
+        void buildsEmpty() {
+            assertSame(Vector.empty(), ImmutableVector.builder().build());
+            assertSame(Vector.empty(), ImmutableVector.builder(10).build());
+        }
+
+        @Test
+        void addsElementsInOrder() {
+            ImmutableNonEmptyVector<String> result = ImmutableVector.<String>builder(2)
+                    .add("foo").add("bar").add("baz")
+                    .build();
+            assertThat(result, contains("foo", "bar", "baz"));
+        }
+
+        @Test
+        void exactSizeIsWrappedWithoutCopy() {
+            VectorBuilder<Integer> builder = ImmutableVector.builder(3);
+            ImmutableVector<Integer> result = builder.addAll(asList(1, 2, 3)).build();
+            assertTrue(result instanceof ImmutableArrayVector<?>);
+            assertThat(result, contains(1, 2, 3));
+        }
+
+        @Test
+        void addAllFromVectorsAndSlices() {
+            Integer[] source = {0, 1, 2, 3, 4, 5};
+            ImmutableVector<Integer> result = ImmutableVector.<Integer>builder()
+                    .addAll(Vector.wrap(source).slice(1, 4))
+                    .addAll(Vector.copyFrom(source).drop(4))
+                    .addAll(Vector.of(9).fmap(n -> n * 10))
+                    .build();
+            assertThat(result, contains(1, 2, 3, 4, 5, 90));
+        }
+
+        @Test
+        void addAllFromIterables() {
+            ImmutableVector<Integer> result = ImmutableVector.<Integer>builder()
+                    .addAll(new ArrayDeque<>(asList(1, 2)))
+                    .addAll(() -> asList(3, 4).iterator())
+                    .build();
+            assertThat(result, contains(1, 2, 3, 4));
+        }
+
+        @Test
+        void growsPastExpectedSize() {
+            VectorBuilder<Integer> builder = ImmutableVector.builder(1);
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < 1_000; i++) {
+                builder.add(i);
+                expected.add(i);
+            }
+            assertEquals(1_000, builder.size());
+            assertEquals(Vector.copyFrom(expected), builder.build());
+        }
+
+        @Test
+        void builtVectorsAreNotAffectedByLaterAdds() {
+            VectorBuilder<String> builder = ImmutableVector.builder(2);
+            ImmutableVector<String> first = builder.add("a").add("b").build();
+            ImmutableVector<String> second = builder.add("c").build();
+            assertThat(first, contains("a", "b"));
+            assertThat(second, contains("a", "b", "c"));
+        }
+
+        @Test
+        void rejectsNegativeExpectedSize() {
+            assertThrows(IllegalArgumentException.class, () -> ImmutableVector.builder(-1));
+            assertThrows(IllegalArgumentException.class, () -> ImmutableNonEmptyVector.builder(-1, "a"));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("non-empty builder")
+    class NonEmptyBuilderTests {
+
+        @Test
+        void startsWithFirstElement() {
+            ImmutableNonEmptyVector<String> result = ImmutableNonEmptyVector.builder("foo").build();
+            assertThat(result, contains("foo"));
+            assertEquals("foo", result.head());
+        }
+
+        @Test
+        void addAllKeepsNonEmptyType() {
+            ImmutableNonEmptyVector<Integer> result = ImmutableNonEmptyVector.builder(4, 1)
+                    .addAll(Vector.of(2, 3))
+                    .addAll(Vector.<Integer>empty())
+                    .add(4)
+                    .build();
+            assertThat(result, contains(1, 2, 3, 4));
+        }
+
+    }
+
+    @Nested
+    @DisplayName("copying")
+    class CopyTests {
+
+        @Test
+        void ensureImmutableProducesArrayVectors() {
+            ImmutableVector<Integer> copied = Vector.wrap(asList(1, 2, 3)).toImmutable();
+            assertTrue(copied instanceof ImmutableArrayVector<?>);
+            assertThat(copied, contains(1, 2, 3));
+        }
+
+        @Test
+        void copyFromEmptyIterable() {
+            assertThat(Vector.copyFrom(new ArrayList<Integer>()), emptyIterable());
+        }
+
+    }
+
+}
@@ -6,9 +6,12 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.stream.StreamSupport;
 
 import static com.jnape.palatable.lambda.adt.Maybe.just;
 import static com.jnape.palatable.lambda.adt.Maybe.nothing;
@@ -19,6 +22,7 @@ import static com.jnape.palatable.lambda.functions.builtin.fn3.FoldLeft.foldLeft
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsEmptyIterable.emptyIterable;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
@@ -1120,6 +1124,31 @@ class VectorTest {
                         Vector.wrap(new Integer[]{1, 2, 3, 4, 5, 6}).slice(1, 4));
             }
 
+            @Test
+            void sliceOfSlice() {
+                Vector<Integer> source = Vector.wrap(new Integer[]{1, 2, 3, 4, 5, 6, 7, 8});
+                assertThat(source.slice(1, 7).slice(1, 5).slice(1, 3), contains(4, 5));
+                assertThat(source.drop(2).take(4).drop(1), contains(4, 5, 6));
+            }
+
+            @Test
+            void repeatedTailIsStackSafe() {
+                Vector<Integer> source = Vector.wrap(new Integer[100_003]).fmap(__ -> 1).fmap(n -> n + 1);
+                Vector<Integer> sliced = foldLeft((acc, __) -> acc.tail(), source, replicate(100_000, UNIT));
+                assertThat(sliced, contains(2, 2, 2));
+            }
+
+            @Test
+            void interleavedSliceAndFmapIsStackSafe() {
+                Integer[] underlying = new Integer[20_003];
+                for (int i = 0; i < underlying.length; i++) {
+                    underlying[i] = i;
+                }
+                Vector<Integer> result = foldLeft((acc, __) -> acc.drop(1).fmap(n -> n + 1),
+                        Vector.wrap(underlying), replicate(20_000, UNIT));
+                assertThat(result, contains(40_000, 40_001, 40_002));
+            }
+
         }
 
         @Nested
@@ -1199,4 +1228,106 @@ class VectorTest {
         }
 
     }
+    @Nested
+    @DisplayName("spliterator")
+    class SpliteratorTests {
+
+        @Test
+        void reportsSizedAndOrdered() {
+            assertSized(Vector.wrap(new Integer[]{1, 2, 3}).spliterator(), 3);
+            assertSized(Vector.wrap(asList(1, 2, 3)).spliterator(), 3);
+            assertSized(Vector.wrap(asList(1, 2, 3, 4)).slice(1, 4).spliterator(), 3);
+            assertSized(Vector.wrap(new Integer[]{1, 2, 3}).fmap(n -> n * 2).spliterator(), 3);
+            assertSized(Vector.wrap(asList(1, 2, 3)).fmap(n -> n * 2).spliterator(), 3);
+            assertSized(Vector.empty().spliterator(), 0);
+        }
+
+        @Test
+        void notImmutableForWrappedCollections() {
+            assertFalse(Vector.wrap(new Integer[]{1, 2, 3}).spliterator().hasCharacteristics(Spliterator.IMMUTABLE));
+            assertFalse(Vector.wrap(asList(1, 2, 3)).spliterator().hasCharacteristics(Spliterator.IMMUTABLE));
+            assertFalse(Vector.wrap(asList(1, 2, 3)).fmap(n -> n).spliterator().hasCharacteristics(Spliterator.IMMUTABLE));
+        }
+
+        @Test
+        void splitsEvenly() {
+            Spliterator<Integer> right = Vector.wrap(asList(1, 2, 3, 4, 5, 6, 7, 8)).slice(0, 8).spliterator();
+            Spliterator<Integer> left = right.trySplit();
+            assertNotNull(left);
+            assertEquals(4, left.estimateSize());
+            assertEquals(4, right.estimateSize());
+            List<Integer> leftElements = new ArrayList<>();
+            List<Integer> rightElements = new ArrayList<>();
+            left.forEachRemaining(leftElements::add);
+            right.forEachRemaining(rightElements::add);
+            assertEquals(asList(1, 2, 3, 4), leftElements);
+            assertEquals(asList(5, 6, 7, 8), rightElements);
+        }
+
+        @Test
+        void tryAdvance() {
+            Spliterator<Integer> spliterator = Vector.wrap(asList(1, 2)).fmap(n -> n * 10).spliterator();
+            List<Integer> elements = new ArrayList<>();
+            assertTrue(spliterator.tryAdvance(elements::add));
+            assertEquals(1, spliterator.estimateSize());
+            assertTrue(spliterator.tryAdvance(elements::add));
+            assertFalse(spliterator.tryAdvance(elements::add));
+            assertEquals(asList(10, 20), elements);
+        }
+
+        @Test
+        void parallelStream() {
+            Integer[] underlying = new Integer[10_000];
+            for (int i = 0; i < underlying.length; i++) {
+                underlying[i] = i;
+            }
+            Vector<Integer> subject = Vector.wrap(underlying).drop(1).fmap(n -> n * 2);
+            List<Integer> result = StreamSupport.stream(subject.spliterator(), true).collect(toList());
+            assertEquals(9_999, result.size());
+            assertEquals(2, result.get(0));
+            assertEquals(19_998, result.get(9_998));
+        }
+
+        private void assertSized(Spliterator<?> spliterator, long expectedSize) {
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+            assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+            assertTrue(spliterator.hasCharacteristics(Spliterator.ORDERED));
+            assertEquals(expectedSize, spliterator.getExactSizeIfKnown());
+        }
+
+    }
+
+    @Nested
+    @DisplayName("stream")
+    class StreamTests {
+
+        @Test
+        void stream() {
+            assertEquals(asList(1, 2, 3), Vector.wrap(asList(1, 2, 3)).stream().collect(toList()));
+            assertEquals(asList(2, 3), Vector.of(1, 2, 3).drop(1).stream().collect(toList()));
+            assertEquals(0, Vector.empty().stream().count());
+        }
+
+        @Test
+        void streamIsSized() {
+            assertEquals(3, Vector.wrap(asList(1, 2, 3)).stream().spliterator().getExactSizeIfKnown());
+        }
+
+        @Test
+        void mappedStream() {
+            Vector<String> subject = Vector.wrap(new Integer[]{1, 2, 3}).fmap(n -> n * 10).fmap(Object::toString);
+            assertEquals(asList("10", "20", "30"), subject.stream().collect(toList()));
+            assertEquals(asList("10", "20", "30"), subject.parallelStream().collect(toList()));
+        }
+
+        @Test
+        void parallelStream() {
+            Vector<Integer> subject = Vector.lazyFill(10_000, n -> n);
+            assertTrue(subject.parallelStream().isParallel());
+            assertEquals(49_995_000L, subject.parallelStream().mapToLong(n -> n).sum());
+            assertEquals(49_995_000L, subject.fmap(n -> n * 2).parallelStream().mapToLong(n -> n / 2).sum());
+        }
+
+    }
+
 }